@@ -0,0 +1,183 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package test.jmul.math.numbers;
+
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import jmul.math.Math;
+import jmul.math.numbers.Number;
+import static jmul.math.numbers.NumberHelper.createNumber;
+import static jmul.math.numbers.creation.CreationParameters.CLONE;
+import jmul.math.numbers.nodes.NodesHelper;
+
+import jmul.test.classification.UnitTest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+
+/**
+ * This test suite checks that clones share the linked list of a number and that operations which modify a
+ * linked list copy a shared linked list first (i.e. copy on write).
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+@RunWith(Parameterized.class)
+public class CopyOnWriteTest {
+
+    /**
+     * A number.
+     */
+    private final Number number;
+
+    /**
+     * A second operand.
+     */
+    private final Number operand;
+
+    /**
+     * Creates a test according to the specified parameters.
+     *
+     * @param base
+     *        a number base
+     * @param number
+     *        a number
+     * @param operand
+     *        a second operand
+     */
+    public CopyOnWriteTest(int base, String number, String operand) {
+
+        super();
+
+        this.number = createNumber(base, number);
+        this.operand = createNumber(base, operand);
+    }
+
+    /**
+     * Returns a summary of the test case.
+     *
+     * @return a summary of the test case
+     */
+    @Override
+    public String toString() {
+
+        return String.format("(%d) %s %s", number.base(), number, operand);
+    }
+
+    /**
+     * Checks that a clone shares the linked list of a number.
+     */
+    @Test
+    public void testClone() {
+
+        Number clone = createNumber(CLONE, number);
+
+        assertEquals(toString(), number, clone);
+        assertSame(toString(), number.centerNode(), clone.centerNode());
+        assertTrue(toString(), NodesHelper.isImmutable(number.centerNode()));
+    }
+
+    /**
+     * Checks that adding zero and negating a number share the linked list of a number.
+     */
+    @Test
+    public void testSharingOperations() {
+
+        Number zero = Math.ZERO.value(number.base());
+
+        Number sum1 = number.add(zero);
+        Number sum2 = zero.add(number);
+        Number negatedNumber = number.negate();
+
+        assertEquals(toString(), number, sum1);
+        assertEquals(toString(), number, sum2);
+        assertEquals(toString(), number, negatedNumber.negate());
+        assertSame(toString(), number.centerNode(), sum1.centerNode());
+        assertSame(toString(), number.centerNode(), sum2.centerNode());
+        assertSame(toString(), number.centerNode(), negatedNumber.centerNode());
+    }
+
+    /**
+     * Checks that operations which modify a linked list don't modify a shared linked list.
+     */
+    @Test
+    public void testModifyingOperations() {
+
+        String expectedString = number.toString();
+        Number clone = createNumber(CLONE, number);
+
+        clone.add(operand);
+        clone.subtract(operand);
+        operand.subtract(clone);
+        clone.shiftLeft();
+        clone.shiftRight();
+        clone.multiply(operand);
+        clone.halving();
+        clone.round();
+
+        assertEquals(toString(), expectedString, number.toString());
+        assertEquals(toString(), expectedString, clone.toString());
+    }
+
+    /**
+     * Returns a matrix of test data and expected results.
+     *
+     * @return a matrix of test data and expected results
+     */
+    @Parameterized.Parameters
+    public static Collection<Object[]> data() {
+
+        Collection<Object[]> parameters = new ArrayList<Object[]>();
+
+        parameters.add(new Object[] { 2, "101.1", "0.011" });
+        parameters.add(new Object[] { 2, "-1", "1000.1" });
+        parameters.add(new Object[] { 10, "0.5", "-12.5" });
+        parameters.add(new Object[] { 10, "123.45", "0.125" });
+        parameters.add(new Object[] { 10, "-0.001", "1000" });
+        parameters.add(new Object[] { 10, "98765432109876543210", "-1.5" });
+        parameters.add(new Object[] { 16, "FF.08", "-0.F" });
+        parameters.add(new Object[] { 16, "-1A2B3C", "A.A" });
+
+        return parameters;
+    }
+
+}
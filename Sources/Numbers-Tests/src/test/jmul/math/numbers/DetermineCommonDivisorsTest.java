@@ -180,6 +180,20 @@ public class DetermineCommonDivisorsTest {
         parameters.add(new Object[] { createNumber(10, "1286"), createNumber(10, "566"),
                                       createNumberSet(10, "1", "2") });
 
+        // 0 & 12 : { 1, 2, 3, 4, 6, 12 }
+        parameters.add(new Object[] { createNumber(10, "0"), createNumber(10, "12"),
+                                      createNumberSet(10, "1", "2", "3", "4", "6", "12") });
+
+        // 720720 & 360 : { 1, 2, 3, 4, 5, 6, 8, 9, 10, 12, 15, 18, 20, 24, 30, 36, 40, 45, 60, 72, 90, 120, 180, 360 }
+        parameters.add(new Object[] { createNumber(10, "720720"), createNumber(10, "360"),
+                                      createNumberSet(10, "1", "2", "3", "4", "5", "6", "8", "9", "10", "12", "15",
+                                                      "18", "20", "24", "30", "36", "40", "45", "60", "72", "90",
+                                                      "120", "180", "360") });
+
+        // 720720 & 1000000007^2 : { 1 }
+        parameters.add(new Object[] { createNumber(10, "720720"), createNumber(10, "1000000014000000049"),
+                                      createNumberSet(10, "1") });
+
         return parameters;
     }
 
@@ -208,6 +208,16 @@ public class DetermineDivisorsTest {
         parameters.add(new Object[] { createNumber(10, "13"), createNumberSet(10, "1", "13") });
         // 14 : { 1, 2, 7, 14 }
         parameters.add(new Object[] { createNumber(10, "14"), createNumberSet(10, "1", "2", "7", "14") });
+        // -12 : { 1, 2, 3, 4, 6, 12 }
+        parameters.add(new Object[] { createNumber(10, "-12"), createNumberSet(10, "1", "2", "3", "4", "6", "12") });
+        // 360 : { 1, 2, 3, 4, 5, 6, 8, 9, 10, 12, 15, 18, 20, 24, 30, 36, 40, 45, 60, 72, 90, 120, 180, 360 }
+        parameters.add(new Object[] { createNumber(10, "360"),
+                                      createNumberSet(10, "1", "2", "3", "4", "5", "6", "8", "9", "10", "12", "15",
+                                                      "18", "20", "24", "30", "36", "40", "45", "60", "72", "90",
+                                                      "120", "180", "360") });
+        // 1000000007^2 : { 1, 1000000007, 1000000014000000049 }
+        parameters.add(new Object[] { createNumber(10, "1000000014000000049"),
+                                      createNumberSet(10, "1", "1000000007", "1000000014000000049") });
 
         return parameters;
     }
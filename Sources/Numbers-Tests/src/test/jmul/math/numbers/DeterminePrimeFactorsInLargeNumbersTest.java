@@ -36,32 +36,57 @@ package test.jmul.math.numbers;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import jmul.math.Math;
-import static jmul.math.collections.CollectionsHelper.createNumberSequence;
 import jmul.math.collections.Sequence;
+import jmul.math.collections.SequenceImpl;
 import jmul.math.numbers.Number;
 import static jmul.math.numbers.NumberHelper.createNumber;
+import jmul.math.operations.processing.ProcessingDetails;
+import jmul.math.operations.repository.OperationIdentifier;
+import jmul.math.operations.repository.OperationIdentifiers;
 
 import jmul.test.classification.UnitTest;
 
 import static org.junit.Assert.assertEquals;
-import org.junit.Ignore;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 
 
 /**
- * This test suite tests determining prime factors of a number.
+ * This test suite tests determining prime factors of large numbers with different factorization algorithms. Every
+ * factorization has to finish within a time limit.
  *
  * @author Kristian Kutin
  */
-@Ignore
 @UnitTest
 @RunWith(Parameterized.class)
 public class DeterminePrimeFactorsInLargeNumbersTest {
 
+    /**
+     * All factorization algorithms.
+     */
+    private static final OperationIdentifier[] ALL_ALGORITHMS = {
+        OperationIdentifiers.DETERMINE_PRIME_FACTORS_OF_NUMBER,
+        OperationIdentifiers.DETERMINE_PRIME_FACTORS_BY_POLLARD_RHO,
+        OperationIdentifiers.DETERMINE_PRIME_FACTORS_BY_ELLIPTIC_CURVES
+    };
+
+    /**
+     * The factorization algorithms which are suited for numbers with two large prime factors.
+     */
+    private static final OperationIdentifier[] FAST_ALGORITHMS = {
+        OperationIdentifiers.DETERMINE_PRIME_FACTORS_BY_POLLARD_RHO,
+        OperationIdentifiers.DETERMINE_PRIME_FACTORS_BY_ELLIPTIC_CURVES
+    };
+
+    /**
+     * A factorization algorithm.
+     */
+    private final OperationIdentifier algorithm;
+
     /**
      * A number.
      */
@@ -75,15 +100,19 @@ public class DeterminePrimeFactorsInLargeNumbersTest {
     /**
      * Creates a new test case according to the specified parameters.
      *
+     * @param algorithm
+     *        a factorization algorithm
      * @param number
      *        a number
      * @param sequence
-     *        all expected divisors
+     *        all expected prime factors
      */
-    public DeterminePrimeFactorsInLargeNumbersTest(Number number, Sequence<Number> sequence) {
+    public DeterminePrimeFactorsInLargeNumbersTest(OperationIdentifier algorithm, Number number,
+                                                   Sequence<Number> sequence) {
 
         super();
 
+        this.algorithm = algorithm;
         this.number = number;
         this.expectedResult = sequence;
     }
@@ -96,21 +125,70 @@ public class DeterminePrimeFactorsInLargeNumbersTest {
     @Override
     public String toString() {
 
-        return String.format("[base:%d] %s : %s", number.base(), number, expectedResult);
+        return String.format("[%s][base:%d] %s : %s", algorithm, number.base(), number, expectedResult);
     }
 
     /**
-     * Checks the divisors and the expected divisors.
+     * Checks the prime factors and the expected prime factors.
      */
-    @Test
-    public void checkDivisors() {
+    @Test(timeout = 30000L)
+    public void checkPrimeFactors() {
 
-        Sequence<Number> actualResult = number.primeFactors();
+        ProcessingDetails processingDetails = ProcessingDetails.setAlgorithm(algorithm);
+        Sequence<Number> actualResult = number.primeFactors(processingDetails);
 
         assertEquals(toString(), expectedResult, actualResult);
         assertEquals(toString(), expectedResult.toString(), actualResult.toString());
     }
 
+    /**
+     * Checks the prime factors and the expected prime factors.
+     */
+    @Test(timeout = 30000L)
+    public void checkPrimeFactorsVariant2() {
+
+        ProcessingDetails processingDetails = ProcessingDetails.setAlgorithm(algorithm);
+        Sequence<Number> actualResult = Math.primeFactors(processingDetails, number);
+
+        assertEquals(toString(), expectedResult, actualResult);
+        assertEquals(toString(), expectedResult.toString(), actualResult.toString());
+    }
+
+    /**
+     * Adds test data for the specified number in various number bases and for the specified algorithms.
+     *
+     * @param parameters
+     *        the test data
+     * @param algorithms
+     *        factorization algorithms
+     * @param numberString
+     *        a decimal number string
+     * @param primeFactorStrings
+     *        decimal number strings of all expected prime factors
+     */
+    private static void addNumber(Collection<Object[]> parameters, OperationIdentifier[] algorithms,
+                                  String numberString, String... primeFactorStrings) {
+
+        int[] bases = { 10, 16 };
+        for (int base : bases) {
+
+            Number number = createNumber(10, numberString).rebase(base);
+
+            List<Number> primeFactors = new ArrayList<>();
+            for (String primeFactorString : primeFactorStrings) {
+
+                primeFactors.add(createNumber(10, primeFactorString).rebase(base));
+            }
+
+            Sequence<Number> sequence = new SequenceImpl<>(base, primeFactors);
+
+            for (OperationIdentifier algorithm : algorithms) {
+
+                parameters.add(new Object[] { algorithm, number, sequence });
+            }
+        }
+    }
+
     /**
      * Returns a matrix of test data and expected results.
      *
@@ -121,25 +199,38 @@ public class DeterminePrimeFactorsInLargeNumbersTest {
 
         Collection<Object[]> parameters = new ArrayList<Object[]>();
 
-        // 12 : { 2, 2, 3 }
-        parameters.add(new Object[] { createNumber(10, "12"), createNumberSequence(10, "2", "2", "3") });
+        addNumber(parameters, ALL_ALGORITHMS, "12", "2", "2", "3");
+        addNumber(parameters, ALL_ALGORITHMS, "123", "3", "41");
+        addNumber(parameters, ALL_ALGORITHMS, "1234", "2", "617");
+        addNumber(parameters, ALL_ALGORITHMS, "12345", "3", "5", "823");
+        addNumber(parameters, ALL_ALGORITHMS, "123456", "2", "2", "2", "2", "2", "2", "3", "643");
+        addNumber(parameters, ALL_ALGORITHMS, "1234567", "127", "9721");
+
+        // Fermat number F5
+        addNumber(parameters, ALL_ALGORITHMS, "4294967297", "641", "6700417");
+
+        // Fermat number F6
+        addNumber(parameters, FAST_ALGORITHMS, "18446744073709551617", "274177", "67280421310721");
 
-        // 123 : { 3, 41 }
-        parameters.add(new Object[] { createNumber(10, "123"), createNumberSequence(10, "3", "41") });
+        // Mersenne number M67
+        addNumber(parameters, FAST_ALGORITHMS, "147573952589676412927", "193707721", "761838257287");
 
-        // 1234 : { 2, 617 }
-        parameters.add(new Object[] { createNumber(10, "1234"), createNumberSequence(10, "2", "617") });
+        // products of two large prime numbers
+        addNumber(parameters, FAST_ALGORITHMS, "1000000016000000063", "1000000007", "1000000009");
+        addNumber(parameters, FAST_ALGORITHMS, "3458805472789082747", "1073754191", "3221226517");
 
-        // 12345 : { 3, 5, 823 }
-        parameters.add(new Object[] { createNumber(10, "12345"), createNumberSequence(10, "3", "5", "823") });
+        // square of a large prime number
+        addNumber(parameters, FAST_ALGORITHMS, "1000000014000000049", "1000000007", "1000000007");
 
-        // 123456 : { 2, 2, 2, 2, 2, 2, 3, 643 }
-        parameters.add(new Object[] { createNumber(10, "123456"),
-                                      createNumberSequence(10, "2", "2", "2", "2", "2", "2", "3", "643") });
+        // small prime factors, a square and a large prime factor
+        addNumber(parameters, FAST_ALGORITHMS, "96000576000864000288001728002592", "2", "2", "2", "2", "2", "3",
+                  "1000003", "1000003", "1000000000000000003");
 
-        // 1234567 : { 127, 9721 }
-        parameters.add(new Object[] { createNumber(10, "1234567"),
-                                      createNumberSequence(10, "2", "2", "2", "2", "2", "2", "3", "643") });
+        // a prime factor and a prime number with 101 digits
+        addNumber(parameters, FAST_ALGORITHMS,
+                  "10000030000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000267000801",
+                  "1000003",
+                  "10000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000267");
 
         return parameters;
     }
@@ -47,10 +47,13 @@ import static jmul.math.numbers.NumberHelper.parseFloat;
 import static jmul.math.numbers.NumberHelper.parseInteger;
 import static jmul.math.numbers.NumberHelper.parseLong;
 import static jmul.math.numbers.NumberHelper.parseShort;
+import static jmul.math.numbers.creation.CreationParameters.PACKED;
+import jmul.math.numbers.nodes.NodesHelper;
 
 import jmul.test.classification.UnitTest;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
@@ -193,6 +196,39 @@ public class DigitTest {
         }
     }
 
+    /**
+     * Checks the cached digit counts and the cached leftmost and rightmost nodes of a number and of a packed
+     * copy of the number.
+     */
+    @Test
+    public void testCachedDigits() {
+
+        Number packedNumber = createNumber(PACKED, number);
+
+        for (Number n : new Number[] { number, packedNumber }) {
+
+            {
+                String message = String.format("The cached left digits don't match (%s)!", n);
+                assertEquals(message, digitsLeft, parseInteger(n.integerDigits()).rebase(base));
+            }
+
+            {
+                String message = String.format("The cached right digits don't match (%s)!", n);
+                assertEquals(message, digitsRight, parseInteger(n.fractionDigits()).rebase(base));
+            }
+
+            {
+                String message = String.format("The leftmost node doesn't match (%s)!", n);
+                assertSame(message, NodesHelper.moveLeft(n.centerNode()), n.leftmostNode());
+            }
+
+            {
+                String message = String.format("The rightmost node doesn't match (%s)!", n);
+                assertSame(message, NodesHelper.moveRight(n.centerNode()), n.rightmostNode());
+            }
+        }
+    }
+
     /**
      * Returns a matrix of test data and expected results.
      *
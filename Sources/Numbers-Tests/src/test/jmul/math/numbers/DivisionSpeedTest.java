@@ -36,7 +36,10 @@ package test.jmul.math.numbers;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
+import jmul.math.numbers.Number;
+import static jmul.math.numbers.NumberHelper.createNumber;
 import jmul.math.operations.processing.ProcessingDetails;
 import jmul.math.operations.repository.OperationIdentifiers;
 
@@ -63,6 +66,66 @@ public class DivisionSpeedTest {
     public static void main(String... args) {
 
         compareRussionaDivisionWithDivisionBySubtraction();
+        compareDivisionsOfLargeNumbers();
+    }
+
+    /**
+     * Divides large numbers in various bases with many decimal places. The long division is only applied to the
+     * smallest numbers.
+     */
+    public static void compareDivisionsOfLargeNumbers() {
+
+        final int[] BASES = { 2, 10, 16, 60 };
+        final int[] DIGITS = { 100, 1000, 5000 };
+        final int LONG_DIVISION_LIMIT = 100;
+
+        Random random = new Random(0L);
+
+        for (int base : BASES) {
+
+            for (int digits : DIGITS) {
+
+                Number dividend = MultiplicationSpeedTest.createRandomNumber(random, base, digits);
+                Number divisor = MultiplicationSpeedTest.createRandomNumber(random, base, digits);
+                Number decimalPlaces = createNumber(base, digits);
+
+                System.out.println("divide numbers with " + digits + " digits and as many decimal places in base " +
+                                   base);
+
+                if (digits <= LONG_DIVISION_LIMIT) {
+
+                    measureDivision(OperationIdentifiers.LONG_DIVISION, dividend, divisor, decimalPlaces);
+                }
+
+                measureDivision(OperationIdentifiers.KNUTH_LONG_DIVISION, dividend, divisor, decimalPlaces);
+                measureDivision(OperationIdentifiers.NEWTON_RAPHSON_DIVISION, dividend, divisor, decimalPlaces);
+            }
+        }
+    }
+
+    /**
+     * Divides the specified numbers with the specified algorithm and prints the duration.
+     *
+     * @param algorithm
+     *        a division algorithm
+     * @param dividend
+     *        the dividend
+     * @param divisor
+     *        the divisor
+     * @param decimalPlaces
+     *        the number of decimal places
+     */
+    public static void measureDivision(OperationIdentifiers algorithm, Number dividend, Number divisor,
+                                       Number decimalPlaces) {
+
+        ProcessingDetails processingDetails =
+            ProcessingDetails.setProcessingDetails(algorithm, decimalPlaces, ProcessingDetails.DEFAULT_ITERATION_DEPTH);
+
+        long start = System.currentTimeMillis();
+        dividend.divide(processingDetails, divisor);
+        long end = System.currentTimeMillis();
+        long duration = end - start;
+        System.out.println(algorithm + ": duration " + duration + " ms");
     }
 
     /**
@@ -0,0 +1,207 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.math.numbers;
+
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jmul.math.Math;
+import jmul.math.numbers.Number;
+import static jmul.math.numbers.NumberHelper.createNumber;
+
+import jmul.test.classification.UnitTest;
+
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+
+/**
+ * This test suite tests determining the number of divisors, the sum of divisors and the stream of divisors of a
+ * number.
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+@RunWith(Parameterized.class)
+public class DivisorFunctionsTest {
+
+    /**
+     * A number.
+     */
+    private final Number number;
+
+    /**
+     * The expected number of divisors.
+     */
+    private final Number expectedCount;
+
+    /**
+     * The expected sum of divisors.
+     */
+    private final Number expectedSum;
+
+    /**
+     * Creates a new test case according to the specified parameters.
+     *
+     * @param number
+     *        a number
+     * @param count
+     *        the expected number of divisors
+     * @param sum
+     *        the expected sum of divisors
+     */
+    public DivisorFunctionsTest(Number number, Number count, Number sum) {
+
+        super();
+
+        this.number = number;
+        this.expectedCount = count;
+        this.expectedSum = sum;
+    }
+
+    /**
+     * Returns a test summary.
+     *
+     * @return a test summary
+     */
+    @Override
+    public String toString() {
+
+        return String.format("[base:%d] %s : %s, %s", number.base(), number, expectedCount, expectedSum);
+    }
+
+    /**
+     * Checks the number of divisors.
+     */
+    @Test
+    public void checkDivisorCount() {
+
+        assertEquals(toString(), expectedCount, number.divisorCount());
+        assertEquals(toString(), expectedCount, Math.divisorCount(number));
+    }
+
+    /**
+     * Checks the sum of divisors.
+     */
+    @Test
+    public void checkDivisorSum() {
+
+        assertEquals(toString(), expectedSum, number.divisorSum());
+        assertEquals(toString(), expectedSum, Math.divisorSum(number));
+    }
+
+    /**
+     * Checks the stream of divisors against the set of divisors, the number of divisors and the sum of divisors.
+     */
+    @Test
+    public void checkDivisorStream() {
+
+        List<Number> divisors = Math.divisorStream(number).collect(Collectors.toList());
+
+        Number sum = Math.ZERO.value(number.base());
+        for (Number divisor : divisors) {
+
+            sum = sum.add(divisor);
+        }
+
+        assertEquals(toString(), expectedCount, createNumber(number.base(), divisors.size()));
+        assertEquals(toString(), expectedSum, sum);
+
+        List<Number> expectedDivisors = new ArrayList<>();
+        for (Number divisor : number.divisors()) {
+
+            expectedDivisors.add(divisor);
+        }
+
+        Collections.sort(divisors);
+        assertEquals(toString(), expectedDivisors, divisors);
+        assertEquals(toString(), expectedDivisors, number.divisorStream().sorted().collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns a matrix of test data and expected results.
+     *
+     * @return a matrix of test data and expected results
+     */
+    @Parameterized.Parameters
+    public static Collection<Object[]> data() {
+
+        Collection<Object[]> parameters = new ArrayList<Object[]>();
+
+        // 1 : 1, 1
+        parameters.add(new Object[] { createNumber(2, "1"), createNumber(2, "1"), createNumber(2, "1") });
+        // 12 : 6, 28
+        parameters.add(new Object[] { createNumber(2, "1100"), createNumber(2, "110"), createNumber(2, "11100") });
+        // -12 : 6, 28
+        parameters.add(new Object[] { createNumber(2, "-1100"), createNumber(2, "110"), createNumber(2, "11100") });
+
+        // 1 : 1, 1
+        parameters.add(new Object[] { createNumber(10, "1"), createNumber(10, "1"), createNumber(10, "1") });
+        // 12 : 6, 28
+        parameters.add(new Object[] { createNumber(10, "12"), createNumber(10, "6"), createNumber(10, "28") });
+        // -12 : 6, 28
+        parameters.add(new Object[] { createNumber(10, "-12"), createNumber(10, "6"), createNumber(10, "28") });
+        // 97 : 2, 98
+        parameters.add(new Object[] { createNumber(10, "97"), createNumber(10, "2"), createNumber(10, "98") });
+        // 360 : 24, 1170
+        parameters.add(new Object[] { createNumber(10, "360"), createNumber(10, "24"), createNumber(10, "1170") });
+        // 720720 : 240, 3249792
+        parameters.add(new Object[] { createNumber(10, "720720"), createNumber(10, "240"),
+                                      createNumber(10, "3249792") });
+        // 2^20 : 21, 2^21 - 1
+        parameters.add(new Object[] { createNumber(10, "1048576"), createNumber(10, "21"),
+                                      createNumber(10, "2097151") });
+        // 1000000007^2 : 3, 1 + 1000000007 + 1000000007^2
+        parameters.add(new Object[] { createNumber(10, "1000000014000000049"), createNumber(10, "3"),
+                                      createNumber(10, "1000000015000000057") });
+        // 2^5 * 3 * 1000003^2 * 1000000000000000003 : 72
+        parameters.add(new Object[] { createNumber(10, "96000576000864000288001728002592"),
+                                      createNumber(10, "72"), createNumber(10, "252001764003276001008007056013104") });
+
+        // 360 : 24, 1170
+        parameters.add(new Object[] { createNumber(16, "168"), createNumber(16, "18"), createNumber(16, "492") });
+        // 720720 : 240, 3249792
+        parameters.add(new Object[] { createNumber(16, "AFF50"), createNumber(16, "F0"),
+                                      createNumber(16, "319680") });
+
+        return parameters;
+    }
+
+}
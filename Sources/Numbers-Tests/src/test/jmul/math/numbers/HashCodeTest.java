@@ -0,0 +1,151 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.math.numbers;
+
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import static jmul.math.numbers.Constants.BASE_MAX_LIMIT;
+import static jmul.math.numbers.Constants.BASE_MIN_LIMIT;
+import jmul.math.numbers.Number;
+import static jmul.math.numbers.NumberHelper.createNumber;
+
+import jmul.test.classification.UnitTest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+
+/**
+ * This test suite checks the hash codes of numbers (i.e. equal numbers have equal hash codes and numbers
+ * which differ only in the positions of their digits have different hash codes).
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+@RunWith(Parameterized.class)
+public class HashCodeTest {
+
+    /**
+     * A number.
+     */
+    private final Number number;
+
+    /**
+     * An equal number (i.e. a different instance).
+     */
+    private final Number equalNumber;
+
+    /**
+     * A different number.
+     */
+    private final Number differentNumber;
+
+    /**
+     * Creates a test according to the specified parameters.
+     *
+     * @param number
+     *        a number
+     * @param equalNumber
+     *        an equal number
+     * @param differentNumber
+     *        a different number
+     */
+    public HashCodeTest(Number number, Number equalNumber, Number differentNumber) {
+
+        super();
+
+        this.number = number;
+        this.equalNumber = equalNumber;
+        this.differentNumber = differentNumber;
+    }
+
+    /**
+     * Returns a summary of the test case.
+     *
+     * @return a summary of the test case
+     */
+    @Override
+    public String toString() {
+
+        return String.format("(%d) %s ; %s ; %s", number.base(), number, equalNumber, differentNumber);
+    }
+
+    /**
+     * Checks the hash codes of the numbers.
+     */
+    @Test
+    public void testHashCode() {
+
+        assertEquals(toString(), number, equalNumber);
+        assertEquals(toString(), number.hashCode(), equalNumber.hashCode());
+        assertEquals(toString(), number.hashCode(), number.hashCode());
+
+        assertNotEquals(toString(), number, differentNumber);
+        assertNotEquals(toString(), number.hashCode(), differentNumber.hashCode());
+    }
+
+    /**
+     * Returns a matrix of test data and expected results.
+     *
+     * @return a matrix of test data and expected results
+     */
+    @Parameterized.Parameters
+    public static Collection<Object[]> data() {
+
+        Collection<Object[]> parameters = new ArrayList<Object[]>();
+
+        for (int base = BASE_MIN_LIMIT; base <= BASE_MAX_LIMIT; base++) {
+
+            parameters.add(new Object[] { createNumber(base, "1"), createNumber(base, "1"), createNumber(base, "10") });
+            parameters.add(new Object[] { createNumber(base, "1"), createNumber(base, "1"), createNumber(base, "0.1") });
+            parameters.add(new Object[] { createNumber(base, "1"), createNumber(base, "1"), createNumber(base, "-1") });
+            parameters.add(new Object[] { createNumber(base, "10"), createNumber(base, "10"), createNumber(base, "1.1") });
+            parameters.add(new Object[] { createNumber(base, "11"), createNumber(base, "11"), createNumber(base, "1.1") });
+            parameters.add(new Object[] { createNumber(base, "110"), createNumber(base, "110"),
+                                          createNumber(base, "101") });
+            parameters.add(new Object[] { createNumber(base, "1101.011"), createNumber(base, "1101.011"),
+                                          createNumber(base, "1101.11") });
+            parameters.add(new Object[] { createNumber(base, "-0.0001"), createNumber(base, "-0.0001"),
+                                          createNumber(base, "-0.001") });
+        }
+
+        return parameters;
+    }
+
+}
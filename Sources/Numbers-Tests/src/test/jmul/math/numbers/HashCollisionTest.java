@@ -34,12 +34,15 @@
 package test.jmul.math.numbers;
 
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.SortedMap;
+import java.util.SortedSet;
 import java.util.TreeMap;
+import java.util.TreeSet;
 
 import jmul.math.numbers.Number;
 import static jmul.math.numbers.NumberHelper.createNumber;
-import jmul.math.numbers.nodes.DigitNode;
 
 import jmul.test.classification.ManualTest;
 
@@ -47,7 +50,12 @@ import org.junit.Ignore;
 
 
 /**
- * This test suite tests the occurrence of hash collisions.<br>
+ * This test suite tests the occurrence of hash collisions and the distribution of hash codes.<br>
+ * <br>
+ * For several number bases and sets of numbers (i.e. integers, negative integers, fractions and large numbers)
+ * the number of unique hash codes is determined. Additionally the hash codes are distributed into buckets in
+ * the same way as a hash map does (i.e. the table size is the next power of two and the higher bits are
+ * spread) and the bucket occupancy is reported.<br>
  * <br>
  * <i>Note:<br>
  * Currently this test has to be started manually. The results have only informational
@@ -61,16 +69,28 @@ import org.junit.Ignore;
 public class HashCollisionTest {
 
     /**
-     * A hash map for counting hashes and their occurrences.
+     * The number bases which are examined.
+     */
+    private static final int[] BASES;
+
+    /**
+     * The number of values per set of numbers.
      */
-    private static final SortedMap<Integer, Integer> HASH_OCCURRENCE_MAP;
+    private static final int VALUES;
+
+    /**
+     * The load factor of a hash map.
+     */
+    private static final float LOAD_FACTOR;
 
     /*
      * The static initializer.
      */
     static {
 
-        HASH_OCCURRENCE_MAP = new TreeMap<>();
+        BASES = new int[] { 2, 10, 16, 60 };
+        VALUES = 2000;
+        LOAD_FACTOR = 0.75F;
     }
 
     /**
@@ -81,69 +101,123 @@ public class HashCollisionTest {
      */
     public static void main(String... args) {
 
+        for (int base : BASES) {
 
-        int base = 10;
-        final Number ZERO = createNumber(base, "0");
-        final Number MAX = createNumber(base, "1000");
-        Number counter = ZERO;
+            List<Number> integers = new ArrayList<>();
+            List<Number> negativeIntegers = new ArrayList<>();
+            List<Number> fractions = new ArrayList<>();
+            List<Number> largeNumbers = new ArrayList<>();
 
-        while (counter.isLesser(MAX)) {
+            final Number ONE = createNumber(base, "1");
+            final Number SHIFTS = createNumber(base, "11");
+            Number largeNumber = createNumber(base, "1").shiftRight(SHIFTS).shiftRight(SHIFTS);
 
-            showProgress(counter);
+            Number counter = createNumber(base, "0");
+            for (int a = 0; a < VALUES; a++) {
 
-            Number positiveNumber = counter;
-            addNumber(positiveNumber);
+                integers.add(counter);
+                negativeIntegers.add(counter.negate());
+                fractions.add(counter.shiftLeft(SHIFTS));
+                largeNumbers.add(largeNumber);
 
-            Number negativeNumber = counter.negate();
-            addNumber(negativeNumber);
+                counter = counter.add(ONE);
+                largeNumber = largeNumber.add(ONE);
+            }
 
-            counter = counter.inc();
+            System.out.println("base " + base);
+            examineHashCodes("integers", integers);
+            examineHashCodes("negative integers", negativeIntegers);
+            examineHashCodes("fractions", fractions);
+            examineHashCodes("large numbers", largeNumbers);
+
+            List<Number> allNumbers = new ArrayList<>();
+            allNumbers.addAll(integers);
+            allNumbers.addAll(negativeIntegers);
+            allNumbers.addAll(fractions);
+            allNumbers.addAll(largeNumbers);
+            examineHashCodes("all numbers", allNumbers);
         }
-
-        System.out.println("The map contains " + HASH_OCCURRENCE_MAP.size() + " unique hashes.");
     }
 
     /**
-     * Takes the specified number and calculates the hash value. The occurrence of this
-     * hash value is updated in the underlying map.
+     * Calculates the hash codes of the specified numbers and shows the number of unique hash codes and the
+     * bucket occupancy.
      *
-     * @param number
-     *        a number
+     * @param name
+     *        the name of the set of numbers
+     * @param numbers
+     *        a set of numbers
      */
-    private static void addNumber(Number number) {
+    private static void examineHashCodes(String name, List<Number> numbers) {
 
-        Integer hash = number.hashCode();
+        SortedMap<Integer, Integer> hashOccurrenceMap = new TreeMap<>();
 
-        Integer occurrence = HASH_OCCURRENCE_MAP.get(hash);
-        if (occurrence == null) {
+        long start = System.nanoTime();
+        for (Number number : numbers) {
 
-            occurrence = 1;
+            addHashCode(hashOccurrenceMap, number.hashCode());
+        }
+        long end = System.nanoTime();
 
-        } else {
+        int tableSize = 1;
+        while (tableSize * LOAD_FACTOR < numbers.size()) {
 
-            occurrence++;
+            tableSize <<= 1;
+        }
+
+        int[] buckets = new int[tableSize];
+        for (Number number : numbers) {
+
+            int hash = number.hashCode();
+            int index = (hash ^ (hash >>> 16)) & (tableSize - 1);
+            buckets[index]++;
+        }
+
+        int usedBuckets = 0;
+        int maxOccupancy = 0;
+        for (int occupancy : buckets) {
+
+            if (occupancy > 0) {
+
+                usedBuckets++;
+            }
+
+            maxOccupancy = Math.max(maxOccupancy, occupancy);
         }
 
-        HASH_OCCURRENCE_MAP.put(hash, occurrence);
+        SortedSet<Number> distinctNumbers = new TreeSet<>(numbers);
+
+        float averageOccupancy = (float) numbers.size() / (float) usedBuckets;
+        long durationPerNumber = (end - start) / numbers.size();
+
+        String info =
+            String.format("  %-18s %5d distinct numbers; %5d unique hashes; %5d of %5d buckets used; average occupancy %.2f; max occupancy %d; %d ns per hash code",
+                          name, distinctNumbers.size(), hashOccurrenceMap.size(), usedBuckets, tableSize,
+                          averageOccupancy, maxOccupancy, durationPerNumber);
+        System.out.println(info);
     }
 
     /**
-     * Shows the progress of the counter
+     * Updates the occurrence of the specified hash code in the specified map.
      *
-     * @param counter
-     *        the current counter
+     * @param hashOccurrenceMap
+     *        a map which contains hash codes and their occurrences
+     * @param hash
+     *        a hash code
      */
-    private static void showProgress(Number counter) {
+    private static void addHashCode(SortedMap<Integer, Integer> hashOccurrenceMap, int hash) {
 
-        DigitNode node = counter.centerNode();
-        if (node.digit().isZero()) {
+        Integer occurrence = hashOccurrenceMap.get(hash);
+        if (occurrence == null) {
 
-            DigitNode leftNode = node.leftNode();
-            if ((leftNode != null) && leftNode.digit().isZero()) {
+            occurrence = 1;
 
-                System.out.println(counter);
-            }
+        } else {
+
+            occurrence++;
         }
+
+        hashOccurrenceMap.put(hash, occurrence);
     }
 
 }
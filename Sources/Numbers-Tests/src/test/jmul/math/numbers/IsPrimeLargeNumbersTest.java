@@ -0,0 +1,197 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.math.numbers;
+
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import jmul.math.Math;
+import jmul.math.numbers.Number;
+import static jmul.math.numbers.NumberHelper.createNumber;
+
+import jmul.test.classification.UnitTest;
+
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+
+/**
+ * This test suite tests determining large prime numbers (i.e. Miller-Rabin and Baillie-PSW test). The composite
+ * numbers include Carmichael numbers, strong pseudoprimes to several bases and squares of prime numbers.
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+@RunWith(Parameterized.class)
+public class IsPrimeLargeNumbersTest {
+
+    /**
+     * A number.
+     */
+    private final Number number;
+
+    /**
+     * The expected result.
+     */
+    private final boolean expectedResult;
+
+    /**
+     * Creates a new test case according to the specified parameters.
+     *
+     * @param number
+     *        a number
+     * @param expectedResult
+     *        the expected result
+     */
+    public IsPrimeLargeNumbersTest(Number number, Boolean expectedResult) {
+
+        super();
+
+        this.number = number;
+        this.expectedResult = expectedResult;
+    }
+
+    /**
+     * Returns a test summary.
+     *
+     * @return a test summary
+     */
+    @Override
+    public String toString() {
+
+        return String.format("[base:%d] %s : %s", number.base(), number, expectedResult);
+    }
+
+    /**
+     * Checks if a number can be identified as prime number.
+     */
+    @Test(timeout = 10000)
+    public void checkPrimeNumber() {
+
+        boolean actualResult = number.isPrime();
+
+        assertEquals(toString(), expectedResult, actualResult);
+    }
+
+    /**
+     * Checks if a number can be identified as prime number.
+     */
+    @Test(timeout = 10000)
+    public void checkPrimeNumberVariant2() {
+
+        boolean actualResult = Math.isPrime(number);
+
+        assertEquals(toString(), expectedResult, actualResult);
+    }
+
+    /**
+     * Adds test data for the specified number in various number bases.
+     *
+     * @param parameters
+     *        the test data
+     * @param numberString
+     *        a decimal number string
+     * @param expectedResult
+     *        the expected result
+     */
+    private static void addNumber(Collection<Object[]> parameters, String numberString, boolean expectedResult) {
+
+        Number number = createNumber(10, numberString);
+
+        int[] bases = { 10, 2, 3, 16, 60 };
+        for (int base : bases) {
+
+            parameters.add(new Object[] { number.rebase(base), expectedResult });
+        }
+    }
+
+    /**
+     * Returns a matrix of test data and expected results.
+     *
+     * @return a matrix of test data and expected results
+     */
+    @Parameterized.Parameters
+    public static Collection<Object[]> data() {
+
+        Collection<Object[]> parameters = new ArrayList<Object[]>();
+
+        // prime numbers
+        addNumber(parameters, "2147483647", true);
+        addNumber(parameters, "4294967291", true);
+        addNumber(parameters, "1000000000000000003", true);
+        addNumber(parameters, "2305843009213693951", true);
+        addNumber(parameters, "618970019642690137449562111", true);
+        addNumber(parameters, "1000000000000000000000000000057", true);
+        addNumber(parameters, "170141183460469231731687303715884105727", true);
+        addNumber(parameters, "100000000000000000000000000000000000000000000000151", true);
+        addNumber(parameters,
+                  "10000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000267",
+                  true);
+
+        // Carmichael numbers
+        addNumber(parameters, "5394826801", false);
+        addNumber(parameters, "232250619601", false);
+        addNumber(parameters, "9746347772161", false);
+
+        // strong pseudoprimes
+        addNumber(parameters, "2047", false);
+        addNumber(parameters, "3215031751", false);
+        addNumber(parameters, "2152302898747", false);
+        addNumber(parameters, "3474749660383", false);
+        addNumber(parameters, "341550071728321", false);
+        addNumber(parameters, "3825123056546413051", false);
+        addNumber(parameters, "318665857834031151167461", false);
+        addNumber(parameters, "3317044064679887385961981", false);
+
+        // products of two prime numbers
+        addNumber(parameters, "1000000016000000063", false);
+        addNumber(parameters, "1000000000000128000000000003367", false);
+        addNumber(parameters, "100000000000000000000002360000000000000000000002899", false);
+        addNumber(parameters,
+                  "10000000000000000000000000000000000000000000000059800000000000000000000000000000000000000000000067497",
+                  false);
+        addNumber(parameters, "340282366920938463463374607431768211457", false);
+
+        // squares of prime numbers
+        addNumber(parameters, "1000000014000000049", false);
+        addNumber(parameters, "1000000000000074000000000001369", false);
+        addNumber(parameters, "100000000000000000000000260000000000000000000000169", false);
+
+        return parameters;
+    }
+
+}
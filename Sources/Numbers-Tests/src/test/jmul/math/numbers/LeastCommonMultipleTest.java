@@ -0,0 +1,186 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.math.numbers;
+
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import jmul.math.Math;
+import static jmul.math.digits.PositionalNumeralSystems.ordinalToSymbol;
+import jmul.math.numbers.Number;
+import static jmul.math.numbers.NumberHelper.createNumber;
+
+import jmul.test.classification.UnitTest;
+
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+
+/**
+ * This test suite tests determining the least common multiple of two integers.
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+@RunWith(Parameterized.class)
+public class LeastCommonMultipleTest {
+
+    /**
+     * A number.
+     */
+    private final Number number1;
+
+    /**
+     * A number.
+     */
+    private final Number number2;
+
+    /**
+     * The expected result.
+     */
+    private final Number expectedResult;
+
+    /**
+     * Creates a new test case according to the specified parameters.
+     *
+     * @param number1
+     *        a number
+     * @param number2
+     *        a number
+     * @param expectedResult
+     *        the expected result
+     */
+    public LeastCommonMultipleTest(Number number1, Number number2, Number expectedResult) {
+
+        super();
+
+        this.number1 = number1;
+        this.number2 = number2;
+        this.expectedResult = expectedResult;
+    }
+
+    /**
+     * Returns a string which consists of the specified digit repeated the specified number of times.
+     *
+     * @param base
+     *        a number base
+     * @param ordinal
+     *        the ordinal value of a digit
+     * @param count
+     *        the number of repetitions
+     *
+     * @return a string of digits
+     */
+    private static String repeat(int base, int ordinal, int count) {
+
+        char symbol = ordinalToSymbol(base, ordinal);
+
+        StringBuilder buffer = new StringBuilder();
+        for (int a = 0; a < count; a++) {
+
+            buffer.append(symbol);
+        }
+
+        return buffer.toString();
+    }
+
+    /**
+     * Returns a test summary.
+     *
+     * @return a test summary
+     */
+    @Override
+    public String toString() {
+
+        return String.format("[base:%d] %s & %s : %s", number1.base(), number1, number2, expectedResult);
+    }
+
+    /**
+     * Determines the least common multiple and checks the result.
+     */
+    @Test
+    public void testLcm() {
+
+        Number actualResult = Math.lcm(number1, number2);
+
+        assertEquals(toString(), expectedResult, actualResult);
+        assertEquals(toString(), expectedResult.toString(), actualResult.toString());
+    }
+
+    /**
+     * Returns a matrix of test data and expected results.
+     *
+     * @return a matrix of test data and expected results
+     */
+    @Parameterized.Parameters
+    public static Collection<Object[]> data() {
+
+        Collection<Object[]> parameters = new ArrayList<Object[]>();
+
+        parameters.add(new Object[] { createNumber(10, "0"), createNumber(10, "0"), createNumber(10, "0") });
+        parameters.add(new Object[] { createNumber(10, "0"), createNumber(10, "5"), createNumber(10, "0") });
+        parameters.add(new Object[] { createNumber(10, "1"), createNumber(10, "1"), createNumber(10, "1") });
+        parameters.add(new Object[] { createNumber(10, "8"), createNumber(10, "5"), createNumber(10, "40") });
+        parameters.add(new Object[] { createNumber(10, "153"), createNumber(10, "27"), createNumber(10, "459") });
+        parameters.add(new Object[] { createNumber(10, "-4"), createNumber(10, "6"), createNumber(10, "12") });
+        parameters.add(new Object[] { createNumber(10, "4"), createNumber(10, "-6"), createNumber(10, "12") });
+        parameters.add(new Object[] { createNumber(10, "-21"), createNumber(10, "-6"), createNumber(10, "42") });
+
+        // 153 & 27 : 459
+        parameters.add(new Object[] { createNumber(2, "10011001"), createNumber(2, "11011"),
+                                      createNumber(2, "111001011") });
+        parameters.add(new Object[] { createNumber(16, "99"), createNumber(16, "1B"), createNumber(16, "1CB") });
+
+        // lcm(base^n, base^m - 1) = base^n * (base^m - 1)
+        for (int base : new int[] { 2, 3, 10, 16, 60 }) {
+
+            int[][] exponents = { { 60, 45 }, { 1000, 1200 }, { 2000, 1500 } };
+            for (int[] exponent : exponents) {
+
+                int n = exponent[0];
+                int m = exponent[1];
+
+                parameters.add(new Object[] { createNumber(base, "1" + repeat(base, 0, n)),
+                                              createNumber(base, repeat(base, base - 1, m)),
+                                              createNumber(base, repeat(base, base - 1, m) + repeat(base, 0, n)) });
+            }
+        }
+
+        return parameters;
+    }
+
+}
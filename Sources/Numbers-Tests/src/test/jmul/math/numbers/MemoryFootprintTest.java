@@ -0,0 +1,279 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package test.jmul.math.numbers;
+
+
+import java.util.Random;
+
+import jmul.math.digits.PositionalNumeralSystems;
+import jmul.math.numbers.Number;
+import static jmul.math.numbers.NumberHelper.createNumber;
+import static jmul.math.numbers.creation.CreationParameters.PACKED;
+
+import jmul.test.classification.ManualTest;
+
+import org.junit.Ignore;
+
+
+/**
+ * This test suite compares the memory footprint and the speed of additions and comparisons of numbers with
+ * a linked list of digits and numbers with packed digits (i.e. chunks of digits).
+ *
+ * @author Kristian Kutin
+ */
+@Ignore
+@ManualTest
+public class MemoryFootprintTest {
+
+    /**
+     * The total number of digits which are kept in memory for a measurement.
+     */
+    private static final int TOTAL_DIGITS;
+
+    /**
+     * The number of repetitions for a speed measurement.
+     */
+    private static final int REPETITIONS;
+
+    /*
+     * The static initializer.
+     */
+    static {
+
+        TOTAL_DIGITS = 1000000;
+        REPETITIONS = 2000;
+    }
+
+    /**
+     * The main method.
+     *
+     * @param args
+     *        command line argumetns are not evaluated
+     */
+    public static void main(String... args) {
+
+        int[] numberBases = { 2, 10, 16, 60 };
+        int[] digitCounts = { 100, 1000, 5000 };
+
+        System.out.println("base; digits; bytes per digit (linked); bytes per digit (packed); "
+                           + "add (linked) ns; add (packed) ns; compare (linked) ns; compare (packed) ns");
+
+        for (int base : numberBases) {
+
+            for (int digits : digitCounts) {
+
+                Random random = new Random(digits * 100L + base);
+
+                int numbers = TOTAL_DIGITS / digits;
+                String[] digitStrings = new String[numbers];
+                for (int a = 0; a < numbers; a++) {
+
+                    digitStrings[a] = randomDigits(random, base, digits);
+                }
+
+                double linkedBytes = measureLinkedNumbers(base, digitStrings) / (double) TOTAL_DIGITS;
+                double packedBytes = measurePackedNumbers(base, digitStrings) / (double) TOTAL_DIGITS;
+
+                Number a = createNumber(base, digitStrings[0]);
+                Number b = createNumber(base, digitStrings[1]);
+                Number packedA = createNumber(PACKED, a);
+                Number packedB = createNumber(PACKED, b);
+
+                long linkedAddition = measureAdditions(a, b);
+                long packedAddition = measureAdditions(packedA, packedB);
+                long linkedComparison = measureComparisons(a, b);
+                long packedComparison = measureComparisons(packedA, packedB);
+
+                String info =
+                    String.format("%d; %d; %.1f; %.1f; %d; %d; %d; %d", base, digits, linkedBytes, packedBytes,
+                                  linkedAddition, packedAddition, linkedComparison, packedComparison);
+                System.out.println(info);
+            }
+        }
+    }
+
+    /**
+     * Creates a random sequence of digits.
+     *
+     * @param random
+     *        a random number generator
+     * @param base
+     *        a number base
+     * @param digits
+     *        the number of digits
+     *
+     * @return a sequence of digits
+     */
+    private static String randomDigits(Random random, int base, int digits) {
+
+        StringBuilder buffer = new StringBuilder();
+
+        buffer.append(PositionalNumeralSystems.ordinalToSymbol(base, 1 + random.nextInt(base - 1)));
+        for (int a = 1; a < digits; a++) {
+
+            buffer.append(PositionalNumeralSystems.ordinalToSymbol(base, random.nextInt(base)));
+        }
+
+        return buffer.toString();
+    }
+
+    /**
+     * Creates numbers with a linked list of digits and measures the used memory.
+     *
+     * @param base
+     *        a number base
+     * @param digitStrings
+     *        sequences of digits
+     *
+     * @return the used memory in bytes
+     */
+    private static long measureLinkedNumbers(int base, String[] digitStrings) {
+
+        Number[] numbers = new Number[digitStrings.length];
+
+        long before = usedMemory();
+        for (int a = 0; a < digitStrings.length; a++) {
+
+            numbers[a] = createNumber(base, digitStrings[a]);
+        }
+        long after = usedMemory();
+
+        keep(numbers);
+
+        return after - before;
+    }
+
+    /**
+     * Creates numbers with packed digits and measures the used memory.
+     *
+     * @param base
+     *        a number base
+     * @param digitStrings
+     *        sequences of digits
+     *
+     * @return the used memory in bytes
+     */
+    private static long measurePackedNumbers(int base, String[] digitStrings) {
+
+        Number[] numbers = new Number[digitStrings.length];
+
+        long before = usedMemory();
+        for (int a = 0; a < digitStrings.length; a++) {
+
+            numbers[a] = createNumber(PACKED, createNumber(base, digitStrings[a]));
+        }
+        long after = usedMemory();
+
+        keep(numbers);
+
+        return after - before;
+    }
+
+    /**
+     * Measures the average duration of an addition.
+     *
+     * @param a
+     *        a number
+     * @param b
+     *        a number
+     *
+     * @return the average duration in nanoseconds
+     */
+    private static long measureAdditions(Number a, Number b) {
+
+        long startTime = System.nanoTime();
+        for (int i = 0; i < REPETITIONS; i++) {
+
+            a.add(b);
+        }
+        long stopTime = System.nanoTime();
+
+        return (stopTime - startTime) / REPETITIONS;
+    }
+
+    /**
+     * Measures the average duration of a comparison.
+     *
+     * @param a
+     *        a number
+     * @param b
+     *        a number
+     *
+     * @return the average duration in nanoseconds
+     */
+    private static long measureComparisons(Number a, Number b) {
+
+        long startTime = System.nanoTime();
+        for (int i = 0; i < REPETITIONS; i++) {
+
+            a.compareTo(b);
+        }
+        long stopTime = System.nanoTime();
+
+        return (stopTime - startTime) / REPETITIONS;
+    }
+
+    /**
+     * Determines the used memory after a garbage collection.
+     *
+     * @return the used memory in bytes
+     */
+    private static long usedMemory() {
+
+        Runtime runtime = Runtime.getRuntime();
+
+        for (int a = 0; a < 3; a++) {
+
+            System.gc();
+        }
+
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Keeps the specified numbers reachable until the memory has been measured.
+     *
+     * @param numbers
+     *        some numbers
+     */
+    private static void keep(Number[] numbers) {
+
+        if (numbers.length == 0) {
+
+            System.out.println();
+        }
+    }
+
+}
@@ -0,0 +1,262 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.math.numbers;
+
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import jmul.math.Math;
+import jmul.math.numbers.Number;
+import static jmul.math.numbers.NumberHelper.createNumber;
+import jmul.math.numbers.exceptions.UndefinedOperationException;
+import jmul.math.operations.implementations.ModularContext;
+
+import jmul.test.classification.UnitTest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+
+/**
+ * This test suite tests modular arithmetic (i.e. modular exponentiation, squaring and inversion) with moduli which
+ * are coprime to the number base (i.e. Montgomery multiplication) and moduli which are not (i.e. Barrett
+ * reduction).
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+@RunWith(Parameterized.class)
+public class ModularArithmeticTest {
+
+    /**
+     * An integer.
+     */
+    private final Number number;
+
+    /**
+     * An exponent.
+     */
+    private final Number exponent;
+
+    /**
+     * A modulus.
+     */
+    private final Number modulus;
+
+    /**
+     * The expected remainder of the power.
+     */
+    private final Number expectedPower;
+
+    /**
+     * The expected remainder of the square.
+     */
+    private final Number expectedSquare;
+
+    /**
+     * The expected inverse or <code>null</code> if the integer is not invertible.
+     */
+    private final Number expectedInverse;
+
+    /**
+     * Creates a new test case according to the specified parameters.
+     *
+     * @param number
+     *        an integer
+     * @param exponent
+     *        an exponent
+     * @param modulus
+     *        a modulus
+     * @param power
+     *        the expected remainder of the power
+     * @param square
+     *        the expected remainder of the square
+     * @param inverse
+     *        the expected inverse or <code>null</code> if the integer is not invertible
+     */
+    public ModularArithmeticTest(Number number, Number exponent, Number modulus, Number power, Number square,
+                                 Number inverse) {
+
+        super();
+
+        this.number = number;
+        this.exponent = exponent;
+        this.modulus = modulus;
+        this.expectedPower = power;
+        this.expectedSquare = square;
+        this.expectedInverse = inverse;
+    }
+
+    /**
+     * Returns a test summary.
+     *
+     * @return a test summary
+     */
+    @Override
+    public String toString() {
+
+        return String.format("[base:%d] %s ^ %s mod %s", number.base(), number, exponent, modulus);
+    }
+
+    /**
+     * Checks the modular exponentiation.
+     */
+    @Test
+    public void checkModPow() {
+
+        ModularContext context = new ModularContext(modulus);
+
+        assertEquals(toString(), expectedPower, context.modPow(number, exponent));
+        assertEquals(toString(), expectedPower, Math.modPow(number, exponent, modulus));
+    }
+
+    /**
+     * Checks the modular squaring and multiplication.
+     */
+    @Test
+    public void checkModSquare() {
+
+        ModularContext context = new ModularContext(modulus);
+
+        assertEquals(toString(), expectedSquare, context.modSquare(number));
+        assertEquals(toString(), expectedSquare, context.modMultiply(number, number));
+    }
+
+    /**
+     * Checks the modular inverse.
+     */
+    @Test
+    public void checkModInverse() {
+
+        ModularContext context = new ModularContext(modulus);
+
+        if (expectedInverse == null) {
+
+            try {
+
+                context.modInverse(number);
+                fail(toString());
+
+            } catch (UndefinedOperationException e) {
+
+                // expected
+            }
+
+        } else {
+
+            assertEquals(toString(), expectedInverse, context.modInverse(number));
+            assertEquals(toString(), expectedInverse, Math.modInverse(number, modulus));
+            assertEquals(toString(), Math.ONE.value(number.base()), context.modMultiply(number, expectedInverse));
+        }
+    }
+
+    /**
+     * Returns a matrix of test data and expected results.
+     *
+     * @return a matrix of test data and expected results
+     */
+    @Parameterized.Parameters
+    public static Collection<Object[]> data() {
+
+        Collection<Object[]> parameters = new ArrayList<Object[]>();
+
+        // 5 ^ 117 mod 19
+        parameters.add(new Object[] { createNumber(2, "101"), createNumber(2, "1110101"), createNumber(2, "10011"),
+                                      createNumber(2, "1"), createNumber(2, "110"), createNumber(2, "100") });
+        // 12 ^ 3 mod 24 (not invertible)
+        parameters.add(new Object[] { createNumber(2, "1100"), createNumber(2, "11"), createNumber(2, "11000"),
+                                      createNumber(2, "0"), createNumber(2, "0"), null });
+        // -3 ^ 5 mod 7
+        parameters.add(new Object[] { createNumber(2, "-11"), createNumber(2, "101"), createNumber(2, "111"),
+                                      createNumber(2, "10"), createNumber(2, "10"), createNumber(2, "10") });
+
+        // 7 ^ 10 mod 81
+        parameters.add(new Object[] { createNumber(3, "21"), createNumber(3, "101"), createNumber(3, "10000"),
+                                      createNumber(3, "2021"), createNumber(3, "1211"), createNumber(3, "2011") });
+        // 5 ^ 100 mod 100 (not invertible)
+        parameters.add(new Object[] { createNumber(3, "12"), createNumber(3, "10201"), createNumber(3, "10201"),
+                                      createNumber(3, "221"), createNumber(3, "221"), null });
+
+        // 4 ^ 13 mod 497
+        parameters.add(new Object[] { createNumber(10, "4"), createNumber(10, "13"), createNumber(10, "497"),
+                                      createNumber(10, "445"), createNumber(10, "16"), createNumber(10, "373") });
+        // 3 ^ 200 mod 1000
+        parameters.add(new Object[] { createNumber(10, "3"), createNumber(10, "200"), createNumber(10, "1000"),
+                                      createNumber(10, "1"), createNumber(10, "9"), createNumber(10, "667") });
+        // 6 ^ 5 mod 1000 (not invertible)
+        parameters.add(new Object[] { createNumber(10, "6"), createNumber(10, "5"), createNumber(10, "1000"),
+                                      createNumber(10, "776"), createNumber(10, "36"), null });
+        // -7 ^ 3 mod 11
+        parameters.add(new Object[] { createNumber(10, "-7"), createNumber(10, "3"), createNumber(10, "11"),
+                                      createNumber(10, "9"), createNumber(10, "5"), createNumber(10, "3") });
+        // 2 ^ -1 mod 9
+        parameters.add(new Object[] { createNumber(10, "2"), createNumber(10, "-1"), createNumber(10, "9"),
+                                      createNumber(10, "5"), createNumber(10, "4"), createNumber(10, "5") });
+        // 2 ^ 1000000006 mod 1000000007
+        parameters.add(new Object[] { createNumber(10, "2"), createNumber(10, "1000000006"),
+                                      createNumber(10, "1000000007"), createNumber(10, "1"), createNumber(10, "4"),
+                                      createNumber(10, "500000004") });
+        // 123456789 ^ 987654321 mod 10^18 + 3
+        parameters.add(new Object[] { createNumber(10, "123456789"), createNumber(10, "987654321"),
+                                      createNumber(10, "1000000000000000003"), createNumber(10, "158955571838486384"),
+                                      createNumber(10, "15241578750190521"), createNumber(10, "595268616616944413") });
+        // 10^20 + 39 ^ 10^19 + 7 mod 10^30
+        parameters.add(new Object[] { createNumber(10, "100000000000000000039"),
+                                      createNumber(10, "10000000000000000007"),
+                                      createNumber(10, "1000000000000000000000000000000"),
+                                      createNumber(10, "62528209100000000137231006679"),
+                                      createNumber(10, "7800000000000000001521"),
+                                      createNumber(10, "732412886258974358974358974359") });
+
+        // 7 ^ 16 mod 1001 (not invertible)
+        parameters.add(new Object[] { createNumber(16, "7"), createNumber(16, "10"), createNumber(16, "3E9"),
+                                      createNumber(16, "2FB"), createNumber(16, "31"), null });
+        // 255 ^ 1000 mod 256
+        parameters.add(new Object[] { createNumber(16, "FF"), createNumber(16, "3E8"), createNumber(16, "100"),
+                                      createNumber(16, "1"), createNumber(16, "1"), createNumber(16, "FF") });
+        // 0x123456789abcdef ^ 0xfedcba987654321 mod 2^127 - 1
+        parameters.add(new Object[] { createNumber(16, "123456789ABCDEF"), createNumber(16, "FEDCBA987654321"),
+                                      createNumber(16, "7FFFFFFFFFFFFFFFFFFFFFFFFFFFFFFF"),
+                                      createNumber(16, "7F37887B58E0CEEDDAFFBA40402D0382"),
+                                      createNumber(16, "14B66DC33F6ACDCA5E20890F2A521"),
+                                      createNumber(16, "49FAF75FBB9752E5A542E11F99750A3") });
+
+        return parameters;
+    }
+
+}
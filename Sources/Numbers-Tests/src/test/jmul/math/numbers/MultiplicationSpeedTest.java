@@ -38,8 +38,11 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 
+import static jmul.math.digits.PositionalNumeralSystems.ordinalToSymbol;
 import jmul.math.numbers.Number;
+import static jmul.math.numbers.NumberHelper.createNumber;
 import jmul.math.operations.processing.ProcessingDetails;
 import jmul.math.operations.repository.OperationIdentifiers;
 
@@ -66,6 +69,7 @@ public class MultiplicationSpeedTest {
     public static void main(String... args) {
 
         compareLongMultiplicationWithMultiplicationByAddition();
+        compareMultiplicationsOfLargeNumbers();
     }
 
     /**
@@ -187,6 +191,87 @@ public class MultiplicationSpeedTest {
         return successRate;
     }
 
+    /**
+     * Multiplies large numbers in various bases with different multiplication algorithms. The long multiplication
+     * is skipped for the largest numbers.
+     */
+    public static void compareMultiplicationsOfLargeNumbers() {
+
+        final int[] BASES = { 2, 10, 16, 60 };
+        final int[] DIGITS = { 2000, 10000, 50000 };
+        final int LONG_MULTIPLICATION_LIMIT = 10000;
+
+        Random random = new Random(0L);
+
+        for (int base : BASES) {
+
+            for (int digits : DIGITS) {
+
+                Number factor1 = createRandomNumber(random, base, digits);
+                Number factor2 = createRandomNumber(random, base, digits);
+
+                System.out.println("multiply numbers with " + digits + " digits in base " + base);
+
+                if (digits <= LONG_MULTIPLICATION_LIMIT) {
+
+                    measureMultiplication(OperationIdentifiers.LONG_MULTIPLICATION_FUNCTION, factor1, factor2);
+                }
+
+                measureMultiplication(OperationIdentifiers.KARATSUBA_MULTIPLICATION_FUNCTION, factor1, factor2);
+                measureMultiplication(OperationIdentifiers.TOOM3_MULTIPLICATION_FUNCTION, factor1, factor2);
+                measureMultiplication(OperationIdentifiers.NTT_MULTIPLICATION_FUNCTION, factor1, factor2);
+            }
+        }
+    }
+
+    /**
+     * Multiplies the specified factors with the specified algorithm and prints the duration.
+     *
+     * @param algorithm
+     *        a multiplication algorithm
+     * @param factor1
+     *        the first factor
+     * @param factor2
+     *        the second factor
+     */
+    public static void measureMultiplication(OperationIdentifiers algorithm, Number factor1, Number factor2) {
+
+        ProcessingDetails processingDetails =
+            ProcessingDetails.setProcessingDetails(algorithm, ProcessingDetails.DEFAULT_PRECISION,
+                                                   ProcessingDetails.DEFAULT_ITERATION_DEPTH);
+
+        long start = System.currentTimeMillis();
+        factor1.multiply(processingDetails, factor2);
+        long end = System.currentTimeMillis();
+        long duration = end - start;
+        System.out.println(algorithm + ": duration " + duration + " ms");
+    }
+
+    /**
+     * Creates a random number with the specified number of digits.
+     *
+     * @param random
+     *        a random number generator
+     * @param base
+     *        a number base
+     * @param digits
+     *        the number of digits
+     *
+     * @return a random number
+     */
+    public static Number createRandomNumber(Random random, int base, int digits) {
+
+        StringBuilder buffer = new StringBuilder();
+
+        buffer.append(ordinalToSymbol(base, 1 + random.nextInt(base - 1)));
+        for (int a = 1; a < digits; a++) {
+
+            buffer.append(ordinalToSymbol(base, random.nextInt(base)));
+        }
+
+        return createNumber(base, buffer.toString());
+    }
+
     /**
      * Creates a set of test cases.
      *
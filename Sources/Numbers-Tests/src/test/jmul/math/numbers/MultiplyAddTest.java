@@ -0,0 +1,393 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.math.numbers;
+
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import jmul.math.Math;
+import static jmul.math.digits.PositionalNumeralSystems.ordinalToSymbol;
+import static jmul.math.numbers.Constants.BASE_MAX_LIMIT;
+import static jmul.math.numbers.Constants.BASE_MIN_LIMIT;
+import jmul.math.numbers.Number;
+import static jmul.math.numbers.NumberHelper.createInfinity;
+import static jmul.math.numbers.NumberHelper.createNegativeInfinity;
+import static jmul.math.numbers.NumberHelper.createNumber;
+
+import jmul.test.classification.UnitTest;
+import jmul.test.exceptions.FailedTestException;
+
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import static test.jmul.math.numbers.NumberCheckHelper.checkNumberEqualsStringRepresentation;
+import static test.jmul.math.numbers.NumberCheckHelper.checkNumbersAreUniqueInstances;
+
+
+/**
+ * This test suite tests the fused multiply-add operation (i.e. <code>factor1 * factor2 + addend</code>) with small
+ * operands and with large operands (i.e. the factors are multiplied beforehand).
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+@RunWith(Parameterized.class)
+public class MultiplyAddTest {
+
+    /**
+     * The string representation of infinity.
+     */
+    private static final String INFINITY = "infinity";
+
+    /**
+     * The string representation of negative infinity.
+     */
+    private static final String NEGATIVE_INFINITY = "-infinity";
+
+    /**
+     * The base for all numbers.
+     */
+    private final int base;
+
+    /**
+     * The first factor as number string.
+     */
+    private final String firstFactorString;
+
+    /**
+     * The first factor parsed from the specified number string.
+     */
+    private Number firstFactor;
+
+    /**
+     * The second factor as number string.
+     */
+    private final String secondFactorString;
+
+    /**
+     * The second factor parsed from the specified number string.
+     */
+    private Number secondFactor;
+
+    /**
+     * The addend as number string.
+     */
+    private final String addendString;
+
+    /**
+     * The addend parsed from the specified number string.
+     */
+    private Number addend;
+
+    /**
+     * The expected result as number string.
+     */
+    private final String expectedResultString;
+
+    /**
+     * The expected result parsed from the specified number string.
+     */
+    private Number expectedResult;
+
+    /**
+     * Creates a new test according to the specified parameters.
+     *
+     * @param base
+     *        the base for all numbers
+     * @param firstFactorString
+     *        the first factor as number string
+     * @param secondFactorString
+     *        the second factor as number string
+     * @param addendString
+     *        the addend as number string
+     * @param expectedResultString
+     *        the expected result as number string
+     */
+    public MultiplyAddTest(int base, String firstFactorString, String secondFactorString, String addendString,
+                           String expectedResultString) {
+
+        super();
+
+        this.base = base;
+        this.firstFactorString = firstFactorString;
+        this.secondFactorString = secondFactorString;
+        this.addendString = addendString;
+        this.expectedResultString = expectedResultString;
+    }
+
+    /**
+     * Parses the specified number string.
+     *
+     * @param base
+     *        a number base
+     * @param numberString
+     *        a number string
+     *
+     * @return a number
+     */
+    private static Number parse(int base, String numberString) {
+
+        if (INFINITY.equals(numberString)) {
+
+            return createInfinity(base);
+
+        } else if (NEGATIVE_INFINITY.equals(numberString)) {
+
+            return createNegativeInfinity(base);
+        }
+
+        return createNumber(base, numberString);
+    }
+
+    /**
+     * Parses the number strings before the actual test.
+     */
+    @Before
+    public void setUp() {
+
+        firstFactor = parse(base, firstFactorString);
+        secondFactor = parse(base, secondFactorString);
+        addend = parse(base, addendString);
+        expectedResult = parse(base, expectedResultString);
+    }
+
+    /**
+     * Cleans up after a test.
+     */
+    @After
+    public void tearDown() {
+
+        firstFactor = null;
+        secondFactor = null;
+        addend = null;
+        expectedResult = null;
+    }
+
+    /**
+     * Returns a test summary.
+     *
+     * @return a test summary
+     */
+    @Override
+    public String toString() {
+
+        String representation =
+            String.format("[base:%d]: %s * %s + %s = %s", base, firstFactorString, secondFactorString, addendString,
+                          expectedResultString);
+
+        return representation;
+    }
+
+    /**
+     * Checks the specified result and the operands.
+     *
+     * @param actualResult
+     *        the actual result
+     */
+    private void checkResult(Number actualResult) {
+
+        assertEquals(toString(), expectedResult, actualResult);
+
+        // check the number instances
+        checkNumbersAreUniqueInstances(firstFactor, secondFactor, actualResult);
+        checkNumbersAreUniqueInstances(firstFactor, addend, actualResult);
+
+        // check that the operands didn't change
+        checkNumberEqualsStringRepresentation(firstFactor, firstFactorString);
+        checkNumberEqualsStringRepresentation(secondFactor, secondFactorString);
+        checkNumberEqualsStringRepresentation(addend, addendString);
+    }
+
+    /**
+     * Tests the multiply-add operation and checks the result.
+     */
+    @Test
+    public void testMultiplyAdd() {
+
+        try {
+
+            Number actualResult = firstFactor.multiplyAdd(secondFactor, addend);
+            checkResult(actualResult);
+
+        } catch (Exception e) {
+
+            throw new FailedTestException(toString(), e);
+        }
+    }
+
+    /**
+     * Tests the multiply-add operation and checks the result.
+     */
+    @Test
+    public void testMultiplyAddVariant2() {
+
+        try {
+
+            Number actualResult = Math.multiplyAdd(firstFactor, secondFactor, addend);
+            checkResult(actualResult);
+
+        } catch (Exception e) {
+
+            throw new FailedTestException(toString(), e);
+        }
+    }
+
+    /**
+     * Tests the multiply-add operation and compares the result with a multiplication and a subsequent
+     * addition.
+     */
+    @Test
+    public void testMultiplyAndAdd() {
+
+        try {
+
+            Number actualResult = firstFactor.multiply(secondFactor).add(addend);
+            assertEquals(toString(), expectedResult, actualResult);
+
+        } catch (Exception e) {
+
+            throw new FailedTestException(toString(), e);
+        }
+    }
+
+    /**
+     * Returns a number string which consists of the specified digit.
+     *
+     * @param base
+     *        the base of the digit
+     * @param ordinal
+     *        the ordinal value of the digit
+     * @param count
+     *        the number of digits
+     *
+     * @return a number string
+     */
+    private static String repeat(int base, int ordinal, int count) {
+
+        char symbol = ordinalToSymbol(base, ordinal);
+
+        StringBuilder buffer = new StringBuilder();
+        for (int a = 0; a < count; a++) {
+
+            buffer.append(symbol);
+        }
+
+        return buffer.toString();
+    }
+
+    /**
+     * Adds test data for the identities <code>(base^n - 1) * (base^n + 1) + 1 = base^2n</code> and
+     * <code>(base^n - 1) * (base^n - 1) + (2 * base^n - 1) = base^2n</code> and their negated counterparts (i.e.
+     * the product is subtracted from the addend).
+     *
+     * @param parameters
+     *        the test data
+     * @param base
+     *        a number base
+     * @param n
+     *        the number of digits
+     */
+    private static void addSquareIdentities(Collection<Object[]> parameters, int base, int n) {
+
+        String predecessor = repeat(base, base - 1, n);
+        String successor = "1" + repeat(base, 0, n - 1) + "1";
+        String square = "1" + repeat(base, 0, 2 * n);
+        String addend = "1" + repeat(base, base - 1, n);
+
+        parameters.add(new Object[] { base, predecessor, successor, "1", square });
+        parameters.add(new Object[] { base, "-" + predecessor, successor, "-1", "-" + square });
+        parameters.add(new Object[] { base, predecessor, successor, "-" + square, "-1" });
+        parameters.add(new Object[] { base, "-" + predecessor, successor, square, "1" });
+        parameters.add(new Object[] { base, predecessor, predecessor, addend, square });
+        parameters.add(new Object[] { base, "-" + predecessor, predecessor, "-" + addend, "-" + square });
+
+        // The product and the addend have different numbers of fraction digits.
+        parameters.add(new Object[] {
+                       base, "0." + predecessor, predecessor, "1." + predecessor + "1",
+                       "1" + repeat(base, 0, n) + "." + repeat(base, 0, n) + "1"
+        });
+    }
+
+    /**
+     * Returns a matrix of test data and expected results.
+     *
+     * @return a matrix of test data and expected results
+     */
+    @Parameterized.Parameters
+    public static Collection<Object[]> data() {
+
+        Collection<Object[]> parameters = new ArrayList<Object[]>();
+
+        for (int base = BASE_MIN_LIMIT; base <= BASE_MAX_LIMIT; base++) {
+
+            parameters.add(new Object[] { base, "1", INFINITY, "1", INFINITY });
+            parameters.add(new Object[] { base, NEGATIVE_INFINITY, "1", "1", NEGATIVE_INFINITY });
+            parameters.add(new Object[] { base, "1", "1", NEGATIVE_INFINITY, NEGATIVE_INFINITY });
+            parameters.add(new Object[] { base, "0", "1", "1", "1" });
+            parameters.add(new Object[] { base, "1", "0", "-1", "-1" });
+            parameters.add(new Object[] { base, "1", "1", "0", "1" });
+            parameters.add(new Object[] { base, "1", "-1", "1", "0" });
+            parameters.add(new Object[] { base, "-1", "-1", "-1", "0" });
+        }
+
+        parameters.add(new Object[] { 10, "2", "3", "4", "10" });
+        parameters.add(new Object[] { 10, "2", "3", "-10", "-4" });
+        parameters.add(new Object[] { 10, "-2", "3", "6", "0" });
+        parameters.add(new Object[] { 10, "0.5", "0.5", "0.75", "1" });
+        parameters.add(new Object[] { 10, "1.5", "-2", "0.25", "-2.75" });
+        parameters.add(new Object[] { 10, "12", "12", "-0.001", "143.999" });
+        parameters.add(new Object[] { 10, "-12", "12", "1000.5", "856.5" });
+        parameters.add(new Object[] { 2, "101", "11", "-10000", "-1" });
+        parameters.add(new Object[] { 16, "FF", "FF", "1FE", "FFFF" });
+
+        // Small and large operands in various bases (i.e. the product is accumulated in the addend or the
+        // factors are multiplied beforehand)
+        int[] bases = { 2, 3, 10, 16, 60 };
+        for (int base : bases) {
+
+            addSquareIdentities(parameters, base, 1);
+            addSquareIdentities(parameters, base, 10);
+            addSquareIdentities(parameters, base, 100);
+            addSquareIdentities(parameters, base, 700);
+        }
+
+        return parameters;
+    }
+
+}
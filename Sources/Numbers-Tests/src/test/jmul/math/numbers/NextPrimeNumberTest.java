@@ -286,4 +286,63 @@ public class NextPrimeNumberTest {
         assertEquals("prime", expectedPrimeNumber, actualPrimeNumber);
     }
 
+    /**
+     * Checks calculating the 10000th prime number (i.e. ordinal 9999).
+     */
+    @Test
+    public void testTenThousandthPrimeNumber() {
+
+        Number ordinal = createNumber(10, "9999");
+        Number expectedPrimeNumber = createNumber(10, "104729");
+        Number actualPrimeNumber = Math.nextPrimeNumber(ordinal);
+
+        assertEquals("prime", expectedPrimeNumber, actualPrimeNumber);
+    }
+
+    /**
+     * Checks calculating the 1000000th prime number (i.e. ordinal 999999) in another number base.
+     */
+    @Test
+    public void testMillionthPrimeNumber() {
+
+        Number ordinal = createNumber(10, "999999").rebase(16);
+        Number expectedPrimeNumber = createNumber(10, "15485863").rebase(16);
+        Number actualPrimeNumber = Math.nextPrimeNumber(ordinal);
+
+        assertEquals("prime", expectedPrimeNumber, actualPrimeNumber);
+    }
+
+    /**
+     * Checks calculating the 10000000th prime number (i.e. the largest ordinal 9999999).
+     */
+    @Test
+    public void testTenMillionthPrimeNumber() {
+
+        Number ordinal = createNumber(10, "9999999");
+        Number expectedPrimeNumber = createNumber(10, "179424673");
+        Number actualPrimeNumber = Math.nextPrimeNumber(ordinal);
+
+        assertEquals("prime", expectedPrimeNumber, actualPrimeNumber);
+    }
+
+    /**
+     * Checks calculating a prime number with an ordinal which exceeds the limit.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testTooLargeOrdinal() {
+
+        Number ordinal = createNumber(10, "10000000");
+        Math.nextPrimeNumber(ordinal);
+    }
+
+    /**
+     * Checks calculating a prime number with a negative ordinal.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeOrdinal() {
+
+        Number ordinal = createNumber(10, "-1");
+        Math.nextPrimeNumber(ordinal);
+    }
+
 }
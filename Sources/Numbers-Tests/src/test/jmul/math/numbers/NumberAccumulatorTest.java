@@ -0,0 +1,185 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package test.jmul.math.numbers;
+
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import jmul.math.numbers.Number;
+import jmul.math.numbers.NumberAccumulator;
+import static jmul.math.numbers.NumberHelper.createNumber;
+
+import jmul.test.classification.UnitTest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+
+/**
+ * This test suite checks the accumulation of sums with a number accumulator.
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+@RunWith(Parameterized.class)
+public class NumberAccumulatorTest {
+
+    /**
+     * A number base.
+     */
+    private final int base;
+
+    /**
+     * The summands (i.e. a summand with a leading <code>*</code> is a product of two numbers which are
+     * separated by a <code>*</code>).
+     */
+    private final String[] summands;
+
+    /**
+     * The numbers which are subtracted.
+     */
+    private final String[] subtrahends;
+
+    /**
+     * The expected result.
+     */
+    private final Number expectedResult;
+
+    /**
+     * Creates a test according to the specified parameters.
+     *
+     * @param base
+     *        a number base
+     * @param summands
+     *        the summands
+     * @param subtrahends
+     *        the numbers which are subtracted
+     * @param expectedResult
+     *        the expected result
+     */
+    public NumberAccumulatorTest(int base, String[] summands, String[] subtrahends, String expectedResult) {
+
+        super();
+
+        this.base = base;
+        this.summands = summands;
+        this.subtrahends = subtrahends;
+        this.expectedResult = createNumber(base, expectedResult);
+    }
+
+    /**
+     * Returns a summary of the test case.
+     *
+     * @return a summary of the test case
+     */
+    @Override
+    public String toString() {
+
+        return String.format("(%d) %s - %s = %s", base, String.join(" + ", summands), String.join(" - ", subtrahends),
+                             expectedResult);
+    }
+
+    /**
+     * Accumulates the summands and subtrahends and checks the result.
+     */
+    @Test
+    public void testAccumulation() {
+
+        NumberAccumulator accumulator = new NumberAccumulator(base);
+
+        for (String summand : summands) {
+
+            if (summand.contains("*")) {
+
+                String[] factors = summand.split("\\*");
+                accumulator.multiplyAddInPlace(createNumber(base, factors[0]), createNumber(base, factors[1]));
+
+            } else {
+
+                accumulator.addInPlace(createNumber(base, summand));
+            }
+        }
+
+        for (String subtrahend : subtrahends) {
+
+            accumulator.subtractInPlace(createNumber(base, subtrahend));
+        }
+
+        Number result = accumulator.toNumber();
+
+        assertEquals(toString(), expectedResult, result);
+        assertEquals(toString(), expectedResult.toString(), result.toString());
+
+        Number result2 = accumulator.toNumber();
+
+        assertEquals(toString(), result, result2);
+        assertFalse(toString(), result == result2);
+    }
+
+    /**
+     * Returns a matrix of test data and expected results.
+     *
+     * @return a matrix of test data and expected results
+     */
+    @Parameterized.Parameters
+    public static Collection<Object[]> data() {
+
+        Collection<Object[]> parameters = new ArrayList<Object[]>();
+
+        parameters.add(new Object[] { 10, new String[] { }, new String[] { }, "0" });
+        parameters.add(new Object[] { 10, new String[] { "1", "2", "3" }, new String[] { }, "6" });
+        parameters.add(new Object[] { 10, new String[] { "999", "1" }, new String[] { }, "1000" });
+        parameters.add(new Object[] { 10, new String[] { "1" }, new String[] { "1" }, "0" });
+        parameters.add(new Object[] { 10, new String[] { "1" }, new String[] { "2" }, "-1" });
+        parameters.add(new Object[] { 10, new String[] { "-5", "-7" }, new String[] { }, "-12" });
+        parameters.add(new Object[] { 10, new String[] { "1000" }, new String[] { "0.001" }, "999.999" });
+        parameters.add(new Object[] { 10, new String[] { "0.25", "0.75" }, new String[] { }, "1" });
+        parameters.add(new Object[] { 10, new String[] { "0.005" }, new String[] { }, "0.005" });
+        parameters.add(new Object[] { 10, new String[] { "12*12", "-3*4" }, new String[] { "32" }, "100" });
+        parameters.add(new Object[] { 10, new String[] { "1.5*1.5", "0*12345" }, new String[] { }, "2.25" });
+        parameters.add(new Object[] { 10, new String[] { "-0.5*0.5" }, new String[] { "-1" }, "0.75" });
+        parameters.add(new Object[] { 2, new String[] { "1", "1", "1" }, new String[] { }, "11" });
+        parameters.add(new Object[] { 2, new String[] { "0.1*0.1" }, new String[] { "1" }, "-0.11" });
+        parameters.add(new Object[] { 16, new String[] { "FF*FF", "1" }, new String[] { "FF" }, "FD03" });
+        parameters.add(new Object[] { 60, new String[] { "1", "-2" }, new String[] { "3" }, "-4" });
+
+        return parameters;
+    }
+
+}
@@ -35,6 +35,7 @@ package test.jmul.math.numbers;
 
 
 import jmul.math.numbers.Number;
+import jmul.math.numbers.nodes.NodesHelper;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -57,6 +58,7 @@ public final class NumberCheckHelper {
 
     /**
      * Checks that the specified operand and the result are unique number instances (i.e. linked lists).
+     * Immutable numbers (e.g. cached small integers) may be shared.
      *
      * @param operand
      *        an operand
@@ -65,6 +67,11 @@ public final class NumberCheckHelper {
      */
     public static void checkNumbersAreUniqueInstances(Number operand, Number result) {
 
+        if (isShared(operand, result)) {
+
+            return;
+        }
+
         assertFalse(operand == result);
 
         assertFalse(operand.centerNode() == result.centerNode());
@@ -72,6 +79,7 @@ public final class NumberCheckHelper {
 
     /**
      * Checks that the specified operands and the result are unique number instances (i.e. linked lists).
+     * Immutable numbers (e.g. cached small integers) may be shared.
      *
      * @param operand1
      *        an operand
@@ -85,25 +93,40 @@ public final class NumberCheckHelper {
         String message;
 
         message = "Number instances are not unique!";
-        assertFalse(message, operand1 == operand2);
-        assertFalse(message, operand1 == result);
-        assertFalse(message, operand2 == result);
+        assertFalse(message, (operand1 == operand2) && !isShared(operand1, operand2));
+        assertFalse(message, (operand1 == result) && !isShared(operand1, result));
+        assertFalse(message, (operand2 == result) && !isShared(operand2, result));
 
         message = "Linked lists are not disjunct!";
-        if ((operand1.centerNode() != null) && (operand2.centerNode() != null)) {
+        if ((operand1.centerNode() != null) && (operand2.centerNode() != null) && !isShared(operand1, operand2)) {
 
             assertFalse(message, operand1.centerNode() == operand2.centerNode());
         }
-        if ((operand1.centerNode() != null) && (result.centerNode() != null)) {
+        if ((operand1.centerNode() != null) && (result.centerNode() != null) && !isShared(operand1, result)) {
 
             assertFalse(message, operand1.centerNode() == result.centerNode());
         }
-        if ((operand2.centerNode() != null) && (result.centerNode() != null)) {
+        if ((operand2.centerNode() != null) && (result.centerNode() != null) && !isShared(operand2, result)) {
 
             assertFalse(message, operand2.centerNode() == result.centerNode());
         }
     }
 
+    /**
+     * Checks if the specified numbers share the same immutable linked list.
+     *
+     * @param number1
+     *        a number
+     * @param number2
+     *        a number
+     *
+     * @return <code>true</code> if both numbers share the same immutable linked list, else <code>false</code>
+     */
+    private static boolean isShared(Number number1, Number number2) {
+
+        return (number1.centerNode() == number2.centerNode()) && NodesHelper.isImmutable(number1.centerNode());
+    }
+
     /**
      * Compare the specified number with the specified string representation of a number. If these
      * don't match then an assertion fails.
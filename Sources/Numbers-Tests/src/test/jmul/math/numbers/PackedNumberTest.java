@@ -0,0 +1,254 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.math.numbers;
+
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import static jmul.math.numbers.Constants.BASE_MAX_LIMIT;
+import static jmul.math.numbers.Constants.BASE_MIN_LIMIT;
+import jmul.math.numbers.Number;
+import static jmul.math.numbers.NumberHelper.createInfinity;
+import static jmul.math.numbers.NumberHelper.createNegativeInfinity;
+import static jmul.math.numbers.NumberHelper.createNumber;
+import jmul.math.numbers.PackedNumberImpl;
+import static jmul.math.numbers.creation.CreationParameters.PACKED;
+
+import jmul.test.classification.UnitTest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+
+/**
+ * This test suite checks packed numbers (i.e. their properties and their use as operands).
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+@RunWith(Parameterized.class)
+public class PackedNumberTest {
+
+    /**
+     * A number.
+     */
+    private final Number number;
+
+    /**
+     * Another number.
+     */
+    private final Number otherNumber;
+
+    /**
+     * Creates a test according to the specified parameters.
+     *
+     * @param number
+     *        a number
+     * @param otherNumber
+     *        another number
+     */
+    public PackedNumberTest(Number number, Number otherNumber) {
+
+        super();
+
+        this.number = number;
+        this.otherNumber = otherNumber;
+    }
+
+    /**
+     * Returns a summary of the test case.
+     *
+     * @return a summary of the test case
+     */
+    @Override
+    public String toString() {
+
+        return String.format("(%d) %s ; (%d) %s", number.base(), number, otherNumber.base(), otherNumber);
+    }
+
+    /**
+     * Packs a number and checks the properties of the packed number.
+     */
+    @Test
+    public void testProperties() {
+
+        Number packedNumber = createNumber(PACKED, number);
+
+        assertTrue(toString(), packedNumber instanceof PackedNumberImpl);
+        assertEquals(toString(), number, packedNumber);
+        assertEquals(toString(), packedNumber, number);
+        assertEquals(toString(), number.hashCode(), packedNumber.hashCode());
+        assertEquals(toString(), number.toString(), packedNumber.toString());
+        assertEquals(toString(), number.base(), packedNumber.base());
+        assertEquals(toString(), number.sign(), packedNumber.sign());
+        assertEquals(toString(), number.isInfinity(), packedNumber.isInfinity());
+        assertEquals(toString(), number.isZero(), packedNumber.isZero());
+        assertEquals(toString(), number.isOne(), packedNumber.isOne());
+        assertEquals(toString(), number.isInteger(), packedNumber.isInteger());
+        assertEquals(toString(), number.isFraction(), packedNumber.isFraction());
+    }
+
+    /**
+     * Uses packed numbers as operands and checks the results.
+     */
+    @Test
+    public void testOperations() {
+
+        if (number.isInfinity() || otherNumber.isInfinity()) {
+
+            return;
+        }
+
+        Number packedNumber = createNumber(PACKED, number);
+        Number otherPackedNumber = createNumber(PACKED, otherNumber);
+
+        assertEquals(toString(), number.add(otherNumber), packedNumber.add(otherPackedNumber));
+        assertEquals(toString(), number.subtract(otherNumber), packedNumber.subtract(otherPackedNumber));
+        assertEquals(toString(), number.multiply(otherNumber), packedNumber.multiply(otherPackedNumber));
+        assertEquals(toString(), number.compareTo(otherNumber), packedNumber.compareTo(otherPackedNumber));
+        assertEquals(toString(), number.add(otherNumber), number.add(otherPackedNumber));
+
+        if (!otherNumber.isZero()) {
+
+            assertEquals(toString(), number.divide(otherNumber), packedNumber.divide(otherPackedNumber));
+        }
+    }
+
+    /**
+     * Adds and compares packed numbers and checks that the sum of packed numbers is a packed number (i.e. the
+     * chunks of packed digits are processed directly).
+     */
+    @Test
+    public void testChunkOperations() {
+
+        if (number.isInfinity() || otherNumber.isInfinity()) {
+
+            return;
+        }
+
+        Number packedNumber = createNumber(PACKED, number);
+        Number otherPackedNumber = createNumber(PACKED, otherNumber);
+        Number negatedPackedNumber = createNumber(PACKED, otherNumber.negate());
+
+        Number sum = packedNumber.add(packedNumber);
+        assertTrue(toString(), number.isZero() || (sum instanceof PackedNumberImpl));
+        assertEquals(toString(), number.add(number), sum);
+
+        if ((number.sign() == otherNumber.sign()) && !number.isZero() && !otherNumber.isZero()) {
+
+            sum = packedNumber.add(otherPackedNumber);
+            assertTrue(toString(), sum instanceof PackedNumberImpl);
+            assertEquals(toString(), number.add(otherNumber), sum);
+            assertEquals(toString(), number.add(otherNumber).toString(), sum.toString());
+        }
+
+        assertEquals(toString(), number.compareTo(otherNumber.negate()),
+                     packedNumber.compareTo(negatedPackedNumber));
+        assertEquals(toString(), otherNumber.compareTo(number), otherPackedNumber.compareTo(packedNumber));
+        assertEquals(toString(), 0, packedNumber.compareTo(createNumber(PACKED, number)));
+    }
+
+    /**
+     * Checks shifts and the integer and fraction parts of packed numbers (i.e. only the exponent is changed or
+     * the digits are copied without creating a linked list).
+     */
+    @Test
+    public void testScaling() {
+
+        if (number.isInfinity() || number.isZero()) {
+
+            return;
+        }
+
+        Number packedNumber = createNumber(PACKED, number);
+        Number shifts = createNumber(number.base(), "101");
+
+        Number shiftedNumber = packedNumber.shiftLeft(shifts);
+        assertTrue(toString(), shiftedNumber instanceof PackedNumberImpl);
+        assertEquals(toString(), number.shiftLeft(shifts), shiftedNumber);
+        assertEquals(toString(), number.shiftLeft(shifts).toString(), shiftedNumber.toString());
+
+        shiftedNumber = packedNumber.shiftRight(shifts);
+        assertTrue(toString(), shiftedNumber instanceof PackedNumberImpl);
+        assertEquals(toString(), number.shiftRight(shifts), shiftedNumber);
+        assertEquals(toString(), number, shiftedNumber.shiftLeft(shifts));
+
+        Number integerPart = packedNumber.removeFractionPart();
+        assertTrue(toString(), integerPart instanceof PackedNumberImpl);
+        assertEquals(toString(), number.removeFractionPart(), integerPart);
+
+        Number fractionPart = packedNumber.removeIntegerPart();
+        assertTrue(toString(), fractionPart instanceof PackedNumberImpl);
+        assertEquals(toString(), number.removeIntegerPart(), fractionPart);
+    }
+
+    /**
+     * Returns a matrix of test data and expected results.
+     *
+     * @return a matrix of test data and expected results
+     */
+    @Parameterized.Parameters
+    public static Collection<Object[]> data() {
+
+        Collection<Object[]> parameters = new ArrayList<Object[]>();
+
+        for (int base = BASE_MIN_LIMIT; base <= BASE_MAX_LIMIT; base++) {
+
+            parameters.add(new Object[] { createInfinity(base), createNumber(base, "1") });
+            parameters.add(new Object[] { createNegativeInfinity(base), createNumber(base, "1") });
+
+            parameters.add(new Object[] { createNumber(base, "0"), createNumber(base, "1") });
+            parameters.add(new Object[] { createNumber(base, "1"), createNumber(base, "0") });
+            parameters.add(new Object[] { createNumber(base, "-1"), createNumber(base, "1") });
+            parameters.add(new Object[] { createNumber(base, "10"), createNumber(base, "-0.1") });
+            parameters.add(new Object[] { createNumber(base, "1011.0101"), createNumber(base, "-11.1") });
+            parameters.add(new Object[] { createNumber(base, "-110010100111.00011"),
+                                          createNumber(base, "100000000000000000000000000000001") });
+            parameters.add(new Object[] { createNumber(base, "0.000000000000000000000001"),
+                                          createNumber(base, "1000000000000000000000000") });
+            parameters.add(new Object[] { createNumber(base, "1011.0101"), createNumber(base, "11.1") });
+            parameters.add(new Object[] { createNumber(base, "-0.1"), createNumber(base, "-0.11") });
+            parameters.add(new Object[] { createNumber(base, "111111111111111111111111111111"),
+                                          createNumber(base, "1") });
+            parameters.add(new Object[] { createNumber(base, "101.1"), createNumber(base, "101.01") });
+        }
+
+        return parameters;
+    }
+
+}
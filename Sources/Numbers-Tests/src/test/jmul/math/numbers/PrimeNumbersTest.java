@@ -0,0 +1,177 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.math.numbers;
+
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import jmul.math.Math;
+import jmul.math.numbers.Number;
+import static jmul.math.numbers.NumberHelper.createNumber;
+
+import jmul.test.classification.UnitTest;
+
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+
+/**
+ * Tests the stream of prime numbers and concurrent lookups of prime numbers.
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+public class PrimeNumbersTest {
+
+    /**
+     * The first prime numbers.
+     */
+    private static final int[] FIRST_PRIME_NUMBERS =
+    { 2, 3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37, 41, 43, 47, 53, 59, 61, 67, 71, 73, 79, 83, 89, 97 };
+
+    /**
+     * Checks the first prime numbers in various number bases.
+     */
+    @Test
+    public void testFirstPrimeNumbers() {
+
+        int[] bases = { 2, 3, 10, 16, 60 };
+        for (int base : bases) {
+
+            List<Number> actualPrimeNumbers =
+                Math.primes(base).limit(FIRST_PRIME_NUMBERS.length).collect(Collectors.toList());
+
+            List<Number> expectedPrimeNumbers = new ArrayList<>();
+            for (int primeNumber : FIRST_PRIME_NUMBERS) {
+
+                expectedPrimeNumbers.add(createNumber(base, primeNumber));
+            }
+
+            assertEquals("base " + base, expectedPrimeNumbers, actualPrimeNumbers);
+        }
+    }
+
+    /**
+     * Checks iterating over prime numbers beyond the first segment of the sieve.
+     */
+    @Test
+    public void testIterator() {
+
+        Iterator<Number> iterator = Math.primes(10).iterator();
+
+        Number primeNumber = null;
+        for (int a = 0; a < 100000; a++) {
+
+            primeNumber = iterator.next();
+        }
+
+        assertEquals("prime", createNumber(10, "1299709"), primeNumber);
+        assertEquals("prime", createNumber(10, "1299721"), iterator.next());
+    }
+
+    /**
+     * Checks that streams and lookups by ordinal number agree.
+     */
+    @Test
+    public void testStreamAndOrdinals() {
+
+        Iterator<Number> iterator = Math.primes(10).iterator();
+
+        for (int ordinal = 0; ordinal < 1000; ordinal++) {
+
+            Number expectedPrimeNumber = Math.nextPrimeNumber(createNumber(10, ordinal));
+            assertEquals("prime", expectedPrimeNumber, iterator.next());
+        }
+    }
+
+    /**
+     * Checks concurrent lookups of prime numbers (i.e. several threads extend the sieve at the same time).
+     *
+     * @throws Exception
+     *         is thrown if a lookup fails
+     */
+    @Test
+    public void testConcurrentLookups() throws Exception {
+
+        final int threads = 8;
+        final int lookups = 500;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+
+            List<Future<List<Number>>> futures = new ArrayList<>();
+            for (int a = 0; a < threads; a++) {
+
+                final int offset = a;
+                futures.add(executor.submit(() -> {
+
+                    List<Number> primeNumbers = new ArrayList<>();
+                    for (int b = 0; b < lookups; b++) {
+
+                        Number ordinal = createNumber(10, 200000L + (long) b * threads + offset);
+                        primeNumbers.add(Math.nextPrimeNumber(ordinal));
+                    }
+
+                    return primeNumbers;
+                }));
+            }
+
+            List<List<Number>> results = new ArrayList<>();
+            for (Future<List<Number>> future : futures) {
+
+                results.add(future.get());
+            }
+
+            Iterator<Number> iterator = Math.primes(10).skip(200000L).iterator();
+            for (int b = 0; b < lookups; b++) {
+
+                for (int a = 0; a < threads; a++) {
+
+                    assertEquals("prime", iterator.next(), results.get(a).get(b));
+                }
+            }
+
+        } finally {
+
+            executor.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,168 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.math.numbers;
+
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import static jmul.math.digits.PositionalNumeralSystems.ordinalToSymbol;
+import jmul.math.numbers.Number;
+import static jmul.math.numbers.NumberHelper.createNumber;
+
+import jmul.test.classification.UnitTest;
+
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+
+/**
+ * This test suite tests rebasing large numbers. A number is rebased to a destination number base and back to the
+ * original number base (i.e. an integer is translated without loss).
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+@RunWith(Parameterized.class)
+public class RebaseLargeNumbersTest {
+
+    /**
+     * A number.
+     */
+    private final Number number;
+
+    /**
+     * A destination number base.
+     */
+    private final int destinationBase;
+
+    /**
+     * Creates a new test case according to the specified parameters.
+     *
+     * @param number
+     *        a number
+     * @param destinationBase
+     *        a destination number base
+     */
+    public RebaseLargeNumbersTest(Number number, int destinationBase) {
+
+        super();
+
+        this.number = number;
+        this.destinationBase = destinationBase;
+    }
+
+    /**
+     * Returns a string representation of this test case.
+     *
+     * @return string representation
+     */
+    @Override
+    public String toString() {
+
+        return String.format("(%d) %d digits rebased to (%d) and back", number.base(), number.integerDigits(),
+                             destinationBase);
+    }
+
+    /**
+     * Tests translating the number base and translating the result back to the original number base.
+     */
+    @Test
+    public void testRebase() {
+
+        Number rebasedNumber = number.rebase(destinationBase);
+        Number actualResult = rebasedNumber.rebase(number.base());
+
+        assertEquals(toString(), destinationBase, rebasedNumber.base());
+        assertEquals(toString(), number, actualResult);
+        assertEquals(toString(), number.toString(), actualResult.toString());
+    }
+
+    /**
+     * Creates a string with the specified number of digits. The digits follow a pattern which doesn't repeat
+     * within a few digits.
+     *
+     * @param base
+     *        a number base
+     * @param digits
+     *        the number of digits
+     *
+     * @return a string of digits
+     */
+    private static String createDigits(int base, int digits) {
+
+        StringBuilder buffer = new StringBuilder();
+        buffer.append(ordinalToSymbol(base, 1));
+
+        int value = 1;
+        for (int a = 1; a < digits; a++) {
+
+            value = (value * 31 + 17) % 1009;
+            buffer.append(ordinalToSymbol(base, value % base));
+        }
+
+        return buffer.toString();
+    }
+
+    /**
+     * Returns a matrix of test data and expected results.
+     *
+     * @return a matrix of test data and expected results
+     */
+    @Parameterized.Parameters
+    public static Collection<Object[]> data() {
+
+        Collection<Object[]> parameters = new ArrayList<Object[]>();
+
+        int[][] basePairs = { { 2, 10 }, { 10, 2 }, { 10, 7 }, { 16, 10 }, { 3, 60 }, { 60, 7 } };
+
+        for (int[] basePair : basePairs) {
+
+            int base = basePair[0];
+            int destinationBase = basePair[1];
+
+            for (int digits : new int[] { 100, 1000, 5000 }) {
+
+                parameters.add(new Object[] { createNumber(base, createDigits(base, digits)), destinationBase });
+                parameters.add(new Object[] { createNumber(base, "-" + createDigits(base, digits)),
+                                              destinationBase });
+            }
+        }
+
+        return parameters;
+    }
+
+}
@@ -181,6 +181,25 @@ public class RebaseNumberTest {
         parameters.add(new Object[] { createNumber(2, "1010.000110011001"), 10, createNumber(10, "10.0998535156") });
         parameters.add(new Object[] { createNumber(2, "-1010.000110011001"), 10, createNumber(10, "-10.0998535156") });
 
+        // related number bases (i.e. the digits are regrouped)
+        parameters.add(new Object[] { createNumber(2, "1010.1"), 16, createNumber(16, "A.8") });
+        parameters.add(new Object[] { createNumber(2, "-1010.1"), 16, createNumber(16, "-A.8") });
+        parameters.add(new Object[] { createNumber(16, "A.8"), 2, createNumber(2, "1010.1") });
+        parameters.add(new Object[] { createNumber(16, "FF.F"), 2, createNumber(2, "11111111.1111") });
+        parameters.add(new Object[] { createNumber(8, "17.3"), 4, createNumber(4, "33.12") });
+        parameters.add(new Object[] { createNumber(4, "33.12"), 8, createNumber(8, "17.3") });
+        parameters.add(new Object[] { createNumber(8, "0.01"), 16, createNumber(16, "0.04") });
+        parameters.add(new Object[] { createNumber(32, "V.V"), 2, createNumber(2, "11111.11111") });
+        parameters.add(new Object[] { createNumber(3, "2.2"), 9, createNumber(9, "2.6") });
+        parameters.add(new Object[] { createNumber(27, "Q.1"), 3, createNumber(3, "222.001") });
+        parameters.add(new Object[] { createNumber(9, "-8.8"), 27, createNumber(27, "-8.O") });
+
+        // related number bases with more fraction digits than the default maximum fraction length
+        parameters.add(new Object[] { createNumber(16, "0.FFFFFFFFFFFFFFFFFFFF"), 2,
+                                      createNumber(2, "0.11111111111111111111111111111111111111111111111111111111111111111111111111111111") });
+        parameters.add(new Object[] { createNumber(2, "0.00000000000000000000000000000001"), 8,
+                                      createNumber(8, "0.00000000002") });
+
         return parameters;
     }
 
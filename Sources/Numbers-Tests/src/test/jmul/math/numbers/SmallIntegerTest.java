@@ -0,0 +1,233 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package test.jmul.math.numbers;
+
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import static jmul.math.numbers.Constants.BASE_MAX_LIMIT;
+import static jmul.math.numbers.Constants.BASE_MIN_LIMIT;
+import jmul.math.digits.PositionalNumeralSystems;
+import jmul.math.numbers.Number;
+import static jmul.math.numbers.NumberHelper.createNumber;
+import jmul.math.numbers.nodes.NodesHelper;
+
+import jmul.test.classification.UnitTest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+
+/**
+ * This test suite checks the creation of numbers from integers (i.e. small integers are shared and
+ * immutable).
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+@RunWith(Parameterized.class)
+public class SmallIntegerTest {
+
+    /**
+     * A number base.
+     */
+    private final int base;
+
+    /**
+     * An integer.
+     */
+    private final long value;
+
+    /**
+     * A flag which indicates if the number is expected to be shared.
+     */
+    private final boolean expectedShared;
+
+    /**
+     * Creates a test according to the specified parameters.
+     *
+     * @param base
+     *        a number base
+     * @param value
+     *        an integer
+     * @param expectedShared
+     *        the expected result
+     */
+    public SmallIntegerTest(int base, long value, boolean expectedShared) {
+
+        super();
+
+        this.base = base;
+        this.value = value;
+        this.expectedShared = expectedShared;
+    }
+
+    /**
+     * Returns a summary of the test case.
+     *
+     * @return a summary of the test case
+     */
+    @Override
+    public String toString() {
+
+        return String.format("(%d) %d", base, value);
+    }
+
+    /**
+     * Checks the value of the created number.
+     */
+    @Test
+    public void testValue() {
+
+        Number expectedResult = createNumber(base, toDigits(base, value));
+        Number result = createNumber(base, value);
+
+        assertEquals(toString(), base, result.base());
+        assertEquals(toString(), expectedResult, result);
+    }
+
+    /**
+     * Checks if the created number is shared.
+     */
+    @Test
+    public void testSharing() {
+
+        Number number1 = createNumber(base, value);
+        Number number2 = createNumber(base, value);
+
+        if (expectedShared) {
+
+            assertSame(toString(), number1, number2);
+            assertTrue(toString(), NodesHelper.isImmutable(number1.centerNode()));
+
+        } else {
+
+            assertNotSame(toString(), number1, number2);
+            assertFalse(toString(), NodesHelper.isImmutable(number1.centerNode()));
+        }
+    }
+
+    /**
+     * Checks that the linked list of a shared number cannot be modified.
+     */
+    @Test
+    public void testImmutability() {
+
+        if (!expectedShared) {
+
+            return;
+        }
+
+        Number number = createNumber(base, value);
+
+        try {
+
+            NodesHelper.linkNodes(number.centerNode(), NodesHelper.createNode(base, 0));
+
+        } catch (UnsupportedOperationException e) {
+
+            assertEquals(toString(), createNumber(base, toDigits(base, value)), number);
+            return;
+        }
+
+        fail("The linked list of a shared number was modified!");
+    }
+
+    /**
+     * Returns the string representation of the specified integer.
+     *
+     * @param base
+     *        a number base
+     * @param value
+     *        an integer
+     *
+     * @return a sequence of digits
+     */
+    private static String toDigits(int base, long value) {
+
+        StringBuilder buffer = new StringBuilder();
+
+        long remainingValue = java.lang.Math.abs(value);
+        do {
+
+            buffer.insert(0, PositionalNumeralSystems.ordinalToSymbol(base, (int) (remainingValue % base)));
+            remainingValue /= base;
+
+        } while (remainingValue != 0);
+
+        if (value < 0) {
+
+            buffer.insert(0, '-');
+        }
+
+        return buffer.toString();
+    }
+
+    /**
+     * Returns a matrix of test data and expected results.
+     *
+     * @return a matrix of test data and expected results
+     */
+    @Parameterized.Parameters
+    public static Collection<Object[]> data() {
+
+        Collection<Object[]> parameters = new ArrayList<Object[]>();
+
+        for (int base = BASE_MIN_LIMIT; base <= BASE_MAX_LIMIT; base++) {
+
+            parameters.add(new Object[] { base, -987654321L, false });
+            parameters.add(new Object[] { base, -129L, false });
+            parameters.add(new Object[] { base, -128L, true });
+            parameters.add(new Object[] { base, -1L, true });
+            parameters.add(new Object[] { base, 0L, true });
+            parameters.add(new Object[] { base, 1L, true });
+            parameters.add(new Object[] { base, 2L, true });
+            parameters.add(new Object[] { base, 1024L, true });
+            parameters.add(new Object[] { base, 1025L, false });
+            parameters.add(new Object[] { base, 123456789L, false });
+        }
+
+        return parameters;
+    }
+
+}
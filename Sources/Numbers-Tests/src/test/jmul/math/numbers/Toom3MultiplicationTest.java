@@ -0,0 +1,388 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.math.numbers;
+
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import jmul.math.Math;
+import static jmul.math.digits.PositionalNumeralSystems.ordinalToSymbol;
+import static jmul.math.numbers.Constants.BASE_MAX_LIMIT;
+import static jmul.math.numbers.Constants.BASE_MIN_LIMIT;
+import jmul.math.numbers.Number;
+import static jmul.math.numbers.NumberHelper.createInfinity;
+import static jmul.math.numbers.NumberHelper.createNumber;
+import jmul.math.operations.processing.ProcessingDetails;
+import jmul.math.operations.repository.OperationIdentifiers;
+
+import jmul.test.classification.UnitTest;
+import jmul.test.exceptions.FailedTestException;
+
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import static test.jmul.math.numbers.NumberCheckHelper.checkNumberEqualsStringRepresentation;
+import static test.jmul.math.numbers.NumberCheckHelper.checkNumbersAreUniqueInstances;
+
+
+/**
+ * This test suite tests the Toom-Cook multiplication with small operands (i.e. the Karatsuba multiplication is used)
+ * and large operands (i.e. the operands are split recursively).
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+@RunWith(Parameterized.class)
+public class Toom3MultiplicationTest {
+
+    /**
+     * The base for all numbers.
+     */
+    private final int base;
+
+    /**
+     * The first operand as number string.
+     */
+    private final String firstOperandString;
+
+    /**
+     * The first operand parsed from the specified number string.
+     */
+    private Number firstOperand;
+
+    /**
+     * The second operand as number string.
+     */
+    private final String secondOperandString;
+
+    /**
+     * The second operand parsed from the specified number string,
+     */
+    private Number secondOperand;
+
+    /**
+     * The expected product as number string.
+     */
+    private final String expectedProductString;
+
+    /**
+     * The expected product parsed from the specified number string.
+     */
+    private Number expectedProduct;
+
+    /**
+     * Creates a new test according to the specified parameters.
+     *
+     * @param base
+     *        the base for all numbers
+     * @param firstOperandString
+     *        the first operand as number string
+     * @param secondOperandString
+     *        the second operand as number string
+     * @param expectedProductString
+     *        the product as number string
+     */
+    public Toom3MultiplicationTest(int base, String firstOperandString, String secondOperandString,
+                                   String expectedProductString) {
+
+        super();
+
+        this.base = base;
+        this.firstOperandString = firstOperandString;
+        this.secondOperandString = secondOperandString;
+        this.expectedProductString = expectedProductString;
+    }
+
+    /**
+     * Parses the number strings before the actual test.
+     */
+    @Before
+    public void setUp() {
+
+        if (firstOperandString == null) {
+
+            firstOperand = createInfinity(base);
+
+        } else {
+
+            firstOperand = createNumber(base, firstOperandString);
+        }
+
+        if (secondOperandString == null) {
+
+            secondOperand = createInfinity(base);
+
+        } else {
+
+            secondOperand = createNumber(base, secondOperandString);
+        }
+
+        if (expectedProductString == null) {
+
+            expectedProduct = createInfinity(base);
+
+        } else {
+
+            expectedProduct = createNumber(base, expectedProductString);
+        }
+    }
+
+    /**
+     * Cleans up after a test.
+     */
+    @After
+    public void tearDown() {
+
+        firstOperand = null;
+        secondOperand = null;
+        expectedProduct = null;
+    }
+
+    /**
+     * Returns a test summary.
+     *
+     * @return a test summary
+     */
+    @Override
+    public String toString() {
+
+        String infinity = "infinity";
+
+        String operand1 = firstOperandString;
+        String operand2 = secondOperandString;
+        String result = expectedProductString;
+
+        if (firstOperandString == null) {
+
+            operand1 = infinity;
+        }
+        if (secondOperandString == null) {
+
+            operand2 = infinity;
+        }
+        if (expectedProductString == null) {
+
+            result = infinity;
+        }
+
+        String representation = String.format("[base:%d]: %s * %s = %s", base, operand1, operand2, result);
+
+        return representation;
+    }
+
+    /**
+     * Returns processing details which select the Toom-Cook multiplication.
+     *
+     * @return processing details
+     */
+    private static ProcessingDetails toom3Multiplication() {
+
+        return ProcessingDetails.setProcessingDetails(OperationIdentifiers.TOOM3_MULTIPLICATION_FUNCTION,
+                                                      ProcessingDetails.DEFAULT_PRECISION,
+                                                      ProcessingDetails.DEFAULT_ITERATION_DEPTH);
+    }
+
+    /**
+     * Tests multiplying the operands and checks the result.
+     */
+    @Test
+    public void testMultiplication() {
+
+        try {
+
+            Number actualProduct = firstOperand.multiply(toom3Multiplication(), secondOperand);
+
+            assertEquals(toString(), expectedProduct, actualProduct);
+
+            // check the number instances
+            checkNumbersAreUniqueInstances(firstOperand, secondOperand, actualProduct);
+
+            // check that the operands didn't change
+            checkNumberEqualsStringRepresentation(firstOperand, firstOperandString);
+            checkNumberEqualsStringRepresentation(secondOperand, secondOperandString);
+
+        } catch (Exception e) {
+
+            throw new FailedTestException(toString(), e);
+        }
+    }
+
+    /**
+     * Tests multiplying the operands and checks the result.
+     */
+    @Test
+    public void testMultiplicationVariant2() {
+
+        try {
+
+            Number actualProduct = Math.multiply(toom3Multiplication(), firstOperand, secondOperand);
+
+            assertEquals(toString(), expectedProduct, actualProduct);
+
+            // check the number instances
+            checkNumbersAreUniqueInstances(firstOperand, secondOperand, actualProduct);
+
+            // check that the operands didn't change
+            checkNumberEqualsStringRepresentation(firstOperand, firstOperandString);
+            checkNumberEqualsStringRepresentation(secondOperand, secondOperandString);
+
+        } catch (Exception e) {
+
+            throw new FailedTestException(toString(), e);
+        }
+    }
+
+    /**
+     * Returns a number string which consists of the specified digit.
+     *
+     * @param base
+     *        the base of the digit
+     * @param ordinal
+     *        the ordinal value of the digit
+     * @param count
+     *        the number of digits
+     *
+     * @return a number string
+     */
+    private static String repeat(int base, int ordinal, int count) {
+
+        char symbol = ordinalToSymbol(base, ordinal);
+
+        StringBuilder buffer = new StringBuilder();
+        for (int a = 0; a < count; a++) {
+
+            buffer.append(symbol);
+        }
+
+        return buffer.toString();
+    }
+
+    /**
+     * Inserts a decimal separator into the specified number string.
+     *
+     * @param numberString
+     *        a number string without decimal separator
+     * @param fractionDigits
+     *        the number of fraction digits
+     *
+     * @return a number string
+     */
+    private static String insertSeparator(String numberString, int fractionDigits) {
+
+        int index = numberString.length() - fractionDigits;
+
+        return numberString.substring(0, index) + "." + numberString.substring(index);
+    }
+
+    /**
+     * Adds test data for the product (base^n - 1) * (base^m - 1) with n >= m. The factors consist of the largest
+     * digit only and the product has a simple pattern (e.g. 999 * 99 = 98901 in decimal).
+     *
+     * @param parameters
+     *        the test data
+     * @param base
+     *        a number base
+     * @param n
+     *        the digits of the first factor
+     * @param m
+     *        the digits of the second factor
+     */
+    private static void addLargestDigitProducts(Collection<Object[]> parameters, int base, int n, int m) {
+
+        String factor1 = repeat(base, base - 1, n);
+        String factor2 = repeat(base, base - 1, m);
+        String product =
+            repeat(base, base - 1, m - 1) + ordinalToSymbol(base, base - 2) + repeat(base, base - 1, n - m) +
+            repeat(base, 0, m - 1) + ordinalToSymbol(base, 1);
+
+        parameters.add(new Object[] { base, factor1, factor2, product });
+        parameters.add(new Object[] { base, factor2, factor1, product });
+        parameters.add(new Object[] { base, "-" + factor1, factor2, "-" + product });
+        parameters.add(new Object[] { base, "-" + factor1, "-" + factor2, product });
+
+        // Fraction digits are added up in the product.
+        int fractionDigits1 = n / 3;
+        int fractionDigits2 = m / 2;
+        parameters.add(new Object[] {
+                       base, insertSeparator(factor1, fractionDigits1), insertSeparator(factor2, fractionDigits2),
+                       insertSeparator(product, fractionDigits1 + fractionDigits2)
+        });
+    }
+
+    /**
+     * Returns a matrix of test data and expected results.
+     *
+     * @return a matrix of test data and expected results
+     */
+    @Parameterized.Parameters
+    public static Collection<Object[]> data() {
+
+        Collection<Object[]> parameters = new ArrayList<Object[]>();
+
+        for (int base = BASE_MIN_LIMIT; base <= BASE_MAX_LIMIT; base++) {
+
+            parameters.add(new Object[] { base, "1", null, null });
+            parameters.add(new Object[] { base, null, "1", null });
+            parameters.add(new Object[] { base, "1", "0", "0" });
+            parameters.add(new Object[] { base, "0", "-1", "0" });
+            parameters.add(new Object[] { base, "-1", "-1", "1" });
+        }
+
+        parameters.add(new Object[] { 10, "11", "0.06", "0.66" });
+        parameters.add(new Object[] { 10, "-12.5", "0.4", "-5" });
+        parameters.add(new Object[] { 3, "0.220110201", "22", "21.020202122" });
+
+        // Small and large operands in various bases (i.e. balanced and unbalanced operands)
+        int[] bases = { 2, 3, 10, 16, 60 };
+        for (int base : bases) {
+
+            addLargestDigitProducts(parameters, base, 3, 2);
+            addLargestDigitProducts(parameters, base, 10, 10);
+            addLargestDigitProducts(parameters, base, 100, 100);
+            addLargestDigitProducts(parameters, base, 257, 200);
+            addLargestDigitProducts(parameters, base, 500, 60);
+            addLargestDigitProducts(parameters, base, 1024, 1023);
+            addLargestDigitProducts(parameters, base, 2000, 1500);
+            addLargestDigitProducts(parameters, base, 3000, 700);
+        }
+
+        return parameters;
+    }
+
+}
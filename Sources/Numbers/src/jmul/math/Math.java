@@ -35,6 +35,7 @@ package jmul.math;
 
 
 import java.util.Comparator;
+import java.util.stream.Stream;
 
 import jmul.math.collections.Sequence;
 import jmul.math.collections.Set;
@@ -139,18 +140,18 @@ public final class Math {
      */
     static {
 
-        DEFAULT_MAXIMUM_FRACTION_LENGTH = ConstantHelper.createConstantNumber(10, "10");
-        DEFAULT_HERON_METHOD_ITERATIONS = ConstantHelper.createConstantNumber(10, "8");
-        DEFAULT_NTH_ROOT_ITERATIONS = ConstantHelper.createConstantNumber(10, "7");
-        DEFAULT_EULERS_NUMBER_ITERATIONS = ConstantHelper.createConstantNumber(10, "12");
-        DEFAULT_LEIBNITZ_PI_APPROXIMATION_ITERATIONS = ConstantHelper.createConstantNumber(10, "100");
-        DEFAULT_SINE_APPROXIMATION_ITERATIONS = ConstantHelper.createConstantNumber(10, "30");
-        DEFAULT_COSINE_APPROXIMATION_ITERATIONS = ConstantHelper.createConstantNumber(10, "25");
+        DEFAULT_MAXIMUM_FRACTION_LENGTH = ConstantHelper.createConstantInteger(10);
+        DEFAULT_HERON_METHOD_ITERATIONS = ConstantHelper.createConstantInteger(8);
+        DEFAULT_NTH_ROOT_ITERATIONS = ConstantHelper.createConstantInteger(7);
+        DEFAULT_EULERS_NUMBER_ITERATIONS = ConstantHelper.createConstantInteger(12);
+        DEFAULT_LEIBNITZ_PI_APPROXIMATION_ITERATIONS = ConstantHelper.createConstantInteger(100);
+        DEFAULT_SINE_APPROXIMATION_ITERATIONS = ConstantHelper.createConstantInteger(30);
+        DEFAULT_COSINE_APPROXIMATION_ITERATIONS = ConstantHelper.createConstantInteger(25);
 
         MINUS_ONE = ConstantHelper.createConstantNumber(10, Signs.NEGATIVE, 1);
         ZERO = ConstantHelper.createConstantNumber(10, Signs.POSITIVE, 0);
         ONE = ConstantHelper.createConstantNumber(10, Signs.POSITIVE, 1);
-        TWO = ConstantHelper.createConstantNumber(10, "2");
+        TWO = ConstantHelper.createConstantInteger(2);
 
         // e = 2.71828182845904523536028747135266249775724709369995957496696762772407663035
         E = ConstantHelper.createConstantNumber(10, "2.7182818284");
@@ -899,7 +900,10 @@ public final class Math {
         final OperationIdentifier[] ALLOWED_ALGORITHMS = new OperationIdentifier[] {
             OperationIdentifiers.LONG_MULTIPLICATION_FUNCTION,
             OperationIdentifiers.MULTIPLY_NUMBERS_BY_ADDITION_FUNCTION,
-            OperationIdentifiers.RUSSIAN_PEASANT_MULTIPLICATION_FUNCTION
+            OperationIdentifiers.RUSSIAN_PEASANT_MULTIPLICATION_FUNCTION,
+            OperationIdentifiers.KARATSUBA_MULTIPLICATION_FUNCTION,
+            OperationIdentifiers.TOOM3_MULTIPLICATION_FUNCTION,
+            OperationIdentifiers.NTT_MULTIPLICATION_FUNCTION
         };
 
         OperationIdentifier algorithm = processingDetails.checkAndReturnAlgorithm(ALLOWED_ALGORITHMS);
@@ -911,6 +915,69 @@ public final class Math {
         return result.result();
     }
 
+    /**
+     * Multiplies the first two specified numbers and adds the third specified number to the product (i.e.
+     * <code>n1 * n2 + n3</code>).
+     *
+     * @param n1
+     *        a number
+     * @param n2
+     *        a number
+     * @param n3
+     *        a number
+     *
+     * @return the result
+     */
+    public static Number multiplyAdd(Number n1, Number n2, Number n3) {
+
+        TernaryOperation<Number, Result<Number>> function =
+            (TernaryOperation<Number, Result<Number>>) OperationSingletons.getFunction(OperationIdentifiers.MULTIPLY_ADD_FUNCTION);
+        Result<Number> result = function.calculate(n1, n2, n3);
+
+        return result.result();
+    }
+
+    /**
+     * Exponentiates the specified number modulo the specified modulus (i.e. <code>number^exponent mod
+     * modulus</code>).
+     *
+     * @param number
+     *        an integer
+     * @param exponent
+     *        an integer
+     * @param modulus
+     *        a positive integer
+     *
+     * @return the remainder of the power
+     */
+    public static Number modPow(Number number, Number exponent, Number modulus) {
+
+        TernaryOperation<Number, Result<Number>> function =
+            (TernaryOperation<Number, Result<Number>>) OperationSingletons.getFunction(OperationIdentifiers.MODULAR_EXPONENTIATION_FUNCTION);
+        Result<Number> result = function.calculate(number, exponent, modulus);
+
+        return result.result();
+    }
+
+    /**
+     * Determines the inverse of the specified number modulo the specified modulus.
+     *
+     * @param number
+     *        an integer which is coprime to the modulus
+     * @param modulus
+     *        a positive integer
+     *
+     * @return the inverse
+     */
+    public static Number modInverse(Number number, Number modulus) {
+
+        BinaryOperation<Number, Result<Number>> function =
+            (BinaryOperation<Number, Result<Number>>) OperationSingletons.getFunction(OperationIdentifiers.MODULAR_INVERSE_FUNCTION);
+        Result<Number> result = function.calculate(number, modulus);
+
+        return result.result();
+    }
+
     /**
      * Divides the first specified number by the second specified number and returns the remainder of the division.
      *
@@ -1665,7 +1732,8 @@ public final class Math {
 
         final OperationIdentifier[] ALLOWED_ALGORITHMS = new OperationIdentifier[] {
             OperationIdentifiers.DIVIDE_NUMBERS_BY_SUBTRACTION, OperationIdentifiers.RUSSIAN_DIVISION_FUNCTION,
-            OperationIdentifiers.LONG_DIVISION
+            OperationIdentifiers.LONG_DIVISION, OperationIdentifiers.NEWTON_RAPHSON_DIVISION,
+            OperationIdentifiers.KNUTH_LONG_DIVISION
         };
 
         OperationIdentifier algorithm = processingDetails.checkAndReturnAlgorithm(ALLOWED_ALGORITHMS);
@@ -2019,6 +2087,58 @@ public final class Math {
         return result.result();
     }
 
+    /**
+     * Determines the number of positive divisors of the specified number without enumerating the divisors.
+     *
+     * @param number
+     *        a number
+     *
+     * @return the number of divisors
+     */
+    public static Number divisorCount(Number number) {
+
+        UnaryOperation<Number, Result<Number>> function =
+            (UnaryOperation<Number, Result<Number>>) OperationSingletons.getFunction(OperationIdentifiers.DIVISOR_COUNT_FUNCTION);
+        Result<Number> result = function.calculate(number);
+
+        return result.result();
+    }
+
+    /**
+     * Determines the sum of all positive divisors of the specified number without enumerating the divisors.
+     *
+     * @param number
+     *        a number
+     *
+     * @return the sum of all divisors
+     */
+    public static Number divisorSum(Number number) {
+
+        UnaryOperation<Number, Result<Number>> function =
+            (UnaryOperation<Number, Result<Number>>) OperationSingletons.getFunction(OperationIdentifiers.DIVISOR_SUM_FUNCTION);
+        Result<Number> result = function.calculate(number);
+
+        return result.result();
+    }
+
+    /**
+     * Returns a stream of all positive divisors of the specified number. The divisors are generated one by one and
+     * are not returned in ascending order.
+     *
+     * @param number
+     *        a number
+     *
+     * @return a stream of divisors
+     */
+    public static Stream<Number> divisorStream(Number number) {
+
+        UnaryOperation<Number, Result<Stream<Number>>> function =
+            (UnaryOperation<Number, Result<Stream<Number>>>) OperationSingletons.getFunction(OperationIdentifiers.DIVISOR_STREAM_FUNCTION);
+        Result<Stream<Number>> result = function.calculate(number);
+
+        return result.result();
+    }
+
     /**
      * Determines all common divisors of this number and the specified number.
      *
@@ -2048,8 +2168,35 @@ public final class Math {
      */
     public static Sequence<Number> primeFactors(Number number) {
 
+        ProcessingDetails processingDetails = ProcessingDetails.setAlgorithm(ProcessingDetails.DEFAULT_ALGORITHM);
+
+        return primeFactors(processingDetails, number);
+    }
+
+    /**
+     * Determines the prime factors for the specified number. The result sequence contains all prime factors.
+     *
+     * @param processingDetails
+     *        some processing details
+     * @param number
+     *        a number
+     *
+     * @return a sequnce of prime factors or an empty sequence if there are no prime factors
+     */
+    public static Sequence<Number> primeFactors(ProcessingDetails processingDetails, Number number) {
+
+        ParameterCheckHelper.checkParameter(processingDetails);
+
+        final OperationIdentifier[] ALLOWED_ALGORITHMS = new OperationIdentifier[] {
+            OperationIdentifiers.DETERMINE_PRIME_FACTORS_BY_ELLIPTIC_CURVES,
+            OperationIdentifiers.DETERMINE_PRIME_FACTORS_BY_POLLARD_RHO,
+            OperationIdentifiers.DETERMINE_PRIME_FACTORS_OF_NUMBER
+        };
+
+        OperationIdentifier algorithm = processingDetails.checkAndReturnAlgorithm(ALLOWED_ALGORITHMS);
+
         UnaryOperation<Number, Result<Sequence<Number>>> function =
-            (UnaryOperation<Number, Result<Sequence<Number>>>) OperationSingletons.getFunction(OperationIdentifiers.DETERMINE_PRIME_FACTORS_OF_NUMBER);
+            (UnaryOperation<Number, Result<Sequence<Number>>>) OperationSingletons.getFunction(algorithm);
         Result<Sequence<Number>> result = function.calculate(number);
 
         return result.result();
@@ -2102,7 +2249,8 @@ public final class Math {
         ParameterCheckHelper.checkParameter(processingDetails);
 
         final OperationIdentifier[] ALLOWED_ALGORITHMS = new OperationIdentifier[] {
-            OperationIdentifiers.OPTIMIZED_REDUCE_FRACTION, OperationIdentifiers.REDUCE_FRACTION_BY_COMMON_PRIME_FACTORS
+            OperationIdentifiers.REDUCE_FRACTION_BY_GREATEST_COMMON_DIVISOR, OperationIdentifiers.OPTIMIZED_REDUCE_FRACTION,
+            OperationIdentifiers.REDUCE_FRACTION_BY_COMMON_PRIME_FACTORS
         };
 
         OperationIdentifier algorithm = processingDetails.checkAndReturnAlgorithm(ALLOWED_ALGORITHMS);
@@ -2167,6 +2315,44 @@ public final class Math {
         return result.result();
     }
 
+    /**
+     * Determines the greatest common divisor of the specified integers.
+     *
+     * @param number1
+     *        an integer
+     * @param number2
+     *        an integer
+     *
+     * @return the greatest common divisor
+     */
+    public static Number gcd(Number number1, Number number2) {
+
+        BinaryOperation<Number, Result<Number>> function =
+            (BinaryOperation<Number, Result<Number>>) OperationSingletons.getFunction(OperationIdentifiers.GCD_FUNCTION);
+        Result<Number> result = function.calculate(number1, number2);
+
+        return result.result();
+    }
+
+    /**
+     * Determines the least common multiple of the specified integers.
+     *
+     * @param number1
+     *        an integer
+     * @param number2
+     *        an integer
+     *
+     * @return the least common multiple
+     */
+    public static Number lcm(Number number1, Number number2) {
+
+        BinaryOperation<Number, Result<Number>> function =
+            (BinaryOperation<Number, Result<Number>>) OperationSingletons.getFunction(OperationIdentifiers.LCM_FUNCTION);
+        Result<Number> result = function.calculate(number1, number2);
+
+        return result.result();
+    }
+
     /**
      * Adds the specified vectors.
      *
@@ -2638,4 +2824,22 @@ public final class Math {
         return result.result();
     }
 
+    /**
+     * Returns a stream of all prime numbers in ascending order (i.e. 2, 3, 5, 7, etc.). The stream is infinite
+     * (i.e. use {@link Stream#limit} or {@link Stream#iterator}).
+     *
+     * @param base
+     *        a number base
+     *
+     * @return a stream of prime numbers
+     */
+    public static Stream<Number> primes(int base) {
+
+        UnaryOperation<Integer, Result<Stream<Number>>> function =
+            (UnaryOperation<Integer, Result<Stream<Number>>>) OperationSingletons.getFunction(OperationIdentifiers.PRIME_NUMBERS_FUNCTION);
+        Result<Stream<Number>> result = function.calculate(base);
+
+        return result.result();
+    }
+
 }
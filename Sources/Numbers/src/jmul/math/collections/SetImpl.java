@@ -35,6 +35,7 @@ package jmul.math.collections;
 
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.SortedMap;
@@ -67,6 +68,11 @@ public class SetImpl<T> implements Set<T> {
      */
     final SortedMap<Number, T> members;
 
+    /**
+     * All elements of this set for constant time membership checks.
+     */
+    final HashSet<T> lookup;
+
     /**
      * Creates a new set according to the specified elements.
      *
@@ -88,6 +94,7 @@ public class SetImpl<T> implements Set<T> {
 
         this.base = base;
         this.members = new TreeMap<>();
+        this.lookup = new HashSet<>();
 
         final Number ZERO = Math.ZERO.value(base);
         Number ordinal = ZERO;
@@ -120,6 +127,7 @@ public class SetImpl<T> implements Set<T> {
 
         this.base = base;
         this.members = new TreeMap<>();
+        this.lookup = new HashSet<>();
 
         final Number ZERO = Math.ZERO.value(base);
         Number ordinal = ZERO;
@@ -150,7 +158,7 @@ public class SetImpl<T> implements Set<T> {
             throw new IllegalArgumentException("No element (null) was specified!");
         }
 
-        if (members.containsValue(element)) {
+        if (!lookup.add(element)) {
 
             throw new IllegalArgumentException("A duplicate element was specified!");
         }
@@ -226,7 +234,7 @@ public class SetImpl<T> implements Set<T> {
     @Override
     public boolean isElement(T e) {
 
-        return members.containsValue(e);
+        return lookup.contains(e);
     }
 
     /**
@@ -34,12 +34,14 @@
 package jmul.math.constants;
 
 
+import jmul.math.digits.PositionalNumeralSystems;
 import jmul.math.fractions.Fraction;
 import static jmul.math.fractions.FractionHelper.createFraction;
 import jmul.math.numbers.Constants;
 import jmul.math.numbers.Number;
 import static jmul.math.numbers.NumberHelper.createNumber;
 import jmul.math.signs.Sign;
+import jmul.math.signs.Signs;
 
 
 /**
@@ -99,7 +101,28 @@ public class ConstantHelper {
      */
     public static Constant createConstantNumber(int base, Sign sign, int ordinal) {
 
-        return createConstantNumber(createNumber(base, sign, ordinal));
+        // check that the ordinal represents a digit (i.e. the constant itself does not depend on the number base)
+        PositionalNumeralSystems.ordinalToDigit(base, ordinal);
+
+        if (Signs.isNegative(sign)) {
+
+            return createConstantInteger(-ordinal);
+        }
+
+        return createConstantInteger(ordinal);
+    }
+
+    /**
+     * Creates a new constant according to the specified parameters.
+     *
+     * @param value
+     *        an integer
+     *
+     * @return a constant
+     */
+    public static Constant createConstantInteger(long value) {
+
+        return new ConstantIntegerImpl(value);
     }
 
     /**
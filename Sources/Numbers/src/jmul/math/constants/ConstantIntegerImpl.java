@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.math.constants;
+
+
+import jmul.math.numbers.Number;
+import static jmul.math.numbers.NumberHelper.createNumber;
+import jmul.math.operations.implementations.ParameterCheckHelper;
+
+
+/**
+ * A constant integer for various number bases. Small integers are taken from the cache of small integers,
+ * thus no new number is created when the constant value is requested.
+ *
+ * @author Kristian Kutin
+ */
+class ConstantIntegerImpl implements Constant {
+
+    /**
+     * The value of this constant.
+     */
+    private final long value;
+
+    /**
+     * Creates a new constant according to the specified value.
+     *
+     * @param value
+     *        an integer
+     */
+    protected ConstantIntegerImpl(long value) {
+
+        super();
+
+        this.value = value;
+    }
+
+    /**
+     * Returns the constant value for the specified number base.
+     *
+     * @param base
+     *        a number base
+     *
+     * @return a constant value
+     */
+    @Override
+    public Number value(int base) {
+
+        ParameterCheckHelper.checkNumberBase(base);
+
+        return createNumber(base, value);
+    }
+
+    /**
+     * Returns a string representation for this constant.
+     *
+     * @return a string representation
+     */
+    @Override
+    public String toString() {
+
+        return String.format("default value = %d", value);
+    }
+
+}
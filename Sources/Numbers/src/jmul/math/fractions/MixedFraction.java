@@ -1077,7 +1077,8 @@ class MixedFraction implements Fraction {
         ParameterCheckHelper.checkParameter(processingDetails);
 
         final OperationIdentifier[] ALLOWED_ALGORITHMS = new OperationIdentifier[] {
-            OperationIdentifiers.OPTIMIZED_REDUCE_FRACTION, OperationIdentifiers.REDUCE_FRACTION_BY_COMMON_PRIME_FACTORS
+            OperationIdentifiers.REDUCE_FRACTION_BY_GREATEST_COMMON_DIVISOR, OperationIdentifiers.OPTIMIZED_REDUCE_FRACTION,
+            OperationIdentifiers.REDUCE_FRACTION_BY_COMMON_PRIME_FACTORS
         };
 
         OperationIdentifier algorithm = processingDetails.checkAndReturnAlgorithm(ALLOWED_ALGORITHMS);
@@ -42,6 +42,7 @@ import java.util.List;
 
 import jmul.math.Math;
 import jmul.math.numbers.Number;
+import jmul.math.numbers.NumberAccumulator;
 import jmul.math.operations.processing.ProcessingDetails;
 
 
@@ -221,18 +222,17 @@ public class PolynomialFunctionImpl extends FunctionBaseImpl implements Polynomi
     @Override
     public Number calculate(ProcessingDetails processingDetails, Number x) {
 
-        final Number ZERO = Math.ZERO.value(base());
-
-        Number sum = ZERO;
+        NumberAccumulator accumulator = new NumberAccumulator(base());
 
         for (int index = 0; index < monomials.size(); index++) {
 
             Function function = monomials.get(index);
             Number result = function.calculate(processingDetails, x);
 
-            sum = sum.add(result);
+            accumulator.addInPlace(result);
         }
 
+        Number sum = accumulator.toNumber();
         sum = sum.round(processingDetails);
 
         return sum;
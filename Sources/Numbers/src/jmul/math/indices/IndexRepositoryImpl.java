@@ -40,6 +40,7 @@ import java.util.Map;
 import jmul.math.operations.implementations.ParameterCheckHelper;
 import jmul.math.numbers.Number;
 import static jmul.math.numbers.NumberHelper.createNumber;
+import jmul.math.numbers.creation.CreationParameters;
 import jmul.math.signs.Signs;
 import jmul.math.vectors.nodes.IndexNode;
 import jmul.math.vectors.nodes.NodesHelper;
@@ -85,7 +86,8 @@ class IndexRepositoryImpl implements IndexRepository {
         ParameterCheckHelper.checkNumberBase(base);
         this.base = base;
 
-        Number startIndex = createNumber(base, Signs.POSITIVE, 1);
+        // An index is a unique instance, thus the shared instance of one is copied.
+        Number startIndex = createNumber(CreationParameters.CLONE, createNumber(base, Signs.POSITIVE, 1));
 
         this.firstNode = NodesHelper.createNode(startIndex);
         this.lastNode = firstNode;
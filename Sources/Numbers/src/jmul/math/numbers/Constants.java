@@ -87,6 +87,30 @@ public final class Constants {
      */
     public static final String INFINITY_REPRESENTATION;
 
+    /**
+     * The minimum number of digits of both factors for a split in a Karatsuba multiplication. Smaller factors are
+     * multiplied by a long multiplication.
+     */
+    public static final int KARATSUBA_THRESHOLD;
+
+    /**
+     * The minimum number of digits of both factors for a split in a Toom-Cook multiplication. Smaller factors are
+     * multiplied by a Karatsuba multiplication.
+     */
+    public static final int TOOM3_THRESHOLD;
+
+    /**
+     * The minimum number of digits of both factors for a multiplication by a number-theoretic transform. Smaller
+     * factors are multiplied by a Toom-Cook multiplication.
+     */
+    public static final int NTT_THRESHOLD;
+
+    /**
+     * The minimum number of digits of the divisor and the quotient for a recursive division according to
+     * Burnikel and Ziegler. Smaller operands are divided according to Knuth's Algorithm D.
+     */
+    public static final int BURNIKEL_ZIEGLER_THRESHOLD;
+
     /*
      * The static initializer,.
      */
@@ -108,6 +132,11 @@ public final class Constants {
         DECIMAL_SEPARATOR = symbols.getDecimalSeparator();
 
         INFINITY_REPRESENTATION = PropertiesLookup.infinityRepresentation();
+
+        KARATSUBA_THRESHOLD = PropertiesLookup.karatsubaThreshold();
+        TOOM3_THRESHOLD = PropertiesLookup.toom3Threshold();
+        NTT_THRESHOLD = PropertiesLookup.nttThreshold();
+        BURNIKEL_ZIEGLER_THRESHOLD = PropertiesLookup.burnikelZieglerThreshold();
     }
 
     /**
@@ -142,6 +171,26 @@ final class PropertiesLookup {
      */
     private static final String INFINITY_REPRESENTATION_KEY;
 
+    /**
+     * Contains the key for a property.
+     */
+    private static final String KARATSUBA_THRESHOLD_KEY;
+
+    /**
+     * Contains the key for a property.
+     */
+    private static final String TOOM3_THRESHOLD_KEY;
+
+    /**
+     * Contains the key for a property.
+     */
+    private static final String NTT_THRESHOLD_KEY;
+
+    /**
+     * Contains the key for a property.
+     */
+    private static final String BURNIKEL_ZIEGLER_THRESHOLD_KEY;
+
     /*
      * The static initializer.
      */
@@ -151,6 +200,10 @@ final class PropertiesLookup {
 
         DEFAULT_BASE_KEY = "default-base";
         INFINITY_REPRESENTATION_KEY = "infinity-representation";
+        KARATSUBA_THRESHOLD_KEY = "karatsuba-threshold";
+        TOOM3_THRESHOLD_KEY = "toom3-threshold";
+        NTT_THRESHOLD_KEY = "ntt-threshold";
+        BURNIKEL_ZIEGLER_THRESHOLD_KEY = "burnikel-ziegler-threshold";
     }
 
     /**
@@ -198,4 +251,60 @@ final class PropertiesLookup {
         return value;
     }
 
+    /**
+     * Returns the threshold for a Karatsuba multiplication.
+     *
+     * @return a number of digits
+     */
+    public static int karatsubaThreshold() {
+
+        ResourceBundle bundle = getBundle();
+        String value = bundle.getString(KARATSUBA_THRESHOLD_KEY);
+        int threshold = Integer.parseInt(value);
+
+        return threshold;
+    }
+
+    /**
+     * Returns the threshold for a Toom-Cook multiplication.
+     *
+     * @return a number of digits
+     */
+    public static int toom3Threshold() {
+
+        ResourceBundle bundle = getBundle();
+        String value = bundle.getString(TOOM3_THRESHOLD_KEY);
+        int threshold = Integer.parseInt(value);
+
+        return threshold;
+    }
+
+    /**
+     * Returns the threshold for a multiplication by a number-theoretic transform.
+     *
+     * @return a number of digits
+     */
+    public static int nttThreshold() {
+
+        ResourceBundle bundle = getBundle();
+        String value = bundle.getString(NTT_THRESHOLD_KEY);
+        int threshold = Integer.parseInt(value);
+
+        return threshold;
+    }
+
+    /**
+     * Returns the threshold for a recursive division according to Burnikel and Ziegler.
+     *
+     * @return a number of digits
+     */
+    public static int burnikelZieglerThreshold() {
+
+        ResourceBundle bundle = getBundle();
+        String value = bundle.getString(BURNIKEL_ZIEGLER_THRESHOLD_KEY);
+        int threshold = Integer.parseInt(value);
+
+        return threshold;
+    }
+
 }
@@ -0,0 +1,100 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.math.numbers;
+
+
+/**
+ * This interface describes a number whose digits are stored in chunks. A chunk contains several digits
+ * which are packed into a single <code>int</code> value (i.e. a chunk is a number with the radix
+ * <code>base^chunkSize</code>). The chunks are ordered from the least significant chunk to the most
+ * significant chunk.<br>
+ * <br>
+ * <i>Note:<br>
+ * The methods must not be called for a number which represents infinity.</i>
+ *
+ * @author Kristian Kutin
+ */
+public interface DigitChunks {
+
+    /**
+     * Returns the number of digits within a chunk.
+     *
+     * @return the number of digits within a chunk
+     */
+    int chunkSize();
+
+    /**
+     * Returns the number of chunks.
+     *
+     * @return the number of chunks
+     */
+    int chunkCount();
+
+    /**
+     * Returns the specified chunk.
+     *
+     * @param index
+     *        the index of a chunk (i.e. <code>0</code> is the least significant chunk)
+     *
+     * @return the packed digits of the chunk
+     */
+    int chunk(int index);
+
+    /**
+     * Returns the position of the least significant digit within the first chunk (i.e. the digit is
+     * multiplied with <code>base^lowestPosition</code>).
+     *
+     * @return a position
+     */
+    int lowestPosition();
+
+    /**
+     * Returns the number of significant digits (i.e. without leading and trailing zeroes).
+     *
+     * @return the number of significant digits
+     */
+    int digitCount();
+
+    /**
+     * Returns the ordinal value of the digit at the specified position.
+     *
+     * @param position
+     *        a position (i.e. <code>base^position</code>)
+     *
+     * @return an ordinal value
+     */
+    int ordinalAt(int position);
+
+}
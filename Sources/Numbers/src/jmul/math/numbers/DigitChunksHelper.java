@@ -0,0 +1,389 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.math.numbers;
+
+
+import jmul.math.signs.Sign;
+import jmul.math.signs.Signs;
+
+
+/**
+ * A utility class which provides operations on numbers whose digits are stored in chunks (see
+ * {@link DigitChunks}). The operations work on the packed digits directly, thus no linked list is
+ * created.<br>
+ * <br>
+ * If the chunks of both operands cover the same digit positions (i.e. the positions of the least
+ * significant digits differ by a multiple of the chunk size) then the operations process a whole chunk
+ * at once, otherwise they process single digits.
+ *
+ * @author Kristian Kutin
+ */
+public final class DigitChunksHelper {
+
+    /**
+     * The default constructor.
+     */
+    private DigitChunksHelper() {
+
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Checks if both specified numbers store their digits in chunks and can be processed by this helper.
+     *
+     * @param n1
+     *        a number
+     * @param n2
+     *        a number
+     *
+     * @return <code>true</code> if both numbers store their digits in chunks, else <code>false</code>
+     */
+    public static boolean areDigitChunks(Number n1, Number n2) {
+
+        return (n1 instanceof DigitChunks) && (n2 instanceof DigitChunks) && !n1.isInfinity() &&
+               !n2.isInfinity() && (n1.base() == n2.base());
+    }
+
+    /**
+     * Compares the absolute values of the specified numbers.
+     *
+     * @param n1
+     *        a number
+     * @param n2
+     *        a number
+     *
+     * @return <code>1</code>, <code>0</code> or <code>-1</code> if the absolute value of the first number is
+     *         greater than, equals or lesser than the absolute value of the second number
+     */
+    public static int compareAbsoluteValues(DigitChunks n1, DigitChunks n2) {
+
+        int highestPosition1 = highestPosition(n1);
+        int highestPosition2 = highestPosition(n2);
+
+        if (n1.digitCount() == 0) {
+
+            return (n2.digitCount() == 0) ? 0 : -1;
+
+        } else if (n2.digitCount() == 0) {
+
+            return 1;
+
+        } else if (highestPosition1 != highestPosition2) {
+
+            return (highestPosition1 > highestPosition2) ? 1 : -1;
+        }
+
+        int lowestPosition = java.lang.Math.min(n1.lowestPosition(), n2.lowestPosition());
+        int chunkSize = n1.chunkSize();
+
+        if (isAligned(n1, n2)) {
+
+            int offset1 = (n1.lowestPosition() - lowestPosition) / chunkSize;
+            int offset2 = (n2.lowestPosition() - lowestPosition) / chunkSize;
+            int chunks = java.lang.Math.max(offset1 + n1.chunkCount(), offset2 + n2.chunkCount());
+
+            for (int a = chunks - 1; a >= 0; a--) {
+
+                int chunk1 = chunkAt(n1, a - offset1);
+                int chunk2 = chunkAt(n2, a - offset2);
+
+                if (chunk1 != chunk2) {
+
+                    return (chunk1 > chunk2) ? 1 : -1;
+                }
+            }
+
+        } else {
+
+            for (int position = highestPosition1; position >= lowestPosition; position--) {
+
+                int ordinal1 = n1.ordinalAt(position);
+                int ordinal2 = n2.ordinalAt(position);
+
+                if (ordinal1 != ordinal2) {
+
+                    return (ordinal1 > ordinal2) ? 1 : -1;
+                }
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * Adds the absolute values of the specified numbers.
+     *
+     * @param base
+     *        the number base
+     * @param sign
+     *        the sign of the sum
+     * @param n1
+     *        a number
+     * @param n2
+     *        a number
+     *
+     * @return the sum
+     */
+    public static Number addAbsoluteValues(int base, Sign sign, DigitChunks n1, DigitChunks n2) {
+
+        int lowestPosition = java.lang.Math.min(n1.lowestPosition(), n2.lowestPosition());
+        int chunkSize = n1.chunkSize();
+
+        if (isAligned(n1, n2)) {
+
+            long radix = pow(base, chunkSize);
+
+            int offset1 = (n1.lowestPosition() - lowestPosition) / chunkSize;
+            int offset2 = (n2.lowestPosition() - lowestPosition) / chunkSize;
+            int chunks = java.lang.Math.max(offset1 + n1.chunkCount(), offset2 + n2.chunkCount());
+
+            int[] sum = new int[chunks + 1];
+            long carry = 0L;
+            for (int a = 0; a < chunks; a++) {
+
+                long chunkSum = (long) chunkAt(n1, a - offset1) + chunkAt(n2, a - offset2) + carry;
+
+                if (chunkSum >= radix) {
+
+                    chunkSum -= radix;
+                    carry = 1L;
+
+                } else {
+
+                    carry = 0L;
+                }
+
+                sum[a] = (int) chunkSum;
+            }
+            sum[chunks] = (int) carry;
+
+            return PackedNumberImpl.createFromChunks(base, sign, sum, lowestPosition);
+        }
+
+        int highestPosition = java.lang.Math.max(highestPosition(n1), highestPosition(n2));
+
+        int[] ordinals = new int[highestPosition - lowestPosition + 2];
+        int carry = 0;
+        for (int a = 0; a < ordinals.length - 1; a++) {
+
+            int position = lowestPosition + a;
+            int digitSum = n1.ordinalAt(position) + n2.ordinalAt(position) + carry;
+
+            if (digitSum >= base) {
+
+                digitSum -= base;
+                carry = 1;
+
+            } else {
+
+                carry = 0;
+            }
+
+            ordinals[a] = digitSum;
+        }
+        ordinals[ordinals.length - 1] = carry;
+
+        return new PackedNumberImpl(base, sign, ordinals, lowestPosition);
+    }
+
+    /**
+     * Shifts the digits of the specified number (i.e. multiplies the number by <code>base^positions</code>).
+     * Only the exponent is changed, the packed digits are shared.
+     *
+     * @param number
+     *        a number
+     * @param positions
+     *        the number of positions (i.e. a negative number moves the digits to the right)
+     *
+     * @return a number
+     */
+    public static Number shift(DigitChunks number, int positions) {
+
+        return ((PackedNumberImpl) number).scale(positions);
+    }
+
+    /**
+     * Returns the integer part of the specified number.
+     *
+     * @param base
+     *        the number base
+     * @param sign
+     *        the sign of the number
+     * @param number
+     *        a number
+     *
+     * @return the integer part
+     */
+    public static Number integerPart(int base, Sign sign, DigitChunks number) {
+
+        if (number.lowestPosition() >= 0) {
+
+            return shift(number, 0);
+        }
+
+        int highestPosition = highestPosition(number);
+        if ((number.digitCount() == 0) || (highestPosition < 0)) {
+
+            return new PackedNumberImpl(base, Signs.POSITIVE, new int[0], 0);
+        }
+
+        return copyDigits(base, sign, number, 0, highestPosition);
+    }
+
+    /**
+     * Returns the fraction part of the specified number.
+     *
+     * @param base
+     *        the number base
+     * @param sign
+     *        the sign of the number
+     * @param number
+     *        a number
+     *
+     * @return the fraction part
+     */
+    public static Number fractionPart(int base, Sign sign, DigitChunks number) {
+
+        if ((number.digitCount() == 0) || (number.lowestPosition() >= 0)) {
+
+            return new PackedNumberImpl(base, Signs.POSITIVE, new int[0], 0);
+        }
+
+        if (highestPosition(number) < 0) {
+
+            return shift(number, 0);
+        }
+
+        return copyDigits(base, sign, number, number.lowestPosition(), -1);
+    }
+
+    /**
+     * Copies the digits within the specified range of positions.
+     *
+     * @param base
+     *        the number base
+     * @param sign
+     *        the sign of the number
+     * @param number
+     *        a number
+     * @param lowestPosition
+     *        the lowest position
+     * @param highestPosition
+     *        the highest position
+     *
+     * @return a number
+     */
+    private static Number copyDigits(int base, Sign sign, DigitChunks number, int lowestPosition,
+                                     int highestPosition) {
+
+        int[] ordinals = new int[highestPosition - lowestPosition + 1];
+        for (int a = 0; a < ordinals.length; a++) {
+
+            ordinals[a] = number.ordinalAt(lowestPosition + a);
+        }
+
+        return new PackedNumberImpl(base, sign, ordinals, lowestPosition);
+    }
+
+    /**
+     * Checks if the chunks of both numbers cover the same digit positions.
+     *
+     * @param n1
+     *        a number
+     * @param n2
+     *        a number
+     *
+     * @return <code>true</code> if the chunks are aligned, else <code>false</code>
+     */
+    private static boolean isAligned(DigitChunks n1, DigitChunks n2) {
+
+        return ((n1.lowestPosition() - n2.lowestPosition()) % n1.chunkSize()) == 0;
+    }
+
+    /**
+     * Returns the position of the most significant digit.
+     *
+     * @param n
+     *        a number
+     *
+     * @return a position
+     */
+    private static int highestPosition(DigitChunks n) {
+
+        return n.lowestPosition() + n.digitCount() - 1;
+    }
+
+    /**
+     * Returns the specified chunk or <code>0</code> if the index is outside of the chunks.
+     *
+     * @param n
+     *        a number
+     * @param index
+     *        the index of a chunk
+     *
+     * @return the packed digits of the chunk
+     */
+    private static int chunkAt(DigitChunks n, int index) {
+
+        if ((index < 0) || (index >= n.chunkCount())) {
+
+            return 0;
+        }
+
+        return n.chunk(index);
+    }
+
+    /**
+     * Calculates the power of the specified base.
+     *
+     * @param base
+     *        the number base
+     * @param exponent
+     *        an exponent
+     *
+     * @return <code>base^exponent</code>
+     */
+    private static long pow(int base, int exponent) {
+
+        long result = 1L;
+        for (int a = 0; a < exponent; a++) {
+
+            result *= base;
+        }
+
+        return result;
+    }
+
+}
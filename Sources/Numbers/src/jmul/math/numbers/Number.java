@@ -34,6 +34,8 @@
 package jmul.math.numbers;
 
 
+import java.util.stream.Stream;
+
 import jmul.math.collections.Sequence;
 import jmul.math.collections.Set;
 import jmul.math.fractions.Fraction;
@@ -43,6 +45,7 @@ import jmul.math.operations.ArithmeticNumberOperations;
 import jmul.math.operations.FractionComparisons;
 import jmul.math.operations.NumberComparisons;
 import jmul.math.operations.TrigonometricOperations;
+import jmul.math.operations.processing.ProcessingDetails;
 
 
 /**
@@ -270,6 +273,28 @@ public interface Number extends LinkedDigitList, ArithmeticNumberOperations, Num
      */
     Set<Number> divisors();
 
+    /**
+     * Determines the number of positive divisors of this number without enumerating the divisors.
+     *
+     * @return the number of divisors
+     */
+    Number divisorCount();
+
+    /**
+     * Determines the sum of all positive divisors of this number without enumerating the divisors.
+     *
+     * @return the sum of all divisors
+     */
+    Number divisorSum();
+
+    /**
+     * Returns a stream of all positive divisors of this number. The divisors are generated one by one and are not
+     * returned in ascending order.
+     *
+     * @return a stream of divisors
+     */
+    Stream<Number> divisorStream();
+
     /**
      * Determines all common divisors of this number and the specified number.
      *
@@ -287,6 +312,16 @@ public interface Number extends LinkedDigitList, ArithmeticNumberOperations, Num
      */
     Sequence<Number> primeFactors();
 
+    /**
+     * Determines the prime factors for this number. The result sequence contains all prime factors.
+     *
+     * @param processingDetails
+     *        additonal processing details
+     *
+     * @return a sequence of prime factors or an empty sequence if there are no prime factors
+     */
+    Sequence<Number> primeFactors(ProcessingDetails processingDetails);
+
     /**
      * Determines the common prime factors of this number and the specified number.
      *
@@ -297,6 +332,17 @@ public interface Number extends LinkedDigitList, ArithmeticNumberOperations, Num
      */
     Sequence<Number> commonPrimeFactors(Number number);
 
+    /**
+     * Determines the greatest common divisor of this number and the specified number (i.e. both numbers must be
+     * integers).
+     *
+     * @param number
+     *        a number
+     *
+     * @return the greatest common divisor
+     */
+    Number gcd(Number number);
+
     /**
      * Translates this number into a fraction.
      *
@@ -0,0 +1,599 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.math.numbers;
+
+
+import jmul.math.numbers.exceptions.UndefinedOperationException;
+import jmul.math.numbers.nodes.DigitNode;
+import jmul.math.numbers.nodes.NodesHelper;
+import jmul.math.operations.implementations.ParameterCheckHelper;
+import jmul.math.signs.Sign;
+import jmul.math.signs.Signs;
+
+
+/**
+ * A mutable accumulator for sums of numbers. Numbers are added to the accumulator in place, thus a long
+ * summation doesn't create a new number for every intermediate sum. The final sum is created with
+ * {@link #toNumber}.<br>
+ * <br>
+ * The accumulator stores signed digit sums for each digit position and propagates carries lazily (i.e.
+ * only when a digit sum might overflow or when the final sum is requested). The digit storage and the
+ * buffers for operands and carry propagation grow on demand and are reused for subsequent operations.<br>
+ * <br>
+ * <i>Note:<br>
+ * An accumulator is not thread safe.</i>
+ *
+ * @author Kristian Kutin
+ */
+public class NumberAccumulator {
+
+    /**
+     * The upper limit for a digit sum before carries have to be propagated.
+     */
+    private static final long DIGIT_SUM_LIMIT;
+
+    /**
+     * The initial capacity of the digit storage.
+     */
+    private static final int INITIAL_CAPACITY;
+
+    /**
+     * The number of additional positions which are required to propagate the carries of the digit sums
+     * (i.e. a digit sum has at most 64 digits in base 2).
+     */
+    private static final int CARRY_DIGITS;
+
+    /*
+     * The static initializer.
+     */
+    static {
+
+        DIGIT_SUM_LIMIT = Long.MAX_VALUE / 4L;
+        INITIAL_CAPACITY = 16;
+        CARRY_DIGITS = Long.SIZE;
+    }
+
+    /**
+     * The number base.
+     */
+    private final int base;
+
+    /**
+     * The digit sums (i.e. <code>digitSums[i]</code> is the factor for <code>base^(i + lowestPosition)</code>).
+     */
+    private long[] digitSums;
+
+    /**
+     * The position of the first digit sum (i.e. a negative position is a fraction digit).
+     */
+    private int lowestPosition;
+
+    /**
+     * The number of digit sums in use.
+     */
+    private int size;
+
+    /**
+     * An upper limit for the absolute value of any digit sum.
+     */
+    private long digitSumBound;
+
+    /**
+     * A buffer for the digits of the first operand.
+     */
+    private int[] operandBuffer1;
+
+    /**
+     * A buffer for the digits of the second operand.
+     */
+    private int[] operandBuffer2;
+
+    /**
+     * A buffer for carry propagation when the sum is created.
+     */
+    private long[] carryBuffer;
+
+    /**
+     * The sign of an infinite sum or <code>null</code> if the sum is finite.
+     */
+    private Sign infinitySign;
+
+    /**
+     * Creates a new accumulator with the value zero.
+     *
+     * @param base
+     *        a number base
+     */
+    public NumberAccumulator(int base) {
+
+        super();
+
+        ParameterCheckHelper.checkNumberBase(base);
+
+        this.base = base;
+
+        this.digitSums = new long[INITIAL_CAPACITY];
+        this.lowestPosition = 0;
+        this.size = 0;
+        this.digitSumBound = 0L;
+
+        this.operandBuffer1 = new int[INITIAL_CAPACITY];
+        this.operandBuffer2 = new int[INITIAL_CAPACITY];
+        this.carryBuffer = new long[INITIAL_CAPACITY];
+
+        this.infinitySign = null;
+    }
+
+    /**
+     * Returns the number base of this accumulator.
+     *
+     * @return a number base
+     */
+    public int base() {
+
+        return base;
+    }
+
+    /**
+     * Resets this accumulator to zero. The digit storage is retained.
+     */
+    public void reset() {
+
+        for (int a = 0; a < size; a++) {
+
+            digitSums[a] = 0L;
+        }
+
+        lowestPosition = 0;
+        size = 0;
+        digitSumBound = 0L;
+        infinitySign = null;
+    }
+
+    /**
+     * Adds the specified number to this accumulator.
+     *
+     * @param number
+     *        a number
+     */
+    public void addInPlace(Number number) {
+
+        ParameterCheckHelper.checkParameter(number);
+        ParameterCheckHelper.checkNumberBase(base, number);
+
+        if (number.isInfinity()) {
+
+            addInfinity("+", number.sign(), number);
+            return;
+        }
+
+        accumulate(number, 1L);
+    }
+
+    /**
+     * Subtracts the specified number from this accumulator.
+     *
+     * @param number
+     *        a number
+     */
+    public void subtractInPlace(Number number) {
+
+        ParameterCheckHelper.checkParameter(number);
+        ParameterCheckHelper.checkNumberBase(base, number);
+
+        if (number.isInfinity()) {
+
+            addInfinity("-", Signs.negate(number.sign()), number);
+            return;
+        }
+
+        accumulate(number, -1L);
+    }
+
+    /**
+     * Adds the product of the specified numbers to this accumulator.
+     *
+     * @param factor1
+     *        a number
+     * @param factor2
+     *        a number
+     */
+    public void multiplyAddInPlace(Number factor1, Number factor2) {
+
+        ParameterCheckHelper.checkParameter(factor1);
+        ParameterCheckHelper.checkParameter(factor2);
+        ParameterCheckHelper.checkNumberBase(base, factor1);
+        ParameterCheckHelper.checkNumberBase(base, factor2);
+
+        if ((factor1.isInfinity() && factor2.isZero()) || (factor1.isZero() && factor2.isInfinity())) {
+
+            throw new UndefinedOperationException("*", factor1, factor2);
+        }
+
+        boolean negative = Signs.isNegative(factor1.sign()) != Signs.isNegative(factor2.sign());
+
+        if (factor1.isInfinity() || factor2.isInfinity()) {
+
+            Sign sign = negative ? Signs.NEGATIVE : Signs.POSITIVE;
+            addInfinity("+", sign, createInfinity(base, sign));
+            return;
+        }
+
+        if (factor1.isZero() || factor2.isZero()) {
+
+            return;
+        }
+
+        operandBuffer1 = readDigits(factor1, operandBuffer1);
+        int length1 = factor1.integerDigits() + factor1.fractionDigits();
+        int position1 = -factor1.fractionDigits();
+
+        operandBuffer2 = readDigits(factor2, operandBuffer2);
+        int length2 = factor2.integerDigits() + factor2.fractionDigits();
+        int position2 = -factor2.fractionDigits();
+
+        long maxDigit = base - 1L;
+        long increment = java.lang.Math.min(length1, length2) * maxDigit * maxDigit;
+        prepare(position1 + position2, position1 + position2 + length1 + length2, increment);
+
+        long signum = negative ? -1L : 1L;
+        int offset = position1 + position2 - lowestPosition;
+        for (int a = 0; a < length1; a++) {
+
+            long digit1 = operandBuffer1[a] * signum;
+            if (digit1 == 0L) {
+
+                continue;
+            }
+
+            for (int b = 0; b < length2; b++) {
+
+                digitSums[offset + a + b] += digit1 * operandBuffer2[b];
+            }
+        }
+    }
+
+    /**
+     * Returns the current sum as a new number. The accumulator retains its value.<br>
+     * <br>
+     * <i>Note:<br>
+     * The returned number is always a new instance with its own linked list.</i>
+     *
+     * @return a number
+     */
+    public Number toNumber() {
+
+        if (infinitySign != null) {
+
+            return createInfinity(base, infinitySign);
+        }
+
+        int length = size + CARRY_DIGITS;
+        if (carryBuffer.length < length) {
+
+            carryBuffer = new long[length];
+        }
+
+        System.arraycopy(digitSums, 0, carryBuffer, 0, size);
+        for (int a = size; a < length; a++) {
+
+            carryBuffer[a] = 0L;
+        }
+
+        // A negative sum leaves a negative carry. The absolute value is determined by negating all digits.
+        boolean negative = propagateCarries(carryBuffer, length) < 0L;
+        if (negative) {
+
+            for (int a = 0; a < length; a++) {
+
+                carryBuffer[a] = -carryBuffer[a];
+            }
+
+            propagateCarries(carryBuffer, length);
+        }
+
+        int lowest = 0;
+        while ((lowest < length) && (carryBuffer[lowest] == 0L)) {
+
+            lowest++;
+        }
+
+        int highest = length - 1;
+        while ((highest >= 0) && (carryBuffer[highest] == 0L)) {
+
+            highest--;
+        }
+
+        if (highest < lowest) {
+
+            DigitNode centerNode = NodesHelper.createNode(base, 0);
+            return NumberHelper.createNumber(base, Signs.POSITIVE, centerNode);
+        }
+
+        // The linked list always contains the digit at position zero (i.e. the center node).
+        int first = java.lang.Math.min(lowest, -lowestPosition);
+        int last = java.lang.Math.max(highest, -lowestPosition);
+
+        DigitNode centerNode = null;
+        DigitNode previousNode = null;
+        for (int a = last; a >= first; a--) {
+
+            int digit = (a < length) ? (int) carryBuffer[a] : 0;
+
+            DigitNode node = NodesHelper.createNode(base, digit);
+            NodesHelper.linkNodes(previousNode, node);
+            previousNode = node;
+
+            if (a == -lowestPosition) {
+
+                centerNode = node;
+            }
+        }
+
+        Sign sign = negative ? Signs.NEGATIVE : Signs.POSITIVE;
+
+        return NumberHelper.createNumber(base, sign, centerNode);
+    }
+
+    /**
+     * Returns a string representation for this accumulator.
+     *
+     * @return a string representation
+     */
+    @Override
+    public String toString() {
+
+        return toNumber().toString();
+    }
+
+    /**
+     * Adds the digits of the specified number to this accumulator.
+     *
+     * @param number
+     *        a finite number
+     * @param signum
+     *        <code>1</code> for an addition or <code>-1</code> for a subtraction
+     */
+    private void accumulate(Number number, long signum) {
+
+        if (number.isZero()) {
+
+            return;
+        }
+
+        if (Signs.isNegative(number.sign())) {
+
+            signum = -signum;
+        }
+
+        int position = -number.fractionDigits();
+        int length = number.integerDigits() + number.fractionDigits();
+
+        prepare(position, position + length, base - 1L);
+
+        int index = position - lowestPosition;
+        for (DigitNode node = number.rightmostNode(); node != null; node = node.leftNode()) {
+
+            digitSums[index] += node.digit().ordinal() * signum;
+            index++;
+        }
+    }
+
+    /**
+     * Handles an infinite summand.
+     *
+     * @param operationSymbol
+     *        the symbol of the operation
+     * @param sign
+     *        the sign of the infinite summand
+     * @param number
+     *        the operand
+     */
+    private void addInfinity(String operationSymbol, Sign sign, Number number) {
+
+        if ((infinitySign != null) && (infinitySign != sign)) {
+
+            throw new UndefinedOperationException(operationSymbol, createInfinity(base, infinitySign), number);
+        }
+
+        infinitySign = sign;
+    }
+
+    /**
+     * Makes sure that the digit storage covers the specified positions and that the specified increment of
+     * the digit sums cannot cause an overflow.
+     *
+     * @param fromPosition
+     *        the lowest position (inclusive)
+     * @param toPosition
+     *        the highest position (exclusive)
+     * @param increment
+     *        the maximum increment of a digit sum
+     */
+    private void prepare(int fromPosition, int toPosition, long increment) {
+
+        if (digitSumBound > DIGIT_SUM_LIMIT - increment) {
+
+            normalize();
+        }
+
+        ensureCapacity(fromPosition, toPosition);
+        digitSumBound += increment;
+    }
+
+    /**
+     * Propagates the carries within the digit sums. Afterwards all digit sums are proper digits except for
+     * the most significant digit sum which is negative if the sum is negative.
+     */
+    private void normalize() {
+
+        ensureCapacity(lowestPosition, lowestPosition + size + CARRY_DIGITS);
+
+        long carry = propagateCarries(digitSums, size);
+
+        int length = size;
+
+        if (carry < 0L) {
+
+            // leading digits base-1 followed by a negative carry represent a shorter negative number
+            while ((length > 1) && (digitSums[length - 1] == base - 1)) {
+
+                digitSums[length - 1] = 0L;
+                length--;
+            }
+
+            digitSums[length - 1] -= base;
+
+        } else {
+
+            while ((length > 1) && (digitSums[length - 1] == 0L)) {
+
+                length--;
+            }
+        }
+
+        size = length;
+        digitSumBound = base;
+    }
+
+    /**
+     * Makes sure that the digit storage covers the specified positions.
+     *
+     * @param fromPosition
+     *        the lowest position (inclusive)
+     * @param toPosition
+     *        the highest position (exclusive)
+     */
+    private void ensureCapacity(int fromPosition, int toPosition) {
+
+        if (size == 0) {
+
+            lowestPosition = java.lang.Math.min(0, fromPosition);
+        }
+
+        int newLowestPosition = java.lang.Math.min(lowestPosition, fromPosition);
+        int newSize = java.lang.Math.max(lowestPosition + size, toPosition) - newLowestPosition;
+        int shift = lowestPosition - newLowestPosition;
+
+        if (newSize > digitSums.length) {
+
+            long[] newDigitSums = new long[java.lang.Math.max(newSize, digitSums.length * 2)];
+            System.arraycopy(digitSums, 0, newDigitSums, shift, size);
+            digitSums = newDigitSums;
+
+        } else if (shift > 0) {
+
+            System.arraycopy(digitSums, 0, digitSums, shift, size);
+            for (int a = 0; a < shift; a++) {
+
+                digitSums[a] = 0L;
+            }
+        }
+
+        lowestPosition = newLowestPosition;
+        size = newSize;
+    }
+
+    /**
+     * Propagates the carries within the specified digit sums. Afterwards all digit sums are proper digits.
+     *
+     * @param sums
+     *        the digit sums
+     * @param length
+     *        the number of digit sums
+     *
+     * @return the carry of the most significant digit sum
+     */
+    private long propagateCarries(long[] sums, int length) {
+
+        long carry = 0L;
+        for (int a = 0; a < length; a++) {
+
+            long sum = sums[a] + carry;
+
+            carry = java.lang.Math.floorDiv(sum, base);
+            sums[a] = java.lang.Math.floorMod(sum, base);
+        }
+
+        return carry;
+    }
+
+    /**
+     * Reads the digits of the specified number (i.e. the least significant digit comes first).
+     *
+     * @param number
+     *        a finite number
+     * @param buffer
+     *        a buffer
+     *
+     * @return the buffer which contains the digits (i.e. a larger buffer if the specified buffer is too
+     *         small)
+     */
+    private static int[] readDigits(Number number, int[] buffer) {
+
+        int length = number.integerDigits() + number.fractionDigits();
+
+        int[] digits = buffer;
+        if (digits.length < length) {
+
+            digits = new int[java.lang.Math.max(length, buffer.length * 2)];
+        }
+
+        int index = 0;
+        for (DigitNode node = number.rightmostNode(); node != null; node = node.leftNode()) {
+
+            digits[index] = node.digit().ordinal();
+            index++;
+        }
+
+        return digits;
+    }
+
+    /**
+     * Creates a new infinity with the specified sign.
+     *
+     * @param base
+     *        a number base
+     * @param sign
+     *        a sign
+     *
+     * @return infinity
+     */
+    private static Number createInfinity(int base, Sign sign) {
+
+        return NumberHelper.createInfinity(base, sign);
+    }
+
+}
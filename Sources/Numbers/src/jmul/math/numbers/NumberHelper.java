@@ -100,7 +100,7 @@ public final class NumberHelper {
         }
 
         ParsingResult parsingResult = ParserHelper.parseString(base, numberString);
-        return new NumberImpl(parsingResult.base, parsingResult.sign, parsingResult.centerNode);
+        return createNumber(parsingResult);
     }
 
     /**
@@ -111,7 +111,10 @@ public final class NumberHelper {
      * @param number
      *        a number
      *
-     * @return a clone of the specified number
+     * @return a clone of the specified number (see {@link PackedNumberImpl} regarding the creation parameter
+     *         {@link CreationParameters#PACKED}). A clone shares the linked list of the specified number. The
+     *         shared linked list is made immutable, i.e. an operation which modifies a linked list has to copy
+     *         it first (see {@link NodesHelper#copyOnWrite}).
      */
     public static Number createNumber(CreationParameter creationParameter, Number number) {
 
@@ -127,12 +130,21 @@ public final class NumberHelper {
 
         if (CreationParameters.CLONE.equals(creationParameter)) {
 
-            return new NumberImpl(number.base(), number.sign(), NodesHelper.cloneLinkedList(number.centerNode()));
+            return createSharedNumber(number.sign(), number);
 
         } else if (CreationParameters.DONT_CLONE.equals(creationParameter)) {
 
             return new NumberImpl(number.base(), number.sign(), number.centerNode());
 
+        } else if (CreationParameters.PACKED.equals(creationParameter)) {
+
+            if (number.isInfinity()) {
+
+                return new PackedNumberImpl(number.base(), number.sign());
+            }
+
+            return new PackedNumberImpl(number);
+
         } else {
 
             String message = String.format("Unknown creation parameter (%) specified!", creationParameter);
@@ -154,7 +166,10 @@ public final class NumberHelper {
     }
 
     /**
-     * Creates a new number according to the specified parameters. The number consists of a single digit.
+     * Creates a new number according to the specified parameters. The number consists of a single digit.<br>
+     * <br>
+     * <i>Note:<br>
+     * The returned number is a shared immutable instance (see {@link #createNumber(int, long)}).</i>
      *
      * @param base
      *        the number base
@@ -167,19 +182,44 @@ public final class NumberHelper {
      */
     public static Number createNumber(int base, Sign sign, int ordinal) {
 
-        String symbol = PositionalNumeralSystems.toString(base, ordinal);
+        // check that the ordinal represents a digit
+        PositionalNumeralSystems.ordinalToDigit(base, ordinal);
 
-        Number number;
         if (Signs.isNegative(sign)) {
 
-            number = createNumber(base, Signs.NEGATIVE.toString() + symbol);
+            return createNumber(base, (long) -ordinal);
+        }
 
-        } else {
+        return createNumber(base, (long) ordinal);
+    }
+
+    /**
+     * Creates a new number according to the specified parameters.<br>
+     * <br>
+     * <i>Note:<br>
+     * Small integers (i.e. -128 to 1024) are cached for each number base. The linked list of a cached
+     * number is immutable and the same instance is returned for subsequent calls.</i>
+     *
+     * @param base
+     *        the number base
+     * @param value
+     *        an integer
+     *
+     * @return a number
+     */
+    public static Number createNumber(int base, long value) {
+
+        ParameterCheckHelper.checkNumberBase(base);
+
+        if (SmallIntegerCache.isCached(value)) {
 
-            number = createNumber(base, symbol);
+            return SmallIntegerCache.valueOf(base, (int) value);
         }
 
-        return number;
+        Sign sign = (value < 0) ? Signs.NEGATIVE : Signs.POSITIVE;
+        DigitNode centerNode = NodesHelper.createLinkedList(base, value);
+
+        return createNumber(base, sign, centerNode);
     }
 
     /**
@@ -199,6 +239,37 @@ public final class NumberHelper {
         return new NumberImpl(base, sign, centerNode);
     }
 
+    /**
+     * Creates a new number with the specified sign which shares the linked list of the specified number (i.e.
+     * copy on write). The shared linked list is made immutable, i.e. an operation which modifies a linked list
+     * has to copy it first (see {@link NodesHelper#copyOnWrite}). Once a linked list is immutable a number is
+     * shared in constant time.
+     *
+     * @param sign
+     *        the sign of the new number
+     * @param number
+     *        a number
+     *
+     * @return a number
+     */
+    public static Number createSharedNumber(Sign sign, Number number) {
+
+        DigitNode centerNode = number.centerNode();
+
+        if (!NodesHelper.isImmutable(centerNode)) {
+
+            NodesHelper.makeImmutable(centerNode);
+        }
+
+        // The linked list of packed digits is created on demand, thus only the node reference is reliable.
+        if ((number instanceof NumberImpl) && !(number instanceof PackedNumberImpl)) {
+
+            return new NumberImpl(sign, (NumberImpl) number);
+        }
+
+        return new NumberImpl(number.base(), sign, centerNode);
+    }
+
     /**
      * Creates a number which represents infinity.
      *
@@ -35,6 +35,7 @@ package jmul.math.numbers;
 
 
 import java.util.Comparator;
+import java.util.stream.Stream;
 
 import jmul.math.Math;
 import jmul.math.collections.Sequence;
@@ -74,7 +75,8 @@ import jmul.math.signs.Signs;
  * Consider implementing a stream mechanism to serialize/ deserialize very large or very small numbers.</i><br>
  * <br>
  * <i>Node:<br>
- * Consider an alternative implementation which compresses the linked list in some way in order to save up memory.</i>
+ * See {@link PackedNumberImpl} for an alternative implementation which compresses the linked list in order to
+ * save up memory.</i>
  *
  * @author Kristian Kutin
  */
@@ -95,6 +97,32 @@ public class NumberImpl implements Number {
      */
     private final DigitNode centerNode;
 
+    /**
+     * A reference to the leftmost node (i.e. the most significant digit).
+     */
+    private final DigitNode leftmostNode;
+
+    /**
+     * A reference to the rightmost node (i.e. the least significant digit).
+     */
+    private final DigitNode rightmostNode;
+
+    /**
+     * The number of digits left of the decimal separator (i.e. including the center node).
+     */
+    private final int integerDigits;
+
+    /**
+     * The number of digits right of the decimal separator.
+     */
+    private final int fractionDigits;
+
+    /**
+     * The cached hash code of this number (i.e. <code>0</code> means that the hash code hasn't been calculated
+     * yet).
+     */
+    private int hashCode;
+
     /**
      * Creates a number which represents positive infinity. The default base is <code>10</code>.
      */
@@ -143,7 +171,8 @@ public class NumberImpl implements Number {
      * <br>
      * <i>Note:<br>
      * This constructor is mainly used for internal purposes and to instantiate calculation results.
-     * Calculations result don't need to be cloned.</i>
+     * Calculations result don't need to be cloned. The linked list is examined once (i.e. the number of
+     * digits and the leftmost and rightmost nodes are determined) and must not be modified afterwards.</i>
      *
      * @param base
      *        the base for this number
@@ -159,6 +188,57 @@ public class NumberImpl implements Number {
         this.sign = sign;
         this.base = base;
         this.centerNode = centerNode;
+
+        int leftDigits = 0;
+        int rightDigits = 0;
+        DigitNode leftNode = centerNode;
+        DigitNode rightNode = centerNode;
+
+        if (centerNode != null) {
+
+            leftDigits++;
+            while (leftNode.leftNode() != null) {
+
+                leftNode = leftNode.leftNode();
+                leftDigits++;
+            }
+
+            while (rightNode.rightNode() != null) {
+
+                rightNode = rightNode.rightNode();
+                rightDigits++;
+            }
+        }
+
+        this.leftmostNode = leftNode;
+        this.rightmostNode = rightNode;
+        this.integerDigits = leftDigits;
+        this.fractionDigits = rightDigits;
+    }
+
+    /**
+     * Creates a number with the specified sign which shares the linked list of the specified number.<br>
+     * <br>
+     * <i>Note:<br>
+     * The linked list is not examined again (i.e. the number of digits and the leftmost and rightmost nodes are
+     * taken from the specified number). The shared linked list must not be modified afterwards.</i>
+     *
+     * @param sign
+     *        the sign for this number
+     * @param number
+     *        a number
+     */
+    protected NumberImpl(Sign sign, NumberImpl number) {
+
+        super();
+
+        this.sign = sign;
+        this.base = number.base();
+        this.centerNode = number.centerNode();
+        this.leftmostNode = number.leftmostNode();
+        this.rightmostNode = number.rightmostNode();
+        this.integerDigits = number.integerDigits();
+        this.fractionDigits = number.fractionDigits();
     }
 
     /**
@@ -299,7 +379,7 @@ public class NumberImpl implements Number {
     public boolean isZero() {
 
         return (centerNode() != null) && (centerNode().leftNode() == null) && (centerNode().rightNode() == null) &&
-               centerNode.digit().isZero();
+               centerNode().digit().isZero();
     }
 
     /**
@@ -311,7 +391,7 @@ public class NumberImpl implements Number {
     public boolean isOne() {
 
         return (centerNode() != null) && (centerNode().leftNode() == null) && (centerNode().rightNode() == null) &&
-               centerNode.digit().isOrdinal(1);
+               centerNode().digit().isOrdinal(1);
     }
 
     /**
@@ -329,6 +409,51 @@ public class NumberImpl implements Number {
         return centerNode;
     }
 
+    /**
+     * Returns the leftmost node (i.e. the most significant digit) within a number.
+     *
+     * @return the leftmost node or <code>null</code> if this number represents infinity
+     */
+    @Override
+    public DigitNode leftmostNode() {
+
+        return leftmostNode;
+    }
+
+    /**
+     * Returns the rightmost node (i.e. the least significant digit) within a number.
+     *
+     * @return the rightmost node or <code>null</code> if this number represents infinity
+     */
+    @Override
+    public DigitNode rightmostNode() {
+
+        return rightmostNode;
+    }
+
+    /**
+     * Returns the number of digits left of the decimal separator (i.e. including the center node).
+     *
+     * @return the number of digits left of the decimal separator or <code>0</code> if this number represents
+     *         infinity
+     */
+    @Override
+    public int integerDigits() {
+
+        return integerDigits;
+    }
+
+    /**
+     * Returns the number of digits right of the decimal separator.
+     *
+     * @return the number of digits right of the decimal separator
+     */
+    @Override
+    public int fractionDigits() {
+
+        return fractionDigits;
+    }
+
     /**
      * Compares this number to the specified object.
      *
@@ -408,14 +533,22 @@ public class NumberImpl implements Number {
     }
 
     /**
-     * Calculates a hash code for this number.
+     * Calculates a hash code for this number. The hash code depends on the sign, the base and all digits
+     * (i.e. their positions) of this number. The hash code is calculated once and cached afterwards.
      *
      * @return a hash code
      */
     @Override
     public int hashCode() {
 
-        return HashHelper.calculateHashCode(Number.class, sign, base, centerNode);
+        int hash = hashCode;
+        if (hash == 0) {
+
+            hash = HashHelper.calculateHashCode(Number.class, sign, base, centerNode());
+            hashCode = hash;
+        }
+
+        return hash;
     }
 
     /**
@@ -437,7 +570,7 @@ public class NumberImpl implements Number {
     @Override
     public boolean isInteger() {
 
-        return (centerNode != null) && (centerNode().rightNode() == null);
+        return (centerNode() != null) && (centerNode().rightNode() == null);
     }
 
     /**
@@ -757,7 +890,10 @@ public class NumberImpl implements Number {
         final OperationIdentifier[] ALLOWED_ALGORITHMS = new OperationIdentifier[] {
             OperationIdentifiers.LONG_MULTIPLICATION_FUNCTION,
             OperationIdentifiers.MULTIPLY_NUMBERS_BY_ADDITION_FUNCTION,
-            OperationIdentifiers.RUSSIAN_PEASANT_MULTIPLICATION_FUNCTION
+            OperationIdentifiers.RUSSIAN_PEASANT_MULTIPLICATION_FUNCTION,
+            OperationIdentifiers.KARATSUBA_MULTIPLICATION_FUNCTION,
+            OperationIdentifiers.TOOM3_MULTIPLICATION_FUNCTION,
+            OperationIdentifiers.NTT_MULTIPLICATION_FUNCTION
         };
 
         OperationIdentifier algorithm = processingDetails.checkAndReturnAlgorithm(ALLOWED_ALGORITHMS);
@@ -1522,7 +1658,8 @@ public class NumberImpl implements Number {
 
         final OperationIdentifier[] ALLOWED_ALGORITHMS = new OperationIdentifier[] {
             OperationIdentifiers.DIVIDE_NUMBERS_BY_SUBTRACTION, OperationIdentifiers.RUSSIAN_DIVISION_FUNCTION,
-            OperationIdentifiers.LONG_DIVISION
+            OperationIdentifiers.LONG_DIVISION, OperationIdentifiers.NEWTON_RAPHSON_DIVISION,
+            OperationIdentifiers.KNUTH_LONG_DIVISION
         };
 
         OperationIdentifier algorithm = processingDetails.checkAndReturnAlgorithm(ALLOWED_ALGORITHMS);
@@ -1581,6 +1718,52 @@ public class NumberImpl implements Number {
         return result.result();
     }
 
+    /**
+     * Determines the number of positive divisors of this number without enumerating the divisors.
+     *
+     * @return the number of divisors
+     */
+    @Override
+    public Number divisorCount() {
+
+        UnaryOperation<Number, Result<Number>> function =
+            (UnaryOperation<Number, Result<Number>>) OperationSingletons.getFunction(OperationIdentifiers.DIVISOR_COUNT_FUNCTION);
+        Result<Number> result = function.calculate(this);
+
+        return result.result();
+    }
+
+    /**
+     * Determines the sum of all positive divisors of this number without enumerating the divisors.
+     *
+     * @return the sum of all divisors
+     */
+    @Override
+    public Number divisorSum() {
+
+        UnaryOperation<Number, Result<Number>> function =
+            (UnaryOperation<Number, Result<Number>>) OperationSingletons.getFunction(OperationIdentifiers.DIVISOR_SUM_FUNCTION);
+        Result<Number> result = function.calculate(this);
+
+        return result.result();
+    }
+
+    /**
+     * Returns a stream of all positive divisors of this number. The divisors are generated one by one and are not
+     * returned in ascending order.
+     *
+     * @return a stream of divisors
+     */
+    @Override
+    public Stream<Number> divisorStream() {
+
+        UnaryOperation<Number, Result<Stream<Number>>> function =
+            (UnaryOperation<Number, Result<Stream<Number>>>) OperationSingletons.getFunction(OperationIdentifiers.DIVISOR_STREAM_FUNCTION);
+        Result<Stream<Number>> result = function.calculate(this);
+
+        return result.result();
+    }
+
     /**
      * Determines all common divisors of this number and the specified number.
      *
@@ -1607,8 +1790,34 @@ public class NumberImpl implements Number {
     @Override
     public Sequence<Number> primeFactors() {
 
+        ProcessingDetails processingDetails = ProcessingDetails.setAlgorithm(ProcessingDetails.DEFAULT_ALGORITHM);
+
+        return primeFactors(processingDetails);
+    }
+
+    /**
+     * Determines the prime factors for this number. The result sequence contains all prime factors.
+     *
+     * @param processingDetails
+     *        additonal processing details
+     *
+     * @return a sequnce of prime factors or an empty sequence if there are no prime factors
+     */
+    @Override
+    public Sequence<Number> primeFactors(ProcessingDetails processingDetails) {
+
+        ParameterCheckHelper.checkParameter(processingDetails);
+
+        final OperationIdentifier[] ALLOWED_ALGORITHMS = new OperationIdentifier[] {
+            OperationIdentifiers.DETERMINE_PRIME_FACTORS_BY_ELLIPTIC_CURVES,
+            OperationIdentifiers.DETERMINE_PRIME_FACTORS_BY_POLLARD_RHO,
+            OperationIdentifiers.DETERMINE_PRIME_FACTORS_OF_NUMBER
+        };
+
+        OperationIdentifier algorithm = processingDetails.checkAndReturnAlgorithm(ALLOWED_ALGORITHMS);
+
         UnaryOperation<Number, Result<Sequence<Number>>> function =
-            (UnaryOperation<Number, Result<Sequence<Number>>>) OperationSingletons.getFunction(OperationIdentifiers.DETERMINE_PRIME_FACTORS_OF_NUMBER);
+            (UnaryOperation<Number, Result<Sequence<Number>>>) OperationSingletons.getFunction(algorithm);
         Result<Sequence<Number>> result = function.calculate(this);
 
         return result.result();
@@ -1990,4 +2199,44 @@ public class NumberImpl implements Number {
         return result.result();
     }
 
+    /**
+     * Determines the greatest common divisor of this number and the specified number (i.e. both numbers must be
+     * integers).
+     *
+     * @param number
+     *        a number
+     *
+     * @return the greatest common divisor
+     */
+    @Override
+    public Number gcd(Number number) {
+
+        BinaryOperation<Number, Result<Number>> function =
+            (BinaryOperation<Number, Result<Number>>) OperationSingletons.getFunction(OperationIdentifiers.GCD_FUNCTION);
+        Result<Number> result = function.calculate(this, number);
+
+        return result.result();
+    }
+
+    /**
+     * Multiplies this number with the specified factor and adds the specified addend to the product (i.e.
+     * <code>this * factor + addend</code>).
+     *
+     * @param factor
+     *        a number
+     * @param addend
+     *        a number
+     *
+     * @return the result
+     */
+    @Override
+    public Number multiplyAdd(Number factor, Number addend) {
+
+        TernaryOperation<Number, Result<Number>> function =
+            (TernaryOperation<Number, Result<Number>>) OperationSingletons.getFunction(OperationIdentifiers.MULTIPLY_ADD_FUNCTION);
+        Result<Number> result = function.calculate(this, factor, addend);
+
+        return result.result();
+    }
+
 }
@@ -37,6 +37,7 @@ package jmul.math.numbers;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Stream;
 
 import jmul.math.collections.Sequence;
 import jmul.math.collections.Set;
@@ -533,6 +534,24 @@ public class NumberNegativeBaseImpl implements Number {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public Number divisorCount() {
+        // TODO Implement this method
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Number divisorSum() {
+        // TODO Implement this method
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Stream<Number> divisorStream() {
+        // TODO Implement this method
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public Fraction toFraction() {
         // TODO Implement this method
@@ -545,6 +564,30 @@ public class NumberNegativeBaseImpl implements Number {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public DigitNode leftmostNode() {
+        // TODO Implement this method
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public DigitNode rightmostNode() {
+        // TODO Implement this method
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int integerDigits() {
+        // TODO Implement this method
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int fractionDigits() {
+        // TODO Implement this method
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public Number negate() {
         // TODO Implement this method
@@ -1028,10 +1071,28 @@ public class NumberNegativeBaseImpl implements Number {
         return null;
     }
 
+    @Override
+    public Sequence<Number> primeFactors(ProcessingDetails processingDetails) {
+        // TODO Implement this method
+        return null;
+    }
+
     @Override
     public Sequence<Number> commonPrimeFactors(Number number) {
         // TODO Implement this method
         return null;
     }
 
+    @Override
+    public Number gcd(Number number) {
+        // TODO Implement this method
+        return null;
+    }
+
+    @Override
+    public Number multiplyAdd(Number factor, Number addend) {
+        // TODO Implement this method
+        throw new UnsupportedOperationException();
+    }
+
 }
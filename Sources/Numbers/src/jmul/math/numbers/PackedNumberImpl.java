@@ -0,0 +1,644 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.math.numbers;
+
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+import static jmul.math.numbers.Constants.BASE_MAX_LIMIT;
+import static jmul.math.numbers.Constants.BASE_MIN_LIMIT;
+import jmul.math.numbers.nodes.DigitNode;
+import jmul.math.numbers.nodes.NodesHelper;
+import jmul.math.signs.Sign;
+
+
+/**
+ * An implementation of a real number which stores its digits in a compact form. Several digits are packed
+ * into a single <code>int</code> value (i.e. a limb with the radix <code>base^k</code>). The position of the
+ * least significant digit is stored separately (i.e. the exponent), thus leading and trailing zeroes are not
+ * stored at all.<br>
+ * <br>
+ * All operations work on the linked list representation of a number. The linked list is created on demand
+ * and is only referenced weakly. As long as an operation holds a reference to any node of the linked list
+ * the same linked list is returned. Afterwards the linked list can be reclaimed by the garbage collector and
+ * only the packed digits remain in memory.<br>
+ * <br>
+ * <i>Note:<br>
+ * A packed number is always trimmed.</i>
+ *
+ * @author Kristian Kutin
+ */
+public class PackedNumberImpl extends NumberImpl implements DigitChunks {
+
+    /**
+     * The upper limit for the radix of a limb.
+     */
+    private static final long LIMB_LIMIT;
+
+    /**
+     * The index of the leftmost node within the references to the linked list.
+     */
+    private static final int LEFTMOST_NODE;
+
+    /**
+     * The index of the center node within the references to the linked list.
+     */
+    private static final int CENTER_NODE;
+
+    /**
+     * The index of the rightmost node within the references to the linked list.
+     */
+    private static final int RIGHTMOST_NODE;
+
+    /**
+     * The number of digits which are packed into a single limb (i.e. for each base).
+     */
+    private static final int[] DIGITS_PER_LIMB;
+
+    /**
+     * The powers of each base which are used to pack and unpack digits (i.e. <code>base^0</code> to
+     * <code>base^(k-1)</code>).
+     */
+    private static final int[][] POWERS;
+
+    /*
+     * The static initializer.
+     */
+    static {
+
+        LIMB_LIMIT = 1L << 30;
+
+        LEFTMOST_NODE = 0;
+        CENTER_NODE = 1;
+        RIGHTMOST_NODE = 2;
+
+        DIGITS_PER_LIMB = new int[BASE_MAX_LIMIT + 1];
+        POWERS = new int[BASE_MAX_LIMIT + 1][];
+
+        for (int base = BASE_MIN_LIMIT; base <= BASE_MAX_LIMIT; base++) {
+
+            int digits = 0;
+            long power = 1L;
+            while (power * base <= LIMB_LIMIT) {
+
+                power *= base;
+                digits++;
+            }
+
+            DIGITS_PER_LIMB[base] = digits;
+            POWERS[base] = new int[digits];
+
+            power = 1L;
+            for (int a = 0; a < digits; a++) {
+
+                POWERS[base][a] = (int) power;
+                power *= base;
+            }
+        }
+    }
+
+    /**
+     * The packed digits (i.e. the least significant limb comes first) or <code>null</code> if this number
+     * represents infinity.
+     */
+    private final int[] limbs;
+
+    /**
+     * The number of significant digits. Zero has no significant digits.
+     */
+    private final int digitCount;
+
+    /**
+     * The position of the least significant digit (i.e. <code>base^exponent</code>).
+     */
+    private final int exponent;
+
+    /**
+     * A lock which guards the creation of the linked list.
+     */
+    private final Object lock;
+
+    /**
+     * Weak references to the leftmost node, the center node and the rightmost node of the linked list (i.e. the
+     * list is replaced and never modified).
+     */
+    private List<WeakReference<DigitNode>> linkedList;
+
+    /**
+     * Creates a number which represents positive or negative infinity.
+     *
+     * @param base
+     *        the base for this number
+     * @param sign
+     *        a sign for this number
+     */
+    protected PackedNumberImpl(int base, Sign sign) {
+
+        super(base, sign);
+
+        this.limbs = null;
+        this.digitCount = 0;
+        this.exponent = 0;
+        this.lock = new Object();
+    }
+
+    /**
+     * Creates a number with the specified parameters.
+     *
+     * @param base
+     *        the base for this number
+     * @param sign
+     *        the sign for this number
+     * @param ordinals
+     *        the ordinal values of all digits (i.e. the least significant digit comes first)
+     * @param exponent
+     *        the position of the first ordinal value
+     */
+    protected PackedNumberImpl(int base, Sign sign, int[] ordinals, int exponent) {
+
+        super(base, sign);
+
+        int lowestIndex = 0;
+        while ((lowestIndex < ordinals.length) && (ordinals[lowestIndex] == 0)) {
+
+            lowestIndex++;
+        }
+
+        int highestIndex = ordinals.length - 1;
+        while ((highestIndex >= lowestIndex) && (ordinals[highestIndex] == 0)) {
+
+            highestIndex--;
+        }
+
+        int count = highestIndex - lowestIndex + 1;
+        int digitsPerLimb = DIGITS_PER_LIMB[base];
+        int[] powers = POWERS[base];
+
+        int[] packedDigits = new int[java.lang.Math.max(1, (count + digitsPerLimb - 1) / digitsPerLimb)];
+        for (int a = 0; a < count; a++) {
+
+            packedDigits[a / digitsPerLimb] += ordinals[lowestIndex + a] * powers[a % digitsPerLimb];
+        }
+
+        this.limbs = packedDigits;
+        this.digitCount = count;
+        this.exponent = (count == 0) ? 0 : exponent + lowestIndex;
+        this.lock = new Object();
+    }
+
+    /**
+     * Creates a packed copy of the specified number.
+     *
+     * @param number
+     *        a number (i.e. not infinity)
+     */
+    protected PackedNumberImpl(Number number) {
+
+        this(number.base(), number.sign(), toOrdinals(number.centerNode()), countRightNodes(number.centerNode()));
+    }
+
+    /**
+     * Creates a number which shares the packed digits of the specified number. Only the exponent differs (i.e.
+     * the digits are scaled by a power of the number base).
+     *
+     * @param number
+     *        a number (i.e. not infinity)
+     * @param exponent
+     *        the position of the least significant digit
+     */
+    private PackedNumberImpl(PackedNumberImpl number, int exponent) {
+
+        super(number.base(), number.sign());
+
+        this.limbs = number.limbs;
+        this.digitCount = number.digitCount;
+        this.exponent = (number.digitCount == 0) ? 0 : exponent;
+        this.lock = new Object();
+    }
+
+    /**
+     * Counts the nodes to the right of the specified center node. The negated count is the position of the
+     * rightmost node.
+     *
+     * @param centerNode
+     *        the center node of a linked list
+     *
+     * @return the negated number of nodes to the right of the center node
+     */
+    private static int countRightNodes(DigitNode centerNode) {
+
+        int count = 0;
+
+        DigitNode node = centerNode.rightNode();
+        while (node != null) {
+
+            count--;
+            node = node.rightNode();
+        }
+
+        return count;
+    }
+
+    /**
+     * Reads the ordinal values of all digits of the specified linked list.
+     *
+     * @param centerNode
+     *        the center node of a linked list
+     *
+     * @return the ordinal values of all digits (i.e. the least significant digit comes first)
+     */
+    private static int[] toOrdinals(DigitNode centerNode) {
+
+        if (centerNode == null) {
+
+            throw new IllegalArgumentException("Infinity cannot be packed!");
+        }
+
+        int size = 1;
+
+        DigitNode leftmostNode = centerNode;
+        while (leftmostNode.leftNode() != null) {
+
+            leftmostNode = leftmostNode.leftNode();
+            size++;
+        }
+
+        DigitNode rightmostNode = centerNode;
+        while (rightmostNode.rightNode() != null) {
+
+            rightmostNode = rightmostNode.rightNode();
+            size++;
+        }
+
+        int[] ordinals = new int[size];
+
+        DigitNode node = rightmostNode;
+        for (int a = 0; a < size; a++) {
+
+            ordinals[a] = node.digit().ordinal();
+            node = node.leftNode();
+        }
+
+        return ordinals;
+    }
+
+    /**
+     * Creates a number from the specified chunks.
+     *
+     * @param base
+     *        the base for this number
+     * @param sign
+     *        the sign for this number
+     * @param chunks
+     *        the packed digits (i.e. the least significant chunk comes first)
+     * @param lowestPosition
+     *        the position of the least significant digit within the first chunk
+     *
+     * @return a number
+     */
+    static PackedNumberImpl createFromChunks(int base, Sign sign, int[] chunks, int lowestPosition) {
+
+        int digitsPerLimb = DIGITS_PER_LIMB[base];
+        int[] powers = POWERS[base];
+
+        int[] ordinals = new int[chunks.length * digitsPerLimb];
+        for (int a = 0; a < ordinals.length; a++) {
+
+            ordinals[a] = (chunks[a / digitsPerLimb] / powers[a % digitsPerLimb]) % base;
+        }
+
+        return new PackedNumberImpl(base, sign, ordinals, lowestPosition);
+    }
+
+    /**
+     * Returns a copy of this number which is multiplied by <code>base^positions</code>. The packed digits are
+     * shared and only the exponent is changed.
+     *
+     * @param positions
+     *        the number of positions (i.e. a negative number moves the digits to the right)
+     *
+     * @return a number
+     */
+    PackedNumberImpl scale(int positions) {
+
+        long newExponent = (long) exponent + positions;
+        if ((newExponent > Integer.MAX_VALUE) || (newExponent < Integer.MIN_VALUE)) {
+
+            String message = String.format("The exponent (%d) exceeds the supported range!", newExponent);
+            throw new IllegalArgumentException(message);
+        }
+
+        return new PackedNumberImpl(this, (int) newExponent);
+    }
+
+    /**
+     * Returns the number of digits within a chunk.
+     *
+     * @return the number of digits within a chunk
+     */
+    @Override
+    public int chunkSize() {
+
+        return DIGITS_PER_LIMB[base()];
+    }
+
+    /**
+     * Returns the number of chunks.
+     *
+     * @return the number of chunks
+     */
+    @Override
+    public int chunkCount() {
+
+        return limbs.length;
+    }
+
+    /**
+     * Returns the specified chunk.
+     *
+     * @param index
+     *        the index of a chunk (i.e. <code>0</code> is the least significant chunk)
+     *
+     * @return the packed digits of the chunk
+     */
+    @Override
+    public int chunk(int index) {
+
+        return limbs[index];
+    }
+
+    /**
+     * Returns the position of the least significant digit within the first chunk.
+     *
+     * @return a position
+     */
+    @Override
+    public int lowestPosition() {
+
+        return exponent;
+    }
+
+    /**
+     * Returns the number of significant digits (i.e. without leading and trailing zeroes).
+     *
+     * @return the number of significant digits
+     */
+    @Override
+    public int digitCount() {
+
+        return digitCount;
+    }
+
+    /**
+     * Returns the ordinal value of the digit at the specified position.
+     *
+     * @param position
+     *        a position (i.e. <code>base^position</code>)
+     *
+     * @return an ordinal value
+     */
+    @Override
+    public int ordinalAt(int position) {
+
+        int index = position - exponent;
+        if ((index < 0) || (index >= digitCount)) {
+
+            return 0;
+        }
+
+        int digitsPerLimb = DIGITS_PER_LIMB[base()];
+        int limb = limbs[index / digitsPerLimb];
+
+        return (limb / POWERS[base()][index % digitsPerLimb]) % base();
+    }
+
+    /**
+     * Creates a linked list from the packed digits.
+     *
+     * @return the leftmost node, the center node and the rightmost node of the linked list
+     */
+    private DigitNode[] createLinkedList() {
+
+        int highestPosition = java.lang.Math.max(exponent + digitCount - 1, 0);
+        int lowestPosition = java.lang.Math.min(exponent, 0);
+
+        DigitNode[] nodes = new DigitNode[3];
+        DigitNode previousNode = null;
+        for (int position = lowestPosition; position <= highestPosition; position++) {
+
+            DigitNode node = NodesHelper.createNode(base(), ordinalAt(position));
+
+            if (previousNode == null) {
+
+                nodes[RIGHTMOST_NODE] = node;
+
+            } else {
+
+                NodesHelper.linkNodes(node, previousNode);
+            }
+
+            if (position == 0) {
+
+                nodes[CENTER_NODE] = node;
+            }
+
+            previousNode = node;
+        }
+
+        nodes[LEFTMOST_NODE] = previousNode;
+
+        // The linked list is shared by all callers, thus it must not be modified (see NodesHelper.copyOnWrite).
+        NodesHelper.makeImmutable(nodes[CENTER_NODE]);
+
+        return nodes;
+    }
+
+    /**
+     * Returns the specified node of the linked list. The linked list is created on demand.
+     *
+     * @param index
+     *        the index of a node (i.e. leftmost node, center node or rightmost node)
+     *
+     * @return a node or <code>null</code> if this number represents infinity
+     */
+    private DigitNode linkedListNode(int index) {
+
+        if (limbs == null) {
+
+            return null;
+        }
+
+        synchronized (lock) {
+
+            DigitNode node = (linkedList == null) ? null : linkedList.get(index).get();
+            if (node == null) {
+
+                DigitNode[] nodes = createLinkedList();
+
+                List<WeakReference<DigitNode>> references = new ArrayList<>(nodes.length);
+                for (DigitNode referencedNode : nodes) {
+
+                    references.add(new WeakReference<DigitNode>(referencedNode));
+                }
+
+                linkedList = references;
+                node = nodes[index];
+            }
+
+            return node;
+        }
+    }
+
+    /**
+     * Returns the node which represents the zeroth position (i.e. <code>base^0</code>) within a number. The
+     * linked list is created on demand.
+     *
+     * @return the center node
+     */
+    @Override
+    public DigitNode centerNode() {
+
+        return linkedListNode(CENTER_NODE);
+    }
+
+    /**
+     * Returns the leftmost node (i.e. the most significant digit) within a number. The linked list is created
+     * on demand.
+     *
+     * @return the leftmost node or <code>null</code> if this number represents infinity
+     */
+    @Override
+    public DigitNode leftmostNode() {
+
+        return linkedListNode(LEFTMOST_NODE);
+    }
+
+    /**
+     * Returns the rightmost node (i.e. the least significant digit) within a number. The linked list is created
+     * on demand.
+     *
+     * @return the rightmost node or <code>null</code> if this number represents infinity
+     */
+    @Override
+    public DigitNode rightmostNode() {
+
+        return linkedListNode(RIGHTMOST_NODE);
+    }
+
+    /**
+     * Returns the number of digits left of the decimal separator (i.e. including the center node).
+     *
+     * @return the number of digits left of the decimal separator or <code>0</code> if this number represents
+     *         infinity
+     */
+    @Override
+    public int integerDigits() {
+
+        if (limbs == null) {
+
+            return 0;
+        }
+
+        return java.lang.Math.max(exponent + digitCount, 1);
+    }
+
+    /**
+     * Returns the number of digits right of the decimal separator.
+     *
+     * @return the number of digits right of the decimal separator
+     */
+    @Override
+    public int fractionDigits() {
+
+        return java.lang.Math.max(-exponent, 0);
+    }
+
+    /**
+     * Checks if this number represents infinity.
+     *
+     * @return <code>true</code> if this number represents infinity, else <code>false</code>
+     */
+    @Override
+    public boolean isInfinity() {
+
+        return limbs == null;
+    }
+
+    /**
+     * Checks if this number represents zero.
+     *
+     * @return <code>true</code> if this number represents zero, else <code>false</code>
+     */
+    @Override
+    public boolean isZero() {
+
+        return (limbs != null) && (digitCount == 0);
+    }
+
+    /**
+     * Checks if this number represents one.
+     *
+     * @return <code>true</code> if this number represents one, else <code>false</code>
+     */
+    @Override
+    public boolean isOne() {
+
+        return (limbs != null) && (digitCount == 1) && (exponent == 0) && (limbs[0] == 1);
+    }
+
+    /**
+     * Checks if this number is a fraction.
+     *
+     * @return <code>true</code> if this number is a fraction, else <code>false</code>
+     */
+    @Override
+    public boolean isFraction() {
+
+        return (limbs != null) && (exponent < 0);
+    }
+
+    /**
+     * Checks if this number is an integer.
+     *
+     * @return <code>true</code> if this number is an integer, else <code>false</code>
+     */
+    @Override
+    public boolean isInteger() {
+
+        return (limbs != null) && (exponent >= 0);
+    }
+
+}
@@ -0,0 +1,170 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.math.numbers;
+
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static jmul.math.numbers.Constants.BASE_MAX_LIMIT;
+import jmul.math.numbers.nodes.DigitNode;
+import jmul.math.numbers.nodes.NodesHelper;
+import jmul.math.signs.Sign;
+import jmul.math.signs.Signs;
+
+
+/**
+ * A cache for small integers. For each number base the integers within the range {@link #MIN_VALUE} to
+ * {@link #MAX_VALUE} are created once and are shared afterwards.<br>
+ * <br>
+ * <i>Note:<br>
+ * The linked lists of cached numbers are immutable (see {@link NodesHelper#makeImmutable}). An operation
+ * which tries to modify the linked list of a cached number fails. Operations which require a modifiable
+ * linked list have to work on a copy.</i>
+ *
+ * @author Kristian Kutin
+ */
+final class SmallIntegerCache {
+
+    /**
+     * The smallest cached integer.
+     */
+    static final int MIN_VALUE;
+
+    /**
+     * The largest cached integer.
+     */
+    static final int MAX_VALUE;
+
+    /**
+     * The cached integers (i.e. for each number base). The table for a number base is created when it is
+     * accessed for the first time.
+     */
+    private static final AtomicReferenceArray<Number[]> CACHE;
+
+    /*
+     * The static initializer.
+     */
+    static {
+
+        MIN_VALUE = -128;
+        MAX_VALUE = 1024;
+
+        CACHE = new AtomicReferenceArray<>(BASE_MAX_LIMIT + 1);
+    }
+
+    /**
+     * The default constructor.
+     */
+    private SmallIntegerCache() {
+
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Checks if the specified integer is cached.
+     *
+     * @param value
+     *        an integer
+     *
+     * @return <code>true</code> if the integer is cached, else <code>false</code>
+     */
+    static boolean isCached(long value) {
+
+        return (value >= MIN_VALUE) && (value <= MAX_VALUE);
+    }
+
+    /**
+     * Returns the cached number for the specified integer.
+     *
+     * @param base
+     *        a number base
+     * @param value
+     *        an integer within the cached range
+     *
+     * @return a number
+     */
+    static Number valueOf(int base, int value) {
+
+        return table(base)[value - MIN_VALUE];
+    }
+
+    /**
+     * Returns the table with cached integers for the specified number base.
+     *
+     * @param base
+     *        a number base
+     *
+     * @return all cached integers for the specified number base
+     */
+    private static Number[] table(int base) {
+
+        Number[] table = CACHE.get(base);
+
+        if (table == null) {
+
+            // Concurrent threads may create a table at the same time, but only one table is retained.
+            CACHE.compareAndSet(base, null, createTable(base));
+            table = CACHE.get(base);
+        }
+
+        return table;
+    }
+
+    /**
+     * Creates all cached integers for the specified number base.
+     *
+     * @param base
+     *        a number base
+     *
+     * @return all cached integers for the specified number base
+     */
+    private static Number[] createTable(int base) {
+
+        Number[] table = new Number[MAX_VALUE - MIN_VALUE + 1];
+
+        for (int value = MIN_VALUE; value <= MAX_VALUE; value++) {
+
+            DigitNode centerNode = NodesHelper.createLinkedList(base, value);
+            NodesHelper.makeImmutable(centerNode);
+
+            Sign sign = (value < 0) ? Signs.NEGATIVE : Signs.POSITIVE;
+
+            table[value - MIN_VALUE] = new NumberImpl(base, sign, centerNode);
+        }
+
+        return table;
+    }
+
+}
@@ -42,6 +42,7 @@ package jmul.math.numbers.creation;
 public enum CreationParameters implements CreationParameter {
 
     CLONE,
-    DONT_CLONE, ;
+    DONT_CLONE,
+    PACKED, ;
 
 }
@@ -69,6 +69,11 @@ class DigitNodeImpl implements DigitNode {
      */
     private DigitNode rightNode;
 
+    /**
+     * A flag which indicates that the references to neighbouring nodes must not be changed anymore.
+     */
+    private boolean immutable;
+
     /**
      * Creates a new node with the specified parameter.
      *
@@ -97,6 +102,7 @@ class DigitNodeImpl implements DigitNode {
         this.digit = digit;
         this.leftNode = leftNode;
         this.rightNode = rightNode;
+        this.immutable = false;
     }
 
     /**
@@ -129,6 +135,8 @@ class DigitNodeImpl implements DigitNode {
      */
     public void setLeftNode(DigitNode node) {
 
+        checkMutability();
+
         leftNode = node;
     }
 
@@ -151,9 +159,44 @@ class DigitNodeImpl implements DigitNode {
      */
     public void setRightNode(DigitNode node) {
 
+        checkMutability();
+
         rightNode = node;
     }
 
+    /**
+     * Marks this node as immutable. Afterwards the references to neighbouring nodes cannot be changed anymore.
+     */
+    void makeImmutable() {
+
+        immutable = true;
+    }
+
+    /**
+     * Checks if this node is immutable.
+     *
+     * @return <code>true</code> if this node is immutable, else <code>false</code>
+     */
+    boolean isImmutable() {
+
+        return immutable;
+    }
+
+    /**
+     * Checks if this node can be modified.
+     *
+     * @throws UnsupportedOperationException
+     *         is thrown if this node is immutable
+     */
+    private void checkMutability() {
+
+        if (immutable) {
+
+            String message = "The node is immutable and cannot be modified!";
+            throw new UnsupportedOperationException(message);
+        }
+    }
+
     /**
      * Returns a string representation for this node.
      *
@@ -200,7 +243,7 @@ class DigitNodeImpl implements DigitNode {
         }
 
         DigitNode thisNode = this.leftNode();
-        DigitNode otherNode = this.leftNode();
+        DigitNode otherNode = other.leftNode();
 
         while (true) {
 
@@ -214,7 +257,7 @@ class DigitNodeImpl implements DigitNode {
                 break;
             }
 
-            if (this.digit() != other.digit()) {
+            if (thisNode.digit() != otherNode.digit()) {
 
                 return false;
             }
@@ -224,7 +267,7 @@ class DigitNodeImpl implements DigitNode {
         }
 
         thisNode = this.rightNode();
-        otherNode = this.rightNode();
+        otherNode = other.rightNode();
 
         while (true) {
 
@@ -238,7 +281,7 @@ class DigitNodeImpl implements DigitNode {
                 break;
             }
 
-            if (this.digit() != other.digit()) {
+            if (thisNode.digit() != otherNode.digit()) {
 
                 return false;
             }
@@ -251,7 +294,8 @@ class DigitNodeImpl implements DigitNode {
     }
 
     /**
-     * Calculates a hash code for this node (i.e. and the whole linked list).
+     * Calculates a hash code for this node (i.e. and the whole linked list). The hash code is positional, i.e.
+     * every digit of the linked list is taken into account together with its position relative to this node.
      *
      * @return a hash code
      */
@@ -265,31 +309,32 @@ class DigitNodeImpl implements DigitNode {
 
 
         int hash;
-        int n;
 
         hash = firstPrime;
+        hash = secondPrime * hash + digit().ordinal();
 
 
-        n = digit().hashCode();
-        hash = secondPrime * hash + n;
-
-
+        // The digits to the left are processed from this node outwards. The number of digits to the left
+        // separates the left tail from the right tail (i.e. 21 and 1.2 have different hash codes).
+        int leftDigits = 0;
         DigitNode node = leftNode();
 
         while (node != null) {
 
-            n = digit().hashCode();
-            hash = secondPrime * hash + n;
+            hash = secondPrime * hash + node.digit().ordinal();
+            leftDigits++;
 
             node = node.leftNode();
         }
 
+        hash = secondPrime * hash + leftDigits;
+
+
         node = rightNode();
 
         while (node != null) {
 
-            n = digit().hashCode();
-            hash = secondPrime * hash + n;
+            hash = secondPrime * hash + node.digit().ordinal();
 
             node = node.rightNode();
         }
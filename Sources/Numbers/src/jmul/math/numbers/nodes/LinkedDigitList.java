@@ -52,4 +52,35 @@ public interface LinkedDigitList {
      */
     DigitNode centerNode();
 
+    /**
+     * Returns the leftmost node (i.e. the most significant digit) within a number.
+     *
+     * @return the leftmost node or <code>null</code> if the number represents infinity
+     */
+    DigitNode leftmostNode();
+
+    /**
+     * Returns the rightmost node (i.e. the least significant digit) within a number.
+     *
+     * @return the rightmost node or <code>null</code> if the number represents infinity
+     */
+    DigitNode rightmostNode();
+
+    /**
+     * Returns the number of digits left of the decimal separator (i.e. the center node and all nodes to the
+     * left of the center node).
+     *
+     * @return the number of digits left of the decimal separator or <code>0</code> if the number represents
+     *         infinity
+     */
+    int integerDigits();
+
+    /**
+     * Returns the number of digits right of the decimal separator (i.e. all nodes to the right of the center
+     * node).
+     *
+     * @return the number of digits right of the decimal separator
+     */
+    int fractionDigits();
+
 }
@@ -99,6 +99,37 @@ public final class NodesHelper {
         return digitNode;
     }
 
+    /**
+     * Creates a new linked list which represents the absolute value of the specified integer.
+     *
+     * @param base
+     *        the digit base
+     * @param value
+     *        an integer
+     *
+     * @return the center node of the linked list (i.e. the least significant digit)
+     */
+    public static DigitNode createLinkedList(int base, long value) {
+
+        // Work with negative remainders, so that Long.MIN_VALUE needs no special treatment.
+        long remainingValue = (value > 0) ? -value : value;
+
+        DigitNode centerNode = createNode(base, (int) -(remainingValue % base));
+        remainingValue /= base;
+
+        DigitNode node = centerNode;
+        while (remainingValue != 0) {
+
+            DigitNode leftNode = createNode(base, (int) -(remainingValue % base));
+            remainingValue /= base;
+
+            linkNodes(leftNode, node);
+            node = leftNode;
+        }
+
+        return centerNode;
+    }
+
     /**
      * Returns the base of the underlying digit.
      *
@@ -264,6 +295,133 @@ public final class NodesHelper {
         }
     }
 
+    /**
+     * Marks all nodes of the specified linked list as immutable. Afterwards the linked list cannot be modified anymore
+     * and can be shared safely between several numbers.
+     *
+     * @param centerNode
+     *        the center node of a linked list
+     */
+    public static void makeImmutable(@Modified DigitNode centerNode) {
+
+        // infinity has no nodes
+        if (centerNode == null) {
+
+            return;
+        }
+
+        ((DigitNodeImpl) centerNode).makeImmutable();
+
+        DigitNode left = centerNode.leftNode();
+        while (left != null) {
+
+            ((DigitNodeImpl) left).makeImmutable();
+            left = left.leftNode();
+        }
+
+        DigitNode right = centerNode.rightNode();
+        while (right != null) {
+
+            ((DigitNodeImpl) right).makeImmutable();
+            right = right.rightNode();
+        }
+    }
+
+    /**
+     * Returns a linked list which can be modified. An immutable linked list is cloned (i.e. copy on write),
+     * otherwise the specified linked list is returned.
+     *
+     * @param centerNode
+     *        the center node of a linked list
+     *
+     * @return the center node of a linked list which can be modified
+     */
+    public static DigitNode copyOnWrite(DigitNode centerNode) {
+
+        if (isImmutable(centerNode)) {
+
+            return cloneLinkedList(centerNode);
+        }
+
+        return centerNode;
+    }
+
+    /**
+     * Checks if the specified linked list has no leading and trailing zeroes.
+     *
+     * @param list
+     *        a linked list
+     *
+     * @return <code>true</code> if the linked list is trimmed, else <code>false</code>
+     */
+    public static boolean isTrimmed(LinkedDigitList list) {
+
+        DigitNode centerNode = list.centerNode();
+
+        // infinity needs no trimming
+        if (centerNode == null) {
+
+            return true;
+        }
+
+        DigitNode leftmostNode = list.leftmostNode();
+        DigitNode rightmostNode = list.rightmostNode();
+
+        boolean trimmedLeft = (leftmostNode == centerNode) || !leftmostNode.digit().isZero();
+        boolean trimmedRight = (rightmostNode == centerNode) || !rightmostNode.digit().isZero();
+
+        return trimmedLeft && trimmedRight;
+    }
+
+    /**
+     * Counts the digits right of the decimal separator without trailing zeroes (i.e. the number of shifts which
+     * turn the linked list into an integer).
+     *
+     * @param list
+     *        a linked list
+     *
+     * @return the number of significant fraction digits
+     */
+    public static int countSignificantFractionDigits(LinkedDigitList list) {
+
+        DigitNode centerNode = list.centerNode();
+
+        // infinity has no fraction digits
+        if (centerNode == null) {
+
+            return 0;
+        }
+
+        int count = list.fractionDigits();
+
+        DigitNode node = list.rightmostNode();
+        while ((node != centerNode) && node.digit().isZero()) {
+
+            node = node.leftNode();
+            count--;
+        }
+
+        return count;
+    }
+
+    /**
+     * Checks if the specified node is immutable.
+     *
+     * @param node
+     *        a node within a linked list
+     *
+     * @return <code>true</code> if the node is immutable, else <code>false</code>
+     */
+    public static boolean isImmutable(DigitNode node) {
+
+        if (node == null) {
+
+            return false;
+        }
+
+        return ((DigitNodeImpl) node).isImmutable();
+    }
+
     /**
      * Moves the same number of steps to the right in both specified linked lists until both or one linked list reaches
      * the last node.
@@ -328,6 +486,116 @@ public final class NodesHelper {
         return new NodesResult(node1, node2);
     }
 
+    /**
+     * Moves the same number of steps to the right in both specified linked lists until both or one linked list reaches
+     * the last node. The walks start at the center nodes. The number of steps is determined with the cached number of
+     * digits and the target nodes are reached from the nearest known node (i.e. leftmost node, center node or rightmost
+     * node).
+     *
+     * @param firstList
+     *        the first linked list
+     * @param secondList
+     *        the second linked list
+     *
+     * @return references to each linked list in the specified order of linked lists
+     */
+    public static NodesResult moveRightSynchronously(LinkedDigitList firstList, LinkedDigitList secondList) {
+
+        int position = -java.lang.Math.min(firstList.fractionDigits(), secondList.fractionDigits());
+
+        return new NodesResult(nodeAtPosition(firstList, position), nodeAtPosition(secondList, position));
+    }
+
+    /**
+     * Moves the same number of steps to the left in both specified linked lists until both or one linked list reaches
+     * the last node. The walks start at the center nodes. The number of steps is determined with the cached number of
+     * digits and the target nodes are reached from the nearest known node (i.e. leftmost node, center node or rightmost
+     * node).
+     *
+     * @param firstList
+     *        the first linked list
+     * @param secondList
+     *        the second linked list
+     *
+     * @return references to each linked list in the specified order of linked lists
+     */
+    public static NodesResult moveLeftSynchronously(LinkedDigitList firstList, LinkedDigitList secondList) {
+
+        int position = java.lang.Math.min(firstList.integerDigits(), secondList.integerDigits()) - 1;
+
+        return new NodesResult(nodeAtPosition(firstList, position), nodeAtPosition(secondList, position));
+    }
+
+    /**
+     * Returns the node at the specified position (i.e. <code>base^position</code>). The walk starts at the nearest
+     * known node (i.e. leftmost node, center node or rightmost node).
+     *
+     * @param list
+     *        a linked list
+     * @param position
+     *        a position within the linked list
+     *
+     * @return a node
+     */
+    private static DigitNode nodeAtPosition(LinkedDigitList list, int position) {
+
+        int leftmostPosition = list.integerDigits() - 1;
+        int rightmostPosition = -list.fractionDigits();
+
+        if (position >= 0) {
+
+            int stepsFromCenter = position;
+            int stepsFromLeftmostNode = leftmostPosition - position;
+
+            if (stepsFromLeftmostNode < stepsFromCenter) {
+
+                return moveSteps(list.leftmostNode(), -stepsFromLeftmostNode);
+            }
+
+            return moveSteps(list.centerNode(), stepsFromCenter);
+
+        } else {
+
+            int stepsFromCenter = -position;
+            int stepsFromRightmostNode = position - rightmostPosition;
+
+            if (stepsFromRightmostNode < stepsFromCenter) {
+
+                return moveSteps(list.rightmostNode(), stepsFromRightmostNode);
+            }
+
+            return moveSteps(list.centerNode(), -stepsFromCenter);
+        }
+    }
+
+    /**
+     * Moves the specified number of steps within a linked list.
+     *
+     * @param node
+     *        a node
+     * @param steps
+     *        the number of steps (i.e. a positive number moves to the left and a negative number moves to the
+     *        right)
+     *
+     * @return a node
+     */
+    private static DigitNode moveSteps(DigitNode node, int steps) {
+
+        DigitNode currentNode = node;
+
+        for (int a = 0; a < steps; a++) {
+
+            currentNode = currentNode.leftNode();
+        }
+
+        for (int a = 0; a > steps; a--) {
+
+            currentNode = currentNode.rightNode();
+        }
+
+        return currentNode;
+    }
+
     /**
      * Moves the reference to the last node to the left.
      *
@@ -423,4 +423,17 @@ public interface ArithmeticNumberOperations {
      * Ternary arithmetic operations.
      */
 
+    /**
+     * Multiplies this number with the specified factor and adds the specified addend to the product (i.e.
+     * <code>this * factor + addend</code>).
+     *
+     * @param factor
+     *        a number
+     * @param addend
+     *        a number
+     *
+     * @return the result
+     */
+    Number multiplyAdd(Number factor, Number addend);
+
 }
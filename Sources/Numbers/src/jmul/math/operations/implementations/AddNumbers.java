@@ -36,7 +36,8 @@ package jmul.math.operations.implementations;
 
 import jmul.math.Math;
 import jmul.math.digits.Digit;
-import jmul.math.digits.PositionalNumeralSystems;
+import jmul.math.numbers.DigitChunks;
+import jmul.math.numbers.DigitChunksHelper;
 import jmul.math.numbers.Number;
 import jmul.math.numbers.NumberHelper;
 import static jmul.math.numbers.NumberHelper.createInfinity;
@@ -47,15 +48,9 @@ import jmul.math.numbers.nodes.DigitNode;
 import jmul.math.numbers.nodes.NodesHelper;
 import jmul.math.numbers.nodes.NodesResult;
 import jmul.math.operations.BinaryOperation;
-import jmul.math.operations.OperationSingletons;
 import jmul.math.operations.Result;
-import jmul.math.operations.ResultWithCarry;
-import jmul.math.operations.UnaryOperation;
-import jmul.math.operations.repository.OperationIdentifiers;
 import jmul.math.signs.Sign;
-import jmul.math.signs.Signs;
 
-import jmul.metainfo.annotations.Modified;
 
 
 /**
@@ -219,7 +214,7 @@ public class AddNumbers implements BinaryOperation<Number, Result<Number>> {
         int base = operand1.base();
         Sign sign = operand1.sign();
 
-        NodesResult moveResult = NodesHelper.moveRightSynchronously(operand1.centerNode(), operand2.centerNode());
+        NodesResult moveResult = NodesHelper.moveRightSynchronously(operand1, operand2);
         DigitNode node1 = moveResult.firstNode;
         DigitNode node2 = moveResult.secondNode;
 
@@ -237,15 +232,12 @@ public class AddNumbers implements BinaryOperation<Number, Result<Number>> {
         }
 
 
-        // Add the relevant digits and create a new linked list with the results.
-        BinaryOperation<Digit, ResultWithCarry<Digit>> addDigitsFunction =
-            (BinaryOperation<Digit, ResultWithCarry<Digit>>) OperationSingletons.getFunction(OperationIdentifiers.ADD_DIGITS_FUNCTION);
+        // Add the ordinal values of the relevant digits and create a new linked list with the results.
+        Digit[] digits = OrdinalArithmeticHelper.digits(base);
 
         DigitNode previousResultNode = null;
         DigitNode resultCenterNode = null;
-        ResultWithCarry<Digit> previousResultWrapper = null;
-
-        final Digit ZERO = PositionalNumeralSystems.ordinalToDigit(base, 0);
+        int carry = 0;
 
         while (true) {
 
@@ -254,44 +246,30 @@ public class AddNumbers implements BinaryOperation<Number, Result<Number>> {
                 break;
             }
 
-            // Add the digits
-            ResultWithCarry<Digit> resultWrapper;
-            if (node1 == null) {
-
-                resultWrapper = addDigitsFunction.calculate(ZERO, node2.digit());
-
-            } else if (node2 == null) {
-
-                resultWrapper = addDigitsFunction.calculate(node1.digit(), ZERO);
-
-            } else {
+            // Add the digits and the carry
+            int sum = carry;
+            if (node1 != null) {
 
-                resultWrapper = addDigitsFunction.calculate(node1.digit(), node2.digit());
+                sum += node1.digit().ordinal();
             }
 
-            // Handle the carry
-            if (previousResultWrapper != null) {
-
-                Digit result = resultWrapper.result();
-                Digit carry = resultWrapper.carry();
-                Digit previousCarry = previousResultWrapper.carry();
+            if (node2 != null) {
 
-                resultWrapper = addDigitsFunction.calculate(result, previousCarry);
-                Digit newResult = resultWrapper.result();
+                sum += node2.digit().ordinal();
+            }
 
-                resultWrapper = addDigitsFunction.calculate(carry, resultWrapper.carry());
-                Digit newCarry = resultWrapper.result();
+            if (sum >= base) {
 
-                previousResultWrapper = new ResultWithCarry<Digit>(newResult, newCarry);
+                sum -= base;
+                carry = 1;
 
             } else {
 
-                previousResultWrapper = resultWrapper;
+                carry = 0;
             }
 
             // Create the new digit node and link it with the existing list
-            Digit result = previousResultWrapper.result();
-            DigitNode resultNode = NodesHelper.createNode(result);
+            DigitNode resultNode = NodesHelper.createNode(digits[sum]);
             NodesHelper.linkNodes(resultNode, previousResultNode);
             previousResultNode = resultNode;
 
@@ -314,14 +292,10 @@ public class AddNumbers implements BinaryOperation<Number, Result<Number>> {
         }
 
         // Apply the remaining carry
-        if (previousResultWrapper != null) {
-
-            Digit carry = previousResultWrapper.carry();
-            if (!carry.isZero()) {
+        if (carry != 0) {
 
-                DigitNode resultNode = NodesHelper.createNode(carry);
-                NodesHelper.linkNodes(resultNode, previousResultNode);
-            }
+            DigitNode resultNode = NodesHelper.createNode(digits[carry]);
+            NodesHelper.linkNodes(resultNode, previousResultNode);
         }
 
         // clone and append the right tail if there is any
@@ -349,131 +323,23 @@ public class AddNumbers implements BinaryOperation<Number, Result<Number>> {
      */
     private Result<Number> addOperandsWithDifferentSigns(Number operand1, Number operand2) {
 
-        int base = operand1.base();
-
-        Number absolute1 = operand1.absoluteValue();
-        Number absolute2 = operand2.absoluteValue();
-
-        int comparisonResult = absolute1.compareTo(absolute2);
-
-        if (comparisonResult == 0) {
-
-            /*
-             * abs(n) = abs(m)
-             *
-             * cases handled:
-             *
-             * n + -m -> 0 (if abs(n) = abs(m))
-             * -n + m -> 0 (if abs(n) = abs(m))
-             */
-
-            Number result = Math.ZERO.value(base);
-            return new Result<Number>(result);
-
-        } else if (comparisonResult > 0) {
-
-            /*
-             * abs(n) > abs(m)
-             *
-             * cases handled:
-             *
-             * n + -m -> n - m (if abs(n) > abs(m))
-             * -n + m -> -(n - m) (if abs(n) > abs(m))
-             */
-
-            if (operand1.isNegative()) {
-
-                return subtractNumber(Signs.NEGATIVE, absolute1, absolute2);
-
-            } else {
-
-                return subtractNumber(Signs.POSITIVE, absolute1, absolute2);
-            }
-
-        } else {
-
-            /*
-             * abs(n) < abs(m)
-             *
-             * cases handled:
-             *
-             * n + -m -> -m + n -> -(m - n) (if abs(m) > abs(n))
-             * -n + m -> m - n (if abs(m) > abs(n))
-             */
-
-            if (operand1.isNegative()) {
-
-                return subtractNumber(Signs.POSITIVE, absolute2, absolute1);
-
-            } else {
-
-                return subtractNumber(Signs.NEGATIVE, absolute2, absolute1);
-            }
-        }
-    }
-
-    /**
-     * Performs a subtraction using the complement method (i.e. turns the subtraction into an addition).
-     * Calculate the complement of the minuend. Then add the subtrahend. Finally calculate complement of the
-     * result. The specified sign is applied to the end result. The caller must check which of the specified
-     * numbers has the greater absolute value and pass the oarameters accordingly (i.e. the minuend should
-     * always have the greater absolute value).
-     *
-     * @param sign
-     *        the sign of the result
-     * @param minuend
-     *        the minuend. The minuend may be modified.
-     * @param subtrahend
-     *        the subtrahend
-     *
-     * @return a difference
-     */
-    private Result<Number> subtractNumber(Sign sign, @Modified Number minuend, Number subtrahend) {
-
         /*
-         * Prerequisites:
-         *
-         * 1) minuend > subtrahend
-         *    If this is not the case then this function will return a wrong result.
-         * 2) Signs should have been removed from the minuend and subtrahend. If not then
-         *    ignore the signs.
+         * cases handled:
          *
-         * Notes:
+         * n + -m -> n - m (if abs(n) > abs(m))
+         * -n + m -> -(n - m) (if abs(n) > abs(m))
+         * n + -m -> -m + n -> -(m - n) (if abs(m) > abs(n))
+         * -n + m -> m - n (if abs(m) > abs(n))
+         * n + -m -> 0 (if abs(n) = abs(m))
+         * -n + m -> 0 (if abs(n) = abs(m))
          *
-         * 1) A subtraction by complement is made thus the subtraction is replaced with an addition.
-         *    The complement of the minuend is added to the subtrahend. The complement of the result is
-         *    the result of the subtraction.
-         * 2) The decimal part of the minuend can have less digits than the decimal part of the subtrahend.
-         *    Accordingly the minuend may need additional trailing zeroes.
-         * 3) The result can have leading and trailing zeroes. Accordingly the result has to be trimmed.
+         * The comparison of the absolute values and the subtraction are made in a single step (i.e. the sign
+         * of the result is determined by the first digit which differs).
          */
 
-        Result<Number> result;
-
-        NodesHelper.fillUpWithZeroes(minuend.centerNode(), subtrahend.centerNode());
-
-        UnaryOperation<Number, Result<Number>> complementFunction =
-            (UnaryOperation<Number, Result<Number>>) OperationSingletons.getFunction(OperationIdentifiers.NUMBER_COMPLEMENT_FUNCTION);
-        result = complementFunction.calculate(minuend);
-        Number complement = result.result();
-
-        result = addOperandsWithSameSign(subtrahend, complement);
-        Number sum = result.result();
-
-        result = complementFunction.calculate(sum);
-        Number unsignedSum = result.result();
-
-        Number signedSum;
-        if (Signs.POSITIVE == sign) {
-
-            signedSum = unsignedSum;
-
-        } else {
-
-            signedSum = unsignedSum.negate();
-        }
+        Number difference = OrdinalArithmeticHelper.subtractAbsoluteValues(operand1, operand2, operand1.sign());
 
-        return new Result<Number>(signedSum);
+        return new Result<Number>(difference);
     }
 
     /**
@@ -504,6 +370,21 @@ public class AddNumbers implements BinaryOperation<Number, Result<Number>> {
 
             return addZero(operand1, operand2);
 
+        } else if (sameSigns && DigitChunksHelper.areDigitChunks(operand1, operand2)) {
+
+            /*
+             * cases handled:
+             *
+             * n + m
+             * -n + -m
+             *
+             * The digits of both operands are stored in chunks, thus the chunks are added directly.
+             */
+            Number sum =
+                DigitChunksHelper.addAbsoluteValues(operand1.base(), operand1.sign(), (DigitChunks) operand1,
+                                                    (DigitChunks) operand2);
+            result = new Result<Number>(sum);
+
         } else if (sameSigns) {
 
             /*
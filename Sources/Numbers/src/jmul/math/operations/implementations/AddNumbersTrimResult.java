@@ -36,7 +36,9 @@ package jmul.math.operations.implementations;
 
 import jmul.math.operations.OperationSingletons;
 import jmul.math.operations.repository.OperationIdentifiers;
+import jmul.math.numbers.DigitChunks;
 import jmul.math.numbers.Number;
+import static jmul.math.numbers.NumberHelper.createNumber;
 import jmul.math.numbers.nodes.DigitNode;
 import jmul.math.numbers.nodes.NodesHelper;
 import jmul.math.operations.BinaryOperation;
@@ -77,11 +79,21 @@ public class AddNumbersTrimResult implements BinaryOperation<Number, Result<Numb
             (BinaryOperation<Number, Result<Number>>) OperationSingletons.getFunction(OperationIdentifiers.ADD_NUMBERS_FUNCTION);
         Result<Number> result = function.calculate(operand1, operand2);
 
-        DigitNode resultCenter = result.result().centerNode();
+        Number sum = result.result();
+
+        // packed digits are always trimmed
+        if ((sum instanceof DigitChunks) || NodesHelper.isTrimmed(sum)) {
+
+            return result;
+        }
+
+        DigitNode resultCenter = NodesHelper.copyOnWrite(sum.centerNode());
         NodesHelper.trimLeft(resultCenter);
         NodesHelper.trimRight(resultCenter);
 
-        return result;
+        Number trimmedSum = createNumber(sum.base(), sum.sign(), resultCenter);
+
+        return new Result<Number>(trimmedSum);
     }
 
 }
@@ -34,18 +34,15 @@
 package jmul.math.operations.implementations;
 
 
-import java.lang.reflect.Array;
-
 import jmul.math.collections.Set;
-import jmul.math.concurrent.CalculationPool;
-import jmul.math.concurrent.ConcurrentCalculation;
 import jmul.math.numbers.Number;
 import jmul.math.operations.BinaryOperation;
 import jmul.math.operations.Result;
 
 
 /**
- * An operation that determines the common divisors of two numbers.
+ * An operation that determines the common divisors of two numbers. The common divisors of two numbers are the
+ * divisors of their greatest common divisor.
  *
  * @author Kristian Kutin
  */
@@ -76,111 +73,10 @@ public class DetermineCommonDivisorsOfNumbers implements BinaryOperation<Number,
         ParameterCheckHelper.checkIndex(number1);
         ParameterCheckHelper.checkIndex(number2);
 
-        /*
-        // sequential calculations
-        Set<Number> set1 = number1.divisors();
-        Set<Number> set2 = number2.divisors();
-        */
-
-        // concurrent calculations
-
-        CalculationPool<Number, Set<Number>> threadPool = new ConcurrentDetermineDivisorsPool();
-        Set<Number>[] results = threadPool.calculateResultsAndWaitForThreads(number1, number2);
-        Set<Number> set1 = results[0];
-        Set<Number> set2 = results[1];
-
-        Set<Number> resultSet = set1.intersection(set2);
+        Number gcd = number1.gcd(number2);
+        Set<Number> resultSet = gcd.divisors();
 
         return new Result<Set<Number>>(resultSet);
     }
 
 }
-
-
-/**
- * A thread implementation for concurrent computing.
- *
- * @author Kristian Kutin
- */
-class ConcurrentDetermineDivisors extends ConcurrentCalculation<Number, Set<Number>> {
-
-    /**
-     * Creates a new instance according to the specified parameter.
-     *
-     * @param number
-     *        a number
-     */
-    ConcurrentDetermineDivisors(Number number) {
-
-        super(number);
-    }
-
-    /**
-     * The actual concurrent calculation.
-     *
-     * @param input
-     *        a number
-     *
-     * @return a sequence of prime factors
-     */
-    @Override
-    public Set<Number> calculate(Number input) {
-
-        return input.divisors();
-    }
-
-}
-
-
-/**
- * A pool for handling concurrent computations.
- *
- * @author Kristian Kutin
- */
-class ConcurrentDetermineDivisorsPool extends CalculationPool<Number, Set<Number>> {
-
-    /**
-     * Creates a new empty array of the result type.
-     *
-     * @param length
-     *        the array size
-     *
-     * @return a new empty array
-     */
-    @Override
-    protected Set<Number>[] newArray(int length) {
-
-        return (Set<Number>[]) Array.newInstance(Set.class, length);
-    }
-
-    /**
-     * Creates all concurrent calculations (i.e. runnables).
-     *
-     * @param inputs
-     *        numbers
-     *
-     * @return all concurrent calculations (i.e. runnables)
-     */
-    @Override
-    protected ConcurrentCalculation<Number, Set<Number>>[] createConcurrentCalculations(Number... inputs) {
-
-        int length = inputs.length;
-
-        if (length != 2) {
-
-            throw new IllegalArgumentException("A wrong numer of arguments was specified!");
-        }
-
-        ConcurrentDetermineDivisors[] calculations = new ConcurrentDetermineDivisors[length];
-
-        for (int index = 0; index < length; index++) {
-
-            Number number = inputs[index];
-            ConcurrentDetermineDivisors runnable = new ConcurrentDetermineDivisors(number);
-            calculations[index] = runnable;
-        }
-
-        return calculations;
-    }
-
-}
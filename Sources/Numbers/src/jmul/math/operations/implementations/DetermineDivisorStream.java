@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+
+package jmul.math.operations.implementations;
+
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import jmul.math.numbers.Number;
+import jmul.math.operations.Result;
+import jmul.math.operations.UnaryOperation;
+
+
+/**
+ * This function returns a stream of all positive divisors of a number. The divisors are generated one by one from
+ * the prime factorization (see {@link DivisorIterator}), thus numbers with huge divisor counts can be processed
+ * without holding all divisors in memory. The divisors are not returned in ascending order.
+ *
+ * @author Kristian Kutin
+ */
+public class DetermineDivisorStream implements UnaryOperation<Number, Result<Stream<Number>>> {
+
+    /**
+     * The default constructor.
+     */
+    public DetermineDivisorStream() {
+
+        super();
+    }
+
+    /**
+     * Returns a stream of all positive divisors of the specified number.
+     *
+     * @param operand
+     *        a number
+     *
+     * @return a finite stream of divisors
+     */
+    @Override
+    public Result<Stream<Number>> calculate(Number operand) {
+
+        ParameterCheckHelper.checkInteger(operand);
+
+        int base = operand.base();
+
+        int[] ordinals = OrdinalArithmeticHelper.toOrdinals(operand.absoluteValue());
+        List<int[]> primeFactors = DivisorHelper.primeFactors(base, ordinals);
+        int[][] distinctPrimeFactors = DivisorHelper.distinctPrimeFactors(primeFactors);
+        int[] exponents = DivisorHelper.exponents(primeFactors);
+
+        DivisorIterator iterator = new DivisorIterator(base, distinctPrimeFactors, exponents);
+        Spliterator<Number> spliterator =
+            Spliterators.spliteratorUnknownSize(iterator, Spliterator.DISTINCT | Spliterator.NONNULL |
+                                                Spliterator.IMMUTABLE);
+        Stream<Number> stream = StreamSupport.stream(spliterator, false);
+
+        return new Result<Stream<Number>>(stream);
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+
+package jmul.math.operations.implementations;
+
+
+import java.util.List;
+
+import jmul.math.numbers.Number;
+import jmul.math.operations.Result;
+import jmul.math.operations.UnaryOperation;
+import jmul.math.signs.Signs;
+
+
+/**
+ * An implementation of a function that determines the sum of all positive divisors of a number. The result is
+ * derived from the prime factorization without enumerating the divisors (see {@link DivisorHelper}).
+ *
+ * @author Kristian Kutin
+ */
+public class DetermineDivisorSum implements UnaryOperation<Number, Result<Number>> {
+
+    /**
+     * The default constructor.
+     */
+    public DetermineDivisorSum() {
+
+        super();
+    }
+
+    /**
+     * Determines the sum of all positive divisors of the specified number.
+     *
+     * @param operand
+     *        a number
+     *
+     * @return the sum of all divisors
+     */
+    @Override
+    public Result<Number> calculate(Number operand) {
+
+        ParameterCheckHelper.checkInteger(operand);
+
+        int base = operand.base();
+
+        int[] ordinals = OrdinalArithmeticHelper.toOrdinals(operand.absoluteValue());
+        List<int[]> primeFactors = DivisorHelper.primeFactors(base, ordinals);
+        int[][] distinctPrimeFactors = DivisorHelper.distinctPrimeFactors(primeFactors);
+        int[] exponents = DivisorHelper.exponents(primeFactors);
+
+        int[] result = DivisorHelper.divisorSum(base, distinctPrimeFactors, exponents);
+
+        return new Result<Number>(OrdinalArithmeticHelper.toQuotient(base, Signs.POSITIVE, result, 0));
+    }
+
+}
@@ -37,16 +37,17 @@ package jmul.math.operations.implementations;
 import java.util.ArrayList;
 import java.util.List;
 
-import jmul.math.Math;
 import jmul.math.collections.Set;
 import jmul.math.collections.SetImpl;
 import jmul.math.numbers.Number;
 import jmul.math.operations.Result;
 import jmul.math.operations.UnaryOperation;
+import jmul.math.signs.Signs;
 
 
 /**
- * An implementation of a function that determines the divisors of a number.
+ * An implementation of a function that determines the divisors of a number. The divisors are derived from the prime
+ * factorization by combining the exponents of the prime factors (see {@link DivisorHelper}).
  *
  * @author Kristian Kutin
  */
@@ -61,7 +62,8 @@ public class DetermineDivisors implements UnaryOperation<Number, Result<Set<Numb
     }
 
     /**
-     * Determines the divisors of the specified number and returns a set with all divisors greater than one.
+     * Determines the divisors of the specified number and returns a set with all positive divisors in ascending
+     * order.
      *
      * @param operand
      *        a number
@@ -74,34 +76,16 @@ public class DetermineDivisors implements UnaryOperation<Number, Result<Set<Numb
         ParameterCheckHelper.checkInteger(operand);
 
         int base = operand.base();
-        Number absoluteOperand = operand.absoluteValue();
 
-        final Number ONE = Math.ONE.value(base);
-        final Number TWO = Math.TWO.value(base);
+        int[] ordinals = OrdinalArithmeticHelper.toOrdinals(operand.absoluteValue());
+        List<int[]> primeFactors = DivisorHelper.primeFactors(base, ordinals);
+        int[][] distinctPrimeFactors = DivisorHelper.distinctPrimeFactors(primeFactors);
+        int[] exponents = DivisorHelper.exponents(primeFactors);
 
         List<Number> divisors = new ArrayList<>();
-        divisors.add(ONE);
+        for (int[] divisor : DivisorHelper.divisors(base, distinctPrimeFactors, exponents)) {
 
-        for (Number number = TWO; number.isLesser(absoluteOperand); number = number.inc()) {
-
-            Number doubled = number.doubling();
-
-            if (doubled.isLesserOrEqual(absoluteOperand)) {
-
-                if (absoluteOperand.isMultipleOf(number)) {
-
-                    divisors.add(number);
-                }
-
-            } else {
-
-                break;
-            }
-        }
-
-        if (!absoluteOperand.isOne()) {
-
-            divisors.add(absoluteOperand);
+            divisors.add(OrdinalArithmeticHelper.toQuotient(base, Signs.POSITIVE, divisor, 0));
         }
 
         Set<Number> resultSet = new SetImpl<>(base, divisors);
@@ -0,0 +1,87 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.math.operations.implementations;
+
+
+import jmul.math.numbers.Number;
+import jmul.math.operations.BinaryOperation;
+import jmul.math.operations.Result;
+import jmul.math.signs.Signs;
+
+
+/**
+ * An operation that determines the greatest common divisor of two integers. Large integers are reduced by
+ * Lehmer's algorithm and small integers are evaluated by the binary algorithm.
+ *
+ * @author Kristian Kutin
+ */
+public class DetermineGreatestCommonDivisor implements BinaryOperation<Number, Result<Number>> {
+
+    /**
+     * The default constructor.
+     */
+    public DetermineGreatestCommonDivisor() {
+
+        super();
+    }
+
+    /**
+     * Determines the greatest common divisor of the specified integers.
+     *
+     * @param number1
+     *        an integer
+     * @param number2
+     *        an integer
+     *
+     * @return the greatest common divisor (i.e. a positive integer or zero if both integers are zero)
+     */
+    @Override
+    public Result<Number> calculate(Number number1, Number number2) {
+
+        ParameterCheckHelper.checkParameters(number1, number2);
+        ParameterCheckHelper.checkInteger(number1);
+        ParameterCheckHelper.checkInteger(number2);
+
+        int base = number1.base();
+
+        int[] ordinals1 = OrdinalArithmeticHelper.toOrdinals(number1.absoluteValue());
+        int[] ordinals2 = OrdinalArithmeticHelper.toOrdinals(number2.absoluteValue());
+
+        int[] divisor = OrdinalArithmeticHelper.gcd(base, ordinals1, ordinals2);
+
+        return new Result<Number>(OrdinalArithmeticHelper.toQuotient(base, Signs.POSITIVE, divisor, 0));
+    }
+
+}
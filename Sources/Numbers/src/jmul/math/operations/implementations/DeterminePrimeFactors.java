@@ -35,9 +35,9 @@ package jmul.math.operations.implementations;
 
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
-import jmul.math.Math;
 import jmul.math.collections.Sequence;
 import jmul.math.collections.SequenceImpl;
 import jmul.math.numbers.Number;
@@ -50,7 +50,8 @@ import jmul.math.operations.repository.OperationIdentifiers;
 
 
 /**
- * An implementation of a function that determines the prime factors of a number.
+ * An implementation of a function that determines the prime factors of a number by trial division (i.e. the number
+ * is divided by consecutive prime numbers).
  *
  * TODO Consider caching the results
  *
@@ -106,49 +107,32 @@ public class DeterminePrimeFactors implements UnaryOperation<Number, Result<Sequ
         int base = number.base();
 
         BinaryOperation<Number, ResultWithRemainder<Number>> function =
-            (BinaryOperation<Number, ResultWithRemainder<Number>>) OperationSingletons.getFunction(OperationIdentifiers.DIVIDE_NUMBERS_RETURN_RESULT_AND_REMAINDER_FUNCTION);
+            (BinaryOperation<Number, ResultWithRemainder<Number>>) OperationSingletons.getFunction(OperationIdentifiers.BURNIKEL_ZIEGLER_DIVISION_FUNCTION);
 
-        Number ordinal = Math.ZERO.value(base);
+        Iterator<Number> primeNumbers = new PrimeNumberIterator(base);
 
         Number normalizedNumber = number.absoluteValue();
-        Number divisor;
-        Number result;
-        Number remainder;
-        while (true) {
+        Number divisor = primeNumbers.next();
+        while (!normalizedNumber.isZero() && !normalizedNumber.isOne()) {
 
-            if (normalizedNumber.isZero() || normalizedNumber.isOne()) {
+            // A number without prime factors up to its square root is a prime number.
+            if (divisor.square().isGreater(normalizedNumber)) {
 
+                allDivisors.add(normalizedNumber);
                 break;
             }
 
-            while (true) {
+            ResultWithRemainder<Number> resultWrapper = function.calculate(normalizedNumber, divisor);
 
-                divisor = Math.nextPrimeNumber(ordinal);
+            if (resultWrapper.remainder().isZero()) {
 
-                ResultWithRemainder<Number> resultWrapper = function.calculate(normalizedNumber, divisor);
-
-                result = resultWrapper.result();
-                remainder = resultWrapper.remainder();
-
-                if (remainder.isZero()) {
-
-                    break;
-                }
-
-                if (divisor.equals(normalizedNumber)) {
-
-                    break;
-                }
-
-                ordinal = ordinal.inc();
-            }
+                allDivisors.add(divisor);
+                normalizedNumber = resultWrapper.result();
 
-            if (remainder.isZero()) {
+            } else {
 
-                allDivisors.add(divisor);
+                divisor = primeNumbers.next();
             }
-
-            normalizedNumber = result;
         }
 
         return allDivisors;
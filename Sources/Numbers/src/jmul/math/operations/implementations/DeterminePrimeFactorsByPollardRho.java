@@ -0,0 +1,98 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+
+package jmul.math.operations.implementations;
+
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jmul.math.collections.Sequence;
+import jmul.math.collections.SequenceImpl;
+import jmul.math.numbers.Number;
+import jmul.math.operations.Result;
+import jmul.math.operations.UnaryOperation;
+import jmul.math.signs.Signs;
+
+
+/**
+ * An implementation of a function that determines the prime factors of a number. Small prime factors are found by
+ * trial division and all further prime factors are found by Pollard's rho method with Brent's cycle detection (see
+ * {@link FactorizationHelper}).
+ *
+ * @author Kristian Kutin
+ */
+public class DeterminePrimeFactorsByPollardRho implements UnaryOperation<Number, Result<Sequence<Number>>> {
+
+    /**
+     * The default constructor.
+     */
+    public DeterminePrimeFactorsByPollardRho() {
+
+        super();
+    }
+
+    /**
+     * Determines the prime factors of the specified number. The result sequence contains all prime factors in
+     * ascending order.
+     *
+     * @param number
+     *        a number
+     *
+     * @return a sequence of prime factors
+     */
+    @Override
+    public Result<Sequence<Number>> calculate(Number number) {
+
+        ParameterCheckHelper.checkInteger(number);
+
+        int base = number.base();
+
+        List<Number> primeFactors = new ArrayList<>();
+        if (!number.isZero()) {
+
+            int[] ordinals = OrdinalArithmeticHelper.toOrdinals(number.absoluteValue());
+            for (int[] primeFactor : FactorizationHelper.factorize(base, ordinals, false)) {
+
+                primeFactors.add(OrdinalArithmeticHelper.toQuotient(base, Signs.POSITIVE, primeFactor, 0));
+            }
+        }
+
+        Sequence<Number> sequence = new SequenceImpl<>(base, primeFactors);
+
+        return new Result<Sequence<Number>>(sequence);
+    }
+
+}
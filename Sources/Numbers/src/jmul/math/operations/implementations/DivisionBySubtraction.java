@@ -39,6 +39,7 @@ import jmul.math.numbers.Number;
 import static jmul.math.numbers.NumberHelper.createNumber;
 import jmul.math.numbers.exceptions.NoResultButLimitException;
 import jmul.math.numbers.exceptions.UndefinedOperationException;
+import jmul.math.numbers.nodes.DigitNode;
 import jmul.math.numbers.nodes.NodesHelper;
 import jmul.math.operations.Result;
 import jmul.math.operations.TernaryOperation;
@@ -209,7 +210,9 @@ public class DivisionBySubtraction implements TernaryOperation<Number, Result<Nu
         }
         fractionPart = fractionPart.shiftLeft();
 
-        NodesHelper.trimRight(fractionPart.centerNode());
+        DigitNode fractionCenter = NodesHelper.copyOnWrite(fractionPart.centerNode());
+        NodesHelper.trimRight(fractionCenter);
+        fractionPart = createNumber(base, fractionPart.sign(), fractionCenter);
 
 
         // Add the integer part and fraction part for the final result.
@@ -0,0 +1,231 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+
+package jmul.math.operations.implementations;
+
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * A helper class which derives the divisors of a number from its prime factorization (see
+ * {@link FactorizationHelper}). A number n = p<sub>1</sub><sup>e<sub>1</sub></sup> * ... *
+ * p<sub>k</sub><sup>e<sub>k</sub></sup> has the divisors p<sub>1</sub><sup>a<sub>1</sub></sup> * ... *
+ * p<sub>k</sub><sup>a<sub>k</sub></sup> with 0 &le; a<sub>i</sub> &le; e<sub>i</sub>.
+ *
+ * @author Kristian Kutin
+ */
+final class DivisorHelper {
+
+    /**
+     * The default constructor.
+     */
+    private DivisorHelper() {
+
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Determines the prime factors of the specified ordinal values.
+     *
+     * @param base
+     *        a number base
+     * @param ordinals
+     *        the ordinal values of a positive integer
+     *
+     * @return the ordinal values of all prime factors in ascending order
+     */
+    static List<int[]> primeFactors(int base, int[] ordinals) {
+
+        int[] n = OrdinalArithmeticHelper.trim(ordinals);
+
+        if ((n.length == 1) && (n[0] == 0)) {
+
+            throw new IllegalArgumentException("Zero has infinitely many divisors!");
+        }
+
+        return FactorizationHelper.factorize(base, n, true);
+    }
+
+    /**
+     * Returns the distinct prime factors of the specified prime factorization.
+     *
+     * @param primeFactors
+     *        the ordinal values of all prime factors in ascending order
+     *
+     * @return the ordinal values of the distinct prime factors in ascending order
+     */
+    static int[][] distinctPrimeFactors(List<int[]> primeFactors) {
+
+        List<int[]> distinctPrimeFactors = new ArrayList<>();
+
+        for (int[] primeFactor : primeFactors) {
+
+            int last = distinctPrimeFactors.size() - 1;
+            if ((last < 0) ||
+                (OrdinalArithmeticHelper.compareValues(distinctPrimeFactors.get(last), primeFactor) != 0)) {
+
+                distinctPrimeFactors.add(primeFactor);
+            }
+        }
+
+        return distinctPrimeFactors.toArray(new int[distinctPrimeFactors.size()][]);
+    }
+
+    /**
+     * Returns the exponents of the distinct prime factors of the specified prime factorization.
+     *
+     * @param primeFactors
+     *        the ordinal values of all prime factors in ascending order
+     *
+     * @return the exponents of the distinct prime factors
+     */
+    static int[] exponents(List<int[]> primeFactors) {
+
+        int[] exponents = new int[primeFactors.size()];
+        int distinct = 0;
+
+        for (int index = 0; index < primeFactors.size(); index++) {
+
+            if ((index > 0) &&
+                (OrdinalArithmeticHelper.compareValues(primeFactors.get(index - 1), primeFactors.get(index)) == 0)) {
+
+                exponents[distinct - 1]++;
+
+            } else {
+
+                exponents[distinct] = 1;
+                distinct++;
+            }
+        }
+
+        int[] result = new int[distinct];
+        System.arraycopy(exponents, 0, result, 0, distinct);
+
+        return result;
+    }
+
+    /**
+     * Determines all divisors by combining the exponents of the specified prime factors.
+     *
+     * @param base
+     *        a number base
+     * @param primeFactors
+     *        the ordinal values of the distinct prime factors
+     * @param exponents
+     *        the exponents of the distinct prime factors
+     *
+     * @return the ordinal values of all divisors in ascending order
+     */
+    static List<int[]> divisors(int base, int[][] primeFactors, int[] exponents) {
+
+        List<int[]> divisors = new ArrayList<>();
+        divisors.add(new int[] { 1 });
+
+        for (int index = 0; index < primeFactors.length; index++) {
+
+            int size = divisors.size();
+            int[] primeFactor = primeFactors[index];
+
+            for (int offset = 0; offset < size * exponents[index]; offset++) {
+
+                int[] divisor = OrdinalArithmeticHelper.product(base, divisors.get(offset), primeFactor);
+                divisors.add(OrdinalArithmeticHelper.trim(divisor));
+            }
+        }
+
+        divisors.sort(OrdinalArithmeticHelper::compareValues);
+
+        return divisors;
+    }
+
+    /**
+     * Determines the number of divisors, i.e. (e<sub>1</sub> + 1) * ... * (e<sub>k</sub> + 1).
+     *
+     * @param base
+     *        a number base
+     * @param exponents
+     *        the exponents of the distinct prime factors
+     *
+     * @return the ordinal values of the number of divisors
+     */
+    static int[] divisorCount(int base, int[] exponents) {
+
+        int[] count = new int[] { 1 };
+
+        for (int exponent : exponents) {
+
+            count = OrdinalArithmeticHelper.trim(OrdinalArithmeticHelper.multiply(base, count, exponent + 1));
+        }
+
+        return count;
+    }
+
+    /**
+     * Determines the sum of all divisors, i.e. the product of the sums 1 + p<sub>i</sub> + ... +
+     * p<sub>i</sub><sup>e<sub>i</sub></sup> which are evaluated by Horner's method.
+     *
+     * @param base
+     *        a number base
+     * @param primeFactors
+     *        the ordinal values of the distinct prime factors
+     * @param exponents
+     *        the exponents of the distinct prime factors
+     *
+     * @return the ordinal values of the sum of all divisors
+     */
+    static int[] divisorSum(int base, int[][] primeFactors, int[] exponents) {
+
+        final int[] ONE = new int[] { 1 };
+
+        int[] sum = ONE;
+
+        for (int index = 0; index < primeFactors.length; index++) {
+
+            int[] partialSum = ONE;
+            for (int exponent = 0; exponent < exponents[index]; exponent++) {
+
+                int[] product = OrdinalArithmeticHelper.product(base, partialSum, primeFactors[index]);
+                partialSum = OrdinalArithmeticHelper.trim(OrdinalArithmeticHelper.add(base, product, ONE));
+            }
+
+            sum = OrdinalArithmeticHelper.trim(OrdinalArithmeticHelper.product(base, sum, partialSum));
+        }
+
+        return sum;
+    }
+
+}
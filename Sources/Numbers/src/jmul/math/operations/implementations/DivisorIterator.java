@@ -0,0 +1,165 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+
+package jmul.math.operations.implementations;
+
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import jmul.math.numbers.Number;
+import jmul.math.signs.Signs;
+
+
+/**
+ * An iterator over all divisors of a number. The exponents of the prime factors are advanced like an odometer,
+ * thus the divisors are not returned in ascending order, but only one divisor per prime factor is kept in memory.
+ *
+ * @author Kristian Kutin
+ */
+class DivisorIterator implements Iterator<Number> {
+
+    /**
+     * The number base of the divisors.
+     */
+    private final int base;
+
+    /**
+     * The ordinal values of the distinct prime factors.
+     */
+    private final int[][] primeFactors;
+
+    /**
+     * The exponents of the distinct prime factors.
+     */
+    private final int[] exponents;
+
+    /**
+     * The current exponents of the distinct prime factors.
+     */
+    private final int[] counters;
+
+    /**
+     * The partial products, i.e. the product of the prime factors at the specified index and above raised to their
+     * current exponents. The first partial product is the next divisor.
+     */
+    private final int[][] partialProducts;
+
+    /**
+     * A flag indicating that all divisors have been returned.
+     */
+    private boolean exhausted;
+
+    /**
+     * Creates a new iterator according to the specified parameters.
+     *
+     * @param base
+     *        the number base of the divisors
+     * @param primeFactors
+     *        the ordinal values of the distinct prime factors
+     * @param exponents
+     *        the exponents of the distinct prime factors
+     */
+    DivisorIterator(int base, int[][] primeFactors, int[] exponents) {
+
+        super();
+
+        this.base = base;
+        this.primeFactors = primeFactors;
+        this.exponents = exponents;
+        this.counters = new int[exponents.length];
+        this.partialProducts = new int[exponents.length + 1][];
+        this.exhausted = false;
+
+        for (int index = 0; index < partialProducts.length; index++) {
+
+            partialProducts[index] = new int[] { 1 };
+        }
+    }
+
+    /**
+     * Checks if there is a next divisor.
+     *
+     * @return <code>true</code> if there is a next divisor, else <code>false</code>
+     */
+    @Override
+    public boolean hasNext() {
+
+        return !exhausted;
+    }
+
+    /**
+     * Returns the next divisor.
+     *
+     * @return a divisor
+     */
+    @Override
+    public Number next() {
+
+        if (exhausted) {
+
+            throw new NoSuchElementException("All divisors have been returned!");
+        }
+
+        Number divisor = OrdinalArithmeticHelper.toQuotient(base, Signs.POSITIVE, partialProducts[0], 0);
+
+        int index = 0;
+        while ((index < counters.length) && (counters[index] == exponents[index])) {
+
+            index++;
+        }
+
+        if (index == counters.length) {
+
+            exhausted = true;
+
+        } else {
+
+            counters[index]++;
+            partialProducts[index] =
+                OrdinalArithmeticHelper.trim(OrdinalArithmeticHelper.product(base, partialProducts[index],
+                                                                             primeFactors[index]));
+
+            for (int lower = 0; lower < index; lower++) {
+
+                counters[lower] = 0;
+                partialProducts[lower] = partialProducts[index];
+            }
+        }
+
+        return divisor;
+    }
+
+}
@@ -282,8 +282,8 @@ public class ExponentiateNumberWithNumberBySquaring implements TernaryOperation<
 
         } else {
 
-            Number digitSum = n.digitSum();
-            return digitSum.isOdd();
+            // The remainder is determined digit by digit, thus no digit sum has to be calculated.
+            return OrdinalArithmeticHelper.remainder(base, OrdinalArithmeticHelper.toOrdinals(n), 2) == 1;
         }
     }
 
@@ -0,0 +1,679 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+
+package jmul.math.operations.implementations;
+
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+
+/**
+ * A helper class for the factorization of integers with the ordinal values of digits (see
+ * {@link OrdinalArithmeticHelper}). The factorization is a pipeline:
+ * <ol>
+ * <li>Prime factors lesser than 1000 are found by trial division.</li>
+ * <li>Perfect powers are split into equal factors.</li>
+ * <li>Further factors are found by Pollard's rho method with Brent's cycle detection.</li>
+ * <li>Optionally the rho method is limited and factors which are not found by then are found by Lenstra's
+ * elliptic curve method.</li>
+ * </ol>
+ * Every cofactor is tested for primality (see {@link PrimeNumberHelper#isPrime(int, int[])}) before it is split
+ * any further. The modular arithmetic regroups the digits into larger digits.
+ *
+ * @author Kristian Kutin
+ */
+final class FactorizationHelper {
+
+    /**
+     * The number of iterations of the rho method which share one greatest common divisor (i.e. the distances are
+     * multiplied and the product is checked).
+     */
+    private static final int GCD_INTERVAL;
+
+    /**
+     * The number of iterations of the rho method before the elliptic curve method takes over.
+     */
+    private static final long RHO_ITERATION_LIMIT;
+
+    /**
+     * The parameter of the first curve of the elliptic curve method (i.e. Suyama's parametrization).
+     */
+    private static final long FIRST_CURVE_PARAMETER;
+
+    /**
+     * The smoothness bounds of the elliptic curve method (i.e. the largest prime factor of the group order which is
+     * covered by a curve).
+     */
+    private static final int[] SMOOTHNESS_BOUNDS;
+
+    /**
+     * The number of curves per smoothness bound. The curves of the last smoothness bound are repeated until a
+     * factor is found.
+     */
+    private static final int[] CURVES_PER_BOUND;
+
+    /*
+     * The static initializer.
+     */
+    static {
+
+        GCD_INTERVAL = 128;
+        RHO_ITERATION_LIMIT = 1L << 16;
+
+        FIRST_CURVE_PARAMETER = 6L;
+        SMOOTHNESS_BOUNDS = new int[] { 2000, 11000, 50000, 250000 };
+        CURVES_PER_BOUND = new int[] { 25, 90, 300, 700 };
+    }
+
+    /**
+     * The default constructor.
+     */
+    private FactorizationHelper() {
+
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Determines the prime factors of the specified ordinal values.
+     *
+     * @param base
+     *        a number base
+     * @param ordinals
+     *        the ordinal values of a positive integer
+     * @param ellipticCurves
+     *        <code>true</code> if the rho method is limited and followed by the elliptic curve method, else
+     *        <code>false</code>
+     *
+     * @return the ordinal values of all prime factors in ascending order
+     */
+    static List<int[]> factorize(int base, int[] ordinals, boolean ellipticCurves) {
+
+        List<int[]> primeFactors = new ArrayList<>();
+
+        // The modular arithmetic uses fewer but larger digits.
+        int digitsPerGroup = OrdinalArithmeticHelper.packedDigits(base);
+        int packedBase = OrdinalArithmeticHelper.packedBase(base);
+
+        int[] n = OrdinalArithmeticHelper.regroup(base, OrdinalArithmeticHelper.trim(ordinals), digitsPerGroup);
+
+        for (int prime : PrimeNumberHelper.smallPrimes()) {
+
+            while (OrdinalArithmeticHelper.remainder(packedBase, n, prime) == 0) {
+
+                primeFactors.add(OrdinalArithmeticHelper.toOrdinals(base, prime));
+                OrdinalArithmeticHelper.divideInPlace(packedBase, n, prime);
+            }
+        }
+
+        Deque<int[]> cofactors = new ArrayDeque<>();
+        cofactors.push(OrdinalArithmeticHelper.trim(n));
+
+        while (!cofactors.isEmpty()) {
+
+            int[] cofactor = cofactors.pop();
+            if (isOne(cofactor)) {
+
+                continue;
+            }
+
+            int[] unpackedCofactor =
+                OrdinalArithmeticHelper.trim(OrdinalArithmeticHelper.ungroup(base, cofactor, digitsPerGroup));
+            if (PrimeNumberHelper.isPrime(base, unpackedCofactor)) {
+
+                primeFactors.add(unpackedCofactor);
+                continue;
+            }
+
+            int[] divisor = findDivisor(packedBase, cofactor, ellipticCurves);
+            int[] quotient =
+                OrdinalArithmeticHelper.trim(OrdinalArithmeticHelper.quotientAndRemainder(packedBase, cofactor,
+                                                                                          divisor).result());
+
+            cofactors.push(divisor);
+            cofactors.push(quotient);
+        }
+
+        primeFactors.sort(OrdinalArithmeticHelper::compareValues);
+
+        return primeFactors;
+    }
+
+    /**
+     * Determines a nontrivial divisor of the specified composite ordinal values.
+     *
+     * @param base
+     *        a number base
+     * @param n
+     *        the ordinal values of a composite integer without prime factors lesser than 1000
+     * @param ellipticCurves
+     *        <code>true</code> if the rho method is limited and followed by the elliptic curve method, else
+     *        <code>false</code>
+     *
+     * @return the ordinal values of a divisor
+     */
+    private static int[] findDivisor(int base, int[] n, boolean ellipticCurves) {
+
+        int[] root = perfectPowerRoot(base, n);
+        if (root != null) {
+
+            return root;
+        }
+
+        // All methods share the constants of the modular arithmetic.
+        ModularContext context = new ModularContext(base, n);
+
+        if (ellipticCurves) {
+
+            int[] divisor = pollardRho(base, n, context, 1, RHO_ITERATION_LIMIT);
+
+            return (divisor != null) ? divisor : ellipticCurveMethod(base, n, context);
+        }
+
+        for (int increment = 1; ; increment++) {
+
+            int[] divisor = pollardRho(base, n, context, increment, Long.MAX_VALUE);
+            if (divisor != null) {
+
+                return divisor;
+            }
+        }
+    }
+
+    /**
+     * Checks if the specified ordinal values are a perfect power (i.e. <code>n = r^k</code> with a prime exponent
+     * <code>k</code>) and returns the root.
+     *
+     * @param base
+     *        a number base
+     * @param n
+     *        the ordinal values of an integer without prime factors lesser than 1000
+     *
+     * @return the ordinal values of the root or <code>null</code> if the ordinal values are no perfect power
+     */
+    private static int[] perfectPowerRoot(int base, int[] n) {
+
+        // Every root is greater than 2^9.
+        int bitLength = n.length * (32 - Integer.numberOfLeadingZeros(base - 1));
+        int maxExponent = bitLength / 9;
+
+        for (int exponent : PrimeNumberHelper.smallPrimes()) {
+
+            if (exponent > maxExponent) {
+
+                break;
+            }
+
+            int[] root = integerRoot(base, n, exponent);
+            if (OrdinalArithmeticHelper.compareValues(power(base, root, exponent), n) == 0) {
+
+                return root;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Determines the integer root of the specified ordinal values (i.e. the largest integer <code>r</code> with
+     * <code>r^k &lt;= n</code>) by Newton's method.
+     *
+     * @param base
+     *        a number base
+     * @param n
+     *        the ordinal values of a positive integer
+     * @param exponent
+     *        the exponent of the root (i.e. greater than one)
+     *
+     * @return the ordinal values of the root
+     */
+    private static int[] integerRoot(int base, int[] n, int exponent) {
+
+        // The initial value base^ceil(length / exponent) is greater than the root.
+        int[] root = new int[(n.length + exponent - 1) / exponent + 1];
+        root[root.length - 1] = 1;
+
+        while (true) {
+
+            int[] quotient =
+                OrdinalArithmeticHelper.quotientAndRemainder(base, n, power(base, root, exponent - 1)).result();
+            int[] next = OrdinalArithmeticHelper.add(base, OrdinalArithmeticHelper.multiply(base, root, exponent - 1),
+                                                     quotient);
+            OrdinalArithmeticHelper.divideInPlace(base, next, exponent);
+
+            if (OrdinalArithmeticHelper.compareValues(next, root) >= 0) {
+
+                return root;
+            }
+
+            root = OrdinalArithmeticHelper.trim(next);
+        }
+    }
+
+    /**
+     * Exponentiates the specified ordinal values (i.e. exponentiation by squaring).
+     *
+     * @param base
+     *        a number base
+     * @param ordinals
+     *        the ordinal values of a positive integer
+     * @param exponent
+     *        a non-negative exponent
+     *
+     * @return the ordinal values of the power
+     */
+    private static int[] power(int base, int[] ordinals, int exponent) {
+
+        int[] result = new int[] { 1 };
+        int[] square = ordinals;
+
+        for (int remainingExponent = exponent; remainingExponent > 0; remainingExponent >>= 1) {
+
+            if ((remainingExponent & 1) == 1) {
+
+                result = OrdinalArithmeticHelper.trim(OrdinalArithmeticHelper.product(base, result, square));
+            }
+
+            if (remainingExponent > 1) {
+
+                square = OrdinalArithmeticHelper.trim(OrdinalArithmeticHelper.product(base, square, square));
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Looks for a divisor of the specified ordinal values by Pollard's rho method with Brent's cycle detection
+     * (i.e. the sequence <code>x(i + 1) = x(i)^2 + c mod n</code>).
+     *
+     * @param base
+     *        a number base
+     * @param n
+     *        the ordinal values of a composite integer without prime factors lesser than 1000
+     * @param context
+     *        the modular arithmetic for the composite integer
+     * @param increment
+     *        the constant <code>c</code> of the sequence
+     * @param iterationLimit
+     *        the maximum length of a cycle
+     *
+     * @return the ordinal values of a divisor or <code>null</code> if no divisor was found
+     */
+    private static int[] pollardRho(int base, int[] n, ModularContext context, int increment, long iterationLimit) {
+
+        int[] c = context.residue(OrdinalArithmeticHelper.toOrdinals(base, increment));
+
+        int[] y = context.residue(OrdinalArithmeticHelper.toOrdinals(base, 2L));
+        int[] x = y;
+        int[] checkpoint = y;
+        int[] product = context.one();
+        int[] divisor = new int[] { 1 };
+
+        for (long cycleLength = 1L; isOne(divisor); cycleLength *= 2L) {
+
+            if (cycleLength > iterationLimit) {
+
+                return null;
+            }
+
+            x = y;
+            for (long index = 0L; index < cycleLength; index++) {
+
+                y = nextValue(context, y, c);
+            }
+
+            for (long index = 0L; (index < cycleLength) && isOne(divisor); index += GCD_INTERVAL) {
+
+                checkpoint = y;
+
+                long steps = java.lang.Math.min(GCD_INTERVAL, cycleLength - index);
+                for (long step = 0L; step < steps; step++) {
+
+                    y = nextValue(context, y, c);
+
+                    int[] distance = context.subtract(x, y);
+                    product = context.multiply(product, distance);
+                }
+
+                divisor = OrdinalArithmeticHelper.trim(OrdinalArithmeticHelper.gcd(base, product, n));
+            }
+        }
+
+        if (OrdinalArithmeticHelper.compareValues(divisor, n) == 0) {
+
+            // The product of all distances since the last checkpoint is a multiple of n, thus every distance is
+            // checked separately.
+            do {
+
+                checkpoint = nextValue(context, checkpoint, c);
+                int[] distance = context.subtract(x, checkpoint);
+                divisor = OrdinalArithmeticHelper.trim(OrdinalArithmeticHelper.gcd(base, distance, n));
+
+            } while (isOne(divisor));
+
+            if (OrdinalArithmeticHelper.compareValues(divisor, n) == 0) {
+
+                return null;
+            }
+        }
+
+        return divisor;
+    }
+
+    /**
+     * Returns the next value of the sequence of the rho method (i.e. <code>x^2 + c mod n</code>).
+     *
+     * @param context
+     *        the modular arithmetic
+     * @param x
+     *        the residue of the current value
+     * @param c
+     *        the residue of the constant
+     *
+     * @return the residue of the next value
+     */
+    private static int[] nextValue(ModularContext context, int[] x, int[] c) {
+
+        return context.add(context.square(x), c);
+    }
+
+    /**
+     * Looks for a divisor of the specified ordinal values by Lenstra's elliptic curve method. Curves are tried
+     * with increasing smoothness bounds until a divisor is found.
+     *
+     * @param base
+     *        a number base
+     * @param n
+     *        the ordinal values of a composite integer without prime factors lesser than 1000 (i.e. not a perfect
+     *        power)
+     * @param context
+     *        the modular arithmetic for the composite integer
+     *
+     * @return the ordinal values of a divisor
+     */
+    private static int[] ellipticCurveMethod(int base, int[] n, ModularContext context) {
+
+        long curveParameter = FIRST_CURVE_PARAMETER;
+
+        for (int stage = 0; ; stage++) {
+
+            int index = java.lang.Math.min(stage, SMOOTHNESS_BOUNDS.length - 1);
+            long[] multipliers = primePowers(SMOOTHNESS_BOUNDS[index]);
+
+            for (int curve = 0; curve < CURVES_PER_BOUND[index]; curve++) {
+
+                int[] divisor = ellipticCurve(base, n, context, curveParameter, multipliers);
+                curveParameter++;
+
+                if (divisor != null) {
+
+                    return divisor;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the largest power of every prime number which doesn't exceed the specified bound.
+     *
+     * @param bound
+     *        a smoothness bound
+     *
+     * @return all prime powers
+     */
+    private static long[] primePowers(int bound) {
+
+        long[] primePowers = new long[bound];
+        int count = 0;
+
+        for (long prime = 2L; prime <= bound; prime = PrimeNumberSieve.nextPrime(prime)) {
+
+            long primePower = prime;
+            while (primePower * prime <= bound) {
+
+                primePower *= prime;
+            }
+
+            primePowers[count] = primePower;
+            count++;
+        }
+
+        return Arrays.copyOf(primePowers, count);
+    }
+
+    /**
+     * Looks for a divisor of the specified ordinal values with one elliptic curve in Montgomery form (i.e.
+     * <code>B * y^2 = x^3 + A * x^2 + x</code>). The curve and its starting point are derived from the specified
+     * parameter according to Suyama. Only the x and z coordinates of points are evaluated. The starting point is
+     * multiplied by all prime powers. A divisor is found if the order of the point modulo a prime factor consists
+     * of these prime powers.
+     *
+     * @param base
+     *        a number base
+     * @param n
+     *        the ordinal values of a composite integer
+     * @param context
+     *        the modular arithmetic for the composite integer
+     * @param curveParameter
+     *        the curve parameter (i.e. an integer greater than 5)
+     * @param multipliers
+     *        prime powers
+     *
+     * @return the ordinal values of a divisor or <code>null</code> if no divisor was found
+     */
+    private static int[] ellipticCurve(int base, int[] n, ModularContext context, long curveParameter,
+                                       long[] multipliers) {
+
+        int[] sigma = context.residue(OrdinalArithmeticHelper.toOrdinals(base, curveParameter));
+        int[] five = context.residue(OrdinalArithmeticHelper.toOrdinals(base, 5L));
+
+        // u = sigma^2 - 5, v = 4 * sigma (i.e. multiples of a residue are residues of multiples)
+        int[] sigmaSquare = context.square(sigma);
+        int[] u = context.subtract(sigmaSquare, five);
+        int[] v = OrdinalArithmeticHelper.modulo(base, OrdinalArithmeticHelper.multiply(base, sigma, 4), n);
+
+        int[] uCube = cube(context, u);
+        int[] vCube = cube(context, v);
+
+        // (A + 2) / 4 = (v - u)^3 * (3 * u + v) / (16 * u^3 * v)
+        int[] differenceCube = cube(context, context.subtract(v, u));
+        int[] tripleU = OrdinalArithmeticHelper.multiply(base, u, 3);
+        int[] sum = OrdinalArithmeticHelper.modulo(base, OrdinalArithmeticHelper.add(base, tripleU, v), n);
+        int[] numerator = context.multiply(differenceCube, sum);
+
+        int[] product = context.multiply(uCube, v);
+        int[] denominator =
+            OrdinalArithmeticHelper.modulo(base, OrdinalArithmeticHelper.multiply(base, product, 16), n);
+
+        int[][] point = new int[][] { uCube, vCube };
+        for (long multiplier : multipliers) {
+
+            point = multiplyPoint(context, point, multiplier, numerator, denominator);
+        }
+
+        int[] divisor = OrdinalArithmeticHelper.trim(OrdinalArithmeticHelper.gcd(base, point[1], n));
+
+        if (isOne(divisor) || (OrdinalArithmeticHelper.compareValues(divisor, n) == 0)) {
+
+            return null;
+        }
+
+        return divisor;
+    }
+
+    /**
+     * Multiplies the specified point with the specified multiplier (i.e. Montgomery's ladder).
+     *
+     * @param context
+     *        the modular arithmetic
+     * @param point
+     *        the x and z coordinates of a point
+     * @param multiplier
+     *        a positive multiplier
+     * @param numerator
+     *        the ordinal values of the numerator of <code>(A + 2) / 4</code>
+     * @param denominator
+     *        the ordinal values of the denominator of <code>(A + 2) / 4</code>
+     *
+     * @return the x and z coordinates of the product
+     */
+    private static int[][] multiplyPoint(ModularContext context, int[][] point, long multiplier, int[] numerator,
+                                         int[] denominator) {
+
+        // The difference of both points is always the specified point.
+        int[][] lower = point;
+        int[][] upper = doublePoint(context, point, numerator, denominator);
+
+        for (int bit = 62 - Long.numberOfLeadingZeros(multiplier); bit >= 0; bit--) {
+
+            if (((multiplier >>> bit) & 1L) == 1L) {
+
+                lower = addPoints(context, lower, upper, point);
+                upper = doublePoint(context, upper, numerator, denominator);
+
+            } else {
+
+                upper = addPoints(context, lower, upper, point);
+                lower = doublePoint(context, lower, numerator, denominator);
+            }
+        }
+
+        return lower;
+    }
+
+    /**
+     * Doubles the specified point.
+     *
+     * @param context
+     *        the modular arithmetic
+     * @param point
+     *        the x and z coordinates of a point
+     * @param numerator
+     *        the ordinal values of the numerator of <code>(A + 2) / 4</code>
+     * @param denominator
+     *        the ordinal values of the denominator of <code>(A + 2) / 4</code>
+     *
+     * @return the x and z coordinates of the doubled point
+     */
+    private static int[][] doublePoint(ModularContext context, int[][] point, int[] numerator, int[] denominator) {
+
+        int[] sum = context.add(point[0], point[1]);
+        int[] difference = context.subtract(point[0], point[1]);
+
+        int[] sumSquare = context.square(sum);
+        int[] differenceSquare = context.square(difference);
+
+        // 4 * x * z
+        int[] product = context.subtract(sumSquare, differenceSquare);
+
+        int[] scaledDifferenceSquare = context.multiply(denominator, differenceSquare);
+
+        int[] scaledProduct = context.multiply(numerator, product);
+
+        int[] x = context.multiply(scaledDifferenceSquare, sumSquare);
+        int[] z = context.multiply(product, context.add(scaledDifferenceSquare, scaledProduct));
+
+        return new int[][] { x, z };
+    }
+
+    /**
+     * Adds the specified points.
+     *
+     * @param context
+     *        the modular arithmetic
+     * @param point1
+     *        the x and z coordinates of the first point
+     * @param point2
+     *        the x and z coordinates of the second point
+     * @param difference
+     *        the x and z coordinates of the difference of both points
+     *
+     * @return the x and z coordinates of the sum
+     */
+    private static int[][] addPoints(ModularContext context, int[][] point1, int[][] point2, int[][] difference) {
+
+        int[] sum1 = context.add(point1[0], point1[1]);
+        int[] difference1 = context.subtract(point1[0], point1[1]);
+        int[] sum2 = context.add(point2[0], point2[1]);
+        int[] difference2 = context.subtract(point2[0], point2[1]);
+
+        int[] u = context.multiply(difference1, sum2);
+        int[] v = context.multiply(sum1, difference2);
+
+        int[] sum = context.add(u, v);
+        int[] differenceOfProducts = context.subtract(u, v);
+
+        int[] sumSquare = context.square(sum);
+        int[] differenceSquare = context.square(differenceOfProducts);
+
+        int[] x = context.multiply(difference[1], sumSquare);
+        int[] z = context.multiply(difference[0], differenceSquare);
+
+        return new int[][] { x, z };
+    }
+
+    /**
+     * Returns the cube of the specified residue.
+     *
+     * @param context
+     *        the modular arithmetic
+     * @param residue
+     *        a residue
+     *
+     * @return the residue of the cube
+     */
+    private static int[] cube(ModularContext context, int[] residue) {
+
+        return context.multiply(context.square(residue), residue);
+    }
+
+    /**
+     * Checks if the specified ordinal values are one.
+     *
+     * @param ordinals
+     *        ordinal values
+     *
+     * @return <code>true</code> if the ordinal values are one, else <code>false</code>
+     */
+    private static boolean isOne(int[] ordinals) {
+
+        return (OrdinalArithmeticHelper.significantLength(ordinals) == 1) && (ordinals[0] == 1);
+    }
+
+}
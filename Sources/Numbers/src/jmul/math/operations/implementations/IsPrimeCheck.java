@@ -34,14 +34,15 @@
 package jmul.math.operations.implementations;
 
 
-import jmul.math.Math;
 import jmul.math.numbers.Number;
 import jmul.math.operations.Result;
 import jmul.math.operations.UnaryOperation;
 
 
 /**
- * This function checks if a number is  a prime number or not.
+ * This function checks if a number is  a prime number or not. The number is divided by small prime numbers first.
+ * Larger numbers are tested by the Miller-Rabin test with a deterministic set of witnesses or by the Baillie-PSW
+ * test (see {@link PrimeNumberHelper}).
  *
  * @author Kristian Kutin
  */
@@ -74,35 +75,8 @@ public class IsPrimeCheck implements UnaryOperation<Number, Result<Boolean>> {
             throw new IllegalArgumentException(message);
         }
 
-        if (number.isOne()) {
-
-            return new Result<Boolean>(false);
-        }
-
-        int base = number.base();
-        Number divisor = Math.TWO.value(base);
-        int divisors = 1; // 1 is a divisor but we don't need to test it
-
-        while ((divisor.doubling()).isLesserOrEqual(number)) {
-
-            Number remainder = number.modulo(divisor);
-            if (remainder.isZero()) {
-
-                divisors++;
-
-                if (divisors > 2) { // We don't need to test all possible divisors. If there are more than 2 divisors
-                    // we stop and save computing cycles.
-
-                    break;
-                }
-            }
-
-            divisor = divisor.inc();
-        }
-
-        divisors++; // The loop doesn't test the specified number itself as divisor. There is also no need to test it.
-
-        boolean isPrime = divisors == 2;
+        int[] ordinals = OrdinalArithmeticHelper.toOrdinals(number);
+        boolean isPrime = PrimeNumberHelper.isPrime(number.base(), ordinals);
 
         return new Result<Boolean>(isPrime);
     }
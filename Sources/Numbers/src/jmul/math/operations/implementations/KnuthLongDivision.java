@@ -0,0 +1,156 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.math.operations.implementations;
+
+
+import jmul.math.numbers.Number;
+import static jmul.math.numbers.NumberHelper.createInfinity;
+import static jmul.math.numbers.NumberHelper.createNegativeInfinity;
+import static jmul.math.numbers.NumberHelper.createNumber;
+import jmul.math.numbers.exceptions.NoResultButLimitException;
+import jmul.math.numbers.exceptions.UndefinedOperationException;
+import jmul.math.operations.Result;
+import jmul.math.operations.TernaryOperation;
+import jmul.math.signs.Sign;
+import jmul.math.signs.Signs;
+
+
+/**
+ * An implementation of long division which estimates each digit of the quotient from the leading digits of the
+ * remainder and the divisor (see Knuth, The Art of Computer Programming, Vol. 2, Algorithm 4.3.1 D). Unlike
+ * {@link LongDivision} a digit of the quotient doesn't require repeated subtractions.
+ *
+ * @author Kristian Kutin
+ */
+public class KnuthLongDivision implements TernaryOperation<Number, Result<Number>> {
+
+    /**
+     * The default constructor.
+     */
+    public KnuthLongDivision() {
+
+        super();
+    }
+
+    /**
+     * Divides the specified dividend by the specified divisor.
+     *
+     * @param dividend
+     *        a number
+     * @param divisor
+     *        a number
+     * @param decimalPlaces
+     *        the number of decimal places retained after cutting the fraction part
+     *
+     * @return the quotient
+     */
+    @Override
+    public Result<Number> calculate(Number dividend, Number divisor, Number decimalPlaces) {
+
+        ParameterCheckHelper.checkParameters(dividend, divisor, decimalPlaces);
+        ParameterCheckHelper.checkPositiveInteger(decimalPlaces);
+
+        int base = dividend.base();
+        Sign sign = Signs.negate(Signs.xor(dividend.sign(), divisor.sign()));
+
+        Number absoluteDividend = dividend.absoluteValue();
+        Number absoluteDivisor = divisor.absoluteValue();
+
+
+        // Handle special cases which can be resolved without computation.
+
+        final Number ZERO = createNumber(base, Signs.POSITIVE, 0);
+
+        if (absoluteDivisor.isZero()) {
+
+            if (absoluteDividend.isInfinity()) {
+
+                Number newDividend = absoluteDividend;
+                if (Signs.isNegative(sign)) {
+
+                    newDividend = newDividend.negate();
+                }
+
+                throw new NoResultButLimitException(newDividend);
+
+            } else {
+
+                throw new UndefinedOperationException(sign.toString(), dividend, divisor);
+            }
+
+        } else if (absoluteDividend.isInfinity() && absoluteDivisor.isInfinity()) {
+
+            throw new UndefinedOperationException(sign.toString(), dividend, divisor);
+
+        } else if (absoluteDividend.isInfinity()) {
+
+            if (Signs.isNegative(sign)) {
+
+                return new Result<Number>(createNegativeInfinity(base));
+            }
+
+            return new Result<Number>(createInfinity(base));
+
+        } else if (absoluteDivisor.isInfinity() || absoluteDividend.isZero()) {
+
+            return new Result<Number>(ZERO);
+
+        } else if (absoluteDivisor.isOne()) {
+
+            Number newDividend = absoluteDividend;
+            if (Signs.isNegative(sign)) {
+
+                newDividend = newDividend.negate();
+            }
+
+            return new Result<Number>(newDividend);
+        }
+
+
+        // The quotient is calculated as integer division (dividend * base^exponent) / divisor, i.e. the fraction
+        // digits of the operands and the decimal places are turned into a shift of the dividend.
+
+        int fractionDigits = decimalPlaces.toPrimitiveInt();
+
+        int[] dividendOrdinals =
+            OrdinalArithmeticHelper.scaleDividend(absoluteDividend, absoluteDivisor, fractionDigits);
+        int[] divisorOrdinals = OrdinalArithmeticHelper.toOrdinals(absoluteDivisor);
+
+        int[] quotientOrdinals = OrdinalArithmeticHelper.divideKnuth(base, dividendOrdinals, divisorOrdinals);
+        Number quotient = OrdinalArithmeticHelper.toQuotient(base, sign, quotientOrdinals, fractionDigits);
+
+        return new Result<Number>(quotient);
+    }
+
+}
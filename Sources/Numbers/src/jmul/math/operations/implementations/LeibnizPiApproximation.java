@@ -121,7 +121,7 @@ public class LeibnizPiApproximation implements BinaryOperation<Number, Result<Nu
             ProcessingDetails.setProcessingDetails(ProcessingDetails.DEFAULT_ALGORITHM, decimalPlaces, iterations);
 
         Number term1 = MINUS_ONE.exponentiate(k);
-        Number term2 = ONE.add(TWO.multiply(k));
+        Number term2 = TWO.multiplyAdd(k, ONE);
 
         return term1.divide(processingDetails, term2);
     }
@@ -131,10 +131,15 @@ public class LongDivision implements TernaryOperation<Number, Result<Number>> {
 
         // Shift the divisor and dividend. We need integers. The ratio remains the same.
 
-        while (absoluteDividend.isFraction() || absoluteDivisor.isFraction()) {
+        if (absoluteDividend.isFraction() || absoluteDivisor.isFraction()) {
 
-            absoluteDividend = absoluteDividend.shiftRight();
-            absoluteDivisor = absoluteDivisor.shiftRight();
+            int positions =
+                java.lang.Math.max(NodesHelper.countSignificantFractionDigits(absoluteDividend),
+                                   NodesHelper.countSignificantFractionDigits(absoluteDivisor));
+            Number shifts = createNumber(base, positions);
+
+            absoluteDividend = absoluteDividend.shiftRight(shifts);
+            absoluteDivisor = absoluteDivisor.shiftRight(shifts);
         }
 
 
@@ -230,7 +235,8 @@ public class LongDivision implements TernaryOperation<Number, Result<Number>> {
 
             } else {
 
-                previousNode = remainder.centerNode();
+                // the remainder may be a shared number, thus its linked list must not be modified
+                previousNode = NodesHelper.cloneLinkedList(remainder.centerNode());
             }
         }
 
@@ -240,7 +246,9 @@ public class LongDivision implements TernaryOperation<Number, Result<Number>> {
         resultNumber = resultNumber.shiftLeft(decimalCounter);
         if (resultNumber.isFraction()) {
 
-            NodesHelper.trimRight(resultNumber.centerNode());
+            DigitNode resultCenter = NodesHelper.copyOnWrite(resultNumber.centerNode());
+            NodesHelper.trimRight(resultCenter);
+            resultNumber = createNumber(base, resultNumber.sign(), resultCenter);
 
             ProcessingDetails processingDetails = ProcessingDetails.setPrecision(decimalPlaces);
             resultNumber = resultNumber.round(processingDetails);
@@ -34,23 +34,14 @@
 package jmul.math.operations.implementations;
 
 
-import java.util.ArrayList;
-import java.util.List;
-
-import jmul.math.digits.Digit;
-import jmul.math.digits.PositionalNumeralSystems;
-import jmul.math.operations.OperationSingletons;
-import jmul.math.operations.repository.OperationIdentifiers;
 import jmul.math.numbers.Number;
 import static jmul.math.numbers.NumberHelper.createInfinity;
 import static jmul.math.numbers.NumberHelper.createNegativeInfinity;
 import static jmul.math.numbers.NumberHelper.createNumber;
 import jmul.math.numbers.exceptions.UndefinedOperationException;
 import jmul.math.numbers.nodes.DigitNode;
-import jmul.math.numbers.nodes.NodesHelper;
 import jmul.math.operations.BinaryOperation;
 import jmul.math.operations.Result;
-import jmul.math.operations.ResultWithCarry;
 import jmul.math.signs.Sign;
 import jmul.math.signs.Signs;
 
@@ -115,133 +106,18 @@ public class LongMultiplication implements BinaryOperation<Number, Result<Number
         // Determine the sign of the result.
         Sign newSign = Signs.negate(Signs.xor(operand1.sign(), operand2.sign()));
 
+        // Multiply the ordinal values of all digits and place the decimal separator (i.e. the product has as
+        // many fraction digits as both operands together).
+        int[] ordinals1 = OrdinalArithmeticHelper.toOrdinals(operand1);
+        int[] ordinals2 = OrdinalArithmeticHelper.toOrdinals(operand2);
+        int[] productOrdinals = OrdinalArithmeticHelper.multiply(base, ordinals1, ordinals2);
 
-        final Number ZERO = createNumber(base, Signs.NEGATIVE, 0);
-
-        Number shifts1 = ZERO;
-        Number shifts2 = ZERO;
-
-        DigitNode rightEndNode1 = operand1.centerNode();
-        DigitNode rightEndNode2 = operand2.centerNode();
-
-        BinaryOperation<Digit, ResultWithCarry<Digit>> multiplyDigitsFunction =
-            (BinaryOperation<Digit, ResultWithCarry<Digit>>) OperationSingletons.getFunction(OperationIdentifiers.MULTIPLY_DIGITS_FUNCTION);
-        BinaryOperation<Digit, ResultWithCarry<Digit>> addDigitsFunction =
-            (BinaryOperation<Digit, ResultWithCarry<Digit>>) OperationSingletons.getFunction(OperationIdentifiers.ADD_DIGITS_FUNCTION);
-
-        while (true) {
-
-            if (rightEndNode1.rightNode() == null) {
-
-                break;
-            }
-
-            rightEndNode1 = rightEndNode1.rightNode();
-            shifts1 = shifts1.inc();
-        }
-
-        while (true) {
-
-            if (rightEndNode2.rightNode() == null) {
-
-                break;
-            }
-
-            rightEndNode2 = rightEndNode2.rightNode();
-            shifts2 = shifts2.inc();
-        }
-
-
-        DigitNode currentNode1 = rightEndNode1;
-        DigitNode currentNode2 = rightEndNode2;
-
-        List<Number> rowResults = new ArrayList<>();
-        final Digit ZERO_DIGIT = PositionalNumeralSystems.ordinalToDigit(base, 0);
-        Number totalShifts = ZERO;
-
-        while (currentNode2 != null) {
-
-            Digit currentDigit2 = currentNode2.digit();
-
-            DigitNode tempNode = null;
-            Number shiftCounter = totalShifts;
-            while (!shiftCounter.isZero()) {
-
-                DigitNode newNode = NodesHelper.createNode(ZERO_DIGIT);
-                NodesHelper.linkNodes(newNode, tempNode);
-                tempNode = newNode;
-
-                shiftCounter = shiftCounter.dec();
-            }
-
-            Digit previousCarry = ZERO_DIGIT;
-            while (currentNode1 != null) {
-
-                Digit currentDigit1 = currentNode1.digit();
-
-                ResultWithCarry<Digit> result = multiplyDigitsFunction.calculate(currentDigit1, currentDigit2);
-                Digit product = result.result();
-                Digit carry = result.carry();
-
-                ResultWithCarry<Digit> result2 = addDigitsFunction.calculate(product, previousCarry);
-                Digit sum = result2.result();
-                Digit carry2 = result2.carry();
-
-                ResultWithCarry<Digit> result3 = addDigitsFunction.calculate(carry, carry2);
-                Digit totalCarry = result3.result();
-                Digit carry3 = result3.carry();
-
-                if (!carry3.isZero()) {
-
-                    throw new IllegalArgumentException("Something went wrong. No carry expected!");
-                }
-
-                DigitNode newNode = NodesHelper.createNode(sum);
-                NodesHelper.linkNodes(newNode, tempNode);
-                tempNode = newNode;
-
-                previousCarry = totalCarry;
-
-                currentNode1 = currentNode1.leftNode();
-            }
-
-            if (!previousCarry.isZero()) {
-
-                DigitNode newNode = NodesHelper.createNode(previousCarry);
-                NodesHelper.linkNodes(newNode, tempNode);
-                tempNode = newNode;
-            }
-
-            tempNode = NodesHelper.moveRight(tempNode);
-
-            Number tempNumber = createNumber(base, Signs.POSITIVE, tempNode);
-            rowResults.add(tempNumber);
-
-            currentNode1 = rightEndNode1;
-            currentNode2 = currentNode2.leftNode();
-            totalShifts = totalShifts.inc();
-        }
-
-
-        Number sum = ZERO;
-        for (Number row : rowResults) {
-
-            sum = sum.add(row);
-        }
-
-
-        sum = sum.shiftLeft(shifts1);
-        sum = sum.shiftLeft(shifts2);
-
-
-        if (Signs.isNegative(newSign)) {
-
-            sum = sum.negate();
-        }
+        int fractionDigits = operand1.fractionDigits() + operand2.fractionDigits();
+        DigitNode productCenterNode = OrdinalArithmeticHelper.toLinkedList(base, productOrdinals, fractionDigits);
 
-        NodesHelper.trimRight(sum.centerNode());
+        Number product = createNumber(base, newSign, productCenterNode);
 
-        return new Result<Number>(sum);
+        return new Result<Number>(product);
     }
 
 }
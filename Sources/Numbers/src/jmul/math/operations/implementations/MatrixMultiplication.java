@@ -8,10 +8,9 @@ import jmul.math.indices.IndexSingletons;
 import jmul.math.matrices.Matrix;
 import jmul.math.matrices.MatrixImpl;
 import jmul.math.numbers.Number;
-import static jmul.math.numbers.NumberHelper.createNumber;
+import jmul.math.numbers.NumberAccumulator;
 import jmul.math.operations.BinaryOperation;
 import jmul.math.operations.Result;
-import jmul.math.signs.Signs;
 
 
 /**
@@ -87,9 +86,8 @@ public class MatrixMultiplication implements BinaryOperation<Matrix, Result<Matr
 
         int base = matrix1.base();
         Number firstIndex = IndexSingletons.firstIndex(base);
-        final Number ZERO = createNumber(base, Signs.POSITIVE, 0);
 
-        Number sum = ZERO;
+        NumberAccumulator sum = new NumberAccumulator(base);
 
         for (Number commonIndex = firstIndex; commonIndex.isLesserOrEqual(matrix1.columns());
              commonIndex = IndexSingletons.nextIndex(commonIndex)) {
@@ -97,10 +95,10 @@ public class MatrixMultiplication implements BinaryOperation<Matrix, Result<Matr
             Number number1 = matrix1.component(commonIndex, row);
             Number number2 = matrix2.component(column, commonIndex);
 
-            sum = sum.add(number1.multiply(number2));
+            sum.multiplyAddInPlace(number1, number2);
         }
 
-        return sum;
+        return sum.toNumber();
     }
 
 }
@@ -0,0 +1,754 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+
+package jmul.math.operations.implementations;
+
+
+import java.util.Arrays;
+
+import jmul.math.numbers.Number;
+import jmul.math.numbers.exceptions.UndefinedOperationException;
+import jmul.math.operations.ResultWithRemainder;
+import jmul.math.signs.Signs;
+
+
+/**
+ * A context for modular arithmetic with a fixed modulus. All constants which depend on the modulus are computed
+ * once when the context is created and are reused by every operation. The residues are kept in a packed number
+ * base (i.e. the largest power of the number base which does not exceed 2^15), thus every intermediate result
+ * has at most twice as many digits as the modulus.<br>
+ * <br>
+ * If the modulus and the number base are coprime the residues are multiplied by Montgomery multiplication (see
+ * <a href="https://en.wikipedia.org/wiki/Montgomery_modular_multiplication">Montgomery modular
+ * multiplication</a>), i.e. the residues are kept in Montgomery form and no division is required. Otherwise the
+ * products are reduced by Barrett reduction (see
+ * <a href="https://en.wikipedia.org/wiki/Barrett_reduction">Barrett reduction</a>).<br>
+ * <br>
+ * <i>Note:<br>
+ * A context is immutable and can be shared between threads.</i>
+ *
+ * @author Kristian Kutin
+ */
+public final class ModularContext {
+
+    /**
+     * Exponents with more binary digits than this limit are processed in windows of several binary digits.
+     */
+    private static final int WINDOW_THRESHOLD;
+
+    /**
+     * The number of binary digits per window.
+     */
+    private static final int WINDOW_SIZE;
+
+    /**
+     * The number base of the numbers.
+     */
+    private final int base;
+
+    /**
+     * The number of digits which are packed into one digit of the packed number base.
+     */
+    private final int digitsPerGroup;
+
+    /**
+     * The packed number base.
+     */
+    private final int packedBase;
+
+    /**
+     * The ordinal values of the modulus in the packed number base.
+     */
+    private final int[] modulus;
+
+    /**
+     * The number of digits of the modulus (i.e. the number of digits of every residue).
+     */
+    private final int length;
+
+    /**
+     * A flag indicating that the residues are multiplied by Montgomery multiplication.
+     */
+    private final boolean montgomery;
+
+    /**
+     * The negative inverse of the least significant digit of the modulus modulo the packed number base (i.e.
+     * Montgomery multiplication).
+     */
+    private final int negativeInverse;
+
+    /**
+     * The residue of R^2 with R = packedBase^length (i.e. Montgomery multiplication).
+     */
+    private final int[] rSquare;
+
+    /**
+     * The quotient packedBase^(2 * length) / modulus (i.e. Barrett reduction).
+     */
+    private final int[] mu;
+
+    /**
+     * The residue of one.
+     */
+    private final int[] one;
+
+    /*
+     * The static initializer.
+     */
+    static {
+
+        WINDOW_THRESHOLD = 32;
+        WINDOW_SIZE = 4;
+    }
+
+    /**
+     * Creates a new context according to the specified modulus.
+     *
+     * @param modulus
+     *        a positive integer
+     */
+    public ModularContext(Number modulus) {
+
+        this(checkModulus(modulus).base(), OrdinalArithmeticHelper.toOrdinals(modulus));
+    }
+
+    /**
+     * Creates a new context according to the specified parameters.
+     *
+     * @param base
+     *        a number base (i.e. the number base may already be a packed number base)
+     * @param modulus
+     *        the ordinal values of a positive integer
+     */
+    ModularContext(int base, int[] modulus) {
+
+        super();
+
+        int[] n = OrdinalArithmeticHelper.trim(modulus);
+
+        if (n.length == 0) {
+
+            throw new IllegalArgumentException("The modulus must not be zero!");
+        }
+
+        int groups = OrdinalArithmeticHelper.packedDigits(base);
+        int packed = OrdinalArithmeticHelper.packedBase(base);
+
+        this.base = base;
+        this.digitsPerGroup = groups;
+        this.packedBase = packed;
+        this.modulus = OrdinalArithmeticHelper.trim(OrdinalArithmeticHelper.regroup(base, n, groups));
+        this.length = this.modulus.length;
+        this.montgomery = OrdinalArithmeticHelper.binaryGcd(this.modulus[0], packed) == 1L;
+
+        int[] basePower = new int[2 * length + 1];
+        basePower[2 * length] = 1;
+
+        if (montgomery) {
+
+            this.negativeInverse = negativeInverse(this.modulus[0], packed);
+            this.rSquare = fit(OrdinalArithmeticHelper.modulo(packed, basePower, this.modulus));
+            this.mu = null;
+
+        } else {
+
+            this.negativeInverse = 0;
+            this.rSquare = null;
+            this.mu = OrdinalArithmeticHelper.trim(OrdinalArithmeticHelper.quotientAndRemainder(packed, basePower,
+                                                                                              this.modulus).result());
+        }
+
+        this.one = toResidue(fit(OrdinalArithmeticHelper.modulo(packed, new int[] { 1 }, this.modulus)));
+    }
+
+    /**
+     * Checks the specified modulus.
+     *
+     * @param modulus
+     *        a positive integer
+     *
+     * @return the specified modulus
+     */
+    private static Number checkModulus(Number modulus) {
+
+        ParameterCheckHelper.checkPositiveIntegerGreaterZero(modulus);
+
+        return modulus;
+    }
+
+    /**
+     * Determines the negative inverse of the specified digit modulo the specified packed number base.
+     *
+     * @param digit
+     *        a digit which is coprime to the packed number base
+     * @param packedBase
+     *        a packed number base
+     *
+     * @return the negative inverse
+     */
+    private static int negativeInverse(int digit, int packedBase) {
+
+        // extended Euclidean algorithm
+        int r0 = packedBase;
+        int r1 = digit;
+        int t0 = 0;
+        int t1 = 1;
+
+        while (r1 != 0) {
+
+            int quotient = r0 / r1;
+
+            int r2 = r0 - quotient * r1;
+            r0 = r1;
+            r1 = r2;
+
+            int t2 = t0 - quotient * t1;
+            t0 = t1;
+            t1 = t2;
+        }
+
+        int inverse = ((t0 % packedBase) + packedBase) % packedBase;
+
+        return (packedBase - inverse) % packedBase;
+    }
+
+    /**
+     * Returns the modulus.
+     *
+     * @return the modulus
+     */
+    public Number modulus() {
+
+        return toNumber(modulus, false);
+    }
+
+    /**
+     * Multiplies the specified numbers modulo the modulus.
+     *
+     * @param number1
+     *        an integer
+     * @param number2
+     *        an integer
+     *
+     * @return the remainder of the product (i.e. an integer greater than or equal to zero and lesser than the
+     *         modulus)
+     */
+    public Number modMultiply(Number number1, Number number2) {
+
+        return toNumber(multiply(residue(number1), residue(number2)), true);
+    }
+
+    /**
+     * Squares the specified number modulo the modulus.
+     *
+     * @param number
+     *        an integer
+     *
+     * @return the remainder of the square (i.e. an integer greater than or equal to zero and lesser than the
+     *         modulus)
+     */
+    public Number modSquare(Number number) {
+
+        return toNumber(square(residue(number)), true);
+    }
+
+    /**
+     * Exponentiates the specified number modulo the modulus. A negative exponent requires the number to be
+     * invertible modulo the modulus.
+     *
+     * @param number
+     *        an integer
+     * @param exponent
+     *        an integer
+     *
+     * @return the remainder of the power (i.e. an integer greater than or equal to zero and lesser than the modulus)
+     */
+    public Number modPow(Number number, Number exponent) {
+
+        ParameterCheckHelper.checkInteger(exponent);
+        ParameterCheckHelper.checkNumberBase(base, exponent);
+
+        int[] residue = residue(number);
+
+        if (exponent.isNegative()) {
+
+            residue = checkedInverse(residue, number);
+        }
+
+        int[] ordinals = OrdinalArithmeticHelper.toOrdinals(exponent.absoluteValue());
+        int[] bits = OrdinalArithmeticHelper.toBinary(base, ordinals);
+
+        return toNumber(pow(residue, bits), true);
+    }
+
+    /**
+     * Determines the inverse of the specified number modulo the modulus.
+     *
+     * @param number
+     *        an integer which is coprime to the modulus
+     *
+     * @return the inverse (i.e. an integer greater than or equal to zero and lesser than the modulus)
+     */
+    public Number modInverse(Number number) {
+
+        return toNumber(checkedInverse(residue(number), number), true);
+    }
+
+    /**
+     * Determines the inverse of the specified residue or throws an exception if there is no inverse.
+     *
+     * @param residue
+     *        a residue
+     * @param number
+     *        the number which corresponds to the residue
+     *
+     * @return the residue of the inverse
+     */
+    private int[] checkedInverse(int[] residue, Number number) {
+
+        int[] inverse = inverse(residue);
+
+        if (inverse == null) {
+
+            String message = String.format("%s has no inverse modulo %s!", number, modulus());
+            throw new UndefinedOperationException(message);
+        }
+
+        return inverse;
+    }
+
+    /**
+     * Returns the residue of the specified number.
+     *
+     * @param number
+     *        an integer
+     *
+     * @return a residue
+     */
+    private int[] residue(Number number) {
+
+        ParameterCheckHelper.checkInteger(number);
+        ParameterCheckHelper.checkNumberBase(base, number);
+
+        int[] residue = residue(OrdinalArithmeticHelper.toOrdinals(number.absoluteValue()));
+
+        if (number.isNegative()) {
+
+            residue = subtract(new int[length], residue);
+        }
+
+        return residue;
+    }
+
+    /**
+     * Creates a number from the specified ordinal values.
+     *
+     * @param ordinals
+     *        a residue or the ordinal values of a non-negative integer in the packed number base
+     * @param isResidue
+     *        <code>true</code> if the ordinal values are a residue, else <code>false</code>
+     *
+     * @return a number
+     */
+    private Number toNumber(int[] ordinals, boolean isResidue) {
+
+        int[] value = isResidue ? value(ordinals) :
+                      OrdinalArithmeticHelper.trim(OrdinalArithmeticHelper.ungroup(base, ordinals, digitsPerGroup));
+
+        return OrdinalArithmeticHelper.toQuotient(base, Signs.POSITIVE, value, 0);
+    }
+
+    /**
+     * Returns the residue of the specified ordinal values.
+     *
+     * @param ordinals
+     *        the ordinal values of a non-negative integer in the number base of this context
+     *
+     * @return a residue
+     */
+    int[] residue(int[] ordinals) {
+
+        int[] n = OrdinalArithmeticHelper.trim(ordinals);
+
+        if (n.length == 0) {
+
+            return new int[length];
+        }
+
+        int[] packed = OrdinalArithmeticHelper.trim(OrdinalArithmeticHelper.regroup(base, n, digitsPerGroup));
+
+        if (OrdinalArithmeticHelper.compareValues(packed, modulus) >= 0) {
+
+            packed = OrdinalArithmeticHelper.modulo(packedBase, packed, modulus);
+        }
+
+        return toResidue(fit(packed));
+    }
+
+    /**
+     * Returns the value of the specified residue.
+     *
+     * @param residue
+     *        a residue
+     *
+     * @return the ordinal values of a non-negative integer lesser than the modulus in the number base of this
+     *         context
+     */
+    int[] value(int[] residue) {
+
+        int[] value = fromResidue(fit(residue));
+
+        return OrdinalArithmeticHelper.trim(OrdinalArithmeticHelper.ungroup(base, value, digitsPerGroup));
+    }
+
+    /**
+     * Returns the residue of one.
+     *
+     * @return a residue
+     */
+    int[] one() {
+
+        return one;
+    }
+
+    /**
+     * Multiplies the specified residues.
+     *
+     * @param residue1
+     *        a residue
+     * @param residue2
+     *        a residue
+     *
+     * @return the residue of the product
+     */
+    int[] multiply(int[] residue1, int[] residue2) {
+
+        int[] factor1 = fit(residue1);
+        int[] factor2 = fit(residue2);
+
+        if (montgomery) {
+
+            return montgomeryProduct(factor1, factor2);
+        }
+
+        return barrettReduction(OrdinalArithmeticHelper.product(packedBase, factor1, factor2));
+    }
+
+    /**
+     * Squares the specified residue.
+     *
+     * @param residue
+     *        a residue
+     *
+     * @return the residue of the square
+     */
+    int[] square(int[] residue) {
+
+        return multiply(residue, residue);
+    }
+
+    /**
+     * Adds the specified residues.
+     *
+     * @param residue1
+     *        a residue
+     * @param residue2
+     *        a residue
+     *
+     * @return the residue of the sum
+     */
+    int[] add(int[] residue1, int[] residue2) {
+
+        return fit(OrdinalArithmeticHelper.addModulo(packedBase, residue1, residue2, modulus));
+    }
+
+    /**
+     * Subtracts the specified residues.
+     *
+     * @param minuend
+     *        a residue
+     * @param subtrahend
+     *        a residue
+     *
+     * @return the residue of the difference
+     */
+    int[] subtract(int[] minuend, int[] subtrahend) {
+
+        return fit(OrdinalArithmeticHelper.subtractModulo(packedBase, minuend, subtrahend, modulus));
+    }
+
+    /**
+     * Exponentiates the specified residue. Large exponents are processed in windows of several binary digits,
+     * i.e. the powers for all windows are computed in advance.
+     *
+     * @param residue
+     *        a residue
+     * @param exponentBits
+     *        the binary digits of a non-negative exponent (see {@link OrdinalArithmeticHelper#toBinary})
+     *
+     * @return the residue of the power
+     */
+    int[] pow(int[] residue, int[] exponentBits) {
+
+        int bitCount = OrdinalArithmeticHelper.significantLength(exponentBits);
+        int windowSize = (bitCount > WINDOW_THRESHOLD) ? WINDOW_SIZE : 1;
+
+        int[][] powers = new int[1 << windowSize][];
+        powers[0] = one;
+        powers[1] = fit(residue);
+        for (int index = 2; index < powers.length; index++) {
+
+            powers[index] = multiply(powers[index - 1], powers[1]);
+        }
+
+        int[] result = one;
+        for (int window = (bitCount + windowSize - 1) / windowSize - 1; window >= 0; window--) {
+
+            for (int square = 0; square < windowSize; square++) {
+
+                result = square(result);
+            }
+
+            int digit = 0;
+            for (int bit = windowSize - 1; bit >= 0; bit--) {
+
+                int index = window * windowSize + bit;
+                digit = (digit << 1) | ((index < bitCount) ? exponentBits[index] : 0);
+            }
+
+            if (digit != 0) {
+
+                result = multiply(result, powers[digit]);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Determines the inverse of the specified residue (i.e. extended Euclidean algorithm).
+     *
+     * @param residue
+     *        a residue
+     *
+     * @return the residue of the inverse or <code>null</code> if the residue has no inverse
+     */
+    int[] inverse(int[] residue) {
+
+        int[] r0 = modulus;
+        int[] r1 = OrdinalArithmeticHelper.trim(fromResidue(fit(residue)));
+        int[] t0 = new int[1];
+        int[] t1 = OrdinalArithmeticHelper.modulo(packedBase, new int[] { 1 }, modulus);
+
+        while (OrdinalArithmeticHelper.significantLength(r1) > 0) {
+
+            ResultWithRemainder<int[]> division = OrdinalArithmeticHelper.quotientAndRemainder(packedBase, r0, r1);
+            int[] quotient = OrdinalArithmeticHelper.modulo(packedBase, division.result(), modulus);
+            int[] product = OrdinalArithmeticHelper.multiplyModulo(packedBase, quotient, t1, modulus);
+            int[] t2 = OrdinalArithmeticHelper.subtractModulo(packedBase, t0, product, modulus);
+
+            r0 = r1;
+            r1 = OrdinalArithmeticHelper.trim(division.remainder());
+            t0 = t1;
+            t1 = t2;
+        }
+
+        if (OrdinalArithmeticHelper.compareValues(r0, new int[] { 1 }) != 0) {
+
+            return null;
+        }
+
+        return toResidue(fit(t0));
+    }
+
+    /**
+     * Converts the specified ordinal values of a non-negative integer lesser than the modulus into a residue.
+     *
+     * @param ordinals
+     *        the ordinal values of a non-negative integer lesser than the modulus in the packed number base
+     *
+     * @return a residue
+     */
+    private int[] toResidue(int[] ordinals) {
+
+        return montgomery ? montgomeryProduct(ordinals, rSquare) : ordinals;
+    }
+
+    /**
+     * Converts the specified residue into the ordinal values of a non-negative integer lesser than the modulus.
+     *
+     * @param residue
+     *        a residue
+     *
+     * @return the ordinal values of a non-negative integer in the packed number base
+     */
+    private int[] fromResidue(int[] residue) {
+
+        if (montgomery) {
+
+            int[] unit = new int[length];
+            unit[0] = 1;
+
+            return montgomeryProduct(residue, unit);
+        }
+
+        return residue;
+    }
+
+    /**
+     * Adjusts the number of digits of the specified ordinal values to the number of digits of the modulus.
+     *
+     * @param ordinals
+     *        the ordinal values of a non-negative integer lesser than the modulus
+     *
+     * @return ordinal values with as many digits as the modulus
+     */
+    private int[] fit(int[] ordinals) {
+
+        if (ordinals.length == length) {
+
+            return ordinals;
+        }
+
+        return Arrays.copyOf(ordinals, length);
+    }
+
+    /**
+     * Multiplies the specified ordinal values and divides the product by R = packedBase^length modulo the modulus
+     * (i.e. Montgomery multiplication with interleaved reduction).
+     *
+     * @param ordinals1
+     *        the ordinal values of a non-negative integer lesser than the modulus
+     * @param ordinals2
+     *        the ordinal values of a non-negative integer lesser than the modulus
+     *
+     * @return the ordinal values of the result
+     */
+    private int[] montgomeryProduct(int[] ordinals1, int[] ordinals2) {
+
+        // Every intermediate sum is lesser than packedBase^2 + packedBase, i.e. fits into an int.
+        int[] t = new int[length + 2];
+
+        for (int i = 0; i < length; i++) {
+
+            int factor = ordinals2[i];
+            int carry = 0;
+            for (int j = 0; j < length; j++) {
+
+                int sum = t[j] + ordinals1[j] * factor + carry;
+                t[j] = sum % packedBase;
+                carry = sum / packedBase;
+            }
+
+            int sum = t[length] + carry;
+            t[length] = sum % packedBase;
+            t[length + 1] = sum / packedBase;
+
+            // Adding a multiple of the modulus makes the least significant digit zero, i.e. shift by one digit.
+            int m = (int) ((long) t[0] * negativeInverse % packedBase);
+
+            sum = t[0] + m * modulus[0];
+            carry = sum / packedBase;
+            for (int j = 1; j < length; j++) {
+
+                sum = t[j] + m * modulus[j] + carry;
+                t[j - 1] = sum % packedBase;
+                carry = sum / packedBase;
+            }
+
+            sum = t[length] + carry;
+            t[length - 1] = sum % packedBase;
+            t[length] = t[length + 1] + sum / packedBase;
+            t[length + 1] = 0;
+        }
+
+        if (OrdinalArithmeticHelper.compareValues(t, modulus) >= 0) {
+
+            OrdinalArithmeticHelper.subtractInPlace(packedBase, t, modulus);
+        }
+
+        return Arrays.copyOf(t, length);
+    }
+
+    /**
+     * Reduces the specified ordinal values modulo the modulus (i.e. Barrett reduction with the precomputed
+     * quotient).
+     *
+     * @param ordinals
+     *        the ordinal values of a non-negative integer lesser than the square of the modulus
+     *
+     * @return the ordinal values of the remainder
+     */
+    private int[] barrettReduction(int[] ordinals) {
+
+        int[] q1 = shiftRight(ordinals, length - 1);
+        int[] q3 = shiftRight(OrdinalArithmeticHelper.product(packedBase, q1, mu), length + 1);
+
+        // r = (x mod b^(k + 1)) - (q3 * n mod b^(k + 1)), the borrow is taken from b^(k + 1)
+        int[] r = Arrays.copyOf(Arrays.copyOf(ordinals, length + 1), length + 2);
+        r[length + 1] = 1;
+        int[] product = Arrays.copyOf(OrdinalArithmeticHelper.product(packedBase, q3, modulus), length + 1);
+        OrdinalArithmeticHelper.subtractInPlace(packedBase, r, product);
+        r[length + 1] = 0;
+
+        while (OrdinalArithmeticHelper.compareValues(r, modulus) >= 0) {
+
+            OrdinalArithmeticHelper.subtractInPlace(packedBase, r, modulus);
+        }
+
+        return Arrays.copyOf(r, length);
+    }
+
+    /**
+     * Shifts the specified ordinal values to the right (i.e. the value is divided by base^positions).
+     *
+     * @param ordinals
+     *        ordinal values
+     * @param positions
+     *        a non-negative number of positions
+     *
+     * @return the ordinal values of the shifted number
+     */
+    private static int[] shiftRight(int[] ordinals, int positions) {
+
+        if (ordinals.length <= positions) {
+
+            return new int[1];
+        }
+
+        return Arrays.copyOfRange(ordinals, positions, ordinals.length);
+    }
+
+}
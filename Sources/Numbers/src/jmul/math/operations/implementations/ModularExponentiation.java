@@ -0,0 +1,84 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+
+package jmul.math.operations.implementations;
+
+
+import jmul.math.numbers.Number;
+import jmul.math.operations.Result;
+import jmul.math.operations.TernaryOperation;
+
+
+/**
+ * This function implementation exponentiates an integer modulo a modulus (i.e.
+ * <code>number^exponent mod modulus</code>). Every intermediate result is reduced (see {@link ModularContext}),
+ * thus the power is never created as a number of its own.
+ *
+ * @author Kristian Kutin
+ */
+public class ModularExponentiation implements TernaryOperation<Number, Result<Number>> {
+
+    /**
+     * The default constructor.
+     */
+    public ModularExponentiation() {
+
+        super();
+    }
+
+    /**
+     * Exponentiates the specified number modulo the specified modulus.
+     *
+     * @param number
+     *        an integer
+     * @param exponent
+     *        an integer (i.e. a negative exponent requires the number to be invertible modulo the modulus)
+     * @param modulus
+     *        a positive integer
+     *
+     * @return the remainder of the power (i.e. an integer greater than or equal to zero and lesser than the modulus)
+     */
+    @Override
+    public Result<Number> calculate(Number number, Number exponent, Number modulus) {
+
+        ParameterCheckHelper.checkParameters(number, exponent, modulus);
+
+        ModularContext context = new ModularContext(modulus);
+        Number result = context.modPow(number, exponent);
+
+        return new Result<Number>(result);
+    }
+
+}
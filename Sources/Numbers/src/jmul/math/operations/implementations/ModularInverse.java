@@ -0,0 +1,82 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+
+package jmul.math.operations.implementations;
+
+
+import jmul.math.numbers.Number;
+import jmul.math.operations.BinaryOperation;
+import jmul.math.operations.Result;
+
+
+/**
+ * This function implementation determines the inverse of an integer modulo a modulus (i.e. the integer
+ * <code>x</code> with <code>number * x mod modulus = 1</code>). The inverse is determined by the extended
+ * Euclidean algorithm.
+ *
+ * @author Kristian Kutin
+ */
+public class ModularInverse implements BinaryOperation<Number, Result<Number>> {
+
+    /**
+     * The default constructor.
+     */
+    public ModularInverse() {
+
+        super();
+    }
+
+    /**
+     * Determines the inverse of the specified number modulo the specified modulus.
+     *
+     * @param number
+     *        an integer which is coprime to the modulus
+     * @param modulus
+     *        a positive integer
+     *
+     * @return the inverse (i.e. an integer greater than or equal to zero and lesser than the modulus)
+     */
+    @Override
+    public Result<Number> calculate(Number number, Number modulus) {
+
+        ParameterCheckHelper.checkParameters(number, modulus);
+
+        ModularContext context = new ModularContext(modulus);
+        Number result = context.modInverse(number);
+
+        return new Result<Number>(result);
+    }
+
+}
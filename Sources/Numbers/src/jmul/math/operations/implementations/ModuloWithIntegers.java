@@ -80,7 +80,7 @@ public class ModuloWithIntegers implements BinaryOperation<Number, Result<Number
     public Result<Number> calculate(Number operand1, Number operand2) {
 
         BinaryOperation<Number, ResultWithRemainder<Number>> function =
-            (BinaryOperation<Number, ResultWithRemainder<Number>>) OperationSingletons.getFunction(OperationIdentifiers.DIVIDE_NUMBERS_RETURN_RESULT_AND_REMAINDER_FUNCTION);
+            (BinaryOperation<Number, ResultWithRemainder<Number>>) OperationSingletons.getFunction(OperationIdentifiers.BURNIKEL_ZIEGLER_DIVISION_FUNCTION);
         ResultWithRemainder<Number> result = function.calculate(operand1, operand2);
 
         return new Result<Number>(result.remainder());
@@ -39,6 +39,7 @@ import static jmul.math.numbers.NumberHelper.createInfinity;
 import static jmul.math.numbers.NumberHelper.createNegativeInfinity;
 import static jmul.math.numbers.NumberHelper.createNumber;
 import jmul.math.numbers.exceptions.UndefinedOperationException;
+import jmul.math.numbers.nodes.DigitNode;
 import jmul.math.numbers.nodes.NodesHelper;
 import jmul.math.operations.BinaryOperation;
 import jmul.math.operations.Result;
@@ -149,7 +150,9 @@ public class MultiplicationByAddition implements BinaryOperation<Number, Result<
             sum = sum.negate();
         }
 
-        NodesHelper.trimRight(sum.centerNode());
+        DigitNode sumCenter = NodesHelper.copyOnWrite(sum.centerNode());
+        NodesHelper.trimRight(sumCenter);
+        sum = createNumber(base, sum.sign(), sumCenter);
 
         return new Result<Number>(sum);
     }
@@ -0,0 +1,156 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+
+package jmul.math.operations.implementations;
+
+
+import jmul.math.Math;
+import jmul.math.numbers.Number;
+import static jmul.math.numbers.NumberHelper.createInfinity;
+import static jmul.math.numbers.NumberHelper.createNumber;
+import static jmul.math.numbers.creation.CreationParameters.CLONE;
+import jmul.math.numbers.exceptions.UndefinedOperationException;
+import jmul.math.numbers.nodes.DigitNode;
+import jmul.math.operations.Result;
+import jmul.math.operations.TernaryOperation;
+import jmul.math.signs.Sign;
+import jmul.math.signs.Signs;
+
+
+/**
+ * This function implementation multiplies two numbers and adds a third number to the product (i.e.
+ * <code>factor1 * factor2 + addend</code>). The partial products are accumulated in the digits of the addend
+ * directly, thus the product is never created as a number of its own.
+ *
+ * @author Kristian Kutin
+ */
+public class MultiplyAdd implements TernaryOperation<Number, Result<Number>> {
+
+    /**
+     * The default constructor.
+     */
+    public MultiplyAdd() {
+
+        super();
+    }
+
+    /**
+     * Multiplies the first two specified numbers and adds the third specified number to the product.
+     *
+     * @param factor1
+     *        a number
+     * @param factor2
+     *        a number
+     * @param addend
+     *        a number
+     *
+     * @return the result (i.e. <code>factor1 * factor2 + addend</code>)
+     */
+    @Override
+    public Result<Number> calculate(Number factor1, Number factor2, Number addend) {
+
+        ParameterCheckHelper.checkParameters(factor1, factor2, addend);
+
+        int base = factor1.base();
+
+        // Handle special cases which can be resolved without computation.
+        if ((factor1.isInfinity() && factor2.isZero()) || (factor1.isZero() && factor2.isInfinity())) {
+
+            String operation = String.format("%s * %s", factor1, factor2);
+            throw new UndefinedOperationException(operation, factor1, factor2);
+        }
+
+        Sign productSign = Signs.negate(Signs.xor(factor1.sign(), factor2.sign()));
+
+        if (factor1.isInfinity() || factor2.isInfinity()) {
+
+            if (addend.isInfinity() && (addend.sign() != productSign)) {
+
+                Number product = createInfinity(base, productSign);
+                throw new UndefinedOperationException("+", product, addend);
+            }
+
+            Number result = createInfinity(base, productSign);
+            return new Result<Number>(result);
+
+        } else if (addend.isInfinity() || factor1.isZero() || factor2.isZero()) {
+
+            Number result = createNumber(CLONE, addend);
+            return new Result<Number>(result);
+        }
+
+        // Align the addend with the product (i.e. the product has as many fraction digits as both factors
+        // together) and accumulate the product in the digits of the addend. If the signs differ, then the
+        // product is subtracted from the absolute value of the addend.
+        int[] ordinals1 = OrdinalArithmeticHelper.toOrdinals(factor1);
+        int[] ordinals2 = OrdinalArithmeticHelper.toOrdinals(factor2);
+
+        int productFractionDigits = factor1.fractionDigits() + factor2.fractionDigits();
+        int fractionDigits = java.lang.Math.max(productFractionDigits, addend.fractionDigits());
+        int offset = fractionDigits - productFractionDigits;
+
+        int productLength = offset + ordinals1.length + ordinals2.length;
+        int addendLength = fractionDigits + addend.integerDigits();
+        int length = java.lang.Math.max(productLength, addendLength) + 1;
+
+        int[] sum = OrdinalArithmeticHelper.toOrdinals(addend, fractionDigits, length);
+
+        boolean subtract = !addend.isZero() && (addend.sign() != productSign);
+        boolean negative =
+            OrdinalArithmeticHelper.multiplyAddInPlace(base, sum, ordinals1, ordinals2, offset, subtract);
+
+        if (OrdinalArithmeticHelper.significantLength(sum) == 0) {
+
+            Number result = Math.ZERO.value(base);
+            return new Result<Number>(result);
+        }
+
+        Sign newSign;
+        if (subtract && !negative) {
+
+            newSign = addend.sign();
+
+        } else {
+
+            newSign = productSign;
+        }
+
+        DigitNode centerNode = OrdinalArithmeticHelper.toLinkedList(base, sum, fractionDigits);
+        Number result = createNumber(base, newSign, centerNode);
+
+        return new Result<Number>(result);
+    }
+
+}
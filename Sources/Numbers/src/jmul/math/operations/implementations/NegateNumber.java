@@ -35,9 +35,7 @@ package jmul.math.operations.implementations;
 
 
 import jmul.math.numbers.Number;
-import static jmul.math.numbers.NumberHelper.createNumber;
-import jmul.math.numbers.nodes.DigitNode;
-import jmul.math.numbers.nodes.NodesHelper;
+import static jmul.math.numbers.NumberHelper.createSharedNumber;
 import jmul.math.operations.Result;
 import jmul.math.operations.UnaryOperation;
 import jmul.math.signs.Sign;
@@ -85,9 +83,7 @@ public class NegateNumber implements UnaryOperation<Number, Result<Number>> {
             sign = Signs.negate(n.sign());
         }
 
-        int base = n.base();
-        DigitNode clonedCenterNode = NodesHelper.cloneLinkedList(n.centerNode());
-        Number newNumber = createNumber(base, sign, clonedCenterNode);
+        Number newNumber = createSharedNumber(sign, n);
 
         return new Result<Number>(newNumber);
     }
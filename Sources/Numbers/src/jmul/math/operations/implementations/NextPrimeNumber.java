@@ -34,26 +34,35 @@
 package jmul.math.operations.implementations;
 
 
-import java.util.SortedMap;
-import java.util.TreeMap;
-
-import jmul.math.Math;
 import jmul.math.numbers.Number;
+import static jmul.math.numbers.NumberHelper.createNumber;
 import jmul.math.operations.Result;
 import jmul.math.operations.UnaryOperation;
 
 
 /**
- * Calculates the next prime number  (e.g. ordinal 0 -&gt; 2, ordinal 1 -&gt; 3, etc.)..
+ * Calculates the next prime number (e.g. ordinal 0 -&gt; 2, ordinal 1 -&gt; 3, etc.). The prime numbers are looked
+ * up in a segmented sieve of Eratosthenes which is shared by all number bases and threads (see
+ * {@link PrimeNumberSieve}).
  *
  * @author Kristian Kutin
  */
 public class NextPrimeNumber implements UnaryOperation<Number, Result<Number>> {
 
     /**
-     * The actual element container.
+     * The upper limit (exclusive) for ordinal numbers. The prime number with the largest ordinal number
+     * (179,424,673) lies within the segments which are retained by the sieve (i.e. numbers lesser than 2^28), thus
+     * a lookup never requires more than about 12 MB.
+     */
+    private static final long ORDINAL_LIMIT;
+
+    /*
+     * The static initializer.
      */
-    final SortedMap<Integer, SortedMap<Number, Number>> primeNumbersByBase;
+    static {
+
+        ORDINAL_LIMIT = 10000000L;
+    }
 
     /**
      * The default constructor.
@@ -61,84 +70,34 @@ public class NextPrimeNumber implements UnaryOperation<Number, Result<Number>> {
     public NextPrimeNumber() {
 
         super();
-
-        this.primeNumbersByBase = new TreeMap<>();
     }
 
     /**
      * Returns the prime number according to the specified ordinal number.
      *
      * @param ordinal
-     *        the ordinal number associated with a prime number
+     *        the ordinal number associated with a prime number (i.e. lesser than ten million)
      *
      * @return a prime number
      */
     @Override
     public Result<Number> calculate(Number ordinal) {
 
-        ParameterCheckHelper.checkParameter(ordinal);
+        ParameterCheckHelper.checkInteger(ordinal);
 
         int base = ordinal.base();
 
-        SortedMap<Number, Number> primeNumbers = primeNumbersByBase.get(base);
-        if (primeNumbers == null) {
+        int[] ordinals = OrdinalArithmeticHelper.toOrdinals(ordinal);
+        if (ordinal.isNegative() || !OrdinalArithmeticHelper.fitsLong(base, ordinals, ORDINAL_LIMIT)) {
 
-            primeNumbers = new TreeMap<>();
-            primeNumbersByBase.put(base, primeNumbers);
+            String message = String.format("An invalid ordinal number (%s) was specified!", ordinal);
+            throw new IllegalArgumentException(message);
         }
 
-        Number primeNumber = primeNumbers.get(ordinal);
-        if (primeNumber == null) {
-
-            primeNumber = calculateNextPrimeNumber(ordinal);
-
-        }
+        long prime = PrimeNumberSieve.prime(OrdinalArithmeticHelper.toLong(base, ordinals));
+        Number primeNumber = createNumber(base, prime);
 
         return new Result<Number>(primeNumber);
     }
 
-    /**
-     * Calculates the next prime number.
-     *
-     * @param ordinal
-     *        an ordinal number
-     *
-     * @return the prime number corresponding to the ordinal number
-     */
-    private Number calculateNextPrimeNumber(Number ordinal) {
-
-        int base = ordinal.base();
-
-        SortedMap<Number, Number> primeNumbers = primeNumbersByBase.get(base);
-
-        Number highestOrdinal;
-        Number highestNumber;
-        if (primeNumbers.isEmpty()) {
-
-            highestOrdinal = Math.MINUS_ONE.value(base);
-            highestNumber = Math.ONE.value(base);
-
-        } else {
-
-            highestOrdinal = primeNumbers.lastKey();
-            highestNumber = primeNumbers.get(highestOrdinal);
-        }
-
-        Number counter = highestOrdinal;
-        Number number = highestNumber;
-
-        while (counter.isLesser(ordinal)) {
-
-            number = number.inc();
-
-            if (number.isPrime()) {
-
-                counter = counter.inc();
-                primeNumbers.put(counter, number);
-            }
-        }
-
-        return number;
-    }
-
 }
@@ -35,9 +35,7 @@ package jmul.math.operations.implementations;
 
 
 import jmul.math.numbers.Number;
-import static jmul.math.numbers.NumberHelper.createNumber;
-import jmul.math.numbers.nodes.DigitNode;
-import jmul.math.numbers.nodes.NodesHelper;
+import static jmul.math.numbers.NumberHelper.createSharedNumber;
 import jmul.math.operations.Result;
 import jmul.math.operations.UnaryOperation;
 import jmul.math.signs.Signs;
@@ -71,9 +69,7 @@ public class NumberToAbsoluteValue implements UnaryOperation<Number, Result<Numb
 
         ParameterCheckHelper.checkParameter(operand);
 
-        int base = operand.base();
-        DigitNode centerNode = operand.centerNode();
-        Number absoluteValue = createNumber(base, Signs.POSITIVE, NodesHelper.cloneLinkedList(centerNode));
+        Number absoluteValue = createSharedNumber(Signs.POSITIVE, operand);
 
         return new Result<Number>(absoluteValue);
     }
@@ -41,6 +41,7 @@ import jmul.math.numbers.Number;
 import jmul.math.numbers.NumberHelper;
 import static jmul.math.numbers.creation.CreationParameters.CLONE;
 import static jmul.math.numbers.creation.CreationParameters.DONT_CLONE;
+import jmul.math.numbers.nodes.NodesHelper;
 import jmul.math.operations.Result;
 import jmul.math.operations.UnaryOperation;
 import static jmul.math.operations.implementations.ParameterCheckHelper.checkParameter;
@@ -120,10 +121,12 @@ public class NumberToFraction implements UnaryOperation<Number, Result<Fraction>
         Number newNumerator = NumberHelper.createNumber(CLONE, number);
         Number newDenominator = Math.ONE.value(base);
 
-        while (newNumerator.isFraction()) {
+        if (newNumerator.isFraction()) {
 
-            newNumerator = newNumerator.shiftRight();
-            newDenominator = newDenominator.shiftRight();
+            Number shifts = NumberHelper.createNumber(base, NodesHelper.countSignificantFractionDigits(newNumerator));
+
+            newNumerator = newNumerator.shiftRight(shifts);
+            newDenominator = newDenominator.shiftRight(shifts);
         }
 
         return createFraction(DONT_CLONE, newNumerator, newDenominator);
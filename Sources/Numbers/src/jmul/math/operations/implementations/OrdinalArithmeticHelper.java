@@ -0,0 +1,2608 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.math.operations.implementations;
+
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import jmul.math.Math;
+import jmul.math.digits.Digit;
+import jmul.math.digits.PositionalNumeralSystems;
+import static jmul.math.numbers.Constants.BURNIKEL_ZIEGLER_THRESHOLD;
+import static jmul.math.numbers.Constants.BASE_MAX_LIMIT;
+import static jmul.math.numbers.Constants.KARATSUBA_THRESHOLD;
+import static jmul.math.numbers.Constants.NTT_THRESHOLD;
+import static jmul.math.numbers.Constants.TOOM3_THRESHOLD;
+import jmul.math.numbers.Number;
+import static jmul.math.numbers.NumberHelper.createNumber;
+import jmul.math.numbers.nodes.DigitNode;
+import jmul.math.numbers.nodes.NodesHelper;
+import jmul.math.operations.ResultWithRemainder;
+import jmul.math.signs.Sign;
+import jmul.math.signs.Signs;
+
+
+/**
+ * A helper class for calculations with the ordinal values of digits (i.e. primitive integers instead of digit
+ * objects). The least significant digit comes first within an array of ordinal values.
+ *
+ * @author Kristian Kutin
+ */
+final class OrdinalArithmeticHelper {
+
+    /**
+     * All digits for each number base (i.e. the index of a digit is its ordinal value). The digits of a number
+     * base are looked up when they are accessed for the first time.
+     */
+    private static final AtomicReferenceArray<Digit[]> DIGITS;
+
+    /**
+     * The minimum number of digits of a factor which can be split in a Karatsuba multiplication.
+     */
+    private static final int KARATSUBA_MIN_LENGTH;
+
+    /**
+     * The minimum number of digits of a factor which can be split in a Toom-Cook multiplication.
+     */
+    private static final int TOOM3_MIN_LENGTH;
+
+    /**
+     * The first prime for a number-theoretic transform (i.e. 119 * 2^23 + 1).
+     */
+    private static final long NTT_PRIME_1;
+
+    /**
+     * The second prime for a number-theoretic transform (i.e. 7 * 2^26 + 1).
+     */
+    private static final long NTT_PRIME_2;
+
+    /**
+     * A primitive root modulo both primes.
+     */
+    private static final long NTT_PRIMITIVE_ROOT;
+
+    /**
+     * The maximum transform length which is supported by both primes.
+     */
+    private static final int NTT_MAX_LENGTH;
+
+    /**
+     * The maximum precision of a reciprocal or quotient which is calculated digit by digit instead of a
+     * Newton-Raphson iteration.
+     */
+    private static final int NEWTON_MIN_PRECISION;
+
+    /**
+     * The minimum number of digits of a divisor (i.e. of a block) for a recursive division.
+     */
+    private static final int BURNIKEL_ZIEGLER_MIN_LENGTH;
+
+    /**
+     * The limit for the leading digits which are evaluated by a step of Lehmer's algorithm (i.e. the cofactors
+     * and products with a digit fit into a primitive long).
+     */
+    private static final long LEHMER_LIMIT;
+
+    /**
+     * The limit for numbers whose greatest common divisor is calculated by the binary algorithm with primitive
+     * longs.
+     */
+    private static final long BINARY_GCD_LIMIT;
+
+    /**
+     * A cache for the powers newBase^(2^k) of all pairs of number bases (i.e. the powers are represented in the
+     * original number base).
+     */
+    private static final AtomicReferenceArray<int[][]> BASE_POWERS;
+
+    /**
+     * The maximum number of digits which are converted to a new number base by repeated divisions instead of
+     * splitting the number.
+     */
+    private static final int REBASE_MIN_LENGTH;
+
+    /**
+     * The upper limit for the number base of regrouped digits (see {@link #regroup}), i.e. products of two digits
+     * and a carry fit into an int.
+     */
+    private static final int PACKED_BASE_LIMIT;
+
+    /*
+     * The static initializer.
+     */
+    static {
+
+        DIGITS = new AtomicReferenceArray<>(BASE_MAX_LIMIT + 1);
+        KARATSUBA_MIN_LENGTH = 4;
+        TOOM3_MIN_LENGTH = 16;
+
+        NTT_PRIME_1 = 998244353L;
+        NTT_PRIME_2 = 469762049L;
+        NTT_PRIMITIVE_ROOT = 3L;
+        NTT_MAX_LENGTH = 1 << 23;
+
+        NEWTON_MIN_PRECISION = 16;
+        BURNIKEL_ZIEGLER_MIN_LENGTH = 4;
+
+        LEHMER_LIMIT = 1L << 31;
+        BINARY_GCD_LIMIT = 1L << 56;
+
+        BASE_POWERS = new AtomicReferenceArray<>((BASE_MAX_LIMIT + 1) * (BASE_MAX_LIMIT + 1));
+        REBASE_MIN_LENGTH = 128;
+
+        PACKED_BASE_LIMIT = 1 << 15;
+    }
+
+    /**
+     * The default constructor.
+     */
+    private OrdinalArithmeticHelper() {
+
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns all digits of the specified number base (i.e. the index of a digit is its ordinal value). The
+     * returned array is shared and must not be modified.
+     *
+     * @param base
+     *        a number base
+     *
+     * @return all digits
+     */
+    static Digit[] digits(int base) {
+
+        Digit[] digits = DIGITS.get(base);
+
+        if (digits == null) {
+
+            digits = new Digit[base];
+            for (int ordinal = 0; ordinal < base; ordinal++) {
+
+                digits[ordinal] = PositionalNumeralSystems.ordinalToDigit(base, ordinal);
+            }
+
+            // Concurrent threads may look up the digits at the same time, but only one array is retained.
+            DIGITS.compareAndSet(base, null, digits);
+            digits = DIGITS.get(base);
+        }
+
+        return digits;
+    }
+
+    /**
+     * Reads the ordinal values of all digits of the specified number.
+     *
+     * @param number
+     *        a number (i.e. not infinity)
+     *
+     * @return the ordinal values of all digits (i.e. the least significant digit comes first)
+     */
+    static int[] toOrdinals(Number number) {
+
+        int fractionDigits = number.fractionDigits();
+
+        return toOrdinals(number, fractionDigits, number.integerDigits() + fractionDigits);
+    }
+
+    /**
+     * Reads the ordinal values of all digits of the specified number and aligns them with the specified number
+     * of fraction digits (i.e. missing leading and trailing digits are zero).
+     *
+     * @param number
+     *        a number (i.e. not infinity)
+     * @param fractionDigits
+     *        the number of digits right of the decimal separator (i.e. at least as many as the number has)
+     * @param length
+     *        the total number of digits (i.e. at least as many as the number has)
+     *
+     * @return the ordinal values of all digits (i.e. the least significant digit comes first)
+     */
+    static int[] toOrdinals(Number number, int fractionDigits, int length) {
+
+        int[] ordinals = new int[length];
+
+        int index = fractionDigits - number.fractionDigits();
+        DigitNode node = number.rightmostNode();
+        while (node != null) {
+
+            ordinals[index] = node.digit().ordinal();
+            node = node.leftNode();
+            index++;
+        }
+
+        return ordinals;
+    }
+
+    /**
+     * Compares the specified ordinal values. The comparison starts with the most significant digit and stops at
+     * the first digit which differs.
+     *
+     * @param ordinals1
+     *        the ordinal values of the first number
+     * @param ordinals2
+     *        the ordinal values of the second number (i.e. the same length as the first number)
+     *
+     * @return <code>1</code>, <code>0</code> or <code>-1</code> if the first number is greater than, equals or
+     *         lesser than the second number
+     */
+    static int compare(int[] ordinals1, int[] ordinals2) {
+
+        for (int index = ordinals1.length - 1; index >= 0; index--) {
+
+            if (ordinals1[index] != ordinals2[index]) {
+
+                return (ordinals1[index] > ordinals2[index]) ? 1 : -1;
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * Subtracts the specified ordinal values in a single pass (i.e. the borrow is propagated from the least
+     * significant digit to the most significant digit).
+     *
+     * @param base
+     *        a number base
+     * @param minuend
+     *        the ordinal values of the minuend
+     * @param subtrahend
+     *        the ordinal values of the subtrahend (i.e. the same length as the minuend and not greater than the
+     *        minuend)
+     *
+     * @return the ordinal values of the difference
+     */
+    static int[] subtract(int base, int[] minuend, int[] subtrahend) {
+
+        int[] difference = new int[minuend.length];
+
+        int borrow = 0;
+        for (int index = 0; index < minuend.length; index++) {
+
+            int digit = minuend[index] - subtrahend[index] - borrow;
+
+            if (digit < 0) {
+
+                digit += base;
+                borrow = 1;
+
+            } else {
+
+                borrow = 0;
+            }
+
+            difference[index] = digit;
+        }
+
+        return difference;
+    }
+
+    /**
+     * Subtracts the absolute value of the second number from the absolute value of the first number. The
+     * specified sign is applied to the difference (i.e. the sign is negated if the second number has the greater
+     * absolute value).
+     *
+     * @param n1
+     *        a number (i.e. not infinity)
+     * @param n2
+     *        a number (i.e. not infinity)
+     * @param sign
+     *        the sign of the difference if the first number has the greater absolute value
+     *
+     * @return the difference
+     */
+    static Number subtractAbsoluteValues(Number n1, Number n2, Sign sign) {
+
+        int base = n1.base();
+
+        int fractionDigits = java.lang.Math.max(n1.fractionDigits(), n2.fractionDigits());
+        int length = java.lang.Math.max(n1.integerDigits(), n2.integerDigits()) + fractionDigits;
+
+        int[] ordinals1 = toOrdinals(n1, fractionDigits, length);
+        int[] ordinals2 = toOrdinals(n2, fractionDigits, length);
+
+        int comparisonResult = compare(ordinals1, ordinals2);
+
+        int[] difference;
+        Sign newSign;
+        if (comparisonResult > 0) {
+
+            difference = subtract(base, ordinals1, ordinals2);
+            newSign = sign;
+
+        } else if (comparisonResult < 0) {
+
+            difference = subtract(base, ordinals2, ordinals1);
+            newSign = Signs.negate(sign);
+
+        } else {
+
+            return Math.ZERO.value(base);
+        }
+
+        DigitNode centerNode = toLinkedList(base, difference, fractionDigits);
+
+        return createNumber(base, newSign, centerNode);
+    }
+
+    /**
+     * Multiplies the specified ordinal values (i.e. a long multiplication).
+     *
+     * @param base
+     *        a number base
+     * @param ordinals1
+     *        the ordinal values of the first factor
+     * @param ordinals2
+     *        the ordinal values of the second factor
+     *
+     * @return the ordinal values of the product
+     */
+    static int[] multiply(int base, int[] ordinals1, int[] ordinals2) {
+
+        int[] product = new int[ordinals1.length + ordinals2.length];
+
+        for (int a = 0; a < ordinals2.length; a++) {
+
+            int factor = ordinals2[a];
+            if (factor == 0) {
+
+                continue;
+            }
+
+            int carry = 0;
+            for (int b = 0; b < ordinals1.length; b++) {
+
+                int sum = product[a + b] + ordinals1[b] * factor + carry;
+                product[a + b] = sum % base;
+                carry = sum / base;
+            }
+
+            product[a + ordinals1.length] = carry;
+        }
+
+        return product;
+    }
+
+    /**
+     * Multiplies the specified ordinal values according to the Karatsuba algorithm (i.e. the factors are split
+     * into halves and three instead of four products of halves are calculated recursively). Factors with less
+     * digits than the specified threshold are multiplied by a long multiplication.
+     *
+     * @param base
+     *        a number base
+     * @param ordinals1
+     *        the ordinal values of the first factor
+     * @param ordinals2
+     *        the ordinal values of the second factor
+     * @param threshold
+     *        the minimum number of digits for a split
+     *
+     * @return the ordinal values of the product
+     */
+    static int[] multiplyKaratsuba(int base, int[] ordinals1, int[] ordinals2, int threshold) {
+
+        int[] x = ordinals1;
+        int[] y = ordinals2;
+
+        if (x.length < y.length) {
+
+            x = ordinals2;
+            y = ordinals1;
+        }
+
+        // The sums of halves must be shorter than the factors, otherwise the recursion would not terminate.
+        if ((y.length < threshold) || (y.length < KARATSUBA_MIN_LENGTH)) {
+
+            return multiply(base, x, y);
+        }
+
+        int[] product = new int[x.length + y.length];
+
+        // Unbalanced factors are multiplied in slices which have the size of the smaller factor.
+        if (2 * y.length <= x.length) {
+
+            for (int offset = 0; offset < x.length; offset += y.length) {
+
+                int[] slice = Arrays.copyOfRange(x, offset, java.lang.Math.min(offset + y.length, x.length));
+                addInPlace(base, product, multiplyKaratsuba(base, slice, y, threshold), offset);
+            }
+
+            return product;
+        }
+
+        // x = x1 * base^m + x0, y = y1 * base^m + y0
+        int m = x.length / 2;
+
+        int[] x0 = Arrays.copyOfRange(x, 0, m);
+        int[] x1 = Arrays.copyOfRange(x, m, x.length);
+        int[] y0 = Arrays.copyOfRange(y, 0, m);
+        int[] y1 = Arrays.copyOfRange(y, m, y.length);
+
+        int[] z0 = multiplyKaratsuba(base, x0, y0, threshold);
+        int[] z2 = multiplyKaratsuba(base, x1, y1, threshold);
+
+        // z1 = (x0 + x1) * (y0 + y1) - z0 - z2
+        int[] z1 = multiplyKaratsuba(base, add(base, x0, x1), add(base, y0, y1), threshold);
+        subtractInPlace(base, z1, z0);
+        subtractInPlace(base, z1, z2);
+
+        addInPlace(base, product, z0, 0);
+        addInPlace(base, product, z1, m);
+        addInPlace(base, product, z2, 2 * m);
+
+        return product;
+    }
+
+    /**
+     * Multiplies the specified ordinal values according to the Toom-Cook algorithm (i.e. the factors are split into
+     * three parts and five products of linear combinations of these parts are calculated recursively). Factors with
+     * less digits than the specified threshold are multiplied by a Karatsuba multiplication.<br>
+     * <br>
+     * The factors are evaluated at the points 0, 1, 2, 3 and infinity. Unlike the points -1 and -2 these points
+     * don't cause negative intermediate results, thus the interpolation requires only subtractions of lesser values
+     * and exact divisions by 2 and 6.
+     *
+     * @param base
+     *        a number base
+     * @param ordinals1
+     *        the ordinal values of the first factor
+     * @param ordinals2
+     *        the ordinal values of the second factor
+     * @param threshold
+     *        the minimum number of digits for a split
+     * @param karatsubaThreshold
+     *        the minimum number of digits for a split in a Karatsuba multiplication
+     *
+     * @return the ordinal values of the product
+     */
+    static int[] multiplyToom3(int base, int[] ordinals1, int[] ordinals2, int threshold, int karatsubaThreshold) {
+
+        int[] x = ordinals1;
+        int[] y = ordinals2;
+
+        if (x.length < y.length) {
+
+            x = ordinals2;
+            y = ordinals1;
+        }
+
+        // The evaluated parts must be shorter than the factors, otherwise the recursion would not terminate.
+        if ((y.length < threshold) || (y.length < TOOM3_MIN_LENGTH)) {
+
+            return multiplyKaratsuba(base, x, y, karatsubaThreshold);
+        }
+
+        int[] product = new int[x.length + y.length];
+
+        // Unbalanced factors are multiplied in slices which have the size of the smaller factor.
+        if (2 * y.length <= x.length) {
+
+            for (int offset = 0; offset < x.length; offset += y.length) {
+
+                int[] slice = Arrays.copyOfRange(x, offset, java.lang.Math.min(offset + y.length, x.length));
+                addInPlace(base, product, multiplyToom3(base, slice, y, threshold, karatsubaThreshold), offset);
+            }
+
+            return product;
+        }
+
+        // x = x2 * base^2k + x1 * base^k + x0, y = y2 * base^2k + y1 * base^k + y0
+        int k = (x.length + 2) / 3;
+
+        int[] x0 = slice(x, 0, k);
+        int[] x1 = slice(x, k, 2 * k);
+        int[] x2 = slice(x, 2 * k, x.length);
+        int[] y0 = slice(y, 0, k);
+        int[] y1 = slice(y, k, 2 * k);
+        int[] y2 = slice(y, 2 * k, y.length);
+
+        // The product polynomial r(t) = r4 * t^4 + r3 * t^3 + r2 * t^2 + r1 * t + r0 is evaluated at five points.
+        int[] r0 = multiplyToom3(base, x0, y0, threshold, karatsubaThreshold);
+        int[] r4 = multiplyToom3(base, x2, y2, threshold, karatsubaThreshold);
+        int[] w1 =
+            multiplyToom3(base, evaluate(base, x0, x1, x2, 1), evaluate(base, y0, y1, y2, 1), threshold,
+                          karatsubaThreshold);
+        int[] w2 =
+            multiplyToom3(base, evaluate(base, x0, x1, x2, 2), evaluate(base, y0, y1, y2, 2), threshold,
+                          karatsubaThreshold);
+        int[] w3 =
+            multiplyToom3(base, evaluate(base, x0, x1, x2, 3), evaluate(base, y0, y1, y2, 3), threshold,
+                          karatsubaThreshold);
+
+        // w(t) = r(t) - r0 - r4 * t^4 = r3 * t^3 + r2 * t^2 + r1 * t
+        subtractInPlace(base, w1, r0);
+        subtractInPlace(base, w1, r4);
+        subtractInPlace(base, w2, r0);
+        subtractInPlace(base, w2, multiply(base, r4, 16));
+        subtractInPlace(base, w3, r0);
+        subtractInPlace(base, w3, multiply(base, r4, 81));
+
+        // (w(2) - 2 * w(1)) / 2 = r2 + 3 * r3
+        subtractInPlace(base, w2, multiply(base, w1, 2));
+        divideInPlace(base, w2, 2);
+
+        // (w(3) - 3 * w(1)) / 6 = r2 + 4 * r3
+        subtractInPlace(base, w3, multiply(base, w1, 3));
+        divideInPlace(base, w3, 6);
+
+        int[] r3 = w3;
+        subtractInPlace(base, r3, w2);
+
+        int[] r2 = w2;
+        subtractInPlace(base, r2, multiply(base, r3, 3));
+
+        int[] r1 = w1;
+        subtractInPlace(base, r1, r2);
+        subtractInPlace(base, r1, r3);
+
+        addInPlace(base, product, r0, 0);
+        addInPlace(base, product, r1, k);
+        addInPlace(base, product, r2, 2 * k);
+        addInPlace(base, product, r3, 3 * k);
+        addInPlace(base, product, r4, 4 * k);
+
+        return product;
+    }
+
+    /**
+     * Multiplies the specified ordinal values by a number-theoretic transform (i.e. a fast Fourier transform in the
+     * ring of integers modulo a prime). The convolution of the ordinal values is calculated modulo two primes and
+     * the exact coefficients are recombined according to the Chinese remainder theorem. Factors with less digits
+     * than the specified threshold are multiplied by a Toom-Cook multiplication.<br>
+     * <br>
+     * A coefficient of the convolution is lesser than the transform length times (base - 1)^2, i.e. it is always
+     * lesser than the product of both primes. Factors which exceed the maximum transform length are split.
+     *
+     * @param base
+     *        a number base
+     * @param ordinals1
+     *        the ordinal values of the first factor
+     * @param ordinals2
+     *        the ordinal values of the second factor
+     * @param threshold
+     *        the minimum number of digits for a transform
+     * @param toom3Threshold
+     *        the minimum number of digits for a split in a Toom-Cook multiplication
+     * @param karatsubaThreshold
+     *        the minimum number of digits for a split in a Karatsuba multiplication
+     *
+     * @return the ordinal values of the product
+     */
+    static int[] multiplyNTT(int base, int[] ordinals1, int[] ordinals2, int threshold, int toom3Threshold,
+                             int karatsubaThreshold) {
+
+        int[] x = ordinals1;
+        int[] y = ordinals2;
+
+        if (x.length < y.length) {
+
+            x = ordinals2;
+            y = ordinals1;
+        }
+
+        if (y.length < threshold) {
+
+            return multiplyToom3(base, x, y, toom3Threshold, karatsubaThreshold);
+        }
+
+        int[] product = new int[x.length + y.length];
+
+        // The longer factor is split if the product exceeds the maximum transform length.
+        if (product.length > NTT_MAX_LENGTH) {
+
+            int m = x.length / 2;
+
+            int[] x0 = Arrays.copyOfRange(x, 0, m);
+            int[] x1 = Arrays.copyOfRange(x, m, x.length);
+
+            addInPlace(base, product, multiplyNTT(base, x0, y, threshold, toom3Threshold, karatsubaThreshold), 0);
+            addInPlace(base, product, multiplyNTT(base, x1, y, threshold, toom3Threshold, karatsubaThreshold), m);
+
+            return product;
+        }
+
+        int length = Integer.highestOneBit(product.length - 1) << 1;
+
+        long[] convolution1 = convolve(x, y, length, NTT_PRIME_1);
+        long[] convolution2 = convolve(x, y, length, NTT_PRIME_2);
+
+        // c = c1 + p1 * ((c2 - c1) * p1^-1 mod p2)
+        long inverse = power(NTT_PRIME_1 % NTT_PRIME_2, NTT_PRIME_2 - 2, NTT_PRIME_2);
+
+        long carry = 0L;
+        for (int index = 0; index < product.length; index++) {
+
+            long c1 = convolution1[index];
+            long c2 = convolution2[index];
+            long k = (((c2 - c1 % NTT_PRIME_2) + NTT_PRIME_2) % NTT_PRIME_2) * inverse % NTT_PRIME_2;
+            long coefficient = c1 + NTT_PRIME_1 * k + carry;
+
+            product[index] = (int) (coefficient % base);
+            carry = coefficient / base;
+        }
+
+        return product;
+    }
+
+    /**
+     * Calculates the convolution of the specified ordinal values modulo the specified prime.
+     *
+     * @param ordinals1
+     *        the ordinal values of the first factor
+     * @param ordinals2
+     *        the ordinal values of the second factor
+     * @param length
+     *        the transform length (i.e. a power of two)
+     * @param prime
+     *        a prime with a primitive root of 3 which supports the transform length
+     *
+     * @return the coefficients of the convolution
+     */
+    private static long[] convolve(int[] ordinals1, int[] ordinals2, int length, long prime) {
+
+        long[] values1 = new long[length];
+        long[] values2 = new long[length];
+
+        for (int index = 0; index < ordinals1.length; index++) {
+
+            values1[index] = ordinals1[index];
+        }
+
+        for (int index = 0; index < ordinals2.length; index++) {
+
+            values2[index] = ordinals2[index];
+        }
+
+        transform(values1, prime, false);
+        transform(values2, prime, false);
+
+        for (int index = 0; index < length; index++) {
+
+            values1[index] = values1[index] * values2[index] % prime;
+        }
+
+        transform(values1, prime, true);
+
+        return values1;
+    }
+
+    /**
+     * Transforms the specified values in place (i.e. an iterative radix-2 number-theoretic transform).
+     *
+     * @param values
+     *        the values (i.e. the number of values is a power of two)
+     * @param prime
+     *        a prime with a primitive root of 3 which supports the transform length
+     * @param inverse
+     *        <code>true</code> if the inverse transform is calculated, else <code>false</code>
+     */
+    private static void transform(long[] values, long prime, boolean inverse) {
+
+        int length = values.length;
+
+        // bit reversal permutation
+        for (int a = 1, b = 0; a < length; a++) {
+
+            int bit = length >> 1;
+            for (; (b & bit) != 0; bit >>= 1) {
+
+                b ^= bit;
+            }
+            b ^= bit;
+
+            if (a < b) {
+
+                long value = values[a];
+                values[a] = values[b];
+                values[b] = value;
+            }
+        }
+
+        for (int size = 2; size <= length; size <<= 1) {
+
+            long root = power(NTT_PRIMITIVE_ROOT, (prime - 1) / size, prime);
+            if (inverse) {
+
+                root = power(root, prime - 2, prime);
+            }
+
+            int half = size >> 1;
+            long[] roots = new long[half];
+            roots[0] = 1L;
+            for (int index = 1; index < half; index++) {
+
+                roots[index] = roots[index - 1] * root % prime;
+            }
+
+            for (int start = 0; start < length; start += size) {
+
+                for (int index = 0; index < half; index++) {
+
+                    long u = values[start + index];
+                    long v = values[start + index + half] * roots[index] % prime;
+
+                    long sum = u + v;
+                    values[start + index] = (sum >= prime) ? sum - prime : sum;
+
+                    long difference = u - v;
+                    values[start + index + half] = (difference < 0L) ? difference + prime : difference;
+                }
+            }
+        }
+
+        if (inverse) {
+
+            long lengthInverse = power(length, prime - 2, prime);
+            for (int index = 0; index < length; index++) {
+
+                values[index] = values[index] * lengthInverse % prime;
+            }
+        }
+    }
+
+    /**
+     * Calculates a power modulo the specified prime.
+     *
+     * @param value
+     *        the base of the power
+     * @param exponent
+     *        a non-negative exponent
+     * @param prime
+     *        a prime
+     *
+     * @return value^exponent mod prime
+     */
+    private static long power(long value, long exponent, long prime) {
+
+        long result = 1L;
+        long factor = value % prime;
+
+        for (long remainder = exponent; remainder > 0L; remainder >>= 1) {
+
+            if ((remainder & 1L) != 0L) {
+
+                result = result * factor % prime;
+            }
+
+            factor = factor * factor % prime;
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns a part of the specified ordinal values. The part is empty if the start index exceeds the ordinal
+     * values.
+     *
+     * @param ordinals
+     *        ordinal values
+     * @param from
+     *        the start index (inclusive)
+     * @param to
+     *        the end index (exclusive)
+     *
+     * @return a part of the ordinal values
+     */
+    private static int[] slice(int[] ordinals, int from, int to) {
+
+        int start = java.lang.Math.min(from, ordinals.length);
+        int end = java.lang.Math.min(to, ordinals.length);
+
+        return Arrays.copyOfRange(ordinals, start, end);
+    }
+
+    /**
+     * Evaluates the polynomial p(t) = p2 * t^2 + p1 * t + p0 at the specified point.
+     *
+     * @param base
+     *        a number base
+     * @param p0
+     *        the ordinal values of the constant coefficient
+     * @param p1
+     *        the ordinal values of the linear coefficient
+     * @param p2
+     *        the ordinal values of the quadratic coefficient
+     * @param point
+     *        a small non-negative integer
+     *
+     * @return the ordinal values of p(point)
+     */
+    private static int[] evaluate(int base, int[] p0, int[] p1, int[] p2, int point) {
+
+        int[] value = add(base, p1, multiply(base, p2, point));
+
+        return add(base, p0, multiply(base, value, point));
+    }
+
+    /**
+     * Multiplies the specified ordinal values with a small factor.
+     *
+     * @param base
+     *        a number base
+     * @param ordinals
+     *        the ordinal values of a number
+     * @param factor
+     *        a small non-negative integer
+     *
+     * @return the ordinal values of the product
+     */
+    static int[] multiply(int base, int[] ordinals, int factor) {
+
+        int factorDigits = 1;
+        for (int remainder = factor / base; remainder > 0; remainder /= base) {
+
+            factorDigits++;
+        }
+
+        int[] product = new int[ordinals.length + factorDigits];
+
+        int carry = 0;
+        int index = 0;
+        for (; index < ordinals.length; index++) {
+
+            int digit = ordinals[index] * factor + carry;
+            product[index] = digit % base;
+            carry = digit / base;
+        }
+
+        for (; carry > 0; index++) {
+
+            product[index] = carry % base;
+            carry /= base;
+        }
+
+        return product;
+    }
+
+    /**
+     * Divides the specified ordinal values by a small divisor. The division must not have a remainder.
+     *
+     * @param base
+     *        a number base
+     * @param ordinals
+     *        the ordinal values of the dividend
+     * @param divisor
+     *        a small positive integer
+     */
+    static void divideInPlace(int base, int[] ordinals, int divisor) {
+
+        int remainder = 0;
+        for (int index = ordinals.length - 1; index >= 0; index--) {
+
+            int digit = remainder * base + ordinals[index];
+            ordinals[index] = digit / divisor;
+            remainder = digit % divisor;
+        }
+    }
+
+    /**
+     * Multiplies the specified ordinal values with the algorithm which suits the size of the factors (see the
+     * thresholds in {@link jmul.math.numbers.Constants}).
+     *
+     * @param base
+     *        a number base
+     * @param ordinals1
+     *        the ordinal values of the first factor
+     * @param ordinals2
+     *        the ordinal values of the second factor
+     *
+     * @return the ordinal values of the product
+     */
+    static int[] product(int base, int[] ordinals1, int[] ordinals2) {
+
+        return multiplyNTT(base, ordinals1, ordinals2, NTT_THRESHOLD, TOOM3_THRESHOLD, KARATSUBA_THRESHOLD);
+    }
+
+    /**
+     * Divides the specified ordinal values with the algorithm which suits the size of the operands (see the
+     * thresholds in {@link jmul.math.numbers.Constants}) and returns the integer quotient and the remainder.
+     *
+     * @param base
+     *        a number base
+     * @param dividend
+     *        the ordinal values of an integer dividend
+     * @param divisor
+     *        the ordinal values of an integer divisor (i.e. not zero)
+     *
+     * @return the ordinal values of the integer quotient and of the remainder
+     */
+    static ResultWithRemainder<int[]> quotientAndRemainder(int base, int[] dividend, int[] divisor) {
+
+        return divideBurnikelZiegler(base, dividend, divisor, BURNIKEL_ZIEGLER_THRESHOLD);
+    }
+
+    /**
+     * Returns the ordinal values of the absolute value of the specified dividend multiplied by base^exponent with
+     * exponent = decimal places + divisor fraction digits - dividend fraction digits (i.e. less significant digits
+     * are cut off). The integer quotient of these ordinal values and the ordinal values of the absolute value of
+     * the divisor equals the quotient cut after the specified number of decimal places.
+     *
+     * @param dividend
+     *        a dividend (i.e. not infinity)
+     * @param divisor
+     *        a divisor (i.e. not infinity)
+     * @param decimalPlaces
+     *        the number of decimal places of the quotient
+     *
+     * @return the ordinal values of an integer dividend
+     */
+    static int[] scaleDividend(Number dividend, Number divisor, int decimalPlaces) {
+
+        int[] ordinals = toOrdinals(dividend);
+
+        int exponent = decimalPlaces + divisor.fractionDigits() - dividend.fractionDigits();
+        if (exponent >= 0) {
+
+            return shiftLeft(ordinals, exponent);
+        }
+
+        int start = java.lang.Math.min(-exponent, ordinals.length);
+
+        return Arrays.copyOfRange(ordinals, start, ordinals.length);
+    }
+
+    /**
+     * Creates a quotient from the specified ordinal values of an integer quotient (see
+     * {@link #scaleDividend(Number, Number, int)}).
+     *
+     * @param base
+     *        a number base
+     * @param sign
+     *        the sign of the quotient
+     * @param ordinals
+     *        the ordinal values of an integer quotient
+     * @param decimalPlaces
+     *        the number of decimal places of the quotient
+     *
+     * @return a quotient
+     */
+    static Number toQuotient(int base, Sign sign, int[] ordinals, int decimalPlaces) {
+
+        if (significantLength(ordinals) == 0) {
+
+            return Math.ZERO.value(base);
+        }
+
+        // The quotient requires at least one integer digit.
+        int[] quotientOrdinals = ordinals;
+        if (quotientOrdinals.length <= decimalPlaces) {
+
+            quotientOrdinals = Arrays.copyOf(quotientOrdinals, decimalPlaces + 1);
+        }
+
+        DigitNode centerNode = toLinkedList(base, quotientOrdinals, decimalPlaces);
+
+        return createNumber(base, sign, centerNode);
+    }
+
+    /**
+     * Divides the specified ordinal values and returns the integer part of the quotient. The reciprocal of the
+     * divisor is approximated by a Newton-Raphson iteration with doubling precision, i.e. the division costs a few
+     * multiplications. The approximated quotient is lesser than the exact quotient by at most two and is corrected
+     * with the remainder.
+     *
+     * @param base
+     *        a number base
+     * @param dividend
+     *        the ordinal values of an integer dividend
+     * @param divisor
+     *        the ordinal values of an integer divisor (i.e. not zero)
+     *
+     * @return the ordinal values of the integer quotient
+     */
+    static int[] divideNewton(int base, int[] dividend, int[] divisor) {
+
+        int[] normalizedDividend = trim(dividend);
+        int[] normalizedDivisor = trim(divisor);
+
+        int m = normalizedDivisor.length;
+        int precision = normalizedDividend.length - m + 1;
+
+        if (precision <= NEWTON_MIN_PRECISION) {
+
+            return divideKnuth(base, normalizedDividend, normalizedDivisor);
+        }
+
+        // q = (n * x) / base^(m + precision) with x <= base^(m + precision) / divisor
+        int[] reciprocal = reciprocal(base, normalizedDivisor, precision);
+        int[] product = product(base, normalizedDividend, reciprocal);
+        int[] estimate = Arrays.copyOfRange(product, m + precision, product.length);
+
+        int[] quotient = Arrays.copyOf(estimate, java.lang.Math.max(estimate.length, precision) + 1);
+        int[] remainder = Arrays.copyOf(normalizedDividend, normalizedDividend.length);
+        subtractInPlace(base, remainder, product(base, estimate, normalizedDivisor));
+
+        final int[] ONE = { 1 };
+        while (compareValues(remainder, normalizedDivisor) >= 0) {
+
+            subtractInPlace(base, remainder, normalizedDivisor);
+            addInPlace(base, quotient, ONE, 0);
+        }
+
+        return quotient;
+    }
+
+    /**
+     * Approximates the reciprocal of the specified divisor with the specified precision, i.e. the result x
+     * satisfies x <= base^(m + precision) / divisor < x + 2 where m is the number of digits of the divisor. Each
+     * iteration x' = x + x * (base^(m + precision) - divisor * x) / base^(m + precision) roughly doubles the number
+     * of correct digits and an approximation from below remains below the exact reciprocal.
+     *
+     * @param base
+     *        a number base
+     * @param divisor
+     *        the ordinal values of an integer divisor (i.e. without leading zeroes)
+     * @param precision
+     *        the number of digits of the reciprocal
+     *
+     * @return the ordinal values of the approximated reciprocal
+     */
+    private static int[] reciprocal(int base, int[] divisor, int precision) {
+
+        int m = divisor.length;
+
+        if (precision <= NEWTON_MIN_PRECISION) {
+
+            return divideKnuth(base, power(m + precision), divisor);
+        }
+
+        // The guard digits keep the error of the truncated iterations below two units.
+        int halfPrecision = (precision + 1) / 2 + 2;
+        int[] halfReciprocal = reciprocal(base, divisor, halfPrecision);
+
+        int[] approximation = shiftLeft(halfReciprocal, precision - halfPrecision);
+
+        int[] error = power(m + precision);
+        subtractInPlace(base, error, product(base, divisor, approximation));
+
+        int[] correction = product(base, approximation, error);
+        correction = Arrays.copyOfRange(correction, java.lang.Math.min(m + precision, correction.length),
+                                        correction.length);
+
+        return add(base, approximation, correction);
+    }
+
+    /**
+     * Divides the specified ordinal values digit by digit according to Knuth's Algorithm D and returns the integer
+     * part of the quotient. Each digit of the quotient is estimated from the two leading digits of the remainder
+     * and the leading digit of the divisor. The estimate is corrected at most twice with the second digit of the
+     * divisor and the divisor is multiplied and subtracted only once per digit (i.e. the division requires
+     * O(n * m) steps regardless of the number base).
+     *
+     * @param base
+     *        a number base
+     * @param dividend
+     *        the ordinal values of an integer dividend
+     * @param divisor
+     *        the ordinal values of an integer divisor (i.e. not zero)
+     *
+     * @return the ordinal values of the integer quotient
+     */
+    static int[] divideKnuth(int base, int[] dividend, int[] divisor) {
+
+        return divideKnuthWithRemainder(base, dividend, divisor).result();
+    }
+
+    /**
+     * Divides the specified ordinal values according to Knuth's Algorithm D (see
+     * {@link #divideKnuth(int, int[], int[])}) and returns the integer quotient and the remainder.
+     *
+     * @param base
+     *        a number base
+     * @param dividend
+     *        the ordinal values of an integer dividend
+     * @param divisor
+     *        the ordinal values of an integer divisor (i.e. not zero)
+     *
+     * @return the ordinal values of the integer quotient and of the remainder
+     */
+    static ResultWithRemainder<int[]> divideKnuthWithRemainder(int base, int[] dividend, int[] divisor) {
+
+        int[] u = trim(dividend);
+        int[] v = trim(divisor);
+
+        int n = v.length;
+        int m = u.length - n;
+
+        if (m < 0) {
+
+            return new ResultWithRemainder<>(new int[1], Arrays.copyOf(u, java.lang.Math.max(1, u.length)));
+        }
+
+        int[] quotient = new int[m + 1];
+
+        if (n == 1) {
+
+            int remainder = 0;
+            for (int index = m; index >= 0; index--) {
+
+                int digit = remainder * base + u[index];
+                quotient[index] = digit / v[0];
+                remainder = digit % v[0];
+            }
+
+            return new ResultWithRemainder<>(quotient, new int[] { remainder });
+        }
+
+        // Normalize the operands, i.e. the leading digit of the divisor must be at least base / 2.
+        int factor = base / (v[n - 1] + 1);
+        u = Arrays.copyOf(multiply(base, u, factor), u.length + 1);
+        v = Arrays.copyOf(multiply(base, v, factor), n);
+
+        int leadingDigit = v[n - 1];
+        int secondDigit = v[n - 2];
+
+        for (int j = m; j >= 0; j--) {
+
+            int numerator = u[j + n] * base + u[j + n - 1];
+            int estimate = numerator / leadingDigit;
+            int remainder = numerator % leadingDigit;
+
+            while ((estimate >= base) || (estimate * secondDigit > remainder * base + u[j + n - 2])) {
+
+                estimate--;
+                remainder += leadingDigit;
+
+                if (remainder >= base) {
+
+                    break;
+                }
+            }
+
+            // u[j .. j + n] = u[j .. j + n] - estimate * v
+            int borrow = 0;
+            int carry = 0;
+            for (int index = 0; index < n; index++) {
+
+                int product = estimate * v[index] + carry;
+                carry = product / base;
+
+                int digit = u[j + index] - (product % base) - borrow;
+                if (digit < 0) {
+
+                    digit += base;
+                    borrow = 1;
+
+                } else {
+
+                    borrow = 0;
+                }
+
+                u[j + index] = digit;
+            }
+
+            int leadingRemainderDigit = u[j + n] - carry - borrow;
+
+            // The estimate was still one too large, i.e. the divisor is added back.
+            if (leadingRemainderDigit < 0) {
+
+                estimate--;
+
+                carry = 0;
+                for (int index = 0; index < n; index++) {
+
+                    int digit = u[j + index] + v[index] + carry;
+                    if (digit >= base) {
+
+                        digit -= base;
+                        carry = 1;
+
+                    } else {
+
+                        carry = 0;
+                    }
+
+                    u[j + index] = digit;
+                }
+
+                leadingRemainderDigit += carry;
+            }
+
+            u[j + n] = leadingRemainderDigit;
+            quotient[j] = estimate;
+        }
+
+        // The remainder is left in the lower digits of the normalized dividend.
+        int[] remainder = Arrays.copyOf(u, n);
+        divideInPlace(base, remainder, factor);
+
+        return new ResultWithRemainder<>(quotient, remainder);
+    }
+
+    /**
+     * Divides the specified ordinal values according to Burnikel and Ziegler (i.e. a recursive division) and
+     * returns the integer quotient and the remainder. The divisor is normalized and split into blocks with
+     * base^n' where n' is the block length. A division of a number with 2n' digits by a number with n' digits is
+     * reduced to two divisions of a number with 3n'/2 digits by a number with n' digits and those in turn are
+     * reduced to a division with half the size and a multiplication (i.e. the division profits from the fast
+     * multiplication algorithms). Below the specified threshold the division is performed according to Knuth's
+     * Algorithm D.
+     *
+     * @param base
+     *        a number base
+     * @param dividend
+     *        the ordinal values of an integer dividend
+     * @param divisor
+     *        the ordinal values of an integer divisor (i.e. not zero)
+     * @param threshold
+     *        the minimum number of digits of the divisor and the quotient for a recursive division
+     *
+     * @return the ordinal values of the integer quotient and of the remainder
+     */
+    static ResultWithRemainder<int[]> divideBurnikelZiegler(int base, int[] dividend, int[] divisor, int threshold) {
+
+        int[] a = trim(dividend);
+        int[] b = trim(divisor);
+
+        int n = b.length;
+        int minLength = java.lang.Math.max(threshold, BURNIKEL_ZIEGLER_MIN_LENGTH);
+
+        if ((n < minLength) || (a.length - n < minLength)) {
+
+            return divideKnuthWithRemainder(base, a, b);
+        }
+
+        // The block length is a multiple of a power of two, i.e. the blocks can be halved recursively.
+        int blocks = 1;
+        while (n > blocks * minLength) {
+
+            blocks <<= 1;
+        }
+
+        int blockLength = ((n + blocks - 1) / blocks) * blocks;
+        int shift = blockLength - n;
+
+        // Normalize the operands, i.e. the leading digit of the divisor must be at least base / 2.
+        int factor = base / (b[n - 1] + 1);
+        int[] normalizedDivisor = shiftLeft(Arrays.copyOf(multiply(base, b, factor), n), shift);
+        int[] normalizedDividend = shiftLeft(trim(multiply(base, a, factor)), shift);
+
+        // The most significant block must be lesser than the divisor.
+        int blockCount = java.lang.Math.max(2, (normalizedDividend.length + blockLength) / blockLength);
+        normalizedDividend = Arrays.copyOf(normalizedDividend, blockCount * blockLength);
+
+        int[] quotient = new int[(blockCount - 1) * blockLength];
+        int[] remainder = Arrays.copyOfRange(normalizedDividend, (blockCount - 2) * blockLength,
+                                             blockCount * blockLength);
+
+        for (int block = blockCount - 2; block >= 0; block--) {
+
+            ResultWithRemainder<int[]> partialResult =
+                divide2n1n(base, remainder, normalizedDivisor, blockLength, minLength);
+
+            int[] partialQuotient = partialResult.result();
+            System.arraycopy(partialQuotient, 0, quotient, block * blockLength,
+                             java.lang.Math.min(partialQuotient.length, blockLength));
+
+            remainder = Arrays.copyOf(partialResult.remainder(), blockLength);
+
+            if (block > 0) {
+
+                int[] nextBlock =
+                    Arrays.copyOfRange(normalizedDividend, (block - 1) * blockLength, block * blockLength);
+                remainder = concatenate(nextBlock, remainder);
+            }
+        }
+
+        // Undo the normalization of the remainder.
+        remainder = Arrays.copyOfRange(remainder, shift, blockLength);
+        divideInPlace(base, remainder, factor);
+
+        return new ResultWithRemainder<>(trim(quotient), remainder);
+    }
+
+    /**
+     * Divides a number with at most 2n digits by a normalized number with n digits. The quotient must be lesser
+     * than base^n.
+     *
+     * @param base
+     *        a number base
+     * @param dividend
+     *        the ordinal values of the dividend
+     * @param divisor
+     *        the ordinal values of the normalized divisor
+     * @param length
+     *        the number of digits of the divisor
+     * @param threshold
+     *        the minimum number of digits of the divisor for a recursive division
+     *
+     * @return the ordinal values of the quotient and of the remainder
+     */
+    private static ResultWithRemainder<int[]> divide2n1n(int base, int[] dividend, int[] divisor, int length,
+                                                         int threshold) {
+
+        if (((length % 2) != 0) || (length < threshold)) {
+
+            return divideKnuthWithRemainder(base, dividend, divisor);
+        }
+
+        int half = length / 2;
+        int[] a = Arrays.copyOf(dividend, 2 * length);
+
+        int[] a1 = Arrays.copyOfRange(a, 3 * half, 4 * half);
+        int[] a2 = Arrays.copyOfRange(a, 2 * half, 3 * half);
+        int[] a3 = Arrays.copyOfRange(a, half, 2 * half);
+        int[] a4 = Arrays.copyOfRange(a, 0, half);
+
+        ResultWithRemainder<int[]> upperResult = divide3n2n(base, a1, a2, a3, divisor, half, threshold);
+        int[] r = Arrays.copyOf(upperResult.remainder(), length);
+
+        int[] r1 = Arrays.copyOfRange(r, half, length);
+        int[] r2 = Arrays.copyOfRange(r, 0, half);
+
+        ResultWithRemainder<int[]> lowerResult = divide3n2n(base, r1, r2, a4, divisor, half, threshold);
+
+        int[] quotient = concatenate(Arrays.copyOf(lowerResult.result(), half),
+                                     Arrays.copyOf(upperResult.result(), half));
+
+        return new ResultWithRemainder<>(quotient, lowerResult.remainder());
+    }
+
+    /**
+     * Divides a number with 3n digits (i.e. three blocks with n digits each) by a normalized number with 2n
+     * digits. The upper two blocks of the dividend must be lesser than the divisor.
+     *
+     * @param base
+     *        a number base
+     * @param a1
+     *        the ordinal values of the most significant block of the dividend
+     * @param a2
+     *        the ordinal values of the middle block of the dividend
+     * @param a3
+     *        the ordinal values of the least significant block of the dividend
+     * @param divisor
+     *        the ordinal values of the normalized divisor
+     * @param half
+     *        the number of digits of a block
+     * @param threshold
+     *        the minimum number of digits of the divisor for a recursive division
+     *
+     * @return the ordinal values of the quotient and of the remainder
+     */
+    private static ResultWithRemainder<int[]> divide3n2n(int base, int[] a1, int[] a2, int[] a3, int[] divisor,
+                                                         int half, int threshold) {
+
+        int[] b1 = Arrays.copyOfRange(divisor, half, 2 * half);
+        int[] b2 = Arrays.copyOfRange(divisor, 0, half);
+
+        int[] a12 = concatenate(a2, a1);
+
+        int[] quotient;
+        int[] r1;
+
+        if (compareValues(a1, b1) < 0) {
+
+            ResultWithRemainder<int[]> result = divide2n1n(base, a12, b1, half, threshold);
+            quotient = Arrays.copyOf(result.result(), half);
+            r1 = result.remainder();
+
+        } else {
+
+            // The quotient is base^n - 1, i.e. the remainder is a12 - b1 * base^n + b1.
+            quotient = new int[half];
+            Arrays.fill(quotient, base - 1);
+
+            r1 = add(base, a12, b1);
+            subtractInPlace(base, r1, shiftLeft(b1, half));
+        }
+
+        int[] d = product(base, quotient, b2);
+
+        int[] remainder = new int[java.lang.Math.max(half + r1.length, d.length) + 1];
+        System.arraycopy(a3, 0, remainder, 0, half);
+        System.arraycopy(r1, 0, remainder, half, r1.length);
+
+        // The estimated quotient is at most two too large.
+        int[] one = new int[] { 1 };
+        while (compareValues(remainder, d) < 0) {
+
+            addInPlace(base, remainder, divisor, 0);
+            subtractInPlace(base, quotient, one);
+        }
+
+        subtractInPlace(base, remainder, d);
+
+        return new ResultWithRemainder<>(quotient, remainder);
+    }
+
+    /**
+     * Concatenates the specified ordinal values (i.e. the result is upper * base^lower.length + lower).
+     *
+     * @param lower
+     *        the ordinal values of the less significant digits
+     * @param upper
+     *        the ordinal values of the more significant digits
+     *
+     * @return the concatenated ordinal values
+     */
+    private static int[] concatenate(int[] lower, int[] upper) {
+
+        int[] ordinals = Arrays.copyOf(lower, lower.length + upper.length);
+        System.arraycopy(upper, 0, ordinals, lower.length, upper.length);
+
+        return ordinals;
+    }
+
+    /**
+     * Determines the greatest common divisor of the specified ordinal values. Large numbers are reduced by
+     * Lehmer's algorithm (i.e. several steps of the euclidean algorithm are derived from the leading digits and
+     * applied at once to both numbers). Small numbers are evaluated by the binary algorithm with primitive longs.
+     *
+     * @param base
+     *        a number base
+     * @param ordinals1
+     *        the ordinal values of a non-negative integer
+     * @param ordinals2
+     *        the ordinal values of a non-negative integer
+     *
+     * @return the ordinal values of the greatest common divisor
+     */
+    static int[] gcd(int base, int[] ordinals1, int[] ordinals2) {
+
+        int[] a = trim(ordinals1);
+        int[] b = trim(ordinals2);
+
+        if (compareValues(a, b) < 0) {
+
+            int[] swap = a;
+            a = b;
+            b = swap;
+        }
+
+        int leadingDigits = 0;
+        for (long limit = base; limit < LEHMER_LIMIT; limit *= base) {
+
+            leadingDigits++;
+        }
+
+        while (b.length > 0) {
+
+            if (fitsLong(base, a, BINARY_GCD_LIMIT)) {
+
+                return toOrdinals(base, binaryGcd(toLong(base, a), toLong(base, b)));
+            }
+
+            int[] next = null;
+            int[] remainder = null;
+
+            if ((a.length - b.length) < 2) {
+
+                long[] cofactors = lehmerCofactors(base, a, b, leadingDigits);
+
+                if (cofactors[1] != 0L) {
+
+                    next = trim(linearCombination(base, a, cofactors[0], b, cofactors[1]));
+                    remainder = trim(linearCombination(base, a, cofactors[2], b, cofactors[3]));
+                }
+            }
+
+            // A regular step of the euclidean algorithm if the leading digits are insufficient.
+            if (next == null) {
+
+                next = b;
+                remainder = trim(quotientAndRemainder(base, a, b).remainder());
+            }
+
+            a = next;
+            b = remainder;
+        }
+
+        return (a.length == 0) ? new int[1] : a;
+    }
+
+    /**
+     * Determines the cofactors of a step of Lehmer's algorithm (see Knuth, The Art of Computer Programming, Vol.
+     * 2, Algorithm 4.5.2 L). The leading digits of both numbers are reduced by the euclidean algorithm as long as
+     * the quotients equal the quotients of the actual numbers.
+     *
+     * @param base
+     *        a number base
+     * @param a
+     *        the ordinal values of the greater number
+     * @param b
+     *        the ordinal values of the lesser number
+     * @param leadingDigits
+     *        the number of leading digits which are evaluated
+     *
+     * @return the cofactors A, B, C and D (i.e. the new numbers are A * a + B * b and C * a + D * b)
+     */
+    private static long[] lehmerCofactors(int base, int[] a, int[] b, int leadingDigits) {
+
+        long x = 0L;
+        long y = 0L;
+        for (int index = a.length - 1; index >= a.length - leadingDigits; index--) {
+
+            x = x * base + a[index];
+            y = y * base + ((index < b.length) ? b[index] : 0);
+        }
+
+        long cofactorA = 1L;
+        long cofactorB = 0L;
+        long cofactorC = 0L;
+        long cofactorD = 1L;
+
+        while (((y + cofactorC) != 0L) && ((y + cofactorD) != 0L)) {
+
+            long quotient = (x + cofactorA) / (y + cofactorC);
+            if (quotient != (x + cofactorB) / (y + cofactorD)) {
+
+                break;
+            }
+
+            long t = cofactorA - quotient * cofactorC;
+            cofactorA = cofactorC;
+            cofactorC = t;
+
+            t = cofactorB - quotient * cofactorD;
+            cofactorB = cofactorD;
+            cofactorD = t;
+
+            t = x - quotient * y;
+            x = y;
+            y = t;
+        }
+
+        return new long[] { cofactorA, cofactorB, cofactorC, cofactorD };
+    }
+
+    /**
+     * Calculates factor1 * ordinals1 + factor2 * ordinals2. The result must not be negative.
+     *
+     * @param base
+     *        a number base
+     * @param ordinals1
+     *        the ordinal values of the first number
+     * @param factor1
+     *        a factor (i.e. lesser than 2^31 in absolute value)
+     * @param ordinals2
+     *        the ordinal values of the second number
+     * @param factor2
+     *        a factor (i.e. lesser than 2^31 in absolute value)
+     *
+     * @return the ordinal values of the result
+     */
+    private static int[] linearCombination(int base, int[] ordinals1, long factor1, int[] ordinals2,
+                                           long factor2) {
+
+        int length = java.lang.Math.max(ordinals1.length, ordinals2.length);
+        int[] result = new int[length + 2];
+
+        long carry = 0L;
+        for (int index = 0; index < result.length; index++) {
+
+            long digit1 = (index < ordinals1.length) ? ordinals1[index] : 0L;
+            long digit2 = (index < ordinals2.length) ? ordinals2[index] : 0L;
+
+            long value = factor1 * digit1 + factor2 * digit2 + carry;
+            carry = java.lang.Math.floorDiv(value, base);
+            result[index] = (int) java.lang.Math.floorMod(value, (long) base);
+        }
+
+        return result;
+    }
+
+    /**
+     * Determines the greatest common divisor of the specified numbers by the binary algorithm (i.e. with shifts
+     * and subtractions instead of divisions).
+     *
+     * @param value1
+     *        a non-negative integer
+     * @param value2
+     *        a non-negative integer
+     *
+     * @return the greatest common divisor
+     */
+    static long binaryGcd(long value1, long value2) {
+
+        if (value1 == 0L) {
+
+            return value2;
+
+        } else if (value2 == 0L) {
+
+            return value1;
+        }
+
+        int shift = Long.numberOfTrailingZeros(value1 | value2);
+        long a = value1 >> Long.numberOfTrailingZeros(value1);
+        long b = value2;
+
+        while (b != 0L) {
+
+            b >>= Long.numberOfTrailingZeros(b);
+
+            if (a > b) {
+
+                long swap = a;
+                a = b;
+                b = swap;
+            }
+
+            b -= a;
+        }
+
+        return a << shift;
+    }
+
+    /**
+     * Checks if the value of the specified ordinal values is lesser than the specified limit.
+     *
+     * @param base
+     *        a number base
+     * @param ordinals
+     *        ordinal values
+     * @param limit
+     *        a positive limit
+     *
+     * @return <code>true</code> if the value is lesser than the limit, else <code>false</code>
+     */
+    static boolean fitsLong(int base, int[] ordinals, long limit) {
+
+        long value = 0L;
+        for (int index = significantLength(ordinals) - 1; index >= 0; index--) {
+
+            // The comparison precedes the multiplication, thus the value never overflows.
+            if (value > (limit - 1L - ordinals[index]) / base) {
+
+                return false;
+            }
+
+            value = value * base + ordinals[index];
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the value of the specified ordinal values as primitive long (see
+     * {@link #fitsLong(int, int[], long)}).
+     *
+     * @param base
+     *        a number base
+     * @param ordinals
+     *        ordinal values
+     *
+     * @return a primitive long
+     */
+    static long toLong(int base, int[] ordinals) {
+
+        long value = 0L;
+        for (int index = ordinals.length - 1; index >= 0; index--) {
+
+            value = value * base + ordinals[index];
+        }
+
+        return value;
+    }
+
+    /**
+     * Returns the powers newBase^(2^k) for k = 0 .. count - 1 (i.e. the powers are represented in the specified
+     * number base). The powers are cached for each pair of number bases.
+     *
+     * @param base
+     *        a number base
+     * @param newBase
+     *        a new number base
+     * @param count
+     *        the minimum number of powers
+     *
+     * @return the ordinal values of the powers
+     */
+    static int[][] basePowers(int base, int newBase, int count) {
+
+        int index = base * (BASE_MAX_LIMIT + 1) + newBase;
+        int[][] powers = BASE_POWERS.get(index);
+
+        if ((powers == null) || (powers.length < count)) {
+
+            int[][] newPowers = new int[java.lang.Math.max(count, 1)][];
+            int start = 0;
+
+            if (powers != null) {
+
+                start = powers.length;
+                System.arraycopy(powers, 0, newPowers, 0, start);
+
+            } else {
+
+                newPowers[0] = toOrdinals(base, newBase);
+                start = 1;
+            }
+
+            for (int k = start; k < newPowers.length; k++) {
+
+                newPowers[k] = trim(product(base, newPowers[k - 1], newPowers[k - 1]));
+            }
+
+            BASE_POWERS.compareAndSet(index, powers, newPowers);
+            powers = newPowers;
+        }
+
+        return powers;
+    }
+
+    /**
+     * Returns newBase^exponent (i.e. the power is represented in the specified number base).
+     *
+     * @param base
+     *        a number base
+     * @param newBase
+     *        a new number base
+     * @param exponent
+     *        a non-negative exponent
+     *
+     * @return the ordinal values of the power
+     */
+    static int[] basePower(int base, int newBase, int exponent) {
+
+        int[][] powers = basePowers(base, newBase, Integer.SIZE - Integer.numberOfLeadingZeros(exponent));
+
+        int[] result = new int[] { 1 };
+        for (int k = 0; (exponent >> k) != 0; k++) {
+
+            if (((exponent >> k) & 1) != 0) {
+
+                result = trim(product(base, result, powers[k]));
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Converts the specified ordinal values of an integer to a new number base. The integer is split recursively
+     * by the powers newBase^(2^k), i.e. the conversion profits from the fast division and multiplication
+     * algorithms. Small parts are converted by repeated divisions.
+     *
+     * @param base
+     *        a number base
+     * @param ordinals
+     *        the ordinal values of a non-negative integer
+     * @param newBase
+     *        the new number base
+     *
+     * @return the ordinal values of the integer in the new number base
+     */
+    static int[] rebase(int base, int[] ordinals, int newBase) {
+
+        int[] integer = trim(ordinals);
+
+        // Find the smallest level with integer < newBase^(2^(level + 1)).
+        int level = -1;
+        int[][] powers = basePowers(base, newBase, 1);
+        while (compareValues(integer, powers[level + 1]) >= 0) {
+
+            level++;
+            if (level + 1 >= powers.length) {
+
+                powers = basePowers(base, newBase, level + 2);
+            }
+        }
+
+        int[] result = new int[1 << (level + 1)];
+        rebase(base, integer, newBase, powers, level, result, 0);
+
+        return (significantLength(result) == 0) ? new int[1] : trim(result);
+    }
+
+    /**
+     * Converts the specified ordinal values of an integer to a new number base and writes the digits into the
+     * specified array.
+     *
+     * @param base
+     *        a number base
+     * @param ordinals
+     *        the ordinal values of a non-negative integer (i.e. lesser than newBase^(2^(level + 1)))
+     * @param newBase
+     *        the new number base
+     * @param powers
+     *        the powers newBase^(2^k)
+     * @param level
+     *        the index of the power which splits the integer
+     * @param result
+     *        the ordinal values of the converted number
+     * @param offset
+     *        the position of the least significant digit within the result
+     */
+    private static void rebase(int base, int[] ordinals, int newBase, int[][] powers, int level, int[] result,
+                               int offset) {
+
+        int[] integer = trim(ordinals);
+
+        if ((level < 0) || (integer.length <= REBASE_MIN_LENGTH)) {
+
+            integer = Arrays.copyOf(integer, integer.length);
+
+            int index = offset;
+            while (significantLength(integer) > 0) {
+
+                int remainder = 0;
+                for (int position = integer.length - 1; position >= 0; position--) {
+
+                    int digit = remainder * base + integer[position];
+                    integer[position] = digit / newBase;
+                    remainder = digit % newBase;
+                }
+
+                result[index] = remainder;
+                index++;
+            }
+
+            return;
+        }
+
+        ResultWithRemainder<int[]> parts = quotientAndRemainder(base, integer, powers[level]);
+
+        rebase(base, parts.remainder(), newBase, powers, level - 1, result, offset);
+        rebase(base, parts.result(), newBase, powers, level - 1, result, offset + (1 << level));
+    }
+
+    /**
+     * Determines the common root of the specified number bases (i.e. both number bases are powers of the root).
+     *
+     * @param base1
+     *        a number base
+     * @param base2
+     *        a number base
+     *
+     * @return the smallest common root or <code>0</code> if the number bases have no common root
+     */
+    static int commonRoot(int base1, int base2) {
+
+        for (int root = 2; root <= java.lang.Math.min(base1, base2); root++) {
+
+            if ((logarithm(base1, root) > 0) && (logarithm(base2, root) > 0)) {
+
+                return root;
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * Determines the exponent of the specified number base as a power of the specified root.
+     *
+     * @param base
+     *        a number base
+     * @param root
+     *        a root
+     *
+     * @return the exponent or <code>0</code> if the number base is no power of the root
+     */
+    static int logarithm(int base, int root) {
+
+        int exponent = 0;
+        int remainingValue = base;
+
+        while ((remainingValue % root) == 0) {
+
+            remainingValue /= root;
+            exponent++;
+        }
+
+        return (remainingValue == 1) ? exponent : 0;
+    }
+
+    /**
+     * Returns the ordinal values of the specified primitive long.
+     *
+     * @param base
+     *        a number base
+     * @param value
+     *        a non-negative integer
+     *
+     * @return ordinal values
+     */
+    static int[] toOrdinals(int base, long value) {
+
+        int[] ordinals = new int[Long.SIZE];
+        int length = 0;
+
+        long remainingValue = value;
+        do {
+
+            ordinals[length] = (int) (remainingValue % base);
+            remainingValue /= base;
+            length++;
+
+        } while (remainingValue != 0L);
+
+        return Arrays.copyOf(ordinals, length);
+    }
+
+    /**
+     * Divides the specified ordinal values by a small divisor and returns the remainder.
+     *
+     * @param base
+     *        a number base
+     * @param ordinals
+     *        the ordinal values of a non-negative integer
+     * @param divisor
+     *        a small positive integer
+     *
+     * @return the remainder
+     */
+    static int remainder(int base, int[] ordinals, int divisor) {
+
+        long remainder = 0L;
+        for (int index = ordinals.length - 1; index >= 0; index--) {
+
+            remainder = (remainder * base + ordinals[index]) % divisor;
+        }
+
+        return (int) remainder;
+    }
+
+    /**
+     * Returns the remainder of the specified ordinal values divided by the specified modulus.
+     *
+     * @param base
+     *        a number base
+     * @param ordinals
+     *        the ordinal values of a non-negative integer
+     * @param modulus
+     *        the ordinal values of a positive integer
+     *
+     * @return the ordinal values of the remainder (i.e. at least one digit)
+     */
+    static int[] modulo(int base, int[] ordinals, int[] modulus) {
+
+        int[] remainder = trim(quotientAndRemainder(base, ordinals, modulus).remainder());
+
+        return (remainder.length == 0) ? new int[1] : remainder;
+    }
+
+    /**
+     * Multiplies the specified ordinal values and returns the remainder of the product divided by the specified
+     * modulus.
+     *
+     * @param base
+     *        a number base
+     * @param ordinals1
+     *        the ordinal values of the first factor (i.e. lesser than the modulus)
+     * @param ordinals2
+     *        the ordinal values of the second factor (i.e. lesser than the modulus)
+     * @param modulus
+     *        the ordinal values of a positive integer
+     *
+     * @return the ordinal values of the remainder (i.e. at least one digit)
+     */
+    static int[] multiplyModulo(int base, int[] ordinals1, int[] ordinals2, int[] modulus) {
+
+        return modulo(base, product(base, ordinals1, ordinals2), modulus);
+    }
+
+    /**
+     * Adds the specified remainders modulo the specified modulus.
+     *
+     * @param base
+     *        a number base
+     * @param ordinals1
+     *        the ordinal values of a remainder
+     * @param ordinals2
+     *        the ordinal values of a remainder
+     * @param modulus
+     *        the ordinal values of a positive integer
+     *
+     * @return the ordinal values of the sum modulo the modulus
+     */
+    static int[] addModulo(int base, int[] ordinals1, int[] ordinals2, int[] modulus) {
+
+        int[] sum = add(base, ordinals1, ordinals2);
+
+        if (compareValues(sum, modulus) >= 0) {
+
+            subtractInPlace(base, sum, modulus);
+        }
+
+        return sum;
+    }
+
+    /**
+     * Subtracts the specified remainders modulo the specified modulus.
+     *
+     * @param base
+     *        a number base
+     * @param minuend
+     *        the ordinal values of a remainder
+     * @param subtrahend
+     *        the ordinal values of a remainder
+     * @param modulus
+     *        the ordinal values of a positive integer
+     *
+     * @return the ordinal values of the difference modulo the modulus
+     */
+    static int[] subtractModulo(int base, int[] minuend, int[] subtrahend, int[] modulus) {
+
+        int[] difference;
+        if (compareValues(minuend, subtrahend) >= 0) {
+
+            difference = Arrays.copyOf(minuend, java.lang.Math.max(minuend.length, subtrahend.length));
+
+        } else {
+
+            difference = add(base, minuend, modulus);
+        }
+
+        subtractInPlace(base, difference, subtrahend);
+
+        return difference;
+    }
+
+    /**
+     * Returns the binary digits of the specified ordinal values.
+     *
+     * @param base
+     *        a number base
+     * @param ordinals
+     *        the ordinal values of a non-negative integer
+     *
+     * @return the binary digits (i.e. the least significant digit comes first)
+     */
+    static int[] toBinary(int base, int[] ordinals) {
+
+        if (base == 2) {
+
+            int[] bits = trim(ordinals);
+            return (bits.length == 0) ? new int[1] : bits;
+        }
+
+        return rebase(base, ordinals, 2);
+    }
+
+    /**
+     * Returns the number of digits which are regrouped into one digit of the packed number base (see
+     * {@link #packedBase}).
+     *
+     * @param base
+     *        a number base
+     *
+     * @return the number of digits per group
+     */
+    static int packedDigits(int base) {
+
+        int digitsPerGroup = 1;
+        for (int packedBase = base; packedBase * base <= PACKED_BASE_LIMIT; packedBase *= base) {
+
+            digitsPerGroup++;
+        }
+
+        return digitsPerGroup;
+    }
+
+    /**
+     * Returns the packed number base for the specified number base (i.e. the largest power of the number base
+     * which does not exceed 2^15). Modular arithmetic uses fewer but larger digits in the packed number base.
+     *
+     * @param base
+     *        a number base
+     *
+     * @return the packed number base
+     */
+    static int packedBase(int base) {
+
+        int digitsPerGroup = packedDigits(base);
+
+        int packedBase = base;
+        for (int digit = 1; digit < digitsPerGroup; digit++) {
+
+            packedBase *= base;
+        }
+
+        return packedBase;
+    }
+
+    /**
+     * Regroups the specified ordinal values into digits of the number base <code>base^digitsPerGroup</code> (i.e.
+     * each new digit consists of the specified number of digits). The new number base may exceed the limit for
+     * number bases and must be small enough for the arithmetic of this class (i.e. the square of the new number
+     * base fits into an int).
+     *
+     * @param base
+     *        a number base
+     * @param ordinals
+     *        the ordinal values of a non-negative integer
+     * @param digitsPerGroup
+     *        the number of digits per group
+     *
+     * @return the regrouped ordinal values
+     */
+    static int[] regroup(int base, int[] ordinals, int digitsPerGroup) {
+
+        int[] groups = new int[java.lang.Math.max(1, (ordinals.length + digitsPerGroup - 1) / digitsPerGroup)];
+
+        for (int index = ordinals.length - 1; index >= 0; index--) {
+
+            int groupIndex = index / digitsPerGroup;
+            groups[groupIndex] = groups[groupIndex] * base + ordinals[index];
+        }
+
+        return groups;
+    }
+
+    /**
+     * Splits the specified regrouped ordinal values into digits of the specified number base (i.e. the inverse of
+     * {@link #regroup}).
+     *
+     * @param base
+     *        a number base
+     * @param groups
+     *        the regrouped ordinal values
+     * @param digitsPerGroup
+     *        the number of digits per group
+     *
+     * @return the ordinal values
+     */
+    static int[] ungroup(int base, int[] groups, int digitsPerGroup) {
+
+        int[] ordinals = new int[groups.length * digitsPerGroup];
+
+        for (int groupIndex = 0; groupIndex < groups.length; groupIndex++) {
+
+            int group = groups[groupIndex];
+            for (int index = groupIndex * digitsPerGroup; group > 0; index++) {
+
+                ordinals[index] = group % base;
+                group /= base;
+            }
+        }
+
+        return ordinals;
+    }
+
+    /**
+     * Compares the values of the specified ordinal values (i.e. the numbers of digits may differ).
+     *
+     * @param ordinals1
+     *        the ordinal values of the first number
+     * @param ordinals2
+     *        the ordinal values of the second number
+     *
+     * @return <code>1</code>, <code>0</code> or <code>-1</code> if the first number is greater than, equals or
+     *         lesser than the second number
+     */
+    static int compareValues(int[] ordinals1, int[] ordinals2) {
+
+        int length1 = significantLength(ordinals1);
+        int length2 = significantLength(ordinals2);
+
+        if (length1 != length2) {
+
+            return (length1 > length2) ? 1 : -1;
+        }
+
+        for (int index = length1 - 1; index >= 0; index--) {
+
+            if (ordinals1[index] != ordinals2[index]) {
+
+                return (ordinals1[index] > ordinals2[index]) ? 1 : -1;
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * Returns the number of digits without leading zeroes.
+     *
+     * @param ordinals
+     *        ordinal values
+     *
+     * @return a number of digits
+     */
+    static int significantLength(int[] ordinals) {
+
+        int length = ordinals.length;
+        while ((length > 0) && (ordinals[length - 1] == 0)) {
+
+            length--;
+        }
+
+        return length;
+    }
+
+    /**
+     * Removes the leading zeroes of the specified ordinal values.
+     *
+     * @param ordinals
+     *        ordinal values
+     *
+     * @return ordinal values without leading zeroes
+     */
+    static int[] trim(int[] ordinals) {
+
+        int length = significantLength(ordinals);
+
+        if (length == ordinals.length) {
+
+            return ordinals;
+        }
+
+        return Arrays.copyOf(ordinals, length);
+    }
+
+    /**
+     * Shifts the specified ordinal values to the left (i.e. the value is multiplied by base^positions).
+     *
+     * @param ordinals
+     *        ordinal values
+     * @param positions
+     *        a non-negative number of positions
+     *
+     * @return the ordinal values of the shifted number
+     */
+    static int[] shiftLeft(int[] ordinals, int positions) {
+
+        int[] shiftedOrdinals = new int[ordinals.length + positions];
+        System.arraycopy(ordinals, 0, shiftedOrdinals, positions, ordinals.length);
+
+        return shiftedOrdinals;
+    }
+
+    /**
+     * Returns the ordinal values of base^exponent.
+     *
+     * @param exponent
+     *        a non-negative exponent
+     *
+     * @return the ordinal values of a power of the number base
+     */
+    private static int[] power(int exponent) {
+
+        int[] ordinals = new int[exponent + 1];
+        ordinals[exponent] = 1;
+
+        return ordinals;
+    }
+
+    /**
+     * Adds the specified ordinal values.
+     *
+     * @param base
+     *        a number base
+     * @param ordinals1
+     *        the ordinal values of the first summand
+     * @param ordinals2
+     *        the ordinal values of the second summand
+     *
+     * @return the ordinal values of the sum
+     */
+    static int[] add(int base, int[] ordinals1, int[] ordinals2) {
+
+        int[] sum = new int[java.lang.Math.max(ordinals1.length, ordinals2.length) + 1];
+
+        System.arraycopy(ordinals1, 0, sum, 0, ordinals1.length);
+        addInPlace(base, sum, ordinals2, 0);
+
+        return sum;
+    }
+
+    /**
+     * Adds the specified ordinal values to the ordinal values of the sum at the specified offset. The sum must
+     * have enough digits for the result (i.e. excess digits of the summand must be zero).
+     *
+     * @param base
+     *        a number base
+     * @param sum
+     *        the ordinal values of the sum
+     * @param summand
+     *        the ordinal values of a summand
+     * @param offset
+     *        the position of the least significant digit of the summand within the sum
+     */
+    static void addInPlace(int base, int[] sum, int[] summand, int offset) {
+
+        int carry = 0;
+        int limit = java.lang.Math.min(summand.length, sum.length - offset);
+
+        int index = offset;
+        for (int a = 0; a < limit; a++, index++) {
+
+            int digit = sum[index] + summand[a] + carry;
+
+            if (digit >= base) {
+
+                digit -= base;
+                carry = 1;
+
+            } else {
+
+                carry = 0;
+            }
+
+            sum[index] = digit;
+        }
+
+        while ((carry != 0) && (index < sum.length)) {
+
+            int digit = sum[index] + carry;
+
+            if (digit >= base) {
+
+                digit -= base;
+                carry = 1;
+
+            } else {
+
+                carry = 0;
+            }
+
+            sum[index] = digit;
+            index++;
+        }
+    }
+
+    /**
+     * Subtracts the specified ordinal values from the ordinal values of the minuend. The minuend must not be
+     * lesser than the subtrahend.
+     *
+     * @param base
+     *        a number base
+     * @param minuend
+     *        the ordinal values of the minuend
+     * @param subtrahend
+     *        the ordinal values of the subtrahend
+     */
+    static void subtractInPlace(int base, int[] minuend, int[] subtrahend) {
+
+        int borrow = 0;
+        int limit = java.lang.Math.min(subtrahend.length, minuend.length);
+
+        int index = 0;
+        for (; index < limit; index++) {
+
+            int digit = minuend[index] - subtrahend[index] - borrow;
+
+            if (digit < 0) {
+
+                digit += base;
+                borrow = 1;
+
+            } else {
+
+                borrow = 0;
+            }
+
+            minuend[index] = digit;
+        }
+
+        while ((borrow != 0) && (index < minuend.length)) {
+
+            int digit = minuend[index] - borrow;
+
+            if (digit < 0) {
+
+                digit += base;
+                borrow = 1;
+
+            } else {
+
+                borrow = 0;
+            }
+
+            minuend[index] = digit;
+            index++;
+        }
+    }
+
+    /**
+     * Adds the product of the specified ordinal values to the ordinal values of the sum at the specified offset
+     * or subtracts it. The partial products are accumulated in the sum directly (i.e. the product isn't
+     * created). Factors with at least as many digits as the Karatsuba threshold are multiplied beforehand, as
+     * a long multiplication would be slower. The sum must have enough digits for the result and one additional
+     * digit.<br>
+     * <br>
+     * <i>Note:<br>
+     * If the subtraction has a negative result, then the sum contains the complement of the result (see
+     * {@link #complementInPlace}).</i>
+     *
+     * @param base
+     *        a number base
+     * @param sum
+     *        the ordinal values of the sum
+     * @param ordinals1
+     *        the ordinal values of the first factor
+     * @param ordinals2
+     *        the ordinal values of the second factor
+     * @param offset
+     *        the position of the least significant digit of the product within the sum
+     * @param subtract
+     *        <code>true</code> if the product is subtracted, else <code>false</code>
+     *
+     * @return <code>true</code> if the result is negative, else <code>false</code>
+     */
+    static boolean multiplyAddInPlace(int base, int[] sum, int[] ordinals1, int[] ordinals2, int offset,
+                                      boolean subtract) {
+
+        int[] x = ordinals1;
+        int[] y = ordinals2;
+
+        if (java.lang.Math.min(x.length, y.length) >= KARATSUBA_THRESHOLD) {
+
+            x = product(base, x, y);
+            y = new int[] { 1 };
+        }
+
+        int borrows = 0;
+        for (int a = 0; a < y.length; a++) {
+
+            int factor = y[a];
+            if (factor == 0) {
+
+                continue;
+            }
+
+            int carry = 0;
+            int index = offset + a;
+            for (int b = 0; b < x.length; b++, index++) {
+
+                int partialProduct = x[b] * factor + carry;
+
+                if (subtract) {
+
+                    int digit = sum[index] - partialProduct % base;
+                    carry = partialProduct / base;
+
+                    if (digit < 0) {
+
+                        digit += base;
+                        carry++;
+                    }
+
+                    sum[index] = digit;
+
+                } else {
+
+                    int digit = sum[index] + partialProduct;
+                    sum[index] = digit % base;
+                    carry = digit / base;
+                }
+            }
+
+            for (; (carry != 0) && (index < sum.length); index++) {
+
+                int digit = subtract ? sum[index] - carry : sum[index] + carry;
+
+                if (digit < 0) {
+
+                    digit += base;
+                    carry = 1;
+
+                } else if (digit >= base) {
+
+                    digit -= base;
+                    carry = 1;
+
+                } else {
+
+                    carry = 0;
+                }
+
+                sum[index] = digit;
+            }
+
+            // A borrow beyond the most significant digit means the difference has become negative.
+            borrows += carry;
+        }
+
+        if (borrows > 0) {
+
+            complementInPlace(base, sum);
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Replaces the specified ordinal values by their complement (i.e. <code>base^length - value</code>).
+     *
+     * @param base
+     *        a number base
+     * @param ordinals
+     *        the ordinal values of a number
+     */
+    static void complementInPlace(int base, int[] ordinals) {
+
+        int index = 0;
+        while ((index < ordinals.length) && (ordinals[index] == 0)) {
+
+            index++;
+        }
+
+        if (index == ordinals.length) {
+
+            return;
+        }
+
+        ordinals[index] = base - ordinals[index];
+        index++;
+
+        for (; index < ordinals.length; index++) {
+
+            ordinals[index] = base - 1 - ordinals[index];
+        }
+    }
+
+    /**
+     * Creates a linked list from the specified ordinal values. Leading and trailing zeroes are omitted.
+     *
+     * @param base
+     *        a number base
+     * @param ordinals
+     *        the ordinal values of all digits (i.e. the least significant digit comes first)
+     * @param fractionDigits
+     *        the number of digits right of the decimal separator
+     *
+     * @return the center node of the linked list
+     */
+    static DigitNode toLinkedList(int base, int[] ordinals, int fractionDigits) {
+
+        int highestIndex = ordinals.length - 1;
+        while ((highestIndex > fractionDigits) && (ordinals[highestIndex] == 0)) {
+
+            highestIndex--;
+        }
+
+        int lowestIndex = 0;
+        while ((lowestIndex < fractionDigits) && (ordinals[lowestIndex] == 0)) {
+
+            lowestIndex++;
+        }
+
+        Digit[] digits = digits(base);
+
+        DigitNode centerNode = null;
+        DigitNode previousNode = null;
+        for (int index = lowestIndex; index <= highestIndex; index++) {
+
+            DigitNode node = NodesHelper.createNode(digits[ordinals[index]]);
+            NodesHelper.linkNodes(node, previousNode);
+
+            if (index == fractionDigits) {
+
+                centerNode = node;
+            }
+
+            previousNode = node;
+        }
+
+        return centerNode;
+    }
+
+}
@@ -0,0 +1,631 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+
+package jmul.math.operations.implementations;
+
+
+import java.util.Arrays;
+
+
+/**
+ * A helper class for primality tests with the ordinal values of digits (see {@link OrdinalArithmeticHelper}).
+ * Candidates are divided by a table of small prime numbers first. Candidates lesser than 2^56 are tested by the
+ * Miller-Rabin test with a deterministic set of witnesses. Larger candidates are tested by the Baillie-PSW test
+ * (i.e. a Miller-Rabin test with witness 2 and a strong Lucas test). There is no known composite number which
+ * passes the Baillie-PSW test. The modular arithmetic regroups the digits of a candidate into larger digits.
+ *
+ * @author Kristian Kutin
+ */
+final class PrimeNumberHelper {
+
+    /**
+     * The upper limit (exclusive) for the table of small prime numbers.
+     */
+    private static final int SMALL_PRIMES_LIMIT;
+
+    /**
+     * All prime numbers lesser than {@link #SMALL_PRIMES_LIMIT}.
+     */
+    private static final int[] SMALL_PRIMES;
+
+    /**
+     * The witnesses of the deterministic Miller-Rabin test (i.e. sufficient for all candidates lesser than
+     * 318665857834031151167461).
+     */
+    private static final int[] MILLER_RABIN_WITNESSES;
+
+    /**
+     * The upper limit (exclusive) for candidates which are tested with primitive longs (i.e. a product of two
+     * remainders fits into a long).
+     */
+    private static final long LONG_ARITHMETIC_LIMIT;
+
+    /**
+     * The upper limit (exclusive) for candidates which are tested by the deterministic Miller-Rabin test.
+     */
+    private static final long MILLER_RABIN_LIMIT;
+
+    /*
+     * The static initializer.
+     */
+    static {
+
+        SMALL_PRIMES_LIMIT = 1000;
+        SMALL_PRIMES = sieve(SMALL_PRIMES_LIMIT);
+
+        MILLER_RABIN_WITNESSES = new int[] { 2, 3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37 };
+
+        LONG_ARITHMETIC_LIMIT = 1L << 31;
+        MILLER_RABIN_LIMIT = 1L << 56;
+    }
+
+    /**
+     * The default constructor.
+     */
+    private PrimeNumberHelper() {
+
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Determines all prime numbers lesser than the specified limit (i.e. sieve of Eratosthenes).
+     *
+     * @param limit
+     *        an upper limit (exclusive)
+     *
+     * @return all prime numbers lesser than the limit in ascending order
+     */
+    private static int[] sieve(int limit) {
+
+        boolean[] composite = new boolean[limit];
+        int[] primes = new int[limit];
+        int count = 0;
+
+        for (int a = 2; a < limit; a++) {
+
+            if (composite[a]) {
+
+                continue;
+            }
+
+            primes[count] = a;
+            count++;
+
+            for (long b = (long) a * a; b < limit; b += a) {
+
+                composite[(int) b] = true;
+            }
+        }
+
+        return Arrays.copyOf(primes, count);
+    }
+
+    /**
+     * Returns all prime numbers lesser than {@link #SMALL_PRIMES_LIMIT} in ascending order. The returned array is
+     * shared and must not be modified.
+     *
+     * @return small prime numbers
+     */
+    static int[] smallPrimes() {
+
+        return SMALL_PRIMES;
+    }
+
+    /**
+     * Checks if the specified ordinal values are a prime number.
+     *
+     * @param base
+     *        a number base
+     * @param ordinals
+     *        the ordinal values of a non-negative integer
+     *
+     * @return <code>true</code> if the specified ordinal values are a prime number, else <code>false</code>
+     */
+    static boolean isPrime(int base, int[] ordinals) {
+
+        int[] n = OrdinalArithmeticHelper.trim(ordinals);
+
+        if (OrdinalArithmeticHelper.fitsLong(base, n, LONG_ARITHMETIC_LIMIT)) {
+
+            return isPrime(OrdinalArithmeticHelper.toLong(base, n));
+        }
+
+        for (int prime : SMALL_PRIMES) {
+
+            if (OrdinalArithmeticHelper.remainder(base, n, prime) == 0) {
+
+                return false;
+            }
+        }
+
+        // The modular arithmetic uses fewer but larger digits.
+        int digitsPerGroup = OrdinalArithmeticHelper.packedDigits(base);
+        int packedBase = OrdinalArithmeticHelper.packedBase(base);
+
+        int[] packedN = OrdinalArithmeticHelper.regroup(base, n, digitsPerGroup);
+        int[] bits = OrdinalArithmeticHelper.toBinary(base, n);
+
+        // All tests share the constants of the modular arithmetic.
+        ModularContext context = new ModularContext(packedBase, packedN);
+
+        if (OrdinalArithmeticHelper.fitsLong(base, n, MILLER_RABIN_LIMIT)) {
+
+            for (int witness : MILLER_RABIN_WITNESSES) {
+
+                if (!isStrongProbablePrime(packedBase, context, bits, witness)) {
+
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        return isStrongProbablePrime(packedBase, context, bits, 2) && !isSquare(packedBase, packedN) &&
+               isStrongLucasProbablePrime(packedBase, packedN, context, bits);
+    }
+
+    /**
+     * Checks if the specified value is a prime number.
+     *
+     * @param value
+     *        a non-negative integer lesser than {@link #LONG_ARITHMETIC_LIMIT}
+     *
+     * @return <code>true</code> if the specified value is a prime number, else <code>false</code>
+     */
+    static boolean isPrime(long value) {
+
+        if (value < 2L) {
+
+            return false;
+        }
+
+        for (int prime : SMALL_PRIMES) {
+
+            if ((long) prime * prime > value) {
+
+                return true;
+            }
+
+            if (value % prime == 0L) {
+
+                return false;
+            }
+        }
+
+        long d = value - 1L;
+        int s = Long.numberOfTrailingZeros(d);
+        d >>= s;
+
+        for (int witness : MILLER_RABIN_WITNESSES) {
+
+            long x = modPow(witness, d, value);
+            if ((x == 1L) || (x == value - 1L)) {
+
+                continue;
+            }
+
+            boolean passed = false;
+            for (int r = 1; r < s; r++) {
+
+                x = x * x % value;
+                if (x == value - 1L) {
+
+                    passed = true;
+                    break;
+                }
+            }
+
+            if (!passed) {
+
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Exponentiates the specified value and returns the remainder of the power divided by the specified modulus.
+     *
+     * @param value
+     *        a non-negative integer
+     * @param exponent
+     *        a non-negative integer
+     * @param modulus
+     *        a positive integer lesser than {@link #LONG_ARITHMETIC_LIMIT}
+     *
+     * @return the remainder
+     */
+    private static long modPow(long value, long exponent, long modulus) {
+
+        long result = 1L % modulus;
+        long power = value % modulus;
+
+        for (long remainingExponent = exponent; remainingExponent > 0L; remainingExponent >>= 1) {
+
+            if ((remainingExponent & 1L) == 1L) {
+
+                result = result * power % modulus;
+            }
+
+            power = power * power % modulus;
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks if the specified odd ordinal values are a strong probable prime to the specified witness (i.e.
+     * Miller-Rabin test with <code>n - 1 = d * 2^s</code>).
+     *
+     * @param base
+     *        a number base
+     * @param context
+     *        the modular arithmetic for an odd integer greater than the witness
+     * @param bits
+     *        the binary digits of the odd integer
+     * @param witness
+     *        a witness
+     *
+     * @return <code>true</code> if the ordinal values are a strong probable prime, else <code>false</code>
+     */
+    private static boolean isStrongProbablePrime(int base, ModularContext context, int[] bits, int witness) {
+
+        int[] one = context.one();
+        int[] minusOne = context.subtract(new int[1], one);
+
+        // n is odd, i.e. n - 1 has the same binary digits except for the least significant digit.
+        int s = 1;
+        while (bits[s] == 0) {
+
+            s++;
+        }
+
+        int[] d = Arrays.copyOfRange(bits, s, bits.length);
+
+        int[] x = context.pow(context.residue(OrdinalArithmeticHelper.toOrdinals(base, witness)), d);
+        if (Arrays.equals(x, one) || Arrays.equals(x, minusOne)) {
+
+            return true;
+        }
+
+        for (int r = 1; r < s; r++) {
+
+            x = context.square(x);
+
+            if (Arrays.equals(x, minusOne)) {
+
+                return true;
+
+            } else if (Arrays.equals(x, one)) {
+
+                return false;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks if the specified odd ordinal values are a strong Lucas probable prime. The parameters of the Lucas
+     * sequences are chosen according to Selfridge (i.e. <code>D</code> is the first element of 5, -7, 9, -11, ...
+     * with a Jacobi symbol <code>(D/n) = -1</code>, <code>P = 1</code> and <code>Q = (1 - D) / 4</code>).
+     *
+     * @param base
+     *        a number base
+     * @param n
+     *        the ordinal values of an odd integer which is not a square and has no small prime factors
+     * @param context
+     *        the modular arithmetic for the odd integer
+     * @param bits
+     *        the binary digits of the odd integer
+     *
+     * @return <code>true</code> if the ordinal values are a strong Lucas probable prime, else <code>false</code>
+     */
+    private static boolean isStrongLucasProbablePrime(int base, int[] n, ModularContext context, int[] bits) {
+
+        long d = 5L;
+        while (true) {
+
+            int jacobiSymbol = jacobi(base, d, n);
+            if (jacobiSymbol == -1) {
+
+                break;
+
+            } else if (jacobiSymbol == 0) {
+
+                return false;
+            }
+
+            d = (d > 0L) ? -(d + 2L) : -d + 2L;
+        }
+
+        long q = (1L - d) / 4L;
+
+        int[] dModN = context.residue(toResidue(base, d, n));
+        int[] qModN = context.residue(toResidue(base, q, n));
+
+        // n + 1 = k * 2^s
+        int[] nPlusOne = OrdinalArithmeticHelper.trim(OrdinalArithmeticHelper.add(2, bits, new int[] { 1 }));
+        int s = 0;
+        while (nPlusOne[s] == 0) {
+
+            s++;
+        }
+
+        int[] k = Arrays.copyOfRange(nPlusOne, s, nPlusOne.length);
+
+        // Evaluate U(k), V(k) and Q^k from the most significant bit (i.e. U(1) = 1, V(1) = P = 1).
+        int[] u = context.one();
+        int[] v = context.one();
+        int[] qPower = qModN;
+
+        for (int index = k.length - 2; index >= 0; index--) {
+
+            // U(2m) = U(m) * V(m), V(2m) = V(m)^2 - 2 * Q^m
+            u = context.multiply(u, v);
+            v = context.subtract(context.square(v), context.add(qPower, qPower));
+            qPower = context.square(qPower);
+
+            if (k[index] == 1) {
+
+                // U(m + 1) = (P * U(m) + V(m)) / 2, V(m + 1) = (D * U(m) + P * V(m)) / 2
+                int[] nextU = halveModulo(base, context.add(u, v), n);
+                int[] product = context.multiply(dModN, u);
+                int[] nextV = halveModulo(base, context.add(product, v), n);
+
+                u = nextU;
+                v = nextV;
+                qPower = context.multiply(qPower, qModN);
+            }
+        }
+
+        if (isZero(u) || isZero(v)) {
+
+            return true;
+        }
+
+        for (int r = 1; r < s; r++) {
+
+            // V(2m) = V(m)^2 - 2 * Q^m
+            v = context.subtract(context.square(v), context.add(qPower, qPower));
+            qPower = context.square(qPower);
+
+            if (isZero(v)) {
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Determines the Jacobi symbol <code>(a/n)</code>.
+     *
+     * @param base
+     *        a number base
+     * @param a
+     *        an integer
+     * @param n
+     *        the ordinal values of an odd integer greater than the absolute value of <code>a</code>
+     *
+     * @return <code>1</code>, <code>0</code> or <code>-1</code>
+     */
+    private static int jacobi(int base, long a, int[] n) {
+
+        int result = 1;
+        long value = a;
+
+        int nModulo8 = OrdinalArithmeticHelper.remainder(base, n, 8);
+
+        if (value < 0L) {
+
+            value = -value;
+            if (nModulo8 % 4 == 3) {
+
+                result = -result;
+            }
+        }
+
+        while (value % 2L == 0L) {
+
+            value /= 2L;
+            if ((nModulo8 == 3) || (nModulo8 == 5)) {
+
+                result = -result;
+            }
+        }
+
+        // Quadratic reciprocity (i.e. both values are odd).
+        if ((value % 4L == 3L) && (nModulo8 % 4 == 3)) {
+
+            result = -result;
+        }
+
+        long remainder = OrdinalArithmeticHelper.remainder(base, n, (int) value);
+
+        return result * jacobi(remainder, value);
+    }
+
+    /**
+     * Determines the Jacobi symbol <code>(a/n)</code>.
+     *
+     * @param a
+     *        a non-negative integer
+     * @param n
+     *        an odd positive integer
+     *
+     * @return <code>1</code>, <code>0</code> or <code>-1</code>
+     */
+    private static int jacobi(long a, long n) {
+
+        int result = 1;
+        long x = a % n;
+        long y = n;
+
+        while (x != 0L) {
+
+            while (x % 2L == 0L) {
+
+                x /= 2L;
+                long yModulo8 = y % 8L;
+                if ((yModulo8 == 3L) || (yModulo8 == 5L)) {
+
+                    result = -result;
+                }
+            }
+
+            long swap = x;
+            x = y;
+            y = swap;
+
+            if ((x % 4L == 3L) && (y % 4L == 3L)) {
+
+                result = -result;
+            }
+
+            x %= y;
+        }
+
+        return (y == 1L) ? result : 0;
+    }
+
+    /**
+     * Checks if the specified ordinal values are a square (i.e. the integer square root is determined by Newton's
+     * method).
+     *
+     * @param base
+     *        a number base
+     * @param n
+     *        the ordinal values of a positive integer
+     *
+     * @return <code>true</code> if the ordinal values are a square, else <code>false</code>
+     */
+    private static boolean isSquare(int base, int[] n) {
+
+        // The initial value base^ceil(length / 2) is greater than the square root.
+        int[] root = new int[(n.length + 1) / 2 + 1];
+        root[root.length - 1] = 1;
+
+        while (true) {
+
+            int[] quotient = OrdinalArithmeticHelper.quotientAndRemainder(base, n, root).result();
+            int[] next = OrdinalArithmeticHelper.add(base, root, quotient);
+            OrdinalArithmeticHelper.divideInPlace(base, next, 2);
+
+            if (OrdinalArithmeticHelper.compareValues(next, root) >= 0) {
+
+                break;
+            }
+
+            root = OrdinalArithmeticHelper.trim(next);
+        }
+
+        int[] square = OrdinalArithmeticHelper.product(base, root, root);
+
+        return OrdinalArithmeticHelper.compareValues(square, n) == 0;
+    }
+
+    /**
+     * Returns the remainder of the specified integer divided by the specified modulus (i.e. a non-negative
+     * remainder).
+     *
+     * @param base
+     *        a number base
+     * @param value
+     *        an integer with an absolute value lesser than the modulus
+     * @param modulus
+     *        the ordinal values of a positive integer
+     *
+     * @return the ordinal values of the remainder
+     */
+    private static int[] toResidue(int base, long value, int[] modulus) {
+
+        int[] absoluteValue = OrdinalArithmeticHelper.toOrdinals(base, java.lang.Math.abs(value));
+
+        if (value >= 0L) {
+
+            return absoluteValue;
+        }
+
+        return OrdinalArithmeticHelper.subtractModulo(base, new int[1], absoluteValue, modulus);
+    }
+
+    /**
+     * Halves the specified remainder modulo the specified odd modulus (i.e. the modulus is added to an odd
+     * remainder before halving).
+     *
+     * @param base
+     *        a number base
+     * @param ordinals
+     *        the ordinal values of a remainder
+     * @param modulus
+     *        the ordinal values of an odd positive integer
+     *
+     * @return the ordinal values of the half modulo the modulus
+     */
+    private static int[] halveModulo(int base, int[] ordinals, int[] modulus) {
+
+        int[] half;
+        if (OrdinalArithmeticHelper.remainder(base, ordinals, 2) == 0) {
+
+            half = ordinals.clone();
+
+        } else {
+
+            half = OrdinalArithmeticHelper.add(base, ordinals, modulus);
+        }
+
+        OrdinalArithmeticHelper.divideInPlace(base, half, 2);
+
+        return half;
+    }
+
+    /**
+     * Checks if the specified ordinal values are zero.
+     *
+     * @param ordinals
+     *        ordinal values
+     *
+     * @return <code>true</code> if the ordinal values are zero, else <code>false</code>
+     */
+    private static boolean isZero(int[] ordinals) {
+
+        return OrdinalArithmeticHelper.significantLength(ordinals) == 0;
+    }
+
+}
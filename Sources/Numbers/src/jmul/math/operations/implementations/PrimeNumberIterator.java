@@ -0,0 +1,101 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+
+package jmul.math.operations.implementations;
+
+
+import java.util.Iterator;
+
+import jmul.math.numbers.Number;
+import static jmul.math.numbers.NumberHelper.createNumber;
+
+
+/**
+ * An iterator over all prime numbers in ascending order (i.e. 2, 3, 5, 7, etc.). The prime numbers are looked up
+ * in the shared sieve (see {@link PrimeNumberSieve}), thus several iterators can be used concurrently.
+ *
+ * @author Kristian Kutin
+ */
+class PrimeNumberIterator implements Iterator<Number> {
+
+    /**
+     * The number base of the prime numbers.
+     */
+    private final int base;
+
+    /**
+     * The last prime number which was returned (i.e. zero before the first prime number).
+     */
+    private long lastPrime;
+
+    /**
+     * Creates a new iterator according to the specified parameters.
+     *
+     * @param base
+     *        the number base of the prime numbers
+     */
+    PrimeNumberIterator(int base) {
+
+        super();
+
+        this.base = base;
+        this.lastPrime = 0L;
+    }
+
+    /**
+     * Checks if there is a next prime number. There are infinitely many prime numbers.
+     *
+     * @return <code>true</code>
+     */
+    @Override
+    public boolean hasNext() {
+
+        return true;
+    }
+
+    /**
+     * Returns the next prime number.
+     *
+     * @return a prime number
+     */
+    @Override
+    public Number next() {
+
+        lastPrime = PrimeNumberSieve.nextPrime(lastPrime);
+
+        return createNumber(base, lastPrime);
+    }
+
+}
@@ -0,0 +1,457 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+
+package jmul.math.operations.implementations;
+
+
+import java.util.Arrays;
+
+
+/**
+ * A segmented sieve of Eratosthenes which is shared by all number bases. The sieve consists of immutable segments
+ * (see {@link PrimeSieveSegment}) with one bit per odd number. Segments are added on demand.<br>
+ * <br>
+ * The sieve retains at most 2^11 segments (i.e. all numbers lesser than 2^28 and about 16 MB). Prime numbers
+ * beyond the retained segments are looked up in temporary segments which are not stored, thus the memory of the
+ * sieve is bounded. Only the last temporary segment is kept for subsequent lookups.<br>
+ * <br>
+ * <i>Note:<br>
+ * The sieve is thread safe. Segments are added by one thread at a time and published as a new array of segments,
+ * thus readers never see an incomplete segment and need no lock.</i>
+ *
+ * @author Kristian Kutin
+ */
+final class PrimeNumberSieve {
+
+    /**
+     * The number of odd numbers within a segment.
+     */
+    private static final int SEGMENT_BITS;
+
+    /**
+     * The range of a segment (i.e. all odd and even numbers).
+     */
+    private static final long SEGMENT_SPAN;
+
+    /**
+     * The maximum number of segments which are retained.
+     */
+    private static final int RETAINED_SEGMENTS;
+
+    /**
+     * The upper limit (exclusive) for numbers which can be looked up in temporary segments (i.e. the prime numbers
+     * of the retained segments suffice to sieve all numbers up to the square of the retained range).
+     */
+    private static final long NUMBER_LIMIT;
+
+    /**
+     * An upper bound for the first five prime numbers.
+     */
+    private static final double PRIME_BOUND;
+
+    /**
+     * The lock for adding segments.
+     */
+    private static final Object LOCK;
+
+    /**
+     * All segments which have been sieved so far (i.e. the array is replaced and never modified).
+     */
+    private static volatile PrimeSieveSegment[] segments;
+
+    /**
+     * The last temporary segment beyond the retained segments or <code>null</code>.
+     */
+    private static volatile PrimeSieveSegment temporarySegment;
+
+    /*
+     * The static initializer.
+     */
+    static {
+
+        SEGMENT_BITS = 1 << 16;
+        SEGMENT_SPAN = 2L * SEGMENT_BITS;
+        RETAINED_SEGMENTS = 1 << 11;
+        NUMBER_LIMIT = (RETAINED_SEGMENTS * SEGMENT_SPAN) * (RETAINED_SEGMENTS * SEGMENT_SPAN);
+        PRIME_BOUND = 12.0;
+
+        LOCK = new Object();
+        segments = new PrimeSieveSegment[0];
+        temporarySegment = null;
+    }
+
+    /**
+     * The default constructor.
+     */
+    private PrimeNumberSieve() {
+
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the prime number with the specified ordinal number (e.g. 0 -&gt; 2, 1 -&gt; 3, 2 -&gt; 5, etc.). The
+     * prime number must be within the retained segments (see {@link NextPrimeNumber}).
+     *
+     * @param ordinal
+     *        a non-negative ordinal number
+     *
+     * @return a prime number
+     */
+    static long prime(long ordinal) {
+
+        if (ordinal == 0L) {
+
+            return 2L;
+        }
+
+        long oddOrdinal = ordinal - 1L;
+
+        // All segments are sieved at once, the estimate is only topped up if it falls short.
+        PrimeSieveSegment[] current = segments(java.lang.Math.min(estimateSegments(ordinal), RETAINED_SEGMENTS));
+        while (oddPrimesUpTo(current) <= oddOrdinal) {
+
+            if (current.length >= RETAINED_SEGMENTS) {
+
+                String message =
+                    String.format("The prime number with the ordinal number %d exceeds the sieve!", ordinal);
+                throw new IllegalArgumentException(message);
+            }
+
+            current = segments(current.length + 1);
+        }
+
+        // Find the segment which contains the prime number.
+        int low = 0;
+        int high = current.length - 1;
+        while (low < high) {
+
+            int middle = (low + high + 1) >>> 1;
+            if (current[middle].oddPrimesBefore <= oddOrdinal) {
+
+                low = middle;
+
+            } else {
+
+                high = middle - 1;
+            }
+        }
+
+        PrimeSieveSegment segment = current[low];
+
+        return segment.oddPrime((int) (oddOrdinal - segment.oddPrimesBefore));
+    }
+
+    /**
+     * Returns the smallest prime number which is greater than the specified number. Numbers beyond the retained
+     * segments are looked up in temporary segments.
+     *
+     * @param number
+     *        a number (i.e. lesser than 2^56)
+     *
+     * @return a prime number
+     */
+    static long nextPrime(long number) {
+
+        if (number < 2L) {
+
+            return 2L;
+        }
+
+        long candidate = ((number & 1L) == 0L) ? number + 1L : number + 2L;
+        while (true) {
+
+            long segmentIndex = candidate / SEGMENT_SPAN;
+
+            PrimeSieveSegment segment;
+            if (segmentIndex < RETAINED_SEGMENTS) {
+
+                segment = segments((int) segmentIndex + 1)[(int) segmentIndex];
+
+            } else {
+
+                segment = temporarySegment(segmentIndex);
+            }
+
+            long prime = segment.nextPrime(candidate);
+
+            if (prime > 0L) {
+
+                return prime;
+            }
+
+            candidate = (segmentIndex + 1L) * SEGMENT_SPAN + 1L;
+        }
+    }
+
+    /**
+     * Estimates the number of segments which contain the prime number with the specified ordinal number. The
+     * estimate is based on an upper bound for the n-th prime number (i.e. <code>p(n) &lt; n * (ln n + ln ln
+     * n)</code> for <code>n &gt;= 6</code>).
+     *
+     * @param ordinal
+     *        a positive ordinal number
+     *
+     * @return the estimated number of segments
+     */
+    private static int estimateSegments(long ordinal) {
+
+        // The ordinal number starts with zero, the bound counts prime numbers starting with one.
+        double n = ordinal + 1L;
+
+        double bound = PRIME_BOUND;
+        if (n >= 6.0) {
+
+            double logarithm = java.lang.Math.log(n);
+            bound = n * (logarithm + java.lang.Math.log(logarithm));
+        }
+
+        return (int) (bound / SEGMENT_SPAN) + 1;
+    }
+
+    /**
+     * Returns the number of odd prime numbers within the specified segments.
+     *
+     * @param segments
+     *        segments
+     *
+     * @return the number of odd prime numbers
+     */
+    private static long oddPrimesUpTo(PrimeSieveSegment[] segments) {
+
+        PrimeSieveSegment lastSegment = segments[segments.length - 1];
+
+        return lastSegment.oddPrimesBefore + lastSegment.oddPrimes;
+    }
+
+    /**
+     * Returns the temporary segment with the specified index. The segment is sieved with the prime numbers of the
+     * retained segments and is not added to the sieve.
+     *
+     * @param index
+     *        the index of a segment beyond the retained segments
+     *
+     * @return a temporary segment
+     */
+    private static PrimeSieveSegment temporarySegment(long index) {
+
+        long start = index * SEGMENT_SPAN;
+
+        PrimeSieveSegment segment = temporarySegment;
+        if ((segment != null) && (segment.start == start)) {
+
+            return segment;
+        }
+
+        if (start >= NUMBER_LIMIT - SEGMENT_SPAN) {
+
+            String message = String.format("The number %d exceeds the sieve!", start);
+            throw new IllegalArgumentException(message);
+        }
+
+        segment = sieve(segments(RETAINED_SEGMENTS), RETAINED_SEGMENTS, start);
+        temporarySegment = segment;
+
+        return segment;
+    }
+
+    /**
+     * Returns at least the specified number of segments. Missing segments are sieved and published.
+     *
+     * @param count
+     *        the required number of segments
+     *
+     * @return all segments
+     */
+    private static PrimeSieveSegment[] segments(int count) {
+
+        PrimeSieveSegment[] current = segments;
+        if (current.length >= count) {
+
+            return current;
+        }
+
+        synchronized (LOCK) {
+
+            current = segments;
+            if (current.length < count) {
+
+                PrimeSieveSegment[] extended = Arrays.copyOf(current, count);
+                for (int index = current.length; index < count; index++) {
+
+                    extended[index] = sieve(extended, index, index * SEGMENT_SPAN);
+                }
+
+                segments = extended;
+                current = extended;
+            }
+        }
+
+        return current;
+    }
+
+    /**
+     * Sieves the segment with the specified start. The odd prime numbers of the preceding segments are used to
+     * cross out their multiples.
+     *
+     * @param segments
+     *        all preceding segments or the retained segments if the new segment is a temporary segment
+     * @param count
+     *        the number of segments which are used for sieving
+     * @param start
+     *        the first number within the range of the new segment
+     *
+     * @return a new segment
+     */
+    private static PrimeSieveSegment sieve(PrimeSieveSegment[] segments, int count, long start) {
+
+        long end = start + SEGMENT_SPAN;
+
+        long[] composites = new long[SEGMENT_BITS / Long.SIZE];
+
+        if (start == 0L) {
+
+            // The first segment is sieved with its own prime numbers (i.e. 1 is no prime number).
+            composites[0] |= 1L;
+
+            for (int bit = 1; bit < SEGMENT_BITS; bit++) {
+
+                if ((composites[bit >>> 6] & (1L << bit)) != 0L) {
+
+                    continue;
+                }
+
+                long prime = 2L * bit + 1L;
+                if (prime * prime >= end) {
+
+                    break;
+                }
+
+                crossOut(composites, start, end, prime);
+            }
+
+        } else {
+
+            for (int segmentIndex = 0; segmentIndex < count; segmentIndex++) {
+
+                PrimeSieveSegment segment = segments[segmentIndex];
+                long[] primeBits = segment.primeBits;
+
+                for (int wordIndex = 0; wordIndex < primeBits.length; wordIndex++) {
+
+                    long word = primeBits[wordIndex];
+                    while (word != 0L) {
+
+                        long prime = segment.toNumber((wordIndex << 6) + Long.numberOfTrailingZeros(word));
+                        if (prime * prime >= end) {
+
+                            return newSegment(segments, count, start, composites);
+                        }
+
+                        crossOut(composites, start, end, prime);
+                        word &= word - 1L;
+                    }
+                }
+            }
+        }
+
+        return newSegment(segments, count, start, composites);
+    }
+
+    /**
+     * Crosses out all odd multiples of the specified prime number within the specified range (i.e. starting with
+     * the square of the prime number).
+     *
+     * @param composites
+     *        the bits for all odd numbers within the range (i.e. a set bit means the number is composite)
+     * @param start
+     *        the first number within the range
+     * @param end
+     *        the first number after the range
+     * @param prime
+     *        an odd prime number
+     */
+    private static void crossOut(long[] composites, long start, long end, long prime) {
+
+        long multiple = java.lang.Math.max(prime * prime, ((start + prime - 1L) / prime) * prime);
+        if ((multiple & 1L) == 0L) {
+
+            multiple += prime;
+        }
+
+        for (long step = 2L * prime; multiple < end; multiple += step) {
+
+            int bit = (int) ((multiple - start) >>> 1);
+            composites[bit >>> 6] |= 1L << bit;
+        }
+    }
+
+    /**
+     * Creates a new segment from the specified composite bits.
+     *
+     * @param segments
+     *        all preceding segments or the retained segments if the new segment is a temporary segment
+     * @param count
+     *        the number of segments which were used for sieving
+     * @param start
+     *        the first number within the range of the new segment
+     * @param composites
+     *        the bits for all odd numbers within the range (i.e. a set bit means the number is composite)
+     *
+     * @return a new segment
+     */
+    private static PrimeSieveSegment newSegment(PrimeSieveSegment[] segments, int count, long start,
+                                                long[] composites) {
+
+        long[] primeBits = new long[composites.length];
+        for (int wordIndex = 0; wordIndex < composites.length; wordIndex++) {
+
+            primeBits[wordIndex] = ~composites[wordIndex];
+        }
+
+        // The prime numbers before a temporary segment are not counted.
+        long oddPrimesBefore = 0L;
+        if (start != count * SEGMENT_SPAN) {
+
+            oddPrimesBefore = -1L;
+
+        } else if (count > 0) {
+
+            oddPrimesBefore = segments[count - 1].oddPrimesBefore + segments[count - 1].oddPrimes;
+        }
+
+        return new PrimeSieveSegment(start, primeBits, oddPrimesBefore);
+    }
+
+}
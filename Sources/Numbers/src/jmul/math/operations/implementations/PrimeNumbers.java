@@ -0,0 +1,87 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+
+package jmul.math.operations.implementations;
+
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import jmul.math.numbers.Number;
+import jmul.math.operations.Result;
+import jmul.math.operations.UnaryOperation;
+
+
+/**
+ * This function returns a stream of all prime numbers in ascending order (i.e. 2, 3, 5, 7, etc.). The stream is
+ * infinite and backed by a segmented sieve of Eratosthenes (see {@link PrimeNumberSieve}).
+ *
+ * @author Kristian Kutin
+ */
+public class PrimeNumbers implements UnaryOperation<Integer, Result<Stream<Number>>> {
+
+    /**
+     * The default constructor.
+     */
+    public PrimeNumbers() {
+
+        super();
+    }
+
+    /**
+     * Returns a stream of all prime numbers in the specified number base.
+     *
+     * @param base
+     *        a number base
+     *
+     * @return an infinite stream of prime numbers
+     */
+    @Override
+    public Result<Stream<Number>> calculate(Integer base) {
+
+        ParameterCheckHelper.checkNumberBase(base);
+
+        PrimeNumberIterator iterator = new PrimeNumberIterator(base);
+        Spliterator<Number> spliterator =
+            Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.DISTINCT |
+                                                Spliterator.NONNULL | Spliterator.IMMUTABLE);
+        Stream<Number> stream = StreamSupport.stream(spliterator, false);
+
+        return new Result<Stream<Number>>(stream);
+    }
+
+}
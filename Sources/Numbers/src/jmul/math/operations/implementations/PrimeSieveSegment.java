@@ -0,0 +1,171 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+
+package jmul.math.operations.implementations;
+
+
+/**
+ * An immutable segment of the sieve of Eratosthenes (see {@link PrimeNumberSieve}). A segment contains one bit
+ * for each odd number within its range (i.e. a set bit means the odd number is a prime number).
+ *
+ * @author Kristian Kutin
+ */
+final class PrimeSieveSegment {
+
+    /**
+     * The first number within the range of this segment (i.e. an even number).
+     */
+    final long start;
+
+    /**
+     * The bits for all odd numbers within the range of this segment (i.e. bit <code>i</code> stands for
+     * <code>start + 2 * i + 1</code>).
+     */
+    final long[] primeBits;
+
+    /**
+     * The number of odd prime numbers lesser than the start of this segment (i.e. <code>-1</code> for a temporary
+     * segment where the number is unknown).
+     */
+    final long oddPrimesBefore;
+
+    /**
+     * The number of odd prime numbers within this segment.
+     */
+    final int oddPrimes;
+
+    /**
+     * Creates a new segment according to the specified parameters.
+     *
+     * @param start
+     *        the first number within the range of this segment
+     * @param primeBits
+     *        the bits for all odd numbers within the range of this segment
+     * @param oddPrimesBefore
+     *        the number of odd prime numbers lesser than the start of this segment or <code>-1</code> if unknown
+     */
+    PrimeSieveSegment(long start, long[] primeBits, long oddPrimesBefore) {
+
+        super();
+
+        this.start = start;
+        this.primeBits = primeBits;
+        this.oddPrimesBefore = oddPrimesBefore;
+
+        int count = 0;
+        for (long word : primeBits) {
+
+            count += Long.bitCount(word);
+        }
+
+        this.oddPrimes = count;
+    }
+
+    /**
+     * Returns the smallest prime number within this segment which is not lesser than the specified odd number.
+     *
+     * @param number
+     *        an odd number within the range of this segment
+     *
+     * @return a prime number or <code>-1</code> if there is no such prime number within this segment
+     */
+    long nextPrime(long number) {
+
+        int bitIndex = (int) ((number - start) >>> 1);
+        int wordIndex = bitIndex >>> 6;
+
+        long word = primeBits[wordIndex] & (-1L << (bitIndex & 63));
+        while (word == 0L) {
+
+            wordIndex++;
+            if (wordIndex >= primeBits.length) {
+
+                return -1L;
+            }
+
+            word = primeBits[wordIndex];
+        }
+
+        return toNumber((wordIndex << 6) + Long.numberOfTrailingZeros(word));
+    }
+
+    /**
+     * Returns the odd prime number with the specified index within this segment.
+     *
+     * @param index
+     *        the index of an odd prime number (i.e. lesser than the number of odd prime numbers within this
+     *        segment)
+     *
+     * @return a prime number
+     */
+    long oddPrime(int index) {
+
+        int remainingIndex = index;
+        for (int wordIndex = 0; wordIndex < primeBits.length; wordIndex++) {
+
+            long word = primeBits[wordIndex];
+            int count = Long.bitCount(word);
+
+            if (remainingIndex < count) {
+
+                for (int a = 0; a < remainingIndex; a++) {
+
+                    word &= word - 1L;
+                }
+
+                return toNumber((wordIndex << 6) + Long.numberOfTrailingZeros(word));
+            }
+
+            remainingIndex -= count;
+        }
+
+        String message = String.format("The segment contains no prime number with the index %d!", index);
+        throw new IllegalArgumentException(message);
+    }
+
+    /**
+     * Returns the odd number which corresponds to the specified bit.
+     *
+     * @param bitIndex
+     *        the index of a bit
+     *
+     * @return an odd number
+     */
+    long toNumber(int bitIndex) {
+
+        return start + 2L * bitIndex + 1L;
+    }
+
+}
@@ -34,25 +34,20 @@
 package jmul.math.operations.implementations;
 
 
+import java.util.Arrays;
+
 import jmul.math.Math;
-import jmul.math.digits.Digit;
-import jmul.math.operations.OperationSingletons;
-import jmul.math.operations.repository.OperationIdentifiers;
 import jmul.math.numbers.Number;
 import jmul.math.numbers.NumberHelper;
 import static jmul.math.numbers.NumberHelper.createInfinity;
 import static jmul.math.numbers.NumberHelper.createNumber;
 import static jmul.math.numbers.creation.CreationParameters.CLONE;
 import jmul.math.numbers.nodes.DigitNode;
-import jmul.math.numbers.nodes.NodesHelper;
-import jmul.math.operations.BinaryOperation;
 import jmul.math.operations.MixedBinaryOperation;
+import jmul.math.operations.OperationSingletons;
 import jmul.math.operations.Result;
-import jmul.math.operations.ResultWithRemainder;
+import jmul.math.operations.repository.OperationIdentifiers;
 import jmul.math.signs.Sign;
-import jmul.math.signs.Signs;
-
-import jmul.metainfo.annotations.Modified;
 
 
 /**
@@ -73,150 +68,94 @@ public class RebaseNumber implements MixedBinaryOperation<Number, Integer, Resul
     /**
      * Translates the specified integer part to a number of the specified new number base.
      *
-     * @param operand
-     *        a number (i.e. unsigned integer)
+     * @param base
+     *        the number base of the integer part
+     * @param ordinals
+     *        the ordinal values of the integer part
      * @param newNumberBase
      *        the new number base
      *
-     * @return a reference to a center node of the translated number
+     * @return the ordinal values of the translated integer part (i.e. the least significant digit comes first)
      */
-    private DigitNode translateIntegerPart(Number operand, Integer newNumberBase) {
-
-        DigitNode centerNode = null;
-        DigitNode currentNode = null;
-        int base = operand.base();
-
-        BinaryOperation<Number, ResultWithRemainder<Number>> divisionFunction =
-            (BinaryOperation<Number, ResultWithRemainder<Number>>) OperationSingletons.getFunction(OperationIdentifiers.DIVIDE_NUMBERS_RETURN_RESULT_AND_REMAINDER_FUNCTION);
-        BinaryOperation<Integer, Result<Number>> translateBaseFunction =
-            (BinaryOperation<Integer, Result<Number>>) OperationSingletons.getFunction(OperationIdentifiers.BASE_TO_NUMBER_FUNCTION);
-        MixedBinaryOperation<Number, Integer, Result<Digit>> translateDigitFunction =
-            (MixedBinaryOperation<Number, Integer, Result<Digit>>) OperationSingletons.getFunction(OperationIdentifiers.NUMBER_TO_DIGIT_FUNCTION);
-
-        Result<Number> translationResult = translateBaseFunction.calculate(newNumberBase, base);
-        Number newBase = translationResult.result();
-
-        Number result = operand;
-        while (true) {
-
-            ResultWithRemainder<Number> divisionResult = divisionFunction.calculate(result, newBase);
-            result = divisionResult.result();
-            Number remainder = divisionResult.remainder();
-
-            Result<Digit> digitResult = translateDigitFunction.calculate(remainder, newNumberBase);
-            Digit digit = digitResult.result();
-
-            if (centerNode == null) {
-
-                centerNode = NodesHelper.createNode(digit);
-                currentNode = centerNode;
-
-            } else {
-
-                DigitNode newNode = NodesHelper.createNode(digit);
-                NodesHelper.linkNodes(newNode, currentNode);
-                currentNode = currentNode.leftNode();
-            }
+    private int[] translateIntegerPart(int base, int[] ordinals, int newNumberBase) {
 
-            if (result.isZero()) {
-
-                break;
-            }
-        }
-
-        return centerNode;
+        return OrdinalArithmeticHelper.rebase(base, ordinals, newNumberBase);
     }
 
     /**
      * Translates the specified fraction part to a number of the specified new number base.
      *
-     * @param centerNode
-     *        the left half of the translated number. This linked list is modified.
-     * @param operand
-     *        a number (i.e. unsigned fraction)
+     * @param base
+     *        the number base of the fraction part
+     * @param ordinals
+     *        the ordinal values of the fraction part (i.e. the digits right of the decimal separator)
      * @param newNumberBase
      *        the new number base
      *
-     * @return the sprecified reference to the center node of the translated number
+     * @return the ordinal values of the translated fraction part (i.e. the least significant digit comes first)
      */
-    private DigitNode translateFractionPart(@Modified DigitNode centerNode, Number operand, Integer newNumberBase) {
-
-        int base = operand.base();
-
-        BinaryOperation<Integer, Result<Number>> translateBaseFunction =
-            (BinaryOperation<Integer, Result<Number>>) OperationSingletons.getFunction(OperationIdentifiers.BASE_TO_NUMBER_FUNCTION);
-        MixedBinaryOperation<Number, Integer, Result<Digit>> translateDigitFunction =
-            (MixedBinaryOperation<Number, Integer, Result<Digit>>) OperationSingletons.getFunction(OperationIdentifiers.NUMBER_TO_DIGIT_FUNCTION);
-
-        Result<Number> translationResult = translateBaseFunction.calculate(newNumberBase, base);
-        Number newBase = translationResult.result();
-
-        final Number ONE = createNumber(base, Signs.POSITIVE, 1);
-        Number debug = null;
-        Number result = operand;
-        DigitNode currentNode = centerNode;
-        Number remainingDigits = Math.getDefaultMaximumFractionLength(base);
-        while (true) {
+    private int[] translateFractionPart(int base, int[] ordinals, int newNumberBase) {
 
-            result = result.multiply(newBase);
+        int fractionDigits = ordinals.length;
 
-            if (result.isZero()) {
+        int[] numerator = OrdinalArithmeticHelper.trim(ordinals);
+        if (numerator.length == 0) {
 
-                break;
-            }
-
-            Number integerPart = result.removeFractionPart();
-            Number fractionPart = result.removeIntegerPart();
-
-            Result<Digit> digitResult = translateDigitFunction.calculate(integerPart, newNumberBase);
-            Digit digit = digitResult.result();
+            return numerator;
+        }
 
-            DigitNode newNode = NodesHelper.createNode(digit);
-            NodesHelper.linkNodes(currentNode, newNode);
-            currentNode = currentNode.rightNode();
+        // The digits are floor(operand * newBase^length), i.e. the fraction is scaled and the integer part is
+        // translated at once.
+        int length = Math.getDefaultMaximumFractionLength(base).toPrimitiveInt();
+        int[] power = OrdinalArithmeticHelper.basePower(base, newNumberBase, length);
+        int[] scaled = OrdinalArithmeticHelper.product(base, numerator, power);
 
-            if (result.isGreaterOrEqual(ONE)) {
+        int split = java.lang.Math.min(fractionDigits, scaled.length);
+        int[] integer = Arrays.copyOfRange(scaled, split, scaled.length);
+        int[] remainder = Arrays.copyOf(scaled, fractionDigits);
 
-                result = fractionPart;
-            }
+        int[] digits = Arrays.copyOf(OrdinalArithmeticHelper.rebase(base, integer, newNumberBase), length);
 
-            if (!remainingDigits.isZero()) {
+        // An inexact fraction is continued until the last digit is not zero.
+        while ((digits[0] == 0) && (OrdinalArithmeticHelper.significantLength(remainder) > 0)) {
 
-                remainingDigits = remainingDigits.dec();
-            }
+            scaled = OrdinalArithmeticHelper.multiply(base, remainder, newNumberBase);
+            integer = Arrays.copyOfRange(scaled, fractionDigits, scaled.length);
+            remainder = Arrays.copyOf(scaled, fractionDigits);
 
-            if (remainingDigits.isZero() && !currentNode.digit().isZero()) {
+            int digit = (int) OrdinalArithmeticHelper.toLong(base, integer);
 
-                break;
-            }
+            int[] extendedDigits = new int[digits.length + 1];
+            System.arraycopy(digits, 0, extendedDigits, 1, digits.length);
+            extendedDigits[0] = digit;
+            digits = extendedDigits;
         }
 
-        return centerNode;
+        return digits;
     }
 
     /**
      * Rebases the specified number to a new number base.<br>
      * <br>
      * <i>Note:<br>
-     * The specified number is split into an integer part and fraction part. First the integer part
-     * is used to build the rebased integer part. Then the fraction part is used to build the
-     * rebased fraction part. The new number base is specified in decimal and needs to be translated
-     * to a number of the current number base for further calculations.<br>
+     * The specified number is split into an integer part and fraction part. The new number base is
+     * specified in decimal and the powers of the new number base are represented in the current
+     * number base for further calculations.<br>
      * <br>
      * Rebasing the integer part:</i><br>
      * <br>
      * <ol>
-     * <li><i>Divide the number by the new number base and keep the result and remainder.</i></li>
-     * <li><i>The result is divided by the new number base and repeated until the result is zero. Keep the remainders.</i></li>
-     * <li><i>The remainders of each division are taken to build the rebased integer part.</i></li>
+     * <li><i>Determine the powers newBase^(2^k) (i.e. the powers are cached for each pair of number bases).</i></li>
+     * <li><i>Divide the number by the greatest power which is lesser than or equal to the square root of the number and keep the result and remainder.</i></li>
+     * <li><i>The result and the remainder are rebased recursively. The remainder represents the lower half and the result the upper half of the digits.</i></li>
+     * <li><i>Small numbers are divided by the new number base until the result is zero. The remainders represent the digits.</i></li>
      * </ol>
      * <br>
      * <i>Rebasing the fraction part:</i><br>
      * <ol>
-     * <li><i>Multiply the number with the new number base.</i></li>
-     * <li><i>The integer part of the result is taken to determine the next digit of the rebased fraction part.</i></li>
-     * <li><i>If the result is greater than one then keep the fractional part. The integer part represents the next digit of the rebased fraction.</i></li>
-     * <li><i>Take the result and go to step one. Repat this until the result is zero.</i></li>
+     * <li><i>Multiply the number with newBase^n where n is the default maximum fraction length.</i></li>
+     * <li><i>The integer part of the result is rebased like an integer and represents the digits of the rebased fraction part.</i></li>
+     * <li><i>If the fraction part of the result is not zero and the last digit is zero then the remaining fraction is multiplied with the new number base until the next digit isn't zero or the remaining fraction is zero.</i></li>
      * </ol>
      *
      * @param operand
@@ -247,13 +186,31 @@ public class RebaseNumber implements MixedBinaryOperation<Number, Integer, Resul
             return new Result<Number>(infinity);
         }
 
-        Number absoluteValue = operand.absoluteValue();
+        // Related number bases (e.g. 2 and 16) require no arithmetic.
+        if (OrdinalArithmeticHelper.commonRoot(base, newNumberBase) != 0) {
+
+            MixedBinaryOperation<Number, Integer, Result<Number>> function =
+                (MixedBinaryOperation<Number, Integer, Result<Number>>) OperationSingletons.getFunction(OperationIdentifiers.REBASE_NUMBER_BY_REGROUPING_DIGITS_FUNCTION);
+
+            return function.calculate(operand, newNumberBase);
+        }
+
+        // The ordinal values are split into the integer part and the fraction part.
+        int[] ordinals = OrdinalArithmeticHelper.toOrdinals(operand);
+        int split = operand.fractionDigits();
+
+        int[] integerPart = Arrays.copyOfRange(ordinals, split, ordinals.length);
+        int[] fractionPart = Arrays.copyOf(ordinals, split);
+
+        int[] integerDigits = translateIntegerPart(base, integerPart, newNumberBase);
+        int[] fractionDigits = translateFractionPart(base, fractionPart, newNumberBase);
 
-        Number integerPart = absoluteValue.removeFractionPart();
-        Number fractionPart = absoluteValue.removeIntegerPart();
+        int[] translatedOrdinals = new int[fractionDigits.length + integerDigits.length];
+        System.arraycopy(fractionDigits, 0, translatedOrdinals, 0, fractionDigits.length);
+        System.arraycopy(integerDigits, 0, translatedOrdinals, fractionDigits.length, integerDigits.length);
 
-        DigitNode translatedResult = translateIntegerPart(integerPart, newNumberBase);
-        translatedResult = translateFractionPart(translatedResult, fractionPart, newNumberBase);
+        DigitNode translatedResult =
+            OrdinalArithmeticHelper.toLinkedList(newNumberBase, translatedOrdinals, fractionDigits.length);
 
         Number result = createNumber(newNumberBase, sign, translatedResult);
 
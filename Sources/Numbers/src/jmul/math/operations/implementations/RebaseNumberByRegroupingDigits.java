@@ -0,0 +1,146 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.math.operations.implementations;
+
+
+import jmul.math.numbers.Number;
+import jmul.math.numbers.NumberHelper;
+import static jmul.math.numbers.NumberHelper.createInfinity;
+import static jmul.math.numbers.NumberHelper.createNumber;
+import static jmul.math.numbers.creation.CreationParameters.CLONE;
+import jmul.math.numbers.nodes.DigitNode;
+import jmul.math.operations.MixedBinaryOperation;
+import jmul.math.operations.Result;
+import jmul.math.signs.Sign;
+
+
+/**
+ * An implementation of a function that rebases a number to a number base which is related to the original number
+ * base (i.e. both number bases are powers of a common root like 2, 4, 8 and 16). Each digit is split into digits of
+ * the common root and the digits of the common root are regrouped into digits of the new number base. The
+ * translation requires no arithmetic and is exact for the integer part and the fraction part.
+ *
+ * @author Kristian Kutin
+ */
+public class RebaseNumberByRegroupingDigits implements MixedBinaryOperation<Number, Integer, Result<Number>> {
+
+    /**
+     * The default constructor.
+     */
+    public RebaseNumberByRegroupingDigits() {
+
+        super();
+    }
+
+    /**
+     * Rebases the specified number to a new number base.
+     *
+     * @param operand
+     *        a number
+     * @param newNumberBase
+     *        the new number base (decimal, i.e. a number base which has a common root with the number base of
+     *        the specified number)
+     *
+     * @return a rebased number
+     */
+    @Override
+    public Result<Number> calculate(Number operand, Integer newNumberBase) {
+
+        ParameterCheckHelper.checkParameter(operand);
+        ParameterCheckHelper.checkNumberBase(newNumberBase);
+
+        int base = operand.base();
+        if (base == newNumberBase) {
+
+            Number clone = NumberHelper.createNumber(CLONE, operand);
+            return new Result<Number>(clone);
+        }
+
+        int root = OrdinalArithmeticHelper.commonRoot(base, newNumberBase);
+        if (root == 0) {
+
+            String message =
+                String.format("The number bases %d and %d have no common root!", base, newNumberBase);
+            throw new IllegalArgumentException(message);
+        }
+
+        Sign sign = operand.sign();
+
+        if (operand.isInfinity()) {
+
+            Number infinity = createInfinity(newNumberBase, sign);
+            return new Result<Number>(infinity);
+        }
+
+        int digitsPerDigit = OrdinalArithmeticHelper.logarithm(base, root);
+        int digitsPerNewDigit = OrdinalArithmeticHelper.logarithm(newNumberBase, root);
+
+        int[] ordinals = OrdinalArithmeticHelper.toOrdinals(operand);
+        int fractionDigits = operand.fractionDigits();
+
+        // The fraction part of the common root is padded with zeroes, i.e. the decimal separator is located between
+        // two groups of digits.
+        int rootFractionDigits = fractionDigits * digitsPerDigit;
+        int padding = (digitsPerNewDigit - (rootFractionDigits % digitsPerNewDigit)) % digitsPerNewDigit;
+
+        int[] rootOrdinals = new int[padding + ordinals.length * digitsPerDigit];
+        int index = padding;
+        for (int ordinal : ordinals) {
+
+            int remainingOrdinal = ordinal;
+            for (int a = 0; a < digitsPerDigit; a++) {
+
+                rootOrdinals[index] = remainingOrdinal % root;
+                remainingOrdinal /= root;
+                index++;
+            }
+        }
+
+        int newFractionDigits = (rootFractionDigits + padding) / digitsPerNewDigit;
+        int[] newOrdinals = new int[(rootOrdinals.length + digitsPerNewDigit - 1) / digitsPerNewDigit];
+        for (index = rootOrdinals.length - 1; index >= 0; index--) {
+
+            int newIndex = index / digitsPerNewDigit;
+            newOrdinals[newIndex] = newOrdinals[newIndex] * root + rootOrdinals[index];
+        }
+
+        DigitNode translatedResult = OrdinalArithmeticHelper.toLinkedList(newNumberBase, newOrdinals, newFractionDigits);
+
+        Number result = createNumber(newNumberBase, sign, translatedResult);
+
+        return new Result<Number>(result);
+    }
+
+}
@@ -39,6 +39,7 @@ import static jmul.math.fractions.FractionHelper.createFraction;
 import jmul.math.numbers.Number;
 import static jmul.math.numbers.NumberHelper.createNumber;
 import static jmul.math.numbers.creation.CreationParameters.DONT_CLONE;
+import jmul.math.numbers.nodes.NodesHelper;
 import jmul.math.operations.Result;
 import jmul.math.operations.UnaryOperation;
 import jmul.math.signs.Signs;
@@ -123,10 +124,12 @@ public class ReciprocalOfNumber implements UnaryOperation<Number, Result<Fractio
         Number newNumerator = createNumber(base, Signs.POSITIVE, 1);
         Number newDenominator = number;
 
-        while (newDenominator.isFraction()) {
+        if (newDenominator.isFraction()) {
 
-            newNumerator = newNumerator.shiftRight();
-            newDenominator = newDenominator.shiftRight();
+            Number shifts = createNumber(base, NodesHelper.countSignificantFractionDigits(newDenominator));
+
+            newNumerator = newNumerator.shiftRight(shifts);
+            newDenominator = newDenominator.shiftRight(shifts);
         }
 
         return createFraction(DONT_CLONE, newNumerator, newDenominator);
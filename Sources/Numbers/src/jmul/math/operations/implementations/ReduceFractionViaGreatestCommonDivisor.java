@@ -0,0 +1,103 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+
+package jmul.math.operations.implementations;
+
+
+import jmul.math.fractions.Fraction;
+import jmul.math.fractions.FractionHelper;
+import jmul.math.numbers.Number;
+import static jmul.math.numbers.creation.CreationParameters.DONT_CLONE;
+import jmul.math.operations.Result;
+import jmul.math.operations.UnaryOperation;
+
+
+/**
+ * Implements a function that reduces a fraction by dividing numerator and denominator by their greatest common
+ * divisor (i.e. without determining the prime factors).
+ *
+ * @author Kristian Kutin
+ */
+public class ReduceFractionViaGreatestCommonDivisor implements UnaryOperation<Fraction, Result<Fraction>> {
+
+    /**
+     * The default constructor.
+     */
+    public ReduceFractionViaGreatestCommonDivisor() {
+
+        super();
+    }
+
+    /**
+     * Reduces the specified fraction.
+     *
+     * @param operand
+     *        a fraction
+     *
+     * @return a fraction
+     */
+    @Override
+    public Result<Fraction> calculate(Fraction operand) {
+
+        ParameterCheckHelper.checkParameter(operand);
+
+        Fraction normalizedFraction = operand.normalizedFraction();
+
+        Number numerator = normalizedFraction.numerator();
+        Number denominator = normalizedFraction.denominator();
+        int base = numerator.base();
+
+        int[] numeratorOrdinals = OrdinalArithmeticHelper.toOrdinals(numerator.absoluteValue());
+        int[] denominatorOrdinals = OrdinalArithmeticHelper.toOrdinals(denominator.absoluteValue());
+
+        int[] divisor = OrdinalArithmeticHelper.gcd(base, numeratorOrdinals, denominatorOrdinals);
+
+        if (OrdinalArithmeticHelper.compareValues(divisor, new int[] { 1 }) <= 0) {
+
+            return new Result<Fraction>(normalizedFraction);
+        }
+
+        numeratorOrdinals = OrdinalArithmeticHelper.quotientAndRemainder(base, numeratorOrdinals, divisor).result();
+        denominatorOrdinals =
+            OrdinalArithmeticHelper.quotientAndRemainder(base, denominatorOrdinals, divisor).result();
+
+        Number newNumerator = OrdinalArithmeticHelper.toQuotient(base, numerator.sign(), numeratorOrdinals, 0);
+        Number newDenominator =
+            OrdinalArithmeticHelper.toQuotient(base, denominator.sign(), denominatorOrdinals, 0);
+
+        Fraction newFraction = FractionHelper.createFraction(DONT_CLONE, newNumerator, newDenominator);
+        return new Result<Fraction>(newFraction);
+    }
+
+}
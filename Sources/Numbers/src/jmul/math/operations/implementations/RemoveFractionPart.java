@@ -36,6 +36,8 @@ package jmul.math.operations.implementations;
 
 import jmul.math.digits.Digit;
 import static jmul.math.operations.implementations.ParameterCheckHelper.checkParameter;
+import jmul.math.numbers.DigitChunks;
+import jmul.math.numbers.DigitChunksHelper;
 import jmul.math.numbers.Number;
 import jmul.math.numbers.NumberHelper;
 import static jmul.math.numbers.NumberHelper.createNumber;
@@ -85,6 +87,13 @@ public class RemoveFractionPart implements UnaryOperation<Number, Result<Number>
         int base = operand.base();
         Sign sign = operand.sign();
 
+        // Packed digits are truncated without creating a linked list.
+        if (operand instanceof DigitChunks) {
+
+            Number integerPart = DigitChunksHelper.integerPart(base, sign, (DigitChunks) operand);
+            return new Result<Number>(integerPart);
+        }
+
         DigitNode center = operand.centerNode();
         Digit digit = center.digit();
 
@@ -37,6 +37,8 @@ package jmul.math.operations.implementations;
 import jmul.math.Math;
 import jmul.math.digits.Digit;
 import jmul.math.digits.PositionalNumeralSystems;
+import jmul.math.numbers.DigitChunks;
+import jmul.math.numbers.DigitChunksHelper;
 import jmul.math.numbers.Number;
 import static jmul.math.numbers.NumberHelper.createNumber;
 import jmul.math.numbers.nodes.DigitNode;
@@ -86,6 +88,13 @@ public class RemoveIntegerPart implements UnaryOperation<Number, Result<Number>>
 
         Sign sign = operand.sign();
 
+        // Packed digits are truncated without creating a linked list.
+        if (operand instanceof DigitChunks) {
+
+            Number fractionPart = DigitChunksHelper.fractionPart(base, sign, (DigitChunks) operand);
+            return new Result<Number>(fractionPart);
+        }
+
         DigitNode center = operand.centerNode();
         Digit zeroDigit = PositionalNumeralSystems.ordinalToDigit(base, 0);
 
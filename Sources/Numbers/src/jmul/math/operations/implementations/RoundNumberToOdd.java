@@ -91,7 +91,7 @@ public class RoundNumberToOdd implements BinaryOperation<Number, Result<Number>>
 
         // Move from the center node to the node which represents the specified precision and remeber the node.
 
-        DigitNode centerNode = clone.centerNode();
+        DigitNode centerNode = NodesHelper.copyOnWrite(clone.centerNode());
         Number counter = decimalPlaces;
         DigitNode newRightEnd = centerNode;
 
@@ -244,6 +244,7 @@ public class RoundNumberToOdd implements BinaryOperation<Number, Result<Number>>
 
         NodesHelper.removeRightTail(newRightEnd);
         NodesHelper.trimRight(centerNode);
+        clone = createNumber(base, sign, centerNode);
 
         if (clone.isZero()) {
 
@@ -46,6 +46,7 @@ import static jmul.math.numbers.NumberHelper.createNumber;
 import static jmul.math.numbers.creation.CreationParameters.CLONE;
 import jmul.math.numbers.exceptions.NoResultButLimitException;
 import jmul.math.numbers.exceptions.UndefinedOperationException;
+import jmul.math.numbers.nodes.DigitNode;
 import jmul.math.numbers.nodes.NodesHelper;
 import jmul.math.operations.Result;
 import jmul.math.operations.TernaryOperation;
@@ -275,7 +276,9 @@ public class RussianDivision implements TernaryOperation<Number, Result<Number>>
         }
         fractionPart = fractionPart.shiftLeft();
 
-        NodesHelper.trimRight(fractionPart.centerNode());
+        DigitNode fractionCenter = NodesHelper.copyOnWrite(fractionPart.centerNode());
+        NodesHelper.trimRight(fractionCenter);
+        fractionPart = createNumber(base, fractionPart.sign(), fractionCenter);
 
 
         // Add the integer part and fraction part for the final result.
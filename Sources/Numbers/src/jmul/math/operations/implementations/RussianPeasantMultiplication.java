@@ -247,8 +247,10 @@ public class RussianPeasantMultiplication implements BinaryOperation<Number, Res
         }
 
         // Trim leading and trailing zeroes.
-        NodesHelper.trimLeft(result.centerNode());
-        NodesHelper.trimRight(result.centerNode());
+        DigitNode resultCenter = NodesHelper.copyOnWrite(result.centerNode());
+        NodesHelper.trimLeft(resultCenter);
+        NodesHelper.trimRight(resultCenter);
+        result = createNumber(base, result.sign(), resultCenter);
 
         return new Result<Number>(result);
     }
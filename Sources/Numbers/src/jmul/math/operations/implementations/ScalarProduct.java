@@ -37,10 +37,9 @@ package jmul.math.operations.implementations;
 import java.util.Iterator;
 
 import jmul.math.numbers.Number;
-import static jmul.math.numbers.NumberHelper.createNumber;
+import jmul.math.numbers.NumberAccumulator;
 import jmul.math.operations.BinaryOperation;
 import jmul.math.operations.Result;
-import jmul.math.signs.Signs;
 import jmul.math.vectors.Vector;
 
 
@@ -79,18 +78,17 @@ public class ScalarProduct implements BinaryOperation<Vector, Result<Number>> {
         Iterator<Number> iterator1 = vector1.iterator();
         Iterator<Number> iterator2 = vector2.iterator();
 
-        Number sum = createNumber(base, Signs.POSITIVE, 0);
+        NumberAccumulator sum = new NumberAccumulator(base);
 
         while (iterator1.hasNext() && iterator2.hasNext()) {
 
             Number component1 = iterator1.next();
             Number component2 = iterator2.next();
 
-            Number product = component1.multiply(component2);
-            sum = sum.add(product);
+            sum.multiplyAddInPlace(component1, component2);
         }
 
-        return new Result<Number>(sum);
+        return new Result<Number>(sum.toNumber());
     }
 
 }
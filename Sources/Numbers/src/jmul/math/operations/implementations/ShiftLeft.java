@@ -35,6 +35,8 @@ package jmul.math.operations.implementations;
 
 
 import jmul.math.Math;
+import jmul.math.numbers.DigitChunks;
+import jmul.math.numbers.DigitChunksHelper;
 import jmul.math.numbers.Number;
 import jmul.math.numbers.NumberHelper;
 import static jmul.math.numbers.NumberHelper.createInfinity;
@@ -105,13 +107,19 @@ public class ShiftLeft implements BinaryOperation<Number, Result<Number>> {
             }
         }
 
-        Number copy = NumberHelper.createNumber(CLONE, number);
-        DigitNode center = copy.centerNode();
+        int positions = toPositions(shifts);
+
+        // Packed digits are shifted by changing the exponent.
+        if (number instanceof DigitChunks) {
+
+            Number shiftedNumber = DigitChunksHelper.shift((DigitChunks) number, -positions);
+            return new Result<Number>(shiftedNumber);
+        }
 
-        Number counter = shifts.absoluteValue();
-        final Number ONE = Math.ONE.value(base);
+        Number copy = NumberHelper.createNumber(CLONE, number);
+        DigitNode center = NodesHelper.copyOnWrite(copy.centerNode());
 
-        while (!counter.isZero()) {
+        for (int counter = java.lang.Math.abs(positions); counter > 0; counter--) {
 
             if (Signs.isPositive(sign)) {
 
@@ -139,17 +147,50 @@ public class ShiftLeft implements BinaryOperation<Number, Result<Number>> {
                     center = center.rightNode();
                 }
             }
-
-            counter = counter.subtract(ONE);
         }
 
+        NodesHelper.trimRight(center);
+        NodesHelper.trimLeft(center);
         Number shiftedCopy = createNumber(base, number.sign(), center);
-        NodesHelper.trimRight(shiftedCopy.centerNode());
-        NodesHelper.trimLeft(shiftedCopy.centerNode());
 
         return new Result<Number>(shiftedCopy);
     }
 
+    /**
+     * Translates the specified number of shifts into a number of positions.
+     *
+     * @param shifts
+     *        the number of shifts (i.e. an integer)
+     *
+     * @return the number of positions
+     */
+    private static int toPositions(Number shifts) {
+
+        int base = shifts.base();
+        long positions = 0L;
+
+        DigitNode centerNode = shifts.centerNode();
+        DigitNode node = shifts.leftmostNode();
+        while (true) {
+
+            positions = positions * base + node.digit().ordinal();
+            if (positions > Integer.MAX_VALUE) {
+
+                String message = String.format("The number of shifts (%s) exceeds the supported range!", shifts);
+                throw new IllegalArgumentException(message);
+            }
+
+            if (node == centerNode) {
+
+                break;
+            }
+
+            node = node.rightNode();
+        }
+
+        return Signs.isNegative(shifts.sign()) ? (int) -positions : (int) positions;
+    }
+
     /**
      * Checks the specifiecd parameters.
      *
@@ -36,6 +36,7 @@ package jmul.math.operations.implementations;
 
 import jmul.math.Math;
 import jmul.math.numbers.Number;
+import jmul.math.numbers.NumberAccumulator;
 import jmul.math.operations.Result;
 import jmul.math.operations.TernaryOperation;
 import jmul.math.operations.processing.ProcessingDetails;
@@ -92,18 +93,18 @@ public class SineApproximation implements TernaryOperation<Number, Result<Number
 
         Number n = ZERO;
         Number interationCounter = iterations;
-        Number sum = ZERO;
+        NumberAccumulator sum = new NumberAccumulator(base);
 
         while (!interationCounter.isZero()) {
 
             Number next = next(processingDetails, n, x);
-            sum = sum.add(next);
+            sum.addInPlace(next);
 
             n = n.inc();
             interationCounter = interationCounter.dec();
         }
 
-        return new Result<Number>(sum);
+        return new Result<Number>(sum.toNumber());
     }
 
     /**
@@ -129,7 +130,7 @@ public class SineApproximation implements TernaryOperation<Number, Result<Number
         final Number TWO = Math.TWO.value(base);
         final Number MINUS_ONE = Math.MINUS_ONE.value(base);
 
-        Number oddNumber = ONE.add(TWO.multiply(n));
+        Number oddNumber = TWO.multiplyAdd(n, ONE);
 
         Number term1 = MINUS_ONE.exponentiate(processingDetails, n);
         Number term2 = oddNumber.factorial();
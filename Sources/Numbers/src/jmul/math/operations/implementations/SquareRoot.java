@@ -149,8 +149,7 @@ public class SquareRoot implements TernaryOperation<Number, Result<Number>> {
 
         int base = x.base();
 
-        final Number ONE = Math.ONE.value(base);
-        final Number TWO = ONE.inc();
+        final Number TWO = Math.TWO.value(base);
 
         ProcessingDetails processingDetails =
             ProcessingDetails.setProcessingDetails(OperationIdentifiers.RUSSIAN_DIVISION_FUNCTION, decimalPlaces,
@@ -45,12 +45,10 @@ import jmul.math.numbers.nodes.NodesHelper;
 import jmul.math.operations.BinaryOperation;
 import jmul.math.operations.OperationSingletons;
 import jmul.math.operations.Result;
-import jmul.math.operations.UnaryOperation;
 import jmul.math.operations.repository.OperationIdentifiers;
 import jmul.math.signs.Sign;
 import jmul.math.signs.Signs;
 
-import jmul.metainfo.annotations.Modified;
 
 
 /**
@@ -261,48 +259,6 @@ public class SubtractNumbers implements BinaryOperation<Number, Result<Number>>
         }
     }
 
-    /**
-     * Subtracts the minuend from the subtrahend and returns the difference. The minuend and the subtrahend
-     * are positive numbers.
-     *
-     * @param minuend
-     *        the minuend of the subtraction
-     * @param subtrahend
-     *        the subtrahend of the subtraction
-     *
-     * @return the difference
-     */
-    private Result<Number> subtractOperandsWithSameSign(Number minuend, Number subtrahend) {
-
-        /*
-         * prequisites:
-         *
-         * 1) minuend > 0; subtrahend > 0
-         *
-         * cases:
-         *
-         * 1) minuend > subtrahend => n - m
-         * 2) minuend < subtrahend => n - m => -(-n + m) => -(m - n)
-         */
-
-        int base = minuend.base();
-
-        int comparisonResult = minuend.compareTo(subtrahend);
-        if (comparisonResult > 0) {
-
-            return subtractNumber(Signs.POSITIVE, minuend, subtrahend);
-
-        } else if (comparisonResult < 0) {
-
-            return subtractNumber(Signs.NEGATIVE, subtrahend, minuend);
-
-        } else {
-
-            Number result = Math.ZERO.value(base);
-            return new Result<Number>(result);
-        }
-    }
-
     /**
      * Adds the summands and returns the sum. The summands are positive numbers.
      *
@@ -351,11 +307,6 @@ public class SubtractNumbers implements BinaryOperation<Number, Result<Number>>
 
         } else {
 
-            Result<Number> result;
-            Number absolute1 = operand1.absoluteValue();
-            Number absolute2 = operand2.absoluteValue();
-            Sign sign = operand1.sign();
-
             if (sameSigns) {
 
                 /*
@@ -363,26 +314,37 @@ public class SubtractNumbers implements BinaryOperation<Number, Result<Number>>
                  *
                  * n - m
                  * -n - -m => -n + m => -1 * (n - m)
-                 */
-
-                result = subtractOperandsWithSameSign(absolute1, absolute2);
-
-            } else {
-
-                /*
-                 * cases handled:
                  *
-                 * -n - m => -1 * (n + m)
-                 * n - -m => n + m
+                 * The comparison of the absolute values and the subtraction are made in a single step (i.e.
+                 * the sign of the result is determined by the first digit which differs).
                  */
-                result = addOperandsWithSameSign(absolute1, absolute2);
+
+                Number difference =
+                    OrdinalArithmeticHelper.subtractAbsoluteValues(operand1, operand2, operand1.sign());
+                return new Result<Number>(difference);
             }
 
+            /*
+             * cases handled:
+             *
+             * -n - m => -1 * (n + m)
+             * n - -m => n + m
+             */
+            Number absolute1 = operand1.absoluteValue();
+            Number absolute2 = operand2.absoluteValue();
+            Sign sign = operand1.sign();
+
+            Result<Number> result = addOperandsWithSameSign(absolute1, absolute2);
             Number number = result.result();
-            DigitNode resultCenter = number.centerNode();
 
-            NodesHelper.trimLeft(resultCenter);
-            NodesHelper.trimRight(resultCenter);
+            if (!NodesHelper.isTrimmed(number)) {
+
+                DigitNode resultCenter = NodesHelper.copyOnWrite(number.centerNode());
+
+                NodesHelper.trimLeft(resultCenter);
+                NodesHelper.trimRight(resultCenter);
+                number = NumberHelper.createNumber(number.base(), number.sign(), resultCenter);
+            }
 
             if (Signs.isNegative(sign)) {
 
@@ -393,68 +355,4 @@ public class SubtractNumbers implements BinaryOperation<Number, Result<Number>>
         }
     }
 
-    /**
-     * Performs a subtraction using the complement method (i.e. turns the subtraction into an addition).
-     * Calculate the complement of the minuend. Then add the subtrahend. Finally calculate complement of the
-     * result. The specified sign is applied to the end result. The caller must check which of the specified
-     * numbers has the greater absolute value and pass the oarameters accordingly (i.e. the minuend should
-     * always have the greater absolute value).
-     *
-     * @param sign
-     *        the sign of the result
-     * @param minuend
-     *        the minuend. The minuend may be modified.
-     * @param subtrahend
-     *        the subtrahend
-     *
-     * @return a difference
-     */
-    private Result<Number> subtractNumber(Sign sign, @Modified Number minuend, Number subtrahend) {
-
-        /*
-         * Prerequisites:
-         *
-         * 1) minuend > subtrahend
-         *    If this is not the case then this function will return a wrong result.
-         * 2) Signs should have been removed from the minuend and subtrahend. If not then
-         *    ignore the signs.
-         *
-         * Notes:
-         *
-         * 1) A subtraction by complement is made thus the subtraction is replaced with an addition.
-         *    The complement of the minuend is added to the subtrahend. The complement of the result is
-         *    the result of the subtraction.
-         * 2) The decimal part of the minuend can have less digits than the decimal part of the subtrahend.
-         *    Accordingly the minuend may need additional trailing zeroes.
-         * 3) The result can have leading and trailing zeroes. Accordingly the result has to be trimmed.
-         */
-
-        Result<Number> result;
-
-        NodesHelper.fillUpWithZeroes(minuend.centerNode(), subtrahend.centerNode());
-
-        UnaryOperation<Number, Result<Number>> complementFunction =
-            (UnaryOperation<Number, Result<Number>>) OperationSingletons.getFunction(OperationIdentifiers.NUMBER_COMPLEMENT_FUNCTION);
-        result = complementFunction.calculate(minuend);
-        Number complement = result.result();
-
-        result = addOperandsWithSameSign(subtrahend, complement);
-        Number sum = result.result();
-
-        result = complementFunction.calculate(sum);
-        Number unsignedSum = result.result();
-
-        Number signedSum;
-        if (Signs.POSITIVE == sign) {
-
-            signedSum = unsignedSum;
-
-        } else {
-
-            signedSum = unsignedSum.negate();
-        }
-
-        return new Result<Number>(signedSum);
-    }
-
 }
@@ -0,0 +1,128 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2026  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.math.operations.implementations;
+
+
+import static jmul.math.numbers.Constants.KARATSUBA_THRESHOLD;
+import static jmul.math.numbers.Constants.TOOM3_THRESHOLD;
+import jmul.math.numbers.Number;
+import static jmul.math.numbers.NumberHelper.createInfinity;
+import static jmul.math.numbers.NumberHelper.createNegativeInfinity;
+import static jmul.math.numbers.NumberHelper.createNumber;
+import jmul.math.numbers.exceptions.UndefinedOperationException;
+import jmul.math.numbers.nodes.DigitNode;
+import jmul.math.operations.BinaryOperation;
+import jmul.math.operations.Result;
+import jmul.math.signs.Sign;
+import jmul.math.signs.Signs;
+
+
+/**
+ * Implements the Toom-Cook multiplication (i.e. the factors are split into three parts and the product is calculated
+ * with five instead of nine multiplications of parts). Small factors are multiplied by a Karatsuba multiplication
+ * (see {@link jmul.math.numbers.Constants#TOOM3_THRESHOLD}).
+ *
+ * @author Kristian Kutin
+ */
+public class Toom3Multiplication implements BinaryOperation<Number, Result<Number>> {
+
+    /**
+     * The default constructor.
+     */
+    public Toom3Multiplication() {
+
+        super();
+    }
+
+    @Override
+    public Result<Number> calculate(Number operand1, Number operand2) {
+
+        ParameterCheckHelper.checkParameters(operand1, operand2);
+
+        int base = operand1.base();
+
+        // Handle special cases which can be resolved without computation.
+        if (operand1.isInfinity() && operand2.isZero()) {
+
+            String operation = String.format("%s * %s", operand1, operand2);
+            throw new UndefinedOperationException(operation, operand1, operand2);
+
+        } else if (operand1.isZero() && operand2.isInfinity()) {
+
+            String operation = String.format("%s * %s", operand1, operand2);
+            throw new UndefinedOperationException(operation, operand1, operand2);
+
+        } else if (operand1.isInfinity() || operand2.isInfinity()) {
+
+            if (operand1.isNegative() && !operand2.isNegative()) {
+
+                Number result = createNegativeInfinity(base);
+                return new Result<Number>(result);
+
+            } else if (!operand1.isNegative() && operand2.isNegative()) {
+
+                Number result = createNegativeInfinity(base);
+                return new Result<Number>(result);
+
+            } else {
+
+                Number result = createInfinity(base);
+                return new Result<Number>(result);
+            }
+
+        } else if (operand1.isZero() || operand2.isZero()) {
+
+            Number result = createNumber(base, Signs.POSITIVE, 0);
+            return new Result<Number>(result);
+        }
+
+        // Determine the sign of the result.
+        Sign newSign = Signs.negate(Signs.xor(operand1.sign(), operand2.sign()));
+
+        // Multiply the ordinal values of all digits and place the decimal separator (i.e. the product has as
+        // many fraction digits as both operands together).
+        int[] ordinals1 = OrdinalArithmeticHelper.toOrdinals(operand1);
+        int[] ordinals2 = OrdinalArithmeticHelper.toOrdinals(operand2);
+        int[] productOrdinals =
+            OrdinalArithmeticHelper.multiplyToom3(base, ordinals1, ordinals2, TOOM3_THRESHOLD, KARATSUBA_THRESHOLD);
+
+        int fractionDigits = operand1.fractionDigits() + operand2.fractionDigits();
+        DigitNode productCenterNode = OrdinalArithmeticHelper.toLinkedList(base, productOrdinals, fractionDigits);
+
+        Number product = createNumber(base, newSign, productCenterNode);
+
+        return new Result<Number>(product);
+    }
+
+}
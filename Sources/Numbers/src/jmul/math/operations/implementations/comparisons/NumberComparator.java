@@ -38,14 +38,14 @@ import java.util.Comparator;
 
 import jmul.math.operations.Operation;
 import jmul.math.operations.implementations.ComparatorBase;
+import jmul.math.numbers.DigitChunks;
+import jmul.math.numbers.DigitChunksHelper;
 import jmul.math.numbers.Number;
 import jmul.math.signs.Sign;
 import jmul.math.signs.Signs;
 import jmul.math.digits.Digit;
 import jmul.math.numbers.exceptions.DigitBaseMismatchException;
 import jmul.math.numbers.nodes.DigitNode;
-import jmul.math.numbers.nodes.NodesHelper;
-import jmul.math.numbers.nodes.NodesResult;
 
 
 /**
@@ -137,12 +137,26 @@ public class NumberComparator extends ComparatorBase implements Operation, Compa
         // Check the digits left of the decimal separator
         Sign commonSign = n1.sign();
 
-        NodesResult nodesResult = NodesHelper.moveLeftSynchronously(n1.centerNode(), n2.centerNode());
-        DigitNode node1 = nodesResult.firstNode;
-        DigitNode node2 = nodesResult.secondNode;
+        // Compare the chunks of packed digits without creating linked lists
+        if (DigitChunksHelper.areDigitChunks(n1, n2)) {
+
+            int result = DigitChunksHelper.compareAbsoluteValues((DigitChunks) n1, (DigitChunks) n2);
+
+            if (Signs.isPositive(commonSign)) {
+
+                return result;
+
+            } else {
+
+                return result * -1;
+            }
+        }
 
         // Check which number has more digits to the left
-        if (node1.leftNode() != null) {
+        int integerDigits1 = n1.integerDigits();
+        int integerDigits2 = n2.integerDigits();
+
+        if (integerDigits1 > integerDigits2) {
 
             if (Signs.isPositive(commonSign)) {
 
@@ -153,7 +167,7 @@ public class NumberComparator extends ComparatorBase implements Operation, Compa
                 return LESSER_THAN;
             }
 
-        } else if (node2.leftNode() != null) {
+        } else if (integerDigits1 < integerDigits2) {
 
             if (Signs.isPositive(commonSign)) {
 
@@ -166,6 +180,9 @@ public class NumberComparator extends ComparatorBase implements Operation, Compa
         }
 
         // Compare the digits from left to right
+        DigitNode node1 = n1.leftmostNode();
+        DigitNode node2 = n2.leftmostNode();
+
         while (true) {
 
             if ((node1 == null) && (node2 == null)) {
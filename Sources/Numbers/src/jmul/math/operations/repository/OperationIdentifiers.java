@@ -131,10 +131,16 @@ public enum OperationIdentifiers implements OperationIdentifier {
     MULTIPLY_NUMBERS_BY_ADDITION_FUNCTION(MULTIPLICATION),
     RUSSIAN_PEASANT_MULTIPLICATION_FUNCTION(MULTIPLICATION),
     LONG_MULTIPLICATION_FUNCTION(MULTIPLICATION),
+    KARATSUBA_MULTIPLICATION_FUNCTION(MULTIPLICATION),
+    TOOM3_MULTIPLICATION_FUNCTION(MULTIPLICATION),
+    NTT_MULTIPLICATION_FUNCTION(MULTIPLICATION),
     MULTIPLY_FRACTIONS_FUNCTION(MULTIPLICATION),
     MULTIPLY_FRACTION_AND_NUMBER_FUNCTION(MULTIPLICATION),
     MULTIPLY_NUMBER_AND_FRACTION_FUNCTION(MULTIPLICATION),
     MULTIPLY_DIGITS_FUNCTION(MULTIPLICATION),
+    MULTIPLY_ADD_FUNCTION(MULTIPLICATION),
+    MODULAR_EXPONENTIATION_FUNCTION(NONE),
+    MODULAR_INVERSE_FUNCTION(NONE),
 
     DIVIDE_NUMBERS_RETURN_RESULT_AND_REMAINDER_FUNCTION(DIVISION),
     DIVIDE_FRACTIONS_RETURN_RESULT_AND_REMAINDER_FUNCTION(DIVISION),
@@ -145,6 +151,9 @@ public enum OperationIdentifiers implements OperationIdentifier {
     RUSSIAN_DIVISION_FUNCTION(DIVISION),
     DIVIDE_NUMBERS_BY_SUBTRACTION(DIVISION),
     LONG_DIVISION(DIVISION),
+    NEWTON_RAPHSON_DIVISION(DIVISION),
+    KNUTH_LONG_DIVISION(DIVISION),
+    BURNIKEL_ZIEGLER_DIVISION_FUNCTION(DIVISION),
 
     MODULO_FUNCTION(DIVISION),
     DIVISO_FUNCTION(DIVISION),
@@ -180,6 +189,7 @@ public enum OperationIdentifiers implements OperationIdentifier {
     RECIPROCAL_OF_FRACTION_FUNCTION(NONE),
 
     REBASE_NUMBER_FUNCTION(NONE),
+    REBASE_NUMBER_BY_REGROUPING_DIGITS_FUNCTION(NONE),
     REBASE_FRACTION_FUNCTION(NONE),
 
     FACTORIAL_FUNCTION(NONE),
@@ -198,14 +208,22 @@ public enum OperationIdentifiers implements OperationIdentifier {
     SQUARE_FRACTION_FUNCTION(MULTIPLICATION),
 
     DETERMINE_DIVISORS_FUNCTION(NONE),
+    DIVISOR_COUNT_FUNCTION(NONE),
+    DIVISOR_SUM_FUNCTION(NONE),
+    DIVISOR_STREAM_FUNCTION(NONE),
     DETERMINE_PRIME_FACTORS_OF_NUMBER(NONE),
+    DETERMINE_PRIME_FACTORS_BY_POLLARD_RHO(NONE),
+    DETERMINE_PRIME_FACTORS_BY_ELLIPTIC_CURVES(NONE),
     DETERMINE_COMMON_DIVISORS_IN_FRACTION(NONE),
     DETERMINE_COMMON_DIVISORS_OF_NUMBERS(NONE),
     DETERMINE_COMMON_PRIME_FACTORS_IN_FRACTION(NONE),
     DETERMINE_COMMON_PRIME_FACTORS_IN_NUMBERS(NONE),
+    GCD_FUNCTION(NONE),
+    LCM_FUNCTION(NONE),
     IS_PRIME_FUNCTION(NONE),
     REDUCE_FRACTION_BY_COMMON_PRIME_FACTORS(NONE),
     OPTIMIZED_REDUCE_FRACTION(NONE),
+    REDUCE_FRACTION_BY_GREATEST_COMMON_DIVISOR(NONE),
 
     ADD_MATRICES_FUNCTION(ADDITION),
     SUBTRACT_MATRICES_FUNCTION(SUBTRACTION),
@@ -244,6 +262,7 @@ public enum OperationIdentifiers implements OperationIdentifier {
     COSINE_APPROXIMATION_FUNCTION(NONE),
 
     NEXT_PRIME_NUMBER(NONE),
+    PRIME_NUMBERS_FUNCTION(NONE),
 
     NUMBER_TO_POLYNOMIAL_FUNCTION(NONE),
     POLYNOMIAL_FUNCTION_TO_NUMBER(NONE);
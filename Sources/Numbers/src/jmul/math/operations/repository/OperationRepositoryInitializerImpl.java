@@ -49,6 +49,7 @@ import jmul.math.operations.implementations.AddNumbersTrimResult;
 import jmul.math.operations.implementations.AddVectors;
 import jmul.math.operations.implementations.ArchimedesPiApproximation;
 import jmul.math.operations.implementations.BaseToNumber;
+import jmul.math.operations.implementations.BurnikelZieglerDivision;
 import jmul.math.operations.implementations.CosineApproximation;
 import jmul.math.operations.implementations.CrossProduct;
 import jmul.math.operations.implementations.DecrementFraction;
@@ -57,8 +58,15 @@ import jmul.math.operations.implementations.DetermineCommonDivisorsInFraction;
 import jmul.math.operations.implementations.DetermineCommonDivisorsOfNumbers;
 import jmul.math.operations.implementations.DetermineCommonPrimeFactorsInFraction;
 import jmul.math.operations.implementations.DetermineCommonPrimeFactorsInNumbers;
+import jmul.math.operations.implementations.DetermineDivisorCount;
+import jmul.math.operations.implementations.DetermineDivisorStream;
+import jmul.math.operations.implementations.DetermineDivisorSum;
 import jmul.math.operations.implementations.DetermineDivisors;
+import jmul.math.operations.implementations.DetermineGreatestCommonDivisor;
+import jmul.math.operations.implementations.DetermineLeastCommonMultiple;
 import jmul.math.operations.implementations.DeterminePrimeFactors;
+import jmul.math.operations.implementations.DeterminePrimeFactorsByEllipticCurves;
+import jmul.math.operations.implementations.DeterminePrimeFactorsByPollardRho;
 import jmul.math.operations.implementations.DigitComplement;
 import jmul.math.operations.implementations.DigitToNumberConversion;
 import jmul.math.operations.implementations.DivideFractionByNumber;
@@ -88,6 +96,8 @@ import jmul.math.operations.implementations.IncrementNumber;
 import jmul.math.operations.implementations.IsMultipleCheck;
 import jmul.math.operations.implementations.IsPrimeCheck;
 import jmul.math.operations.implementations.IsSingleDigitCheck;
+import jmul.math.operations.implementations.KaratsubaMultiplication;
+import jmul.math.operations.implementations.KnuthLongDivision;
 import jmul.math.operations.implementations.LeibnizPiApproximation;
 import jmul.math.operations.implementations.LongDivision;
 import jmul.math.operations.implementations.LongMultiplication;
@@ -100,8 +110,11 @@ import jmul.math.operations.implementations.MinFraction;
 import jmul.math.operations.implementations.MinFractionNumber;
 import jmul.math.operations.implementations.MinNumber;
 import jmul.math.operations.implementations.MinNumberFraction;
+import jmul.math.operations.implementations.ModularExponentiation;
+import jmul.math.operations.implementations.ModularInverse;
 import jmul.math.operations.implementations.ModuloWithIntegers;
 import jmul.math.operations.implementations.MultiplicationByAddition;
+import jmul.math.operations.implementations.MultiplyAdd;
 import jmul.math.operations.implementations.MultiplyDigits;
 import jmul.math.operations.implementations.MultiplyFractionAndNumber;
 import jmul.math.operations.implementations.MultiplyFractions;
@@ -109,10 +122,12 @@ import jmul.math.operations.implementations.MultiplyNumberAndFraction;
 import jmul.math.operations.implementations.MultiplyVectorWithNumber;
 import jmul.math.operations.implementations.NegateFraction;
 import jmul.math.operations.implementations.NegateNumber;
+import jmul.math.operations.implementations.NewtonRaphsonDivision;
 import jmul.math.operations.implementations.NextPrimeNumber;
 import jmul.math.operations.implementations.NthRoot;
 import jmul.math.operations.implementations.NumberComplement;
 import jmul.math.operations.implementations.NumberDigitSum;
+import jmul.math.operations.implementations.NumberTheoreticTransformMultiplication;
 import jmul.math.operations.implementations.NumberToAbsoluteValue;
 import jmul.math.operations.implementations.NumberToDigit;
 import jmul.math.operations.implementations.NumberToFraction;
@@ -121,14 +136,17 @@ import jmul.math.operations.implementations.NumberToPolynomialFunction;
 import jmul.math.operations.implementations.OddNumberCheck;
 import jmul.math.operations.implementations.OptimizedReduceFraction;
 import jmul.math.operations.implementations.PolynomialFunctionToNumber;
+import jmul.math.operations.implementations.PrimeNumbers;
 import jmul.math.operations.implementations.RandomDigit;
 import jmul.math.operations.implementations.RandomNumber;
 import jmul.math.operations.implementations.RandomNumberWithinInterval;
 import jmul.math.operations.implementations.RebaseFraction;
 import jmul.math.operations.implementations.RebaseNumber;
+import jmul.math.operations.implementations.RebaseNumberByRegroupingDigits;
 import jmul.math.operations.implementations.ReciprocalOfFraction;
 import jmul.math.operations.implementations.ReciprocalOfNumber;
 import jmul.math.operations.implementations.ReduceFractionViaCommonPrimeFactors;
+import jmul.math.operations.implementations.ReduceFractionViaGreatestCommonDivisor;
 import jmul.math.operations.implementations.RemoveFractionPart;
 import jmul.math.operations.implementations.RemoveIntegerPart;
 import jmul.math.operations.implementations.RoundDigitToEven;
@@ -154,6 +172,7 @@ import jmul.math.operations.implementations.SubtractMatrices;
 import jmul.math.operations.implementations.SubtractNumberAndFraction;
 import jmul.math.operations.implementations.SubtractNumbers;
 import jmul.math.operations.implementations.SubtractVectors;
+import jmul.math.operations.implementations.Toom3Multiplication;
 import jmul.math.operations.implementations.TransposeMatrix;
 import jmul.math.operations.implementations.TripleProduct;
 import jmul.math.operations.implementations.Vectorization;
@@ -344,11 +363,20 @@ public class OperationRepositoryInitializerImpl implements OperationRepositoryIn
         repository.registerFunction(OperationIdentifiers.RUSSIAN_PEASANT_MULTIPLICATION_FUNCTION,
                                     RussianPeasantMultiplication.class);
         repository.registerFunction(OperationIdentifiers.LONG_MULTIPLICATION_FUNCTION, LongMultiplication.class);
+        repository.registerFunction(OperationIdentifiers.KARATSUBA_MULTIPLICATION_FUNCTION,
+                                    KaratsubaMultiplication.class);
+        repository.registerFunction(OperationIdentifiers.TOOM3_MULTIPLICATION_FUNCTION, Toom3Multiplication.class);
+        repository.registerFunction(OperationIdentifiers.NTT_MULTIPLICATION_FUNCTION,
+                                    NumberTheoreticTransformMultiplication.class);
         repository.registerFunction(OperationIdentifiers.MULTIPLY_FRACTIONS_FUNCTION, MultiplyFractions.class);
         repository.registerFunction(OperationIdentifiers.MULTIPLY_NUMBER_AND_FRACTION_FUNCTION,
                                     MultiplyNumberAndFraction.class);
         repository.registerFunction(OperationIdentifiers.MULTIPLY_FRACTION_AND_NUMBER_FUNCTION,
                                     MultiplyFractionAndNumber.class);
+        repository.registerFunction(OperationIdentifiers.MULTIPLY_ADD_FUNCTION, MultiplyAdd.class);
+        repository.registerFunction(OperationIdentifiers.MODULAR_EXPONENTIATION_FUNCTION,
+                                    ModularExponentiation.class);
+        repository.registerFunction(OperationIdentifiers.MODULAR_INVERSE_FUNCTION, ModularInverse.class);
 
         repository.registerFunction(OperationIdentifiers.DIVIDE_NUMBERS_RETURN_RESULT_AND_REMAINDER_FUNCTION,
                                     DivisionOfNumbersBySubtractionReturnResultAndRemainder.class);
@@ -362,6 +390,10 @@ public class OperationRepositoryInitializerImpl implements OperationRepositoryIn
         repository.registerFunction(OperationIdentifiers.RUSSIAN_DIVISION_FUNCTION, RussianDivision.class);
         repository.registerFunction(OperationIdentifiers.DIVIDE_NUMBERS_BY_SUBTRACTION, DivisionBySubtraction.class);
         repository.registerFunction(OperationIdentifiers.LONG_DIVISION, LongDivision.class);
+        repository.registerFunction(OperationIdentifiers.NEWTON_RAPHSON_DIVISION, NewtonRaphsonDivision.class);
+        repository.registerFunction(OperationIdentifiers.KNUTH_LONG_DIVISION, KnuthLongDivision.class);
+        repository.registerFunction(OperationIdentifiers.BURNIKEL_ZIEGLER_DIVISION_FUNCTION,
+                                    BurnikelZieglerDivision.class);
 
         repository.registerFunction(OperationIdentifiers.MODULO_FUNCTION, ModuloWithIntegers.class);
         repository.registerFunction(OperationIdentifiers.DIVISO_FUNCTION, DivisoWithIntegers.class);
@@ -370,6 +402,8 @@ public class OperationRepositoryInitializerImpl implements OperationRepositoryIn
         repository.registerFunction(OperationIdentifiers.RECIPROCAL_OF_FRACTION_FUNCTION, ReciprocalOfFraction.class);
 
         repository.registerFunction(OperationIdentifiers.REBASE_NUMBER_FUNCTION, RebaseNumber.class);
+        repository.registerFunction(OperationIdentifiers.REBASE_NUMBER_BY_REGROUPING_DIGITS_FUNCTION,
+                                    RebaseNumberByRegroupingDigits.class);
         repository.registerFunction(OperationIdentifiers.REBASE_FRACTION_FUNCTION, RebaseFraction.class);
 
         repository.registerFunction(OperationIdentifiers.FACTORIAL_FUNCTION, Factorial.class);
@@ -388,8 +422,15 @@ public class OperationRepositoryInitializerImpl implements OperationRepositoryIn
         repository.registerFunction(OperationIdentifiers.SQUARE_FRACTION_FUNCTION, SquareFraction.class);
 
         repository.registerFunction(OperationIdentifiers.DETERMINE_DIVISORS_FUNCTION, DetermineDivisors.class);
+        repository.registerFunction(OperationIdentifiers.DIVISOR_COUNT_FUNCTION, DetermineDivisorCount.class);
+        repository.registerFunction(OperationIdentifiers.DIVISOR_SUM_FUNCTION, DetermineDivisorSum.class);
+        repository.registerFunction(OperationIdentifiers.DIVISOR_STREAM_FUNCTION, DetermineDivisorStream.class);
         repository.registerFunction(OperationIdentifiers.DETERMINE_PRIME_FACTORS_OF_NUMBER,
                                     DeterminePrimeFactors.class);
+        repository.registerFunction(OperationIdentifiers.DETERMINE_PRIME_FACTORS_BY_POLLARD_RHO,
+                                    DeterminePrimeFactorsByPollardRho.class);
+        repository.registerFunction(OperationIdentifiers.DETERMINE_PRIME_FACTORS_BY_ELLIPTIC_CURVES,
+                                    DeterminePrimeFactorsByEllipticCurves.class);
         repository.registerFunction(OperationIdentifiers.DETERMINE_COMMON_DIVISORS_IN_FRACTION,
                                     DetermineCommonDivisorsInFraction.class);
         repository.registerFunction(OperationIdentifiers.DETERMINE_COMMON_DIVISORS_OF_NUMBERS,
@@ -398,9 +439,13 @@ public class OperationRepositoryInitializerImpl implements OperationRepositoryIn
                                     DetermineCommonPrimeFactorsInFraction.class);
         repository.registerFunction(OperationIdentifiers.DETERMINE_COMMON_PRIME_FACTORS_IN_NUMBERS,
                                     DetermineCommonPrimeFactorsInNumbers.class);
+        repository.registerFunction(OperationIdentifiers.GCD_FUNCTION, DetermineGreatestCommonDivisor.class);
+        repository.registerFunction(OperationIdentifiers.LCM_FUNCTION, DetermineLeastCommonMultiple.class);
         repository.registerFunction(OperationIdentifiers.REDUCE_FRACTION_BY_COMMON_PRIME_FACTORS,
                                     ReduceFractionViaCommonPrimeFactors.class);
         repository.registerFunction(OperationIdentifiers.OPTIMIZED_REDUCE_FRACTION, OptimizedReduceFraction.class);
+        repository.registerFunction(OperationIdentifiers.REDUCE_FRACTION_BY_GREATEST_COMMON_DIVISOR,
+                                    ReduceFractionViaGreatestCommonDivisor.class);
         repository.registerFunction(OperationIdentifiers.IS_PRIME_FUNCTION, IsPrimeCheck.class);
 
         repository.registerFunction(OperationIdentifiers.VECTOR_EQUALITY_FUNCTION, VectorEquality.class);
@@ -458,6 +503,7 @@ public class OperationRepositoryInitializerImpl implements OperationRepositoryIn
         repository.registerFunction(OperationIdentifiers.COSINE_APPROXIMATION_FUNCTION, CosineApproximation.class);
 
         repository.registerFunction(OperationIdentifiers.NEXT_PRIME_NUMBER, NextPrimeNumber.class);
+        repository.registerFunction(OperationIdentifiers.PRIME_NUMBERS_FUNCTION, PrimeNumbers.class);
 
         repository.registerFunction(OperationIdentifiers.NUMBER_TO_POLYNOMIAL_FUNCTION,
                                     NumberToPolynomialFunction.class);